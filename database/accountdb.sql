@@ -4,7 +4,7 @@ CREATE DATABASE accountdb;
 -- Connect to the newly created database
 \c accountdb;
 
--- Enable extension for UUID generation
+-- Enable extension for UUID generation (manual inserts only, the services assign time-ordered v7 ids)
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
 -- Create tables
@@ -21,27 +21,138 @@ CREATE TABLE Account (
     account_number VARCHAR(20) UNIQUE NOT NULL,
     account_type_id INT NOT NULL REFERENCES AccountType(id),
     initial_balance DECIMAL(15, 2) NOT NULL CHECK (initial_balance >= 0),
+    current_balance DECIMAL(15, 2) NOT NULL CHECK (current_balance >= 0),
     status BOOLEAN NOT NULL,
-    client_id UUID NOT NULL
+    client_id UUID NOT NULL,
+    last_seq BIGINT NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0
 );
 
 -- Table for TransactionType
 CREATE TABLE TransactionType (
     id SERIAL PRIMARY KEY,
-    name VARCHAR(50) UNIQUE NOT NULL
+    name VARCHAR(50) UNIQUE NOT NULL,
+    debit BOOLEAN NOT NULL DEFAULT FALSE
 );
 
 
 -- Table for Transaction
+-- Partitioned by month on date: queries bound the date so only the partitions involved are read,
+-- and old months leave the table by detaching their partition (see TransactionPartitionService).
+-- The partitions are named transaction_yYYYYmMM; the service creates the coming months at startup and daily.
 CREATE TABLE Transaction (
-    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    id UUID NOT NULL DEFAULT uuid_generate_v4(),
     date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     transaction_type_id INT NOT NULL REFERENCES TransactionType(id),
     amount DECIMAL(15, 2) NOT NULL,
     balance DECIMAL(15, 2) NOT NULL,
-    account_id UUID NOT NULL REFERENCES Account(id) ON DELETE CASCADE
+    account_id UUID NOT NULL REFERENCES Account(id) ON DELETE CASCADE,
+    seq BIGINT NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (id, date),
+    -- A unique constraint on a partitioned table must include the partition key, so this one only keeps
+    -- (account_id, seq) unique per date; each monthly partition adds a unique (account_id, seq) index, and
+    -- across months seq stays unique because Account.last_seq is its only source, advanced under the row lock
+    CONSTRAINT uq_transaction_account_seq UNIQUE (account_id, seq, date)
+) PARTITION BY RANGE (date);
+
+-- Current month and the three after it, so movements can be posted before the service first runs
+DO $$
+DECLARE
+    month DATE;
+BEGIN
+    FOR i IN 0..3 LOOP
+        month := date_trunc('month', CURRENT_DATE)::DATE + make_interval(months => i);
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF Transaction FOR VALUES FROM (%L) TO (%L)',
+                       to_char(month, '"transaction_y"YYYY"m"MM'), month, (month + INTERVAL '1 month')::DATE);
+        EXECUTE format('CREATE UNIQUE INDEX IF NOT EXISTS %I ON %I (account_id, seq)',
+                       to_char(month, '"transaction_y"YYYY"m"MM"_account_seq"'), to_char(month, '"transaction_y"YYYY"m"MM'));
+    END LOOP;
+END $$;
+
+-- Upgrading an existing database: postings update Account.current_balance in place, so seed it with the
+-- balance after the last movement of each account, or the initial balance when it has none yet.
+--
+-- ALTER TABLE Account ADD COLUMN current_balance DECIMAL(15, 2);
+-- UPDATE Account a
+--    SET current_balance = COALESCE((SELECT t.balance FROM Transaction t
+--                                     WHERE t.account_id = a.id
+--                                     ORDER BY t.date DESC, t.id DESC
+--                                     LIMIT 1), a.initial_balance);
+-- ALTER TABLE Account ALTER COLUMN current_balance SET NOT NULL;
+-- ALTER TABLE Account ADD CONSTRAINT account_current_balance_check CHECK (current_balance >= 0);
+--
+-- Number the history of each account in posting order,
+-- then point every account at its last movement.
+--
+-- ALTER TABLE Account ADD COLUMN last_seq BIGINT NOT NULL DEFAULT 0;
+-- ALTER TABLE Transaction ADD COLUMN seq BIGINT;
+-- UPDATE Transaction t
+--    SET seq = n.seq
+--   FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY account_id ORDER BY date, id) AS seq
+--           FROM Transaction) n
+--  WHERE n.id = t.id;
+-- UPDATE Account a
+--    SET last_seq = COALESCE((SELECT MAX(seq) FROM Transaction t WHERE t.account_id = a.id), 0);
+-- ALTER TABLE Transaction ALTER COLUMN seq SET NOT NULL;
+-- ALTER TABLE Transaction ADD CONSTRAINT uq_transaction_account_seq UNIQUE (account_id, seq, date);
+-- and, on each monthly partition, CREATE UNIQUE INDEX transaction_yYYYYmMM_account_seq ON transaction_yYYYYmMM (account_id, seq);
+--
+-- Optimistic locking of updates:
+--
+-- ALTER TABLE Account ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+-- ALTER TABLE Transaction ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+--
+-- Monthly partitioning: an existing table cannot be partitioned in place. Create the partitioned table
+-- above as transaction_partitioned with its partitions covering MIN(date) to next month, copy the rows,
+-- then swap the names in one transaction:
+--
+-- INSERT INTO transaction_partitioned SELECT * FROM Transaction;
+-- ALTER TABLE Transaction RENAME TO transaction_unpartitioned;
+-- ALTER TABLE transaction_partitioned RENAME TO Transaction;
+--
+-- A large table can instead be attached as a single partition for its whole date range
+-- (ALTER TABLE transaction_partitioned ATTACH PARTITION transaction_unpartitioned FOR VALUES FROM (...) TO (...)),
+-- with monthly partitions only from then on; retention leaves it alone, it only detaches monthly partitions.
+--
+-- Detached partitions are standalone tables: archive them, then DROP TABLE transaction_yYYYYmMM.
+
+-- Keyset pagination of an account history ordered by (date, seq); the items of a batch share their
+-- posting time, so seq breaks the tie in posting order. A page reads `limit` index entries in order and
+-- then fetches those rows from the table: pages select every column, so this is not an index-only scan.
+CREATE INDEX idx_transaction_account_date_seq
+    ON Transaction (account_id, date DESC, seq DESC);
+
+-- End-of-day balance per account, written by the snapshot job for closed days with movements
+CREATE TABLE balance_snapshot (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    account_id UUID NOT NULL REFERENCES Account(id) ON DELETE CASCADE,
+    snapshot_date DATE NOT NULL,
+    balance DECIMAL(15, 2) NOT NULL,
+    CONSTRAINT uq_balance_snapshot_account_date UNIQUE (account_id, snapshot_date)
 );
 
+-- End (exclusive) of the last snapshot run; the next run only reads the movements posted from there on
+CREATE TABLE balance_snapshot_watermark (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    refreshed_until TIMESTAMP NOT NULL
+);
+
+-- Idempotency keys of POST requests; the stored response is replayed on retries until the key expires.
+-- A key in progress expires after a short lease; response_body is stored without redacted fields such as password
+CREATE TABLE idempotency_key (
+    idempotency_key VARCHAR(100) PRIMARY KEY,
+    scope VARCHAR(100) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    response_status INT,
+    response_body TEXT,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_idempotency_key_expires_at ON idempotency_key (expires_at);
+
 
 -- Insertar datos en la tabla AccountType
 INSERT INTO AccountType (name) VALUES 
@@ -49,9 +160,9 @@ INSERT INTO AccountType (name) VALUES
 ('Corriente');
 
 -- Insertar datos en la tabla TransactionType
-INSERT INTO TransactionType (name) VALUES 
-('Depósito'),
-('Retiro');
+INSERT INTO TransactionType (name, debit) VALUES 
+('Depósito', FALSE),
+('Retiro', TRUE);
 
 
 
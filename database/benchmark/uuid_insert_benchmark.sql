@@ -0,0 +1,86 @@
+-- Insert rate of random (v4) against time-ordered (v7) UUID primary keys on a table shaped like Transaction.
+--
+-- Run against a scratch database, not the service database:
+--
+--   createdb uuid_bench
+--   psql -d uuid_bench -v rows=20000000 -v batch=1000000 -f uuid_insert_benchmark.sql
+--
+-- The difference only shows once the primary key index no longer fits in shared_buffers: random keys then
+-- read and dirty a different leaf page for nearly every row, time-ordered keys keep appending to the
+-- rightmost leaf. Size :rows so the v4 index ends up several times larger than shared_buffers.
+-- Each batch prints its duration (\timing) and the WAL it generated; compare the last batches of both
+-- runs, the first ones are similar while the index is still cached.
+
+\set ON_ERROR_STOP on
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+
+-- Same layout as TimeOrderedUuids: 48-bit Unix milliseconds, version 7, random remainder
+CREATE OR REPLACE FUNCTION bench_uuid_v7() RETURNS uuid AS $$
+    SELECT encode(
+               set_bit(
+                   set_bit(
+                       overlay(uuid_send(gen_random_uuid())
+                               PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                               FROM 1 FOR 6),
+                       52, 1),
+                   53, 1),
+               'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
+DROP TABLE IF EXISTS bench_transaction_v4;
+DROP TABLE IF EXISTS bench_transaction_v7;
+
+CREATE TABLE bench_transaction_v4 (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    transaction_type_id INT NOT NULL,
+    amount DECIMAL(15, 2) NOT NULL,
+    balance DECIMAL(15, 2) NOT NULL,
+    account_id UUID NOT NULL,
+    seq BIGINT NOT NULL
+);
+
+CREATE TABLE bench_transaction_v7 (LIKE bench_transaction_v4 INCLUDING ALL);
+ALTER TABLE bench_transaction_v7 ALTER COLUMN id SET DEFAULT bench_uuid_v7();
+
+CREATE OR REPLACE PROCEDURE bench_fill(target regclass, total bigint, batch bigint) AS $$
+DECLARE
+    done bigint := 0;
+    started timestamptz;
+    wal_before pg_lsn;
+BEGIN
+    WHILE done < total LOOP
+        started := clock_timestamp();
+        wal_before := pg_current_wal_insert_lsn();
+        EXECUTE format(
+            'INSERT INTO %s (transaction_type_id, amount, balance, account_id, seq)
+             SELECT 1 + (g %% 2), 10.00, 100.00, ''00000000-0000-0000-0000-000000000001'', $1 + g
+               FROM generate_series(1, $2) g', target)
+            USING done, batch;
+        COMMIT;
+        done := done + batch;
+        RAISE NOTICE '% rows=% batch_ms=% rows_per_s=% wal=%',
+            target, done,
+            round(extract(epoch FROM clock_timestamp() - started) * 1000),
+            round(batch / greatest(extract(epoch FROM clock_timestamp() - started), 0.001)),
+            pg_size_pretty(pg_wal_lsn_diff(pg_current_wal_insert_lsn(), wal_before));
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+CHECKPOINT;
+CALL bench_fill('bench_transaction_v4', :rows, :batch);
+
+CHECKPOINT;
+CALL bench_fill('bench_transaction_v7', :rows, :batch);
+
+-- Index size and leaf fill: page splits in the middle of the v4 index leave half-empty leaves behind
+SELECT 'v4' AS keys,
+       pg_size_pretty(pg_relation_size('bench_transaction_v4_pkey')) AS pkey_size,
+       (pgstatindex('bench_transaction_v4_pkey')).avg_leaf_density AS leaf_density
+UNION ALL
+SELECT 'v7',
+       pg_size_pretty(pg_relation_size('bench_transaction_v7_pkey')),
+       (pgstatindex('bench_transaction_v7_pkey')).avg_leaf_density;
@@ -4,9 +4,12 @@ CREATE DATABASE customerdb;
 -- Connect to the newly created database
 \c customerdb;
 
--- Enable extension for UUID generation
+-- Enable extension for UUID generation (manual inserts only, the services assign time-ordered v7 ids)
 CREATE EXTENSION IF NOT EXISTS "uuid-ossp";
 
+-- Trigram matching for the client search (GET /clientes/search)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
 -- Create tables
 
 -- Tabla Gender (Master Table for Genders)
@@ -26,7 +29,8 @@ CREATE TABLE Person (
     age INT CHECK (age > 0),
     identification VARCHAR(20) UNIQUE NOT NULL,
     address VARCHAR(255),
-    phone VARCHAR(20)
+    phone VARCHAR(20),
+    version BIGINT NOT NULL DEFAULT 0
 );
 
 -- Tabla Client
@@ -35,6 +39,44 @@ CREATE TABLE Client (
     client_id VARCHAR(20) UNIQUE NOT NULL,
     password VARCHAR(255) NOT NULL,
     status BOOLEAN NOT NULL,
-    person_id UUID NOT NULL REFERENCES Person(id) ON DELETE CASCADE
+    person_id UUID NOT NULL REFERENCES Person(id) ON DELETE CASCADE,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+-- Client search: names are matched anywhere, identifications and phones by prefix. Trigram GIN indexes
+-- serve both kinds of LIKE pattern, also when the pattern is a bind parameter.
+CREATE INDEX idx_person_name_trgm ON Person USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_person_identification_trgm ON Person USING gin (identification gin_trgm_ops);
+CREATE INDEX idx_person_phone_trgm ON Person USING gin (phone gin_trgm_ops);
+
+-- Joins from the matched persons back to their clients
+CREATE INDEX idx_client_person_id ON Client (person_id);
+
+-- Upgrading an existing database for the client search (CONCURRENTLY keeps the tables writable):
+--
+-- CREATE EXTENSION IF NOT EXISTS pg_trgm;
+-- CREATE INDEX CONCURRENTLY idx_person_name_trgm ON Person USING gin (lower(name) gin_trgm_ops);
+-- CREATE INDEX CONCURRENTLY idx_person_identification_trgm ON Person USING gin (identification gin_trgm_ops);
+-- CREATE INDEX CONCURRENTLY idx_person_phone_trgm ON Person USING gin (phone gin_trgm_ops);
+-- CREATE INDEX CONCURRENTLY idx_client_person_id ON Client (person_id);
+
+-- Upgrading an existing database for optimistic locking of updates:
+--
+-- ALTER TABLE Person ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+-- ALTER TABLE Client ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Idempotency keys of POST requests; the stored response is replayed on retries until the key expires.
+-- A key in progress expires after a short lease; response_body is stored without redacted fields such as password
+CREATE TABLE idempotency_key (
+    idempotency_key VARCHAR(100) PRIMARY KEY,
+    scope VARCHAR(100) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    response_status INT,
+    response_body TEXT,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
 );
 
+CREATE INDEX idx_idempotency_key_expires_at ON idempotency_key (expires_at);
+
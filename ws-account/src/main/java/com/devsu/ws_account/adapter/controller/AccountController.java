@@ -8,15 +8,23 @@ import com.devsu.ws_account.config.exception.CustomException;
 import com.devsu.ws_account.config.exception.DataBaseException;
 import com.devsu.ws_account.config.exception.ErrorResponse;
 import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountBalanceDomain;
 import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.AccountPurgeJobDomain;
+import com.devsu.ws_account.domain.TransactionPageDomain;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.Date;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,15 +40,25 @@ public class AccountController {
     private final GetAccountByIdPort getAccountByIdPort;
     private final UpdateAccountPort updateAccountPort;
     private final DeleteAccountPort deleteAccountPort;
+    private final GetAccountTransactionsPort getAccountTransactionsPort;
+    private final GetAccountBalancePort getAccountBalancePort;
+    private final PurgeAccountPort purgeAccountPort;
+    private final GetAccountPurgePort getAccountPurgePort;
 
     public AccountController(CreateAccountPort createAccountPort, GetAllAccountsPort getAllAccountsPort,
                              GetAccountByIdPort getAccountByIdPort, UpdateAccountPort updateAccountPort,
-                             DeleteAccountPort deleteAccountPort) {
+                             DeleteAccountPort deleteAccountPort, GetAccountTransactionsPort getAccountTransactionsPort,
+                             GetAccountBalancePort getAccountBalancePort, PurgeAccountPort purgeAccountPort,
+                             GetAccountPurgePort getAccountPurgePort) {
         this.createAccountPort = createAccountPort;
         this.getAllAccountsPort = getAllAccountsPort;
         this.getAccountByIdPort = getAccountByIdPort;
         this.updateAccountPort = updateAccountPort;
         this.deleteAccountPort = deleteAccountPort;
+        this.getAccountTransactionsPort = getAccountTransactionsPort;
+        this.getAccountBalancePort = getAccountBalancePort;
+        this.purgeAccountPort = purgeAccountPort;
+        this.getAccountPurgePort = getAccountPurgePort;
     }
 
     @PostMapping
@@ -84,6 +102,35 @@ public class AccountController {
         }
     }
 
+    @GetMapping("/{id}/movimientos")
+    public ResponseEntity<Object> getAccountTransactions(@PathVariable UUID id,
+                                                         @RequestParam(required = false) String after,
+                                                         @RequestParam(defaultValue = "50") int limit,
+                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date from,
+                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Date to) {
+        try {
+            logger.info("Fetching transactions for account ID: {}, cursor: {}, limit: {}", id, after, limit);
+            TransactionPageDomain page = getAccountTransactionsPort.getTransactions(id, after, limit, from, to);
+            logger.info("Successfully retrieved {} transactions for account ID: {}", page.getItems().size(), id);
+            return ResponseEntity.ok(AccountResponse.of(page, HttpStatus.OK));
+        } catch (Exception ex) {
+            return handleError(SPError.ACCOUNT_CONTROLLER_FIND_TRANSACTIONS_ERROR, ex);
+        }
+    }
+
+    @GetMapping("/{id}/saldo")
+    public ResponseEntity<Object> getAccountBalance(@PathVariable UUID id,
+                                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fecha) {
+        try {
+            logger.info("Fetching balance for account ID: {} at {}", id, fecha);
+            AccountBalanceDomain balance = getAccountBalancePort.getBalance(id, fecha);
+            logger.info("Successfully retrieved balance for account ID: {}", id);
+            return ResponseEntity.ok(AccountResponse.of(balance, HttpStatus.OK));
+        } catch (Exception ex) {
+            return handleError(SPError.ACCOUNT_CONTROLLER_FIND_BALANCE_ERROR, ex);
+        }
+    }
+
     @PutMapping
     public ResponseEntity<Object> updateAccount(@Valid @RequestBody UpdateAccountRequest request, BindingResult bindingResult) {
         if (bindingResult.hasErrors()) {
@@ -102,7 +149,11 @@ public class AccountController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Object> deleteAccount(@PathVariable UUID id) {
+    public ResponseEntity<Object> deleteAccount(@PathVariable UUID id, @RequestParam(defaultValue = "false") boolean async) {
+        if (async) {
+            return purgeAccount(id);
+        }
+
         try {
             logger.info("Received request to delete account with ID: {}", id);
             deleteAccountPort.delete(id);
@@ -113,6 +164,27 @@ public class AccountController {
         }
     }
 
+    @GetMapping("/{id}/purga")
+    public ResponseEntity<Object> getAccountPurge(@PathVariable UUID id) {
+        try {
+            logger.info("Fetching purge progress for account ID: {}", id);
+            AccountPurgeJobDomain job = getAccountPurgePort.getPurge(id);
+            return ResponseEntity.ok(AccountResponse.of(job, HttpStatus.OK));
+        } catch (Exception ex) {
+            return handleError(SPError.ACCOUNT_CONTROLLER_FIND_PURGE_ERROR, ex);
+        }
+    }
+
+    private ResponseEntity<Object> purgeAccount(UUID id) {
+        try {
+            logger.info("Received request to purge account with ID: {}", id);
+            AccountPurgeJobDomain job = purgeAccountPort.purge(id);
+            URI progress = ServletUriComponentsBuilder.fromCurrentRequestUri().path("/purga").build().toUri();
+            return ResponseEntity.accepted().location(progress).body(AccountResponse.of(job, HttpStatus.ACCEPTED));
+        } catch (Exception ex) {
+            return handleError(SPError.ACCOUNT_CONTROLLER_PURGE_ERROR, ex);
+        }
+    }
 
     private ResponseEntity<Object> handleValidationError(BindingResult bindingResult) {
         return ResponseEntity.badRequest().body(AccountResponse.badRequest(bindingResult));
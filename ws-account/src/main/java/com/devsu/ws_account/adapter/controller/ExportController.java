@@ -0,0 +1,123 @@
+package com.devsu.ws_account.adapter.controller;
+
+import com.devsu.ws_account.application.port.in.transaction.ExportTransactionsPort;
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.ErrorResponse;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.TransactionDomain;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Bulk exports for data warehouse pulls. Rows go from a database cursor straight to the response as NDJSON
+ * or CSV, without collecting them first, so an export costs the same memory whatever its size.
+ */
+@RestController
+@RequestMapping("/export")
+@CrossOrigin(origins = "*", allowedHeaders = "*", methods = {})
+public class ExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportController.class);
+    private static final List<String> TRANSACTION_COLUMNS = List.of("id", "date", "accountId", "accountNumber",
+            "accountType", "transactionType", "amount", "balance", "seq");
+
+    private final ExportTransactionsPort exportTransactionsPort;
+    private final ObjectMapper objectMapper;
+
+    public ExportController(ExportTransactionsPort exportTransactionsPort, ObjectMapper objectMapper) {
+        this.exportTransactionsPort = exportTransactionsPort;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Exports every movement dated between both dates (inclusive), ordered by date. The range is checked
+     * before the response starts, so invalid requests still get a regular error response.
+     */
+    @GetMapping("/movimientos")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                    @RequestParam(defaultValue = "ndjson") String format) {
+        try {
+            logger.info("Exporting transactions from {} to {} as {}", from, to, format);
+            ExportWriter.Format exportFormat = ExportWriter.Format.of(format);
+            Date fromDate = toDate(from);
+            Date toDate = toDate(to.plusDays(1));
+            exportTransactionsPort.checkRange(fromDate, toDate);
+
+            StreamingResponseBody body = out -> writeTransactions(out, exportFormat, fromDate, toDate);
+            return ResponseEntity.ok()
+                    .contentType(exportFormat.getMediaType())
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"movimientos_" + from + "_" + to + "." + exportFormat.getExtension() + "\"")
+                    .body(body);
+        } catch (Exception ex) {
+            return handleError(SPError.EXPORT_CONTROLLER_TRANSACTIONS_ERROR, ex);
+        }
+    }
+
+    private void writeTransactions(OutputStream out, ExportWriter.Format format, Date from, Date to) throws IOException {
+        try (ExportWriter writer = new ExportWriter(out, format, objectMapper, TRANSACTION_COLUMNS)) {
+            exportTransactionsPort.export(from, to, transaction -> {
+                try {
+                    writeTransaction(writer, transaction);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            logger.info("Transaction export from {} to {} finished, rows: {}", from, to, writer.getRows());
+        } catch (UncheckedIOException e) {
+            logger.error("Client aborted transaction export from {} to {}: {}", from, to, e.getMessage());
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            logger.error("Error while streaming transaction export from {} to {}", from, to, e);
+            throw e;
+        }
+    }
+
+    private void writeTransaction(ExportWriter writer, TransactionDomain transaction) throws IOException {
+        writer.writeRow(
+                transaction.getId(),
+                transaction.getDate().toInstant(),
+                transaction.getAccount().getId(),
+                transaction.getAccount().getAccountNumber(),
+                transaction.getAccount().getAccountType().getName(),
+                transaction.getTransactionType().getName(),
+                transaction.getAmount(),
+                transaction.getBalance(),
+                transaction.getSeq());
+    }
+
+    private Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private ResponseEntity<StreamingResponseBody> handleError(SPError error, Exception ex) {
+        ErrorResponse errorResponse = new ErrorResponse(false, error.getErrorCode(), error.getErrorMessage(), ex.getCause());
+        logger.error("Error occurred: {}", errorResponse, ex);
+
+        HttpStatus status = ex instanceof DataBaseException || ex instanceof CustomException
+                ? HttpStatus.BAD_REQUEST
+                : HttpStatus.INTERNAL_SERVER_ERROR;
+
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> objectMapper.writeValue(out, errorResponse));
+    }
+}
@@ -0,0 +1,148 @@
+package com.devsu.ws_account.adapter.controller;
+
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes export rows one at a time, as NDJSON (one JSON object per line) or CSV (a header line, then one
+ * line per row). Nothing is kept beyond the stream buffers, so memory does not grow with the export, and
+ * a slow client blocks the writes and with them the cursor producing the rows.
+ */
+public class ExportWriter implements Closeable {
+
+    private static final int FLUSH_EVERY = 500;
+
+    public enum Format {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format of(String value) {
+            try {
+                return Format.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new CustomException(SPError.INVALID_PARAMS_ERROR.getErrorCode(), "Unsupported export format: " + value);
+            }
+        }
+    }
+
+    private final List<String> columns;
+    private final JsonGenerator json;
+    private final Writer csv;
+    private long rows;
+
+    public ExportWriter(OutputStream out, Format format, ObjectMapper objectMapper, List<String> columns) throws IOException {
+        this.columns = columns;
+        if (format == Format.NDJSON) {
+            this.json = objectMapper.createGenerator(out);
+            this.json.setRootValueSeparator(null);
+            this.csv = null;
+        } else {
+            this.json = null;
+            this.csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeCsvLine(columns.toArray());
+        }
+    }
+
+    /**
+     * Writes one row, with a value for each column in column order. Values are written as strings,
+     * except numbers and booleans, which NDJSON keeps as JSON numbers and booleans.
+     */
+    public void writeRow(Object... values) throws IOException {
+        if (json != null) {
+            json.writeStartObject();
+            for (int i = 0; i < columns.size(); i++) {
+                json.writeFieldName(columns.get(i));
+                writeJsonValue(values[i]);
+            }
+            json.writeEndObject();
+            json.writeRaw('\n');
+        } else {
+            writeCsvLine(values);
+        }
+        if (++rows % FLUSH_EVERY == 0) {
+            flush();
+        }
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (json != null) {
+            json.close();
+        } else {
+            csv.close();
+        }
+    }
+
+    private void flush() throws IOException {
+        if (json != null) {
+            json.flush();
+        } else {
+            csv.flush();
+        }
+    }
+
+    private void writeJsonValue(Object value) throws IOException {
+        if (value == null) {
+            json.writeNull();
+        } else if (value instanceof Number || value instanceof Boolean) {
+            json.writeObject(value);
+        } else {
+            json.writeString(value.toString());
+        }
+    }
+
+    private void writeCsvLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                csv.write(',');
+            }
+            csv.write(csvField(values[i]));
+        }
+        csv.write("\r\n");
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
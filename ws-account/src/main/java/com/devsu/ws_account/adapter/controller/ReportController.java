@@ -0,0 +1,130 @@
+package com.devsu.ws_account.adapter.controller;
+
+import com.devsu.ws_account.application.port.in.report.GetAccountStatementPort;
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.ErrorResponse;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.TransactionDomain;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/reportes")
+@CrossOrigin(origins = "*", allowedHeaders = "*", methods = {})
+public class ReportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReportController.class);
+    private static final int FLUSH_EVERY = 500;
+
+    private final GetAccountStatementPort getAccountStatementPort;
+    private final ObjectMapper objectMapper;
+
+    public ReportController(GetAccountStatementPort getAccountStatementPort, ObjectMapper objectMapper) {
+        this.getAccountStatementPort = getAccountStatementPort;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Streams the statement of every account of the client between both dates (inclusive).
+     * Accounts are resolved up front so lookup errors still map to a regular error response;
+     * movements are written as they are read from the database.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> getStatement(@RequestParam UUID clientId,
+                                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            logger.info("Generating statement for client ID: {} from {} to {}", clientId, from, to);
+            Date fromDate = toDate(from);
+            Date toDate = toDate(to.plusDays(1));
+            List<AccountDomain> accounts = getAccountStatementPort.getStatementAccounts(clientId, fromDate, toDate);
+
+            StreamingResponseBody body = out -> writeStatement(out, clientId, from, to, accounts, fromDate, toDate);
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+        } catch (Exception ex) {
+            return handleError(SPError.REPORT_CONTROLLER_STATEMENT_ERROR, ex);
+        }
+    }
+
+    private void writeStatement(OutputStream out, UUID clientId, LocalDate from, LocalDate to,
+                                List<AccountDomain> accounts, Date fromDate, Date toDate) throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("clientId", clientId.toString());
+            generator.writeStringField("from", from.toString());
+            generator.writeStringField("to", to.toString());
+            generator.writeObjectField("accounts", accounts);
+            generator.writeArrayFieldStart("movements");
+
+            long[] written = {0};
+            getAccountStatementPort.streamStatement(accounts, fromDate, toDate, transaction -> {
+                try {
+                    writeMovement(generator, transaction);
+                    if (++written[0] % FLUSH_EVERY == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+            logger.info("Statement for client ID: {} streamed successfully, movements: {}", clientId, written[0]);
+        } catch (UncheckedIOException e) {
+            logger.error("Client aborted statement for client ID: {}: {}", clientId, e.getMessage());
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            logger.error("Error while streaming statement for client ID: {}", clientId, e);
+            throw e;
+        }
+    }
+
+    private void writeMovement(JsonGenerator generator, TransactionDomain transaction) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("id", transaction.getId().toString());
+        generator.writeObjectField("date", transaction.getDate());
+        generator.writeStringField("accountNumber", transaction.getAccount().getAccountNumber());
+        generator.writeStringField("accountType", transaction.getAccount().getAccountType().getName());
+        generator.writeStringField("transactionType", transaction.getTransactionType().getName());
+        generator.writeNumberField("amount", transaction.getAmount());
+        generator.writeNumberField("balance", transaction.getBalance());
+        generator.writeEndObject();
+    }
+
+    private Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private ResponseEntity<StreamingResponseBody> handleError(SPError error, Exception ex) {
+        ErrorResponse errorResponse = new ErrorResponse(false, error.getErrorCode(), error.getErrorMessage(), ex.getCause());
+        logger.error("Error occurred: {}", errorResponse, ex);
+
+        HttpStatus status = ex instanceof DataBaseException || ex instanceof CustomException
+                ? HttpStatus.BAD_REQUEST
+                : HttpStatus.INTERNAL_SERVER_ERROR;
+
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> objectMapper.writeValue(out, errorResponse));
+    }
+}
@@ -1,5 +1,6 @@
 package com.devsu.ws_account.adapter.controller;
 
+import com.devsu.ws_account.adapter.controller.models.CreateTransactionBatchRequest;
 import com.devsu.ws_account.adapter.controller.models.CreateTransactionRequest;
 import com.devsu.ws_account.adapter.controller.models.TransactionResponse;
 import com.devsu.ws_account.adapter.controller.models.UpdateTransactionRequest;
@@ -8,6 +9,7 @@ import com.devsu.ws_account.config.exception.DataBaseException;
 import com.devsu.ws_account.config.exception.ErrorResponse;
 import com.devsu.ws_account.config.exception.SPError;
 import com.devsu.ws_account.application.port.in.transaction.*;
+import com.devsu.ws_account.domain.TransactionBatchResultDomain;
 import com.devsu.ws_account.domain.TransactionDomain;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -32,31 +34,56 @@ public class TransactionController {
     private final GetTransactionByIdPort getTransactionByIdPort;
     private final UpdateTransactionPort updateTransactionPort;
     private final DeleteTransactionPort deleteTransactionPort;
+    private final CreateTransactionBatchPort createTransactionBatchPort;
+    private final IdempotencyHandler idempotencyHandler;
 
     public TransactionController(CreateTransactionPort createTransactionPort, GetAllTransactionsPort getAllTransactionsPort,
                                  GetTransactionByIdPort getTransactionByIdPort, UpdateTransactionPort updateTransactionPort,
-                                 DeleteTransactionPort deleteTransactionPort) {
+                                 DeleteTransactionPort deleteTransactionPort, CreateTransactionBatchPort createTransactionBatchPort,
+                                 IdempotencyHandler idempotencyHandler) {
         this.createTransactionPort = createTransactionPort;
         this.getAllTransactionsPort = getAllTransactionsPort;
         this.getTransactionByIdPort = getTransactionByIdPort;
         this.updateTransactionPort = updateTransactionPort;
         this.deleteTransactionPort = deleteTransactionPort;
+        this.createTransactionBatchPort = createTransactionBatchPort;
+        this.idempotencyHandler = idempotencyHandler;
     }
 
     @PostMapping
-    public ResponseEntity<Object> createTransaction(@Valid @RequestBody CreateTransactionRequest request, BindingResult bindingResult) {
+    public ResponseEntity<Object> createTransaction(@Valid @RequestBody CreateTransactionRequest request, BindingResult bindingResult,
+                                                    @RequestHeader(value = IdempotencyHandler.HEADER, required = false) String idempotencyKey) {
         if (bindingResult.hasErrors()) {
             logger.warn("Validation failed for CreateTransactionRequest: {}", bindingResult.getFieldErrors());
             return handleValidationErrors(bindingResult);
         }
 
+        return idempotencyHandler.execute(idempotencyKey, "POST /movimientos", request, () -> {
+            try {
+                logger.info("Creating transaction for account ID: {}", request.getAccountId());
+                TransactionDomain createdTransaction = createTransactionPort.create(request.toDomain());
+                logger.info("Transaction created successfully with ID: {}", createdTransaction.getId());
+                return ResponseEntity.status(HttpStatus.CREATED).body(TransactionResponse.of(createdTransaction, HttpStatus.CREATED));
+            } catch (Exception ex) {
+                return handleError(SPError.ACCOUNT_CONTROLLER_CREATE_ERROR, ex);
+            }
+        });
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<Object> createTransactionBatch(@Valid @RequestBody CreateTransactionBatchRequest request, BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            logger.warn("Validation failed for CreateTransactionBatchRequest: {}", bindingResult.getFieldErrors());
+            return handleValidationErrors(bindingResult);
+        }
+
         try {
-            logger.info("Creating transaction for account ID: {}", request.getAccountId());
-            TransactionDomain createdTransaction = createTransactionPort.create(request.toDomain());
-            logger.info("Transaction created successfully with ID: {}", createdTransaction.getId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(TransactionResponse.of(createdTransaction, HttpStatus.CREATED));
+            logger.info("Creating batch of {} transactions", request.getTransactions().size());
+            List<TransactionBatchResultDomain> results = createTransactionBatchPort.createBatch(request.toDomain());
+            logger.info("Transaction batch processed, total items: {}", results.size());
+            return ResponseEntity.ok(TransactionResponse.of(results, HttpStatus.OK));
         } catch (Exception ex) {
-            return handleError(SPError.ACCOUNT_CONTROLLER_CREATE_ERROR, ex);
+            return handleError(SPError.TRANSACTION_CONTROLLER_BATCH_ERROR, ex);
         }
     }
 
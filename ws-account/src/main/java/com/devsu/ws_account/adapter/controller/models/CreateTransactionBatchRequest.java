@@ -0,0 +1,28 @@
+package com.devsu.ws_account.adapter.controller.models;
+
+import com.devsu.ws_account.domain.TransactionDomain;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateTransactionBatchRequest {
+
+    @NotEmpty(message = "Transactions cannot be empty")
+    @Size(max = 10000, message = "A batch cannot contain more than 10000 transactions")
+    private List<@NotNull @Valid CreateTransactionRequest> transactions;
+
+    public List<TransactionDomain> toDomain() {
+        return this.transactions.stream()
+                .map(CreateTransactionRequest::toDomain)
+                .collect(Collectors.toList());
+    }
+}
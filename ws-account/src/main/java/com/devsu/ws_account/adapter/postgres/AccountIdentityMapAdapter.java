@@ -0,0 +1,169 @@
+package com.devsu.ws_account.adapter.postgres;
+
+import com.devsu.ws_account.application.port.out.AccountStorageRepository;
+import com.devsu.ws_account.domain.AccountDomain;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Identity map in front of {@link AccountPostgresAdapter}: inside a transaction, an account read by id is loaded
+ * once and the same instance is returned to every later lookup of that id. The map lives as long as the
+ * transaction and is dropped when it completes. Writes through this port refresh or evict the entry, changes
+ * made by other statements in the same transaction (the posting statement of the transaction storage) are not
+ * seen by an entry that is already loaded. Outside a transaction every lookup goes to the database.
+ */
+@Primary
+@Component
+public class AccountIdentityMapAdapter implements AccountStorageRepository {
+
+    private final AccountPostgresAdapter delegate;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bypassed;
+
+    public AccountIdentityMapAdapter(AccountPostgresAdapter delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.hits = lookupCounter(meterRegistry, "hit");
+        this.misses = lookupCounter(meterRegistry, "miss");
+        this.bypassed = lookupCounter(meterRegistry, "bypass");
+    }
+
+    @Override
+    public AccountDomain getById(UUID id) {
+        Map<UUID, AccountDomain> accounts = currentMap();
+        if (accounts == null) {
+            bypassed.increment();
+            return delegate.getById(id);
+        }
+        AccountDomain account = accounts.get(id);
+        if (account != null) {
+            hits.increment();
+            return account;
+        }
+        misses.increment();
+        return remember(accounts, delegate.getById(id));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        Map<UUID, AccountDomain> accounts = currentMap();
+        return accounts != null && accounts.containsKey(id) || delegate.existsById(id);
+    }
+
+    @Override
+    public AccountDomain getByIdForUpdate(UUID id) {
+        return remember(currentMap(), delegate.getByIdForUpdate(id));
+    }
+
+    @Override
+    public AccountDomain save(AccountDomain domain) {
+        return remember(currentMap(), delegate.save(domain));
+    }
+
+    @Override
+    public AccountDomain update(AccountDomain domain) {
+        evict(domain.getId());
+        return remember(currentMap(), delegate.update(domain));
+    }
+
+    @Override
+    public void delete(UUID id) {
+        evict(id);
+        delegate.delete(id);
+    }
+
+    @Override
+    public boolean adjustBalance(UUID id, long lastSeq, BigDecimal delta) {
+        evict(id);
+        return delegate.adjustBalance(id, lastSeq, delta);
+    }
+
+    @Override
+    public boolean revertLastMovement(UUID id, long lastSeq, BigDecimal delta) {
+        evict(id);
+        return delegate.revertLastMovement(id, lastSeq, delta);
+    }
+
+    @Override
+    public Long applyMovements(UUID id, BigDecimal delta, int count) {
+        evict(id);
+        return delegate.applyMovements(id, delta, count);
+    }
+
+    @Override
+    public List<AccountDomain> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public Page<AccountDomain> getAllPaginated(int page, int size) {
+        return delegate.getAllPaginated(page, size);
+    }
+
+    @Override
+    public AccountDomain findByAccountNumber(String accountNumber) {
+        return delegate.findByAccountNumber(accountNumber);
+    }
+
+    @Override
+    public AccountDomain findByClientId(UUID clientId) {
+        return delegate.findByClientId(clientId);
+    }
+
+    @Override
+    public List<AccountDomain> getAllByClientId(UUID clientId) {
+        return delegate.getAllByClientId(clientId);
+    }
+
+    private AccountDomain remember(Map<UUID, AccountDomain> accounts, AccountDomain account) {
+        if (accounts != null && account != null && account.getId() != null) {
+            accounts.put(account.getId(), account);
+        }
+        return account;
+    }
+
+    private void evict(UUID id) {
+        Map<UUID, AccountDomain> accounts = currentMap();
+        if (accounts != null) {
+            accounts.remove(id);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, AccountDomain> currentMap() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Map<UUID, AccountDomain> accounts = (Map<UUID, AccountDomain>) TransactionSynchronizationManager.getResource(this);
+        if (accounts == null) {
+            Map<UUID, AccountDomain> created = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AccountIdentityMapAdapter.this);
+                }
+            });
+            accounts = created;
+        }
+        return accounts;
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("account.identity_map.lookups")
+                .description("Account lookups by id, by whether the transaction identity map served them")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -2,6 +2,7 @@ package com.devsu.ws_account.adapter.postgres;
 
 import com.devsu.ws_account.adapter.postgres.models.AccountEntity;
 import com.devsu.ws_account.application.port.out.AccountStorageRepository;
+import com.devsu.ws_account.config.catalog.ReferenceCatalog;
 import com.devsu.ws_account.config.exception.DataBaseException;
 import com.devsu.ws_account.config.exception.SPError;
 import com.devsu.ws_account.domain.AccountDomain;
@@ -13,6 +14,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -22,9 +24,11 @@ public class AccountPostgresAdapter implements AccountStorageRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(AccountPostgresAdapter.class);
     private final AccountPostgresRepository repository;
+    private final ReferenceCatalog catalog;
 
-    public AccountPostgresAdapter(AccountPostgresRepository repository) {
+    public AccountPostgresAdapter(AccountPostgresRepository repository, ReferenceCatalog catalog) {
         this.repository = repository;
+        this.catalog = catalog;
     }
 
     @Override
@@ -35,7 +39,7 @@ public class AccountPostgresAdapter implements AccountStorageRepository {
             AccountEntity entity = AccountEntity.fromDomain(domain);
             AccountEntity savedEntity = repository.save(entity);
             logger.info("Account saved successfully with ID: {}", savedEntity.getId());
-            return savedEntity.toDomain();
+            return savedEntity.toDomain(catalog);
         } catch (Exception e) {
             logger.error("Error saving account [{}]: {}", domain.getAccountNumber(), e.getMessage(), e);
             throw new DataBaseException(SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorCode(),
@@ -49,7 +53,7 @@ public class AccountPostgresAdapter implements AccountStorageRepository {
         try {
             logger.debug("Retrieving all accounts from the database");
             List<AccountDomain> accounts = repository.findAll().stream()
-                    .map(AccountEntity::toDomain)
+                    .map(entity -> entity.toDomain(catalog))
                     .collect(Collectors.toList());
             logger.info("Retrieved {} accounts from the database", accounts.size());
             return accounts;
@@ -60,13 +64,26 @@ public class AccountPostgresAdapter implements AccountStorageRepository {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsById(UUID id) {
+        try {
+            logger.debug("Checking account exists by ID: {}", id);
+            return repository.existsById(id);
+        } catch (Exception e) {
+            logger.error("Error checking account by ID [{}]: {}", id, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(),
+                    SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public AccountDomain getById(UUID id) {
         try {
             logger.debug("Retrieving account by ID: {}", id);
             AccountDomain account = repository.findById(id)
-                    .map(AccountEntity::toDomain)
+                    .map(entity -> entity.toDomain(catalog))
                     .orElseThrow(() -> {
                         logger.warn("Account not found with ID: {}", id);
                         return new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), "Account not found");
@@ -89,7 +106,7 @@ public class AccountPostgresAdapter implements AccountStorageRepository {
             logger.debug("Retrieving accounts paginated - Page: {}, Size: {}", page, size);
             Pageable pageable = PageRequest.of(page, size);
             Page<AccountDomain> accountsPage = repository.findAll(pageable)
-                    .map(AccountEntity::toDomain);
+                    .map(entity -> entity.toDomain(catalog));
             logger.info("Retrieved {} accounts on page {}", accountsPage.getNumberOfElements(), page);
             return accountsPage;
         } catch (Exception e) {
@@ -104,14 +121,15 @@ public class AccountPostgresAdapter implements AccountStorageRepository {
     public AccountDomain update(AccountDomain domain) {
         try {
             logger.debug("Attempting to update account with ID: {}", domain.getId());
-            if (!repository.existsById(domain.getId())) {
-                logger.warn("Account not found for update with ID: {}", domain.getId());
-                throw new DataBaseException(SPError.ACCOUNT_ADAPTER_UPDATE_ERROR.getErrorCode(), "Account not found");
+            int updated = repository.updateIfCurrent(domain.getId(), domain.getVersion(),
+                    domain.getAccountType().getId(), domain.getInitialBalance(), domain.getStatus());
+            if (updated == 0) {
+                logger.warn("Account [{}] not found or modified since version {}", domain.getId(), domain.getVersion());
+                throw new DataBaseException(SPError.STALE_UPDATE_ERROR.getErrorCode(), SPError.STALE_UPDATE_ERROR.getErrorMessage());
             }
-            AccountEntity entity = AccountEntity.fromDomain(domain);
-            AccountEntity updatedEntity = repository.save(entity);
-            logger.info("Account updated successfully with ID: {}", updatedEntity.getId());
-            return updatedEntity.toDomain();
+            domain.setVersion(domain.getVersion() + 1);
+            logger.info("Account updated successfully with ID: {}", domain.getId());
+            return domain;
         } catch (DataBaseException e) {
             throw e;
         } catch (Exception e) {
@@ -141,7 +159,7 @@ public class AccountPostgresAdapter implements AccountStorageRepository {
         try {
             logger.debug("Retrieving account by account number: {}", accountNumber);
             AccountDomain account = repository.findByAccountNumber(accountNumber)
-                    .map(AccountEntity::toDomain)
+                    .map(entity -> entity.toDomain(catalog))
                     .orElse(null);
             if (account != null) {
                 logger.info("Account retrieved successfully with account number: {}", accountNumber);
@@ -162,7 +180,7 @@ public class AccountPostgresAdapter implements AccountStorageRepository {
         try {
             logger.debug("Retrieving accounts by client ID: {}", clientId);
             List<AccountDomain> accounts = repository.findByClientId(clientId).stream()
-                    .map(AccountEntity::toDomain)
+                    .map(entity -> entity.toDomain(catalog))
                     .collect(Collectors.toList());
             if (!accounts.isEmpty()) {
                 logger.info("Retrieved {} accounts for client ID: {}", accounts.size(), clientId);
@@ -178,4 +196,95 @@ public class AccountPostgresAdapter implements AccountStorageRepository {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountDomain> getAllByClientId(UUID clientId) {
+        try {
+            logger.debug("Retrieving all accounts by client ID: {}", clientId);
+            List<AccountDomain> accounts = repository.findByClientId(clientId).stream()
+                    .map(entity -> entity.toDomain(catalog))
+                    .collect(Collectors.toList());
+            logger.info("Retrieved {} accounts for client ID: {}", accounts.size(), clientId);
+            return accounts;
+        } catch (Exception e) {
+            logger.error("Error retrieving accounts by client ID [{}]: {}", clientId, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(),
+                    SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public AccountDomain getByIdForUpdate(UUID id) {
+        try {
+            logger.debug("Locking account by ID: {}", id);
+            AccountDomain account = repository.findByIdForUpdate(id)
+                    .map(entity -> entity.toDomain(catalog))
+                    .orElse(null);
+            if (account == null) {
+                logger.warn("Account not found for locking with ID: {}", id);
+            }
+            return account;
+        } catch (Exception e) {
+            logger.error("Error locking account [{}]: {}", id, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(),
+                    SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean adjustBalance(UUID id, long lastSeq, BigDecimal delta) {
+        try {
+            logger.debug("Adjusting current balance for account ID: {} by {} at sequence {}", id, delta, lastSeq);
+            boolean adjusted = repository.adjustLastMovement(id, lastSeq, delta, 0) == 1;
+            if (adjusted) {
+                logger.info("Current balance adjusted for account ID: {}", id);
+            } else {
+                logger.warn("Current balance not adjusted for account ID: {}, sequence moved or insufficient funds", id);
+            }
+            return adjusted;
+        } catch (Exception e) {
+            logger.error("Error adjusting current balance for account [{}]: {}", id, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_UPDATE_ERROR.getErrorCode(),
+                    SPError.ACCOUNT_ADAPTER_UPDATE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean revertLastMovement(UUID id, long lastSeq, BigDecimal delta) {
+        try {
+            logger.debug("Reverting movement {} for account ID: {} by {}", lastSeq, id, delta);
+            boolean reverted = repository.adjustLastMovement(id, lastSeq, delta, -1) == 1;
+            if (reverted) {
+                logger.info("Movement {} reverted for account ID: {}", lastSeq, id);
+            } else {
+                logger.warn("Movement {} not reverted for account ID: {}, it is no longer the last one", lastSeq, id);
+            }
+            return reverted;
+        } catch (Exception e) {
+            logger.error("Error reverting last movement for account [{}]: {}", id, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_UPDATE_ERROR.getErrorCode(),
+                    SPError.ACCOUNT_ADAPTER_UPDATE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public Long applyMovements(UUID id, BigDecimal delta, int count) {
+        try {
+            logger.debug("Applying {} movements for account ID: {} with net amount {}", count, id, delta);
+            Long lastSeq = repository.applyMovements(id, delta, count).orElse(null);
+            if (lastSeq == null) {
+                logger.warn("Movements not applied for account ID: {}, account missing or insufficient funds", id);
+            }
+            return lastSeq;
+        } catch (Exception e) {
+            logger.error("Error applying movements for account [{}]: {}", id, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_UPDATE_ERROR.getErrorCode(),
+                    SPError.ACCOUNT_ADAPTER_UPDATE_ERROR.getErrorMessage(), e);
+        }
+    }
+
 }
@@ -2,9 +2,16 @@ package com.devsu.ws_account.adapter.postgres;
 
 import com.devsu.ws_account.adapter.postgres.models.AccountEntity;
 import com.devsu.ws_account.adapter.postgres.models.AccountTypeEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,7 +20,52 @@ public interface AccountPostgresRepository extends JpaRepository<AccountEntity,
 
     Optional<AccountEntity> findByAccountNumber(String accountNumber);
 
-    Optional<AccountEntity> findByClientId(UUID clientId);
+    List<AccountEntity> findByClientId(UUID clientId);
 
+    /**
+     * Writes the editable columns in one statement, matching only the version the caller read,
+     * so a missing or concurrently modified account affects no rows.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AccountEntity a SET a.accountTypeId = :accountTypeId, a.initialBalance = :initialBalance, " +
+            "a.status = :status, a.version = a.version + 1 WHERE a.id = :id AND a.version = :version")
+    int updateIfCurrent(@Param("id") UUID id,
+                        @Param("version") Long version,
+                        @Param("accountTypeId") Integer accountTypeId,
+                        @Param("initialBalance") BigDecimal initialBalance,
+                        @Param("status") Boolean status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AccountEntity a WHERE a.id = :id")
+    Optional<AccountEntity> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * Changes the balance only while the account's last movement is still the expected one, so
+     * revising or removing the last movement is an exact sequence check.
+     */
+    @Modifying
+    @Query(value = "UPDATE account SET current_balance = current_balance + :delta, last_seq = last_seq + :seqDelta " +
+            "WHERE id = :id AND last_seq = :lastSeq AND current_balance + :delta >= 0", nativeQuery = true)
+    int adjustLastMovement(@Param("id") UUID id,
+                           @Param("lastSeq") long lastSeq,
+                           @Param("delta") BigDecimal delta,
+                           @Param("seqDelta") int seqDelta);
+
+    /**
+     * Applies the net amount of a group of new movements and reserves their sequence numbers,
+     * returning the last reserved one. Empty when the account is missing or cannot absorb the amount.
+     */
+    @Query(value = """
+            WITH upd AS (
+                UPDATE account
+                   SET current_balance = current_balance + :delta,
+                       last_seq = last_seq + :count
+                 WHERE id = :id
+                   AND current_balance + :delta >= 0
+                RETURNING last_seq
+            )
+            SELECT last_seq FROM upd
+            """, nativeQuery = true)
+    Optional<Long> applyMovements(@Param("id") UUID id, @Param("delta") BigDecimal delta, @Param("count") int count);
 
 }
@@ -0,0 +1,9 @@
+package com.devsu.ws_account.adapter.postgres;
+
+import com.devsu.ws_account.adapter.postgres.models.AccountTypeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountTypePostgresRepository extends JpaRepository<AccountTypeEntity, Integer> {
+}
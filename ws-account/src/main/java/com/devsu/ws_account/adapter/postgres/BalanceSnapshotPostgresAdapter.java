@@ -0,0 +1,86 @@
+package com.devsu.ws_account.adapter.postgres;
+
+import com.devsu.ws_account.adapter.postgres.models.BalanceSnapshotEntity;
+import com.devsu.ws_account.application.port.out.BalanceSnapshotStorageRepository;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.BalanceSnapshotDomain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.UUID;
+
+@Component
+public class BalanceSnapshotPostgresAdapter implements BalanceSnapshotStorageRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceSnapshotPostgresAdapter.class);
+    private static final Date FIRST_RUN = new Date(0L);
+    private static final long RESCAN_MILLIS = Duration.ofDays(1).toMillis();
+
+    private final BalanceSnapshotPostgresRepository repository;
+
+    public BalanceSnapshotPostgresAdapter(BalanceSnapshotPostgresRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Reads the movements posted since the previous run, going back one more day so a movement that
+     * committed after that run still reaches the snapshot of its day. Without a previous run the whole
+     * history is read once.
+     */
+    @Override
+    @Transactional
+    public int refreshUntil(Date until) {
+        try {
+            Date since = repository.findRefreshedUntil()
+                    .map(last -> new Date(last.getTime() - RESCAN_MILLIS))
+                    .orElse(FIRST_RUN);
+            if (!since.before(until)) {
+                logger.debug("Balance snapshots already refreshed until {}", until);
+                return 0;
+            }
+            logger.debug("Refreshing balance snapshots for days between {} and {}", since, until);
+            int written = repository.refreshBetween(since, until);
+            repository.saveRefreshedUntil(until);
+            logger.info("Balance snapshots refreshed, {} rows written", written);
+            return written;
+        } catch (Exception e) {
+            logger.error("Error refreshing balance snapshots until {}: {}", until, e.getMessage(), e);
+            throw new DataBaseException(SPError.BALANCE_SNAPSHOT_ADAPTER_ERROR.getErrorCode(),
+                    SPError.BALANCE_SNAPSHOT_ADAPTER_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BalanceSnapshotDomain findLatest(UUID accountId, LocalDate date) {
+        try {
+            logger.debug("Retrieving latest balance snapshot for account ID: {} on or before {}", accountId, date);
+            return repository.findTopByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(accountId, date)
+                    .map(BalanceSnapshotEntity::toDomain)
+                    .orElse(null);
+        } catch (Exception e) {
+            logger.error("Error retrieving balance snapshot for account ID [{}]: {}", accountId, e.getMessage(), e);
+            throw new DataBaseException(SPError.BALANCE_SNAPSHOT_ADAPTER_ERROR.getErrorCode(),
+                    SPError.BALANCE_SNAPSHOT_ADAPTER_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteFrom(UUID accountId, LocalDate from) {
+        try {
+            int deleted = repository.deleteFrom(accountId, from);
+            logger.info("Invalidated {} balance snapshots for account ID: {} from {}", deleted, accountId, from);
+        } catch (Exception e) {
+            logger.error("Error invalidating balance snapshots for account ID [{}]: {}", accountId, e.getMessage(), e);
+            throw new DataBaseException(SPError.BALANCE_SNAPSHOT_ADAPTER_ERROR.getErrorCode(),
+                    SPError.BALANCE_SNAPSHOT_ADAPTER_ERROR.getErrorMessage(), e);
+        }
+    }
+}
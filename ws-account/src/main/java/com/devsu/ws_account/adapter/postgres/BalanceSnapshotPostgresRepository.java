@@ -0,0 +1,50 @@
+package com.devsu.ws_account.adapter.postgres;
+
+import com.devsu.ws_account.adapter.postgres.models.BalanceSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface BalanceSnapshotPostgresRepository extends JpaRepository<BalanceSnapshotEntity, UUID> {
+
+    Optional<BalanceSnapshotEntity> findTopByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(UUID accountId, LocalDate date);
+
+    @Modifying
+    @Query("DELETE FROM BalanceSnapshotEntity s WHERE s.accountId = :accountId AND s.snapshotDate >= :from")
+    int deleteFrom(@Param("accountId") UUID accountId, @Param("from") LocalDate from);
+
+    /**
+     * Writes the end-of-day balance of every closed day with movements in [since, until), so only the
+     * partitions of that range are read and only the accounts with movements in it get rows. The closing
+     * balance is the one stored on the last movement of the day, so no history is replayed.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO balance_snapshot (id, account_id, snapshot_date, balance) " +
+            "SELECT gen_random_uuid(), d.account_id, d.day, d.balance FROM ( " +
+            "    SELECT DISTINCT ON (t.account_id, CAST(t.date AS DATE)) " +
+            "           t.account_id, CAST(t.date AS DATE) AS day, t.balance " +
+            "    FROM transaction t " +
+            "    WHERE t.date >= :since AND t.date < :until " +
+            "    ORDER BY t.account_id, CAST(t.date AS DATE), t.seq DESC " +
+            ") d " +
+            "ON CONFLICT (account_id, snapshot_date) DO UPDATE SET balance = EXCLUDED.balance",
+            nativeQuery = true)
+    int refreshBetween(@Param("since") Date since, @Param("until") Date until);
+
+    @Query(value = "SELECT refreshed_until FROM balance_snapshot_watermark WHERE id = 1", nativeQuery = true)
+    Optional<Date> findRefreshedUntil();
+
+    @Modifying
+    @Query(value = "INSERT INTO balance_snapshot_watermark (id, refreshed_until) VALUES (1, :until) " +
+            "ON CONFLICT (id) DO UPDATE SET refreshed_until = EXCLUDED.refreshed_until",
+            nativeQuery = true)
+    int saveRefreshedUntil(@Param("until") Date until);
+}
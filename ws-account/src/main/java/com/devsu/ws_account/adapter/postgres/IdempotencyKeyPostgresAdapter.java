@@ -0,0 +1,107 @@
+package com.devsu.ws_account.adapter.postgres;
+
+import com.devsu.ws_account.adapter.postgres.models.IdempotencyKeyEntity;
+import com.devsu.ws_account.application.port.out.IdempotencyStorageRepository;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.IdempotencyRecordDomain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.Optional;
+
+@Component
+public class IdempotencyKeyPostgresAdapter implements IdempotencyStorageRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyKeyPostgresAdapter.class);
+    private static final int RESERVE_ATTEMPTS = 2;
+
+    private final IdempotencyKeyPostgresRepository repository;
+
+    public IdempotencyKeyPostgresAdapter(IdempotencyKeyPostgresRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Inserts the key and returns null when this caller now owns it, or the stored record when the key
+     * already exists. Not transactional on purpose: the failed insert must not poison the lookup that follows.
+     */
+    @Override
+    public IdempotencyRecordDomain reserve(IdempotencyRecordDomain reservation) {
+        try {
+            for (int attempt = 0; attempt < RESERVE_ATTEMPTS; attempt++) {
+                try {
+                    repository.saveAndFlush(IdempotencyKeyEntity.fromDomain(reservation));
+                    logger.debug("Idempotency key reserved: {}", reservation.getIdempotencyKey());
+                    return null;
+                } catch (DataIntegrityViolationException e) {
+                    Optional<IdempotencyKeyEntity> existing = repository.findById(reservation.getIdempotencyKey());
+                    if (existing.isPresent()) {
+                        logger.debug("Idempotency key already present: {}", reservation.getIdempotencyKey());
+                        return existing.get().toDomain();
+                    }
+                }
+            }
+            throw new IllegalStateException("Idempotency key could not be reserved: " + reservation.getIdempotencyKey());
+        } catch (Exception e) {
+            logger.error("Error reserving idempotency key [{}]: {}", reservation.getIdempotencyKey(), e.getMessage(), e);
+            throw new DataBaseException(SPError.IDEMPOTENCY_ADAPTER_ERROR.getErrorCode(),
+                    SPError.IDEMPOTENCY_ADAPTER_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean complete(String idempotencyKey, int responseStatus, String responseBody, Date expiresAt) {
+        try {
+            return repository.complete(idempotencyKey, responseStatus, responseBody, expiresAt) > 0;
+        } catch (Exception e) {
+            logger.error("Error completing idempotency key [{}]: {}", idempotencyKey, e.getMessage(), e);
+            throw new DataBaseException(SPError.IDEMPOTENCY_ADAPTER_ERROR.getErrorCode(),
+                    SPError.IDEMPOTENCY_ADAPTER_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void release(String idempotencyKey) {
+        try {
+            int released = repository.release(idempotencyKey);
+            logger.debug("Idempotency key released: {}, rows: {}", idempotencyKey, released);
+        } catch (Exception e) {
+            logger.error("Error releasing idempotency key [{}]: {}", idempotencyKey, e.getMessage(), e);
+            throw new DataBaseException(SPError.IDEMPOTENCY_ADAPTER_ERROR.getErrorCode(),
+                    SPError.IDEMPOTENCY_ADAPTER_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean releaseExpired(String idempotencyKey, Date now) {
+        try {
+            return repository.deleteExpired(idempotencyKey, now) > 0;
+        } catch (Exception e) {
+            logger.error("Error releasing expired idempotency key [{}]: {}", idempotencyKey, e.getMessage(), e);
+            throw new DataBaseException(SPError.IDEMPOTENCY_ADAPTER_ERROR.getErrorCode(),
+                    SPError.IDEMPOTENCY_ADAPTER_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired(Date now) {
+        try {
+            int deleted = repository.deleteAllExpired(now);
+            logger.info("Purged {} expired idempotency keys", deleted);
+            return deleted;
+        } catch (Exception e) {
+            logger.error("Error purging expired idempotency keys: {}", e.getMessage(), e);
+            throw new DataBaseException(SPError.IDEMPOTENCY_ADAPTER_ERROR.getErrorCode(),
+                    SPError.IDEMPOTENCY_ADAPTER_ERROR.getErrorMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.devsu.ws_account.adapter.postgres;
+
+import com.devsu.ws_account.adapter.postgres.models.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+
+@Repository
+public interface IdempotencyKeyPostgresRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+    @Modifying
+    @Query("UPDATE IdempotencyKeyEntity k SET k.completed = true, k.responseStatus = :status, k.responseBody = :body, " +
+            "k.expiresAt = :expiresAt WHERE k.idempotencyKey = :key AND k.completed = false")
+    int complete(@Param("key") String key, @Param("status") int status, @Param("body") String body,
+                 @Param("expiresAt") Date expiresAt);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.idempotencyKey = :key AND k.completed = false")
+    int release(@Param("key") String key);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.idempotencyKey = :key AND k.expiresAt < :now")
+    int deleteExpired(@Param("key") String key, @Param("now") Date now);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyEntity k WHERE k.expiresAt < :now")
+    int deleteAllExpired(@Param("now") Date now);
+}
@@ -0,0 +1,60 @@
+package com.devsu.ws_account.adapter.postgres;
+
+import com.devsu.ws_account.adapter.postgres.models.AccountTypeEntity;
+import com.devsu.ws_account.adapter.postgres.models.TransactionTypeEntity;
+import com.devsu.ws_account.application.port.out.ReferenceDataStorageRepository;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountTypeDomain;
+import com.devsu.ws_account.domain.TransactionTypeDomain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class ReferenceDataPostgresAdapter implements ReferenceDataStorageRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataPostgresAdapter.class);
+    private final AccountTypePostgresRepository accountTypeRepository;
+    private final TransactionTypePostgresRepository transactionTypeRepository;
+
+    public ReferenceDataPostgresAdapter(AccountTypePostgresRepository accountTypeRepository,
+                                        TransactionTypePostgresRepository transactionTypeRepository) {
+        this.accountTypeRepository = accountTypeRepository;
+        this.transactionTypeRepository = transactionTypeRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountTypeDomain> getAccountTypes() {
+        try {
+            logger.debug("Retrieving all account types");
+            return accountTypeRepository.findAll().stream()
+                    .map(AccountTypeEntity::toDomain)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            logger.error("Error retrieving account types: {}", e.getMessage(), e);
+            throw new DataBaseException(SPError.REFERENCE_DATA_ADAPTER_ERROR.getErrorCode(),
+                    SPError.REFERENCE_DATA_ADAPTER_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TransactionTypeDomain> getTransactionTypes() {
+        try {
+            logger.debug("Retrieving all transaction types");
+            return transactionTypeRepository.findAll().stream()
+                    .map(TransactionTypeEntity::toDomain)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            logger.error("Error retrieving transaction types: {}", e.getMessage(), e);
+            throw new DataBaseException(SPError.REFERENCE_DATA_ADAPTER_ERROR.getErrorCode(),
+                    SPError.REFERENCE_DATA_ADAPTER_ERROR.getErrorMessage(), e);
+        }
+    }
+}
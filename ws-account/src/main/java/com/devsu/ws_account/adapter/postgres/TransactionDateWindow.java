@@ -0,0 +1,85 @@
+package com.devsu.ws_account.adapter.postgres;
+
+import com.devsu.ws_account.config.id.TimeOrderedUuids;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Date bounds for queries on the transaction table, which is range partitioned by month on {@code date}.
+ * Postgres only prunes partitions when the statement bounds the date, so lookups by id or by account derive
+ * the bounds from the time-ordered ids: a movement is dated when its id is generated, and no movement of an
+ * account is older than the account id. Ids of any other version (rows created before time-ordered keys)
+ * get bounds that cover every partition.
+ */
+final class TransactionDateWindow {
+
+    static final Date EARLIEST = new Date(0L);
+    static final Date LATEST = Date.from(LocalDate.of(9999, 12, 31).atStartOfDay(ZoneOffset.UTC).toInstant());
+
+    /** Clock skew between the application instances and the time the date was taken. */
+    private static final long SLACK_MILLIS = Duration.ofDays(1).toMillis();
+
+    private final Date from;
+    private final Date to;
+
+    private TransactionDateWindow(Date from, Date to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /** Bounds of the movement with the given id. */
+    static TransactionDateWindow around(UUID transactionId) {
+        if (!isTimeOrdered(transactionId)) {
+            return new TransactionDateWindow(EARLIEST, LATEST);
+        }
+        long millis = TimeOrderedUuids.unixMillis(transactionId);
+        return new TransactionDateWindow(new Date(millis - SLACK_MILLIS), new Date(millis + SLACK_MILLIS));
+    }
+
+    /** Lower bound of every movement of the account with the given id. */
+    static Date since(UUID accountId) {
+        if (!isTimeOrdered(accountId)) {
+            return EARLIEST;
+        }
+        return new Date(TimeOrderedUuids.unixMillis(accountId) - SLACK_MILLIS);
+    }
+
+    /**
+     * Lower bound of a range query on the account's movements: the requested bound, raised to
+     * {@link #since(UUID)} when it is absent or earlier.
+     */
+    static Date since(UUID accountId, Date from) {
+        Date since = since(accountId);
+        return from == null || from.before(since) ? since : from;
+    }
+
+    /** Upper bound of a range query: the requested bound, or {@link #LATEST} when it is absent. */
+    static Date until(Date to) {
+        return to != null ? to : LATEST;
+    }
+
+    /**
+     * Start of the previous month in UTC, where the last movement of an active account is usually found.
+     * Pinned to UTC like {@link #LATEST}, so the bound does not move with the time zone of the host.
+     */
+    static Date recent() {
+        LocalDate previousMonth = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1).minusMonths(1);
+        return Date.from(previousMonth.atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+
+    Date from() {
+        return from;
+    }
+
+    Date to() {
+        return to;
+    }
+
+    private static boolean isTimeOrdered(UUID id) {
+        return id != null && id.version() == 7;
+    }
+}
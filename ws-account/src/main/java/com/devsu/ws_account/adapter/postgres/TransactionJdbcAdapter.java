@@ -0,0 +1,443 @@
+package com.devsu.ws_account.adapter.postgres;
+
+import com.devsu.ws_account.application.port.out.TransactionStorageRepository;
+import com.devsu.ws_account.config.catalog.ReferenceCatalog;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.config.id.TimeOrderedUuids;
+import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.TransactionDomain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Transaction storage on plain JDBC, selected with {@code transaction.storage=jdbc}. Rows are mapped
+ * straight into domain objects: there is no persistence context, no dirty checking and no entity in
+ * between. Movements and their account are always read with one join.
+ */
+@Component
+@ConditionalOnProperty(prefix = "transaction", name = "storage", havingValue = "jdbc")
+public class TransactionJdbcAdapter implements TransactionStorageRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionJdbcAdapter.class);
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String SELECT_WITH_ACCOUNT =
+            "SELECT t.id, t.date, t.transaction_type_id, t.amount, t.balance, t.seq, t.version, " +
+            "a.id AS account_id, a.account_number, a.account_type_id, a.initial_balance, a.current_balance, " +
+            "a.status, a.client_id, a.version AS account_version " +
+            "FROM transaction t JOIN account a ON a.id = t.account_id ";
+    private static final String INSERT_TRANSACTION_SQL =
+            "INSERT INTO transaction (id, date, transaction_type_id, amount, balance, account_id, seq, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String UPDATE_TRANSACTION_SQL =
+            "UPDATE transaction SET amount = ?, balance = ?, version = version + 1 " +
+            "WHERE id = ? AND date >= ? AND date <= ? AND version = ?";
+    private static final String POST_TRANSACTION_SQL = """
+            WITH upd AS (
+                UPDATE account
+                   SET current_balance = current_balance + ?,
+                       last_seq = last_seq + 1
+                 WHERE id = ?
+                   AND current_balance + ? >= 0
+                RETURNING id, account_number, account_type_id, initial_balance, current_balance, status, client_id, last_seq, version
+            ), ins AS (
+                INSERT INTO transaction (id, date, transaction_type_id, amount, balance, account_id, seq, version)
+                SELECT ?, ?, ?, ?, upd.current_balance, upd.id, upd.last_seq, 0
+                  FROM upd
+                RETURNING id, date, transaction_type_id, amount, balance, account_id, seq, version
+            )
+            SELECT ins.id, ins.date, ins.transaction_type_id, ins.amount, ins.balance, ins.seq, ins.version,
+                   upd.id AS account_id, upd.account_number, upd.account_type_id, upd.initial_balance,
+                   upd.current_balance, upd.status, upd.client_id, upd.version AS account_version
+              FROM ins
+              JOIN upd ON upd.id = ins.account_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReferenceCatalog catalog;
+
+    public TransactionJdbcAdapter(JdbcTemplate jdbcTemplate, ReferenceCatalog catalog) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.catalog = catalog;
+    }
+
+    @Override
+    @Transactional
+    public TransactionDomain save(TransactionDomain domain) {
+        try {
+            logger.debug("Attempting to save transaction: {}", domain);
+            if (domain.getId() == null) {
+                domain.setId(TimeOrderedUuids.next());
+            }
+            jdbcTemplate.update(INSERT_TRANSACTION_SQL, ps -> bindInsert(ps, domain));
+            domain.setVersion(0L);
+            logger.info("Transaction saved successfully with ID: {}", domain.getId());
+            return domain;
+        } catch (Exception e) {
+            logger.error("Error saving transaction [{}]: {}", domain.toString(), e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TransactionDomain> getAll() {
+        try {
+            logger.debug("Retrieving all transactions from the database");
+            List<TransactionDomain> transactions = jdbcTemplate.query(SELECT_WITH_ACCOUNT, this::mapRow);
+            logger.info("Retrieved {} transactions from the database", transactions.size());
+            return transactions;
+        } catch (Exception e) {
+            logger.error("Error retrieving transactions: {}", e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionDomain getById(UUID id) {
+        try {
+            logger.debug("Retrieving transaction by ID: {}", id);
+            TransactionDateWindow window = TransactionDateWindow.around(id);
+            List<TransactionDomain> found = jdbcTemplate.query(SELECT_WITH_ACCOUNT + "WHERE t.id = ? AND t.date >= ? AND t.date <= ?",
+                    this::mapRow, id, timestamp(window.from()), timestamp(window.to()));
+            if (found.isEmpty()) {
+                logger.warn("Transaction not found with ID: {}", id);
+                throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), "Transaction not found");
+            }
+            logger.info("Transaction retrieved successfully with ID: {}", id);
+            return found.get(0);
+        } catch (DataBaseException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error retrieving transaction by ID [{}]: {}", id, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TransactionDomain> getAllPaginated(int page, int size) {
+        try {
+            logger.debug("Retrieving transactions paginated - Page: {}, Size: {}", page, size);
+            List<TransactionDomain> content = jdbcTemplate.query(SELECT_WITH_ACCOUNT + "ORDER BY t.id LIMIT ? OFFSET ?",
+                    this::mapRow, size, (long) page * size);
+            Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction", Long.class);
+            Page<TransactionDomain> transactionsPage = new PageImpl<>(content, PageRequest.of(page, size), total == null ? 0 : total);
+            logger.info("Retrieved {} transactions on page {}", transactionsPage.getNumberOfElements(), page);
+            return transactionsPage;
+        } catch (Exception e) {
+            logger.error("Error retrieving paginated transactions - Page: {}, Size: {}: {}", page, size, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public TransactionDomain update(TransactionDomain domain) {
+        try {
+            logger.debug("Attempting to update transaction with ID: {}", domain.getId());
+            TransactionDateWindow window = TransactionDateWindow.around(domain.getId());
+            int updated = jdbcTemplate.update(UPDATE_TRANSACTION_SQL, domain.getAmount(), domain.getBalance(), domain.getId(),
+                    timestamp(window.from()), timestamp(window.to()), domain.getVersion());
+            if (updated == 0) {
+                logger.warn("Transaction [{}] not found or modified since version {}", domain.getId(), domain.getVersion());
+                throw new DataBaseException(SPError.STALE_UPDATE_ERROR.getErrorCode(), SPError.STALE_UPDATE_ERROR.getErrorMessage());
+            }
+            domain.setVersion(domain.getVersion() + 1);
+            logger.info("Transaction updated successfully with ID: {}", domain.getId());
+            return domain;
+        } catch (DataBaseException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error updating transaction [{}]: {}", domain.getId(), e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_UPDATE_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_UPDATE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void delete(UUID id) {
+        try {
+            logger.debug("Attempting to delete transaction by ID: {}", id);
+            TransactionDateWindow window = TransactionDateWindow.around(id);
+            jdbcTemplate.update("DELETE FROM transaction WHERE id = ? AND date >= ? AND date <= ?",
+                    id, timestamp(window.from()), timestamp(window.to()));
+            logger.info("Transaction deleted successfully with ID: {}", id);
+        } catch (Exception e) {
+            logger.error("Error deleting transaction [{}]: {}", id, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_DELETE_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_DELETE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countByAccount(UUID accountId) {
+        try {
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM transaction WHERE account_id = ? AND date >= ?",
+                    Long.class, accountId, timestamp(TransactionDateWindow.since(accountId)));
+            return count == null ? 0 : count;
+        } catch (Exception e) {
+            logger.error("Error counting transactions for account ID [{}]: {}", accountId, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int deleteByAccount(UUID accountId) {
+        try {
+            logger.debug("Attempting to delete all transactions for account ID: {}", accountId);
+            int deleted = jdbcTemplate.update("DELETE FROM transaction WHERE account_id = ? AND date >= ?",
+                    accountId, timestamp(TransactionDateWindow.since(accountId)));
+            logger.info("Deleted {} transactions for account ID: {}", deleted, accountId);
+            return deleted;
+        } catch (Exception e) {
+            logger.error("Error deleting transactions for account ID [{}]: {}", accountId, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_DELETE_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_DELETE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int deleteChunkByAccount(UUID accountId, int chunkSize) {
+        try {
+            Timestamp since = timestamp(TransactionDateWindow.since(accountId));
+            int deleted = jdbcTemplate.update("DELETE FROM transaction WHERE account_id = ? AND date >= ? AND id IN " +
+                            "(SELECT id FROM transaction WHERE account_id = ? AND date >= ? LIMIT ?)",
+                    accountId, since, accountId, since, chunkSize);
+            logger.debug("Deleted chunk of {} transactions for account ID: {}", deleted, accountId);
+            return deleted;
+        } catch (Exception e) {
+            logger.error("Error deleting transaction chunk for account ID [{}]: {}", accountId, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_DELETE_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_DELETE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TransactionDomain> getTransactionsByAccount(AccountDomain account) {
+        try {
+            logger.debug("Retrieving transactions for account ID: {}", account.getId());
+            List<TransactionDomain> transactions = jdbcTemplate.query(SELECT_WITH_ACCOUNT + "WHERE t.account_id = ? AND t.date >= ? ORDER BY t.seq",
+                    this::mapRow, account.getId(), timestamp(TransactionDateWindow.since(account.getId())));
+            logger.info("Retrieved {} transactions for account ID: {}", transactions.size(), account.getId());
+            return transactions;
+        } catch (Exception e) {
+            logger.error("Error retrieving transactions for account ID [{}]: {}", account.getId(), e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionDomain getLastTransactionByAccount(AccountDomain account) {
+        try {
+            logger.debug("Retrieving last transaction for account ID: {}", account.getId());
+            List<TransactionDomain> found = findLast(account.getId(), TransactionDateWindow.recent());
+            if (found.isEmpty()) {
+                found = findLast(account.getId(), TransactionDateWindow.since(account.getId()));
+            }
+            if (found.isEmpty()) {
+                logger.info("No transactions found for account ID: {}", account.getId());
+                return null;
+            }
+            logger.info("Last transaction for account ID: {} retrieved successfully", account.getId());
+            return found.get(0);
+        } catch (Exception e) {
+            logger.error("Error retrieving last transaction for account ID [{}]: {}", account.getId(), e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public TransactionDomain post(TransactionDomain domain) {
+        try {
+            logger.debug("Attempting to post transaction for account ID: {}", domain.getAccount().getId());
+            List<TransactionDomain> posted = jdbcTemplate.query(POST_TRANSACTION_SQL, this::mapRow,
+                    domain.getAmount(), domain.getAccount().getId(), domain.getAmount(),
+                    TimeOrderedUuids.next(), new Timestamp(domain.getDate().getTime()), domain.getTransactionType().getId(), domain.getAmount());
+            if (posted.isEmpty()) {
+                logger.warn("Transaction not posted for account ID: {}, account missing or insufficient funds", domain.getAccount().getId());
+                return null;
+            }
+            logger.info("Transaction posted successfully with ID: {}", posted.get(0).getId());
+            return posted.get(0);
+        } catch (Exception e) {
+            logger.error("Error posting transaction [{}]: {}", domain.toString(), e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TransactionDomain> getByAccountPage(UUID accountId, Date afterDate, Long afterSeq, Date from, Date to, int limit) {
+        try {
+            logger.debug("Retrieving transactions page for account ID: {} after ({}, {}), limit: {}", accountId, afterDate, afterSeq, limit);
+            Timestamp since = timestamp(TransactionDateWindow.since(accountId, from));
+            Timestamp until = timestamp(TransactionDateWindow.until(to));
+            List<TransactionDomain> transactions = afterSeq == null
+                    ? jdbcTemplate.query(SELECT_WITH_ACCOUNT +
+                            "WHERE t.account_id = ? AND t.date >= ? AND t.date <= ? " +
+                            "ORDER BY t.date DESC, t.seq DESC LIMIT ?",
+                    this::mapRow, accountId, since, until, limit)
+                    : jdbcTemplate.query(SELECT_WITH_ACCOUNT +
+                            "WHERE t.account_id = ? AND t.date >= ? AND t.date <= ? AND (t.date, t.seq) < (?, ?) " +
+                            "ORDER BY t.date DESC, t.seq DESC LIMIT ?",
+                    this::mapRow, accountId, since, until, timestamp(afterDate), afterSeq, limit);
+            logger.info("Retrieved {} transactions for account ID: {}", transactions.size(), accountId);
+            return transactions;
+        } catch (Exception e) {
+            logger.error("Error retrieving transactions page for account ID [{}]: {}", accountId, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal sumAmounts(UUID accountId, Date from, Date to) {
+        try {
+            logger.debug("Summing transaction amounts for account ID: {} between {} and {}", accountId, from, to);
+            return jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(SUM(amount), 0) FROM transaction WHERE account_id = ? AND date >= ? AND date < ?",
+                    BigDecimal.class, accountId, timestamp(TransactionDateWindow.since(accountId, from)), timestamp(to));
+        } catch (Exception e) {
+            logger.error("Error summing transaction amounts for account ID [{}]: {}", accountId, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamStatement(List<UUID> accountIds, Date from, Date to, Consumer<TransactionDomain> consumer) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        String sql = SELECT_WITH_ACCOUNT +
+                "WHERE t.account_id IN (" + String.join(", ", Collections.nCopies(accountIds.size(), "?")) + ") " +
+                "AND t.date >= ? AND t.date < ? ORDER BY a.account_number, t.seq";
+        try {
+            logger.debug("Streaming statement for {} accounts between {} and {}", accountIds.size(), from, to);
+            long[] count = {0};
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql);
+                ps.setFetchSize(STREAM_FETCH_SIZE);
+                int index = 1;
+                for (UUID accountId : accountIds) {
+                    ps.setObject(index++, accountId);
+                }
+                ps.setTimestamp(index++, timestamp(from));
+                ps.setTimestamp(index, timestamp(to));
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                consumer.accept(mapRow(rs, (int) count[0]));
+                count[0]++;
+            });
+            logger.info("Streamed {} statement transactions for {} accounts", count[0], accountIds.size());
+        } catch (Exception e) {
+            logger.error("Error streaming statement for accounts {}: {}", accountIds, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Date from, Date to, Consumer<TransactionDomain> consumer) {
+        String sql = SELECT_WITH_ACCOUNT + "WHERE t.date >= ? AND t.date < ? ORDER BY t.date, t.id";
+        try {
+            logger.debug("Streaming all transactions between {} and {}", from, to);
+            long[] count = {0};
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql);
+                ps.setFetchSize(STREAM_FETCH_SIZE);
+                ps.setTimestamp(1, timestamp(from));
+                ps.setTimestamp(2, timestamp(to));
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                consumer.accept(mapRow(rs, (int) count[0]));
+                count[0]++;
+            });
+            logger.info("Streamed {} transactions between {} and {}", count[0], from, to);
+        } catch (Exception e) {
+            logger.error("Error streaming transactions between {} and {}: {}", from, to, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<TransactionDomain> domains) {
+        try {
+            logger.debug("Attempting to batch insert {} transactions", domains.size());
+            jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, domains, INSERT_BATCH_SIZE, this::bindInsert);
+            logger.info("Batch inserted {} transactions", domains.size());
+        } catch (Exception e) {
+            logger.error("Error batch inserting {} transactions: {}", domains.size(), e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    private void bindInsert(PreparedStatement ps, TransactionDomain domain) throws SQLException {
+        ps.setObject(1, domain.getId());
+        ps.setTimestamp(2, timestamp(domain.getDate()));
+        ps.setInt(3, domain.getTransactionType().getId());
+        ps.setBigDecimal(4, domain.getAmount());
+        ps.setBigDecimal(5, domain.getBalance());
+        ps.setObject(6, domain.getAccount().getId());
+        ps.setLong(7, domain.getSeq());
+    }
+
+    private TransactionDomain mapRow(ResultSet rs, int rowNum) throws SQLException {
+        AccountDomain account = AccountDomain.builder()
+                .id(rs.getObject("account_id", UUID.class))
+                .accountNumber(rs.getString("account_number"))
+                .accountType(catalog.accountType(rs.getInt("account_type_id")))
+                .initialBalance(rs.getBigDecimal("initial_balance"))
+                .currentBalance(rs.getBigDecimal("current_balance"))
+                .status(rs.getBoolean("status"))
+                .clientId(rs.getObject("client_id", UUID.class))
+                .version(rs.getLong("account_version"))
+                .build();
+
+        return TransactionDomain.builder()
+                .id(rs.getObject("id", UUID.class))
+                .date(rs.getTimestamp("date"))
+                .transactionType(catalog.transactionType(rs.getInt("transaction_type_id")))
+                .amount(rs.getBigDecimal("amount"))
+                .balance(rs.getBigDecimal("balance"))
+                .account(account)
+                .seq(rs.getLong("seq"))
+                .version(rs.getLong("version"))
+                .build();
+    }
+
+    private List<TransactionDomain> findLast(UUID accountId, Date since) {
+        return jdbcTemplate.query(SELECT_WITH_ACCOUNT + "WHERE t.account_id = ? AND t.seq = a.last_seq AND t.date >= ?",
+                this::mapRow, accountId, timestamp(since));
+    }
+
+    private static Timestamp timestamp(Date date) {
+        return date == null ? null : new Timestamp(date.getTime());
+    }
+}
@@ -0,0 +1,111 @@
+package com.devsu.ws_account.adapter.postgres;
+
+import com.devsu.ws_account.application.port.out.TransactionPartitionStorageRepository;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Monthly partitions of the transaction table, named {@code transaction_yYYYYmMM} and covering
+ * {@code [first day of the month, first day of the next month)}. Partitions with any other name are left alone.
+ * The statements are DDL and run outside of a transaction: {@code DETACH PARTITION ... CONCURRENTLY} is not
+ * allowed inside one, and it only takes a lock that lets reads and writes on the other partitions go on.
+ * <p>
+ * A unique index on the partitioned table has to include the partition key, so {@code uq_transaction_account_seq}
+ * is {@code (account_id, seq, date)} and does not stop two movements of an account sharing a seq on different
+ * dates. Each month therefore gets its own unique {@code (account_id, seq)} index. Across months, uniqueness rests
+ * on {@code account.last_seq} being the only source of seq values; it is advanced in the same statement that
+ * moves the balance, under the account row lock.
+ */
+@Component
+public class TransactionPartitionPostgresAdapter implements TransactionPartitionStorageRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionPartitionPostgresAdapter.class);
+    private static final Pattern PARTITION_NAME = Pattern.compile("transaction_y(\\d{4})m(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TransactionPartitionPostgresAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean isPartitioned() {
+        try {
+            return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('transaction'))",
+                    Boolean.class));
+        } catch (Exception e) {
+            logger.error("Error checking whether the transaction table is partitioned: {}", e.getMessage(), e);
+            throw new DataBaseException(SPError.TRANSACTION_PARTITION_ADAPTER_ERROR.getErrorCode(),
+                    SPError.TRANSACTION_PARTITION_ADAPTER_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    public List<YearMonth> getMonths() {
+        try {
+            List<String> names = jdbcTemplate.queryForList(
+                    "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                    "WHERE i.inhparent = to_regclass('transaction') ORDER BY c.relname", String.class);
+            return names.stream()
+                    .map(TransactionPartitionPostgresAdapter::month)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } catch (Exception e) {
+            logger.error("Error listing the partitions of the transaction table: {}", e.getMessage(), e);
+            throw new DataBaseException(SPError.TRANSACTION_PARTITION_ADAPTER_ERROR.getErrorCode(),
+                    SPError.TRANSACTION_PARTITION_ADAPTER_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    public void createMonth(YearMonth month) {
+        try {
+            jdbcTemplate.execute(String.format(
+                    "CREATE TABLE IF NOT EXISTS %s PARTITION OF transaction FOR VALUES FROM ('%s') TO ('%s')",
+                    name(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+            jdbcTemplate.execute(String.format(
+                    "CREATE UNIQUE INDEX IF NOT EXISTS %s_account_seq ON %s (account_id, seq)", name(month), name(month)));
+            logger.info("Transaction partition {} is in place", name(month));
+        } catch (Exception e) {
+            logger.error("Error creating transaction partition {}: {}", name(month), e.getMessage(), e);
+            throw new DataBaseException(SPError.TRANSACTION_PARTITION_ADAPTER_ERROR.getErrorCode(),
+                    SPError.TRANSACTION_PARTITION_ADAPTER_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    public void detachMonth(YearMonth month) {
+        try {
+            jdbcTemplate.execute("ALTER TABLE transaction DETACH PARTITION " + name(month) + " CONCURRENTLY");
+            logger.info("Transaction partition {} detached", name(month));
+        } catch (Exception e) {
+            logger.error("Error detaching transaction partition {}: {}", name(month), e.getMessage(), e);
+            throw new DataBaseException(SPError.TRANSACTION_PARTITION_ADAPTER_ERROR.getErrorCode(),
+                    SPError.TRANSACTION_PARTITION_ADAPTER_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    private static String name(YearMonth month) {
+        return String.format("transaction_y%04dm%02d", month.getYear(), month.getMonthValue());
+    }
+
+    private static YearMonth month(String name) {
+        Matcher matcher = PARTITION_NAME.matcher(name);
+        if (!matcher.matches()) {
+            logger.debug("Ignoring transaction partition {}, it does not follow the monthly naming", name);
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
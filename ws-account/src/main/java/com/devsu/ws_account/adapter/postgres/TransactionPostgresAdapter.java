@@ -1,32 +1,53 @@
 package com.devsu.ws_account.adapter.postgres;
 
-import com.devsu.ws_account.adapter.postgres.models.AccountEntity;
 import com.devsu.ws_account.adapter.postgres.models.TransactionEntity;
 import com.devsu.ws_account.application.port.out.TransactionStorageRepository;
+import com.devsu.ws_account.config.catalog.ReferenceCatalog;
 import com.devsu.ws_account.config.exception.DataBaseException;
 import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.config.id.TimeOrderedUuids;
 import com.devsu.ws_account.domain.AccountDomain;
 import com.devsu.ws_account.domain.TransactionDomain;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
+@ConditionalOnProperty(prefix = "transaction", name = "storage", havingValue = "jpa", matchIfMissing = true)
 public class TransactionPostgresAdapter implements TransactionStorageRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(TransactionPostgresAdapter.class);
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final String INSERT_TRANSACTION_SQL =
+            "INSERT INTO transaction (id, date, transaction_type_id, amount, balance, account_id, seq, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)";
+
     private final TransactionPostgresRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ReferenceCatalog catalog;
 
-    public TransactionPostgresAdapter(TransactionPostgresRepository repository) {
+    public TransactionPostgresAdapter(TransactionPostgresRepository repository, JdbcTemplate jdbcTemplate,
+                                      EntityManager entityManager, ReferenceCatalog catalog) {
         this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.catalog = catalog;
     }
 
     @Override
@@ -37,7 +58,7 @@ public class TransactionPostgresAdapter implements TransactionStorageRepository
             TransactionEntity entity = TransactionEntity.fromDomain(domain);
             TransactionEntity savedEntity = repository.save(entity);
             logger.info("Transaction saved successfully with ID: {}", savedEntity.getId());
-            return savedEntity.toDomain();
+            return savedEntity.toDomain(catalog);
         } catch (Exception e) {
             logger.error("Error saving transaction [{}]: {}", domain.toString(), e.getMessage(), e);
             throw new DataBaseException(SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
@@ -49,8 +70,8 @@ public class TransactionPostgresAdapter implements TransactionStorageRepository
     public List<TransactionDomain> getAll() {
         try {
             logger.debug("Retrieving all transactions from the database");
-            List<TransactionDomain> transactions = repository.findAll().stream()
-                    .map(TransactionEntity::toDomain)
+            List<TransactionDomain> transactions = repository.findAllWithDetails().stream()
+                    .map(entity -> entity.toDomain(catalog))
                     .collect(Collectors.toList());
             logger.info("Retrieved {} transactions from the database", transactions.size());
             return transactions;
@@ -65,8 +86,9 @@ public class TransactionPostgresAdapter implements TransactionStorageRepository
     public TransactionDomain getById(UUID id) {
         try {
             logger.debug("Retrieving transaction by ID: {}", id);
-            TransactionDomain transaction = repository.findById(id)
-                    .map(TransactionEntity::toDomain)
+            TransactionDateWindow window = TransactionDateWindow.around(id);
+            TransactionDomain transaction = repository.findWithDetailsById(id, window.from(), window.to())
+                    .map(entity -> entity.toDomain(catalog))
                     .orElseThrow(() -> {
                         logger.warn("Transaction not found with ID: {}", id);
                         return new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), "Transaction not found");
@@ -87,8 +109,8 @@ public class TransactionPostgresAdapter implements TransactionStorageRepository
         try {
             logger.debug("Retrieving transactions paginated - Page: {}, Size: {}", page, size);
             Pageable pageable = PageRequest.of(page, size);
-            Page<TransactionDomain> transactionsPage = repository.findAll(pageable)
-                    .map(TransactionEntity::toDomain);
+            Page<TransactionDomain> transactionsPage = repository.findAllWithDetails(pageable)
+                    .map(entity -> entity.toDomain(catalog));
             logger.info("Retrieved {} transactions on page {}", transactionsPage.getNumberOfElements(), page);
             return transactionsPage;
         } catch (Exception e) {
@@ -102,14 +124,18 @@ public class TransactionPostgresAdapter implements TransactionStorageRepository
     public TransactionDomain update(TransactionDomain domain) {
         try {
             logger.debug("Attempting to update transaction with ID: {}", domain.getId());
-            if (!repository.existsById(domain.getId())) {
-                logger.warn("Transaction not found for update with ID: {}", domain.getId());
-                throw new DataBaseException(SPError.ACCOUNT_ADAPTER_UPDATE_ERROR.getErrorCode(), "Transaction not found");
+            TransactionDateWindow window = TransactionDateWindow.around(domain.getId());
+            int updated = repository.updateIfCurrent(domain.getId(), window.from(), window.to(), domain.getVersion(),
+                    domain.getAmount(), domain.getBalance());
+            if (updated == 0) {
+                logger.warn("Transaction [{}] not found or modified since version {}", domain.getId(), domain.getVersion());
+                throw new DataBaseException(SPError.STALE_UPDATE_ERROR.getErrorCode(), SPError.STALE_UPDATE_ERROR.getErrorMessage());
             }
-            TransactionEntity entity = TransactionEntity.fromDomain(domain);
-            TransactionEntity updatedEntity = repository.save(entity);
-            logger.info("Transaction updated successfully with ID: {}", updatedEntity.getId());
-            return updatedEntity.toDomain();
+            domain.setVersion(domain.getVersion() + 1);
+            logger.info("Transaction updated successfully with ID: {}", domain.getId());
+            return domain;
+        } catch (DataBaseException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error updating transaction [{}]: {}", domain.getId(), e.getMessage(), e);
             throw new DataBaseException(SPError.ACCOUNT_ADAPTER_UPDATE_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_UPDATE_ERROR.getErrorMessage(), e);
@@ -121,7 +147,8 @@ public class TransactionPostgresAdapter implements TransactionStorageRepository
     public void delete(UUID id) {
         try {
             logger.debug("Attempting to delete transaction by ID: {}", id);
-            repository.deleteById(id);
+            TransactionDateWindow window = TransactionDateWindow.around(id);
+            repository.deleteByIdBetween(id, window.from(), window.to());
             logger.info("Transaction deleted successfully with ID: {}", id);
         } catch (Exception e) {
             logger.error("Error deleting transaction [{}]: {}", id, e.getMessage(), e);
@@ -129,13 +156,52 @@ public class TransactionPostgresAdapter implements TransactionStorageRepository
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long countByAccount(UUID accountId) {
+        try {
+            return repository.countByAccountId(accountId, TransactionDateWindow.since(accountId));
+        } catch (Exception e) {
+            logger.error("Error counting transactions for account ID [{}]: {}", accountId, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int deleteByAccount(UUID accountId) {
+        try {
+            logger.debug("Attempting to delete all transactions for account ID: {}", accountId);
+            int deleted = repository.deleteByAccountId(accountId, TransactionDateWindow.since(accountId));
+            logger.info("Deleted {} transactions for account ID: {}", deleted, accountId);
+            return deleted;
+        } catch (Exception e) {
+            logger.error("Error deleting transactions for account ID [{}]: {}", accountId, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_DELETE_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_DELETE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int deleteChunkByAccount(UUID accountId, int chunkSize) {
+        try {
+            int deleted = repository.deleteChunkByAccountId(accountId, TransactionDateWindow.since(accountId), chunkSize);
+            logger.debug("Deleted chunk of {} transactions for account ID: {}", deleted, accountId);
+            return deleted;
+        } catch (Exception e) {
+            logger.error("Error deleting transaction chunk for account ID [{}]: {}", accountId, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_DELETE_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_DELETE_ERROR.getErrorMessage(), e);
+        }
+    }
+
     @Transactional(readOnly = true)
     public List<TransactionDomain> getTransactionsByAccount(AccountDomain account) {
         try {
             logger.debug("Retrieving transactions for account ID: {}", account.getId());
 
-            List<TransactionDomain> transactions = repository.findByAccount(AccountEntity.fromDomain(account)).stream()
-                    .map(TransactionEntity::toDomain)
+            List<TransactionDomain> transactions = repository.findByAccountIdWithDetails(account.getId(),
+                            TransactionDateWindow.since(account.getId())).stream()
+                    .map(entity -> entity.toDomain(catalog))
                     .collect(Collectors.toList());
             logger.info("Retrieved {} transactions for account ID: {}", transactions.size(), account.getId());
             return transactions;
@@ -149,7 +215,9 @@ public class TransactionPostgresAdapter implements TransactionStorageRepository
     public TransactionDomain getLastTransactionByAccount(AccountDomain account) {
         try {
             logger.debug("Retrieving last transaction for account ID: {}", account.getId());
-            TransactionEntity lastTransactionEntity = repository.findTopByAccountOrderByDateDesc(AccountEntity.fromDomain(account));
+            TransactionEntity lastTransactionEntity = repository.findLastByAccountId(account.getId(), TransactionDateWindow.recent())
+                    .or(() -> repository.findLastByAccountId(account.getId(), TransactionDateWindow.since(account.getId())))
+                    .orElse(null);
 
             if (lastTransactionEntity == null) {
                 logger.info("No transactions found for account ID: {}", account.getId());
@@ -157,12 +225,127 @@ public class TransactionPostgresAdapter implements TransactionStorageRepository
             }
 
             logger.info("Last transaction for account ID: {} retrieved successfully", account.getId());
-            return lastTransactionEntity.toDomain();
+            return lastTransactionEntity.toDomain(catalog);
         } catch (Exception e) {
             logger.error("Error retrieving last transaction for account ID [{}]: {}", account.getId(), e.getMessage(), e);
             throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
         }
     }
 
+    @Override
+    @Transactional
+    public TransactionDomain post(TransactionDomain domain) {
+        try {
+            logger.debug("Attempting to post transaction for account ID: {}", domain.getAccount().getId());
+            TransactionDomain posted = repository.post(TimeOrderedUuids.next(), domain.getAccount().getId(),
+                            domain.getTransactionType().getId(), domain.getAmount(), domain.getDate())
+                    .map(view -> view.toDomain(catalog))
+                    .orElse(null);
+            if (posted == null) {
+                logger.warn("Transaction not posted for account ID: {}, account missing or insufficient funds", domain.getAccount().getId());
+                return null;
+            }
+            logger.info("Transaction posted successfully with ID: {}", posted.getId());
+            return posted;
+        } catch (Exception e) {
+            logger.error("Error posting transaction [{}]: {}", domain.toString(), e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TransactionDomain> getByAccountPage(UUID accountId, Date afterDate, Long afterSeq, Date from, Date to, int limit) {
+        try {
+            logger.debug("Retrieving transactions page for account ID: {} after ({}, {}), limit: {}", accountId, afterDate, afterSeq, limit);
+            Date since = TransactionDateWindow.since(accountId, from);
+            Date until = TransactionDateWindow.until(to);
+            List<TransactionEntity> entities = afterSeq == null
+                    ? repository.findFirstPageByAccount(accountId, since, until, limit)
+                    : repository.findPageByAccountAfter(accountId, afterDate, afterSeq, since, until, limit);
+            List<TransactionDomain> transactions = entities.stream()
+                    .map(entity -> entity.toDomain(catalog))
+                    .collect(Collectors.toList());
+            logger.info("Retrieved {} transactions for account ID: {}", transactions.size(), accountId);
+            return transactions;
+        } catch (Exception e) {
+            logger.error("Error retrieving transactions page for account ID [{}]: {}", accountId, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal sumAmounts(UUID accountId, Date from, Date to) {
+        try {
+            logger.debug("Summing transaction amounts for account ID: {} between {} and {}", accountId, from, to);
+            return repository.sumAmountByAccountBetween(accountId, TransactionDateWindow.since(accountId, from), to);
+        } catch (Exception e) {
+            logger.error("Error summing transaction amounts for account ID [{}]: {}", accountId, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamStatement(List<UUID> accountIds, Date from, Date to, Consumer<TransactionDomain> consumer) {
+        try (Stream<TransactionEntity> entities = repository.streamStatement(accountIds, from, to)) {
+            logger.debug("Streaming statement for {} accounts between {} and {}", accountIds.size(), from, to);
+            long[] count = {0};
+            entities.forEach(entity -> {
+                consumer.accept(entity.toDomain(catalog));
+                entityManager.detach(entity);
+                count[0]++;
+            });
+            logger.info("Streamed {} statement transactions for {} accounts", count[0], accountIds.size());
+        } catch (Exception e) {
+            logger.error("Error streaming statement for accounts {}: {}", accountIds, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Both the movement and its account are detached after each row, so the persistence context stays
+     * small however many rows and accounts the range holds.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Date from, Date to, Consumer<TransactionDomain> consumer) {
+        try (Stream<TransactionEntity> entities = repository.streamAllBetween(from, to)) {
+            logger.debug("Streaming all transactions between {} and {}", from, to);
+            long[] count = {0};
+            entities.forEach(entity -> {
+                consumer.accept(entity.toDomain(catalog));
+                entityManager.detach(entity.getAccount());
+                entityManager.detach(entity);
+                count[0]++;
+            });
+            logger.info("Streamed {} transactions between {} and {}", count[0], from, to);
+        } catch (Exception e) {
+            logger.error("Error streaming transactions between {} and {}: {}", from, to, e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<TransactionDomain> domains) {
+        try {
+            logger.debug("Attempting to batch insert {} transactions", domains.size());
+            jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, domains, INSERT_BATCH_SIZE, (ps, domain) -> {
+                ps.setObject(1, domain.getId());
+                ps.setTimestamp(2, new Timestamp(domain.getDate().getTime()));
+                ps.setInt(3, domain.getTransactionType().getId());
+                ps.setBigDecimal(4, domain.getAmount());
+                ps.setBigDecimal(5, domain.getBalance());
+                ps.setObject(6, domain.getAccount().getId());
+                ps.setLong(7, domain.getSeq());
+            });
+            logger.info("Batch inserted {} transactions", domains.size());
+        } catch (Exception e) {
+            logger.error("Error batch inserting {} transactions: {}", domains.size(), e.getMessage(), e);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
+        }
+    }
 
 }
@@ -1,18 +1,172 @@
 package com.devsu.ws_account.adapter.postgres;
 
-import com.devsu.ws_account.adapter.postgres.models.AccountEntity;
+import com.devsu.ws_account.adapter.postgres.models.PostedTransactionView;
 import com.devsu.ws_account.adapter.postgres.models.TransactionEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionPostgresRepository extends JpaRepository<TransactionEntity, UUID> {
 
-    List<TransactionEntity> findByAccount(AccountEntity account);
+    @Query("SELECT t FROM TransactionEntity t JOIN FETCH t.account a")
+    List<TransactionEntity> findAllWithDetails();
 
-    TransactionEntity findTopByAccountOrderByDateDesc(AccountEntity account);
+    @Query(value = "SELECT t FROM TransactionEntity t JOIN FETCH t.account a",
+            countQuery = "SELECT COUNT(t) FROM TransactionEntity t")
+    Page<TransactionEntity> findAllWithDetails(Pageable pageable);
+
+    @Query("SELECT t FROM TransactionEntity t " +
+            "JOIN FETCH t.account a " +
+            "WHERE t.id = :id AND t.date >= :from AND t.date <= :to")
+    Optional<TransactionEntity> findWithDetailsById(@Param("id") UUID id,
+                                                    @Param("from") Date from,
+                                                    @Param("to") Date to);
+
+    @Query("SELECT t FROM TransactionEntity t " +
+            "JOIN FETCH t.account a " +
+            "WHERE a.id = :accountId AND t.date >= :since ORDER BY t.seq")
+    List<TransactionEntity> findByAccountIdWithDetails(@Param("accountId") UUID accountId,
+                                                       @Param("since") Date since);
+
+    @Query(value = "SELECT t.* FROM transaction t " +
+            "WHERE t.account_id = :accountId AND t.date >= :from AND t.date <= :to " +
+            "ORDER BY t.date DESC, t.seq DESC LIMIT :limit", nativeQuery = true)
+    List<TransactionEntity> findFirstPageByAccount(@Param("accountId") UUID accountId,
+                                                   @Param("from") Date from,
+                                                   @Param("to") Date to,
+                                                   @Param("limit") int limit);
+
+    @Query(value = "SELECT t.* FROM transaction t " +
+            "WHERE t.account_id = :accountId AND t.date >= :from AND t.date <= :to " +
+            "AND (t.date, t.seq) < (:afterDate, :afterSeq) " +
+            "ORDER BY t.date DESC, t.seq DESC LIMIT :limit", nativeQuery = true)
+    List<TransactionEntity> findPageByAccountAfter(@Param("accountId") UUID accountId,
+                                                   @Param("afterDate") Date afterDate,
+                                                   @Param("afterSeq") Long afterSeq,
+                                                   @Param("from") Date from,
+                                                   @Param("to") Date to,
+                                                   @Param("limit") int limit);
+
+    /**
+     * The last movement is the one carrying the account's current sequence number, which resolves
+     * through the unique (account_id, seq, date) index without sorting the account history. Only the
+     * partitions from {@code since} on are searched.
+     */
+    @Query("SELECT t FROM TransactionEntity t " +
+            "JOIN FETCH t.account a " +
+            "WHERE a.id = :accountId AND t.seq = a.lastSeq AND t.date >= :since")
+    Optional<TransactionEntity> findLastByAccountId(@Param("accountId") UUID accountId,
+                                                    @Param("since") Date since);
+
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM TransactionEntity t " +
+            "WHERE t.account.id = :accountId AND t.date >= :from AND t.date < :to")
+    BigDecimal sumAmountByAccountBetween(@Param("accountId") UUID accountId,
+                                         @Param("from") Date from,
+                                         @Param("to") Date to);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM TransactionEntity t " +
+            "JOIN FETCH t.account a " +
+            "WHERE a.id IN :accountIds AND t.date >= :from AND t.date < :to " +
+            "ORDER BY a.accountNumber, t.seq")
+    Stream<TransactionEntity> streamStatement(@Param("accountIds") List<UUID> accountIds,
+                                              @Param("from") Date from,
+                                              @Param("to") Date to);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM TransactionEntity t " +
+            "JOIN FETCH t.account a " +
+            "WHERE t.date >= :from AND t.date < :to " +
+            "ORDER BY t.date, t.id")
+    Stream<TransactionEntity> streamAllBetween(@Param("from") Date from, @Param("to") Date to);
+
+    /**
+     * Applies the signed amount to the account balance and records the movement in a single statement.
+     * The balance update only matches when the result stays non-negative, so an empty result means
+     * the account does not exist or has insufficient funds.
+     */
+    @Query(value = """
+            WITH upd AS (
+                UPDATE account
+                   SET current_balance = current_balance + :amount,
+                       last_seq = last_seq + 1
+                 WHERE id = :accountId
+                   AND current_balance + :amount >= 0
+                RETURNING id, account_number, account_type_id, initial_balance, current_balance, status, client_id, last_seq, version
+            ), ins AS (
+                INSERT INTO transaction (id, date, transaction_type_id, amount, balance, account_id, seq, version)
+                SELECT :id, :date, :transactionTypeId, :amount, upd.current_balance, upd.id, upd.last_seq, 0
+                  FROM upd
+                RETURNING id, date, transaction_type_id, amount, balance, account_id, seq, version
+            )
+            SELECT ins.id AS "id", ins.date AS "date", ins.amount AS "amount", ins.balance AS "balance", ins.seq AS "seq",
+                   ins.version AS "version",
+                   ins.transaction_type_id AS "transactionTypeId",
+                   upd.id AS "accountId", upd.account_number AS "accountNumber",
+                   upd.account_type_id AS "accountTypeId",
+                   upd.initial_balance AS "initialBalance", upd.current_balance AS "currentBalance",
+                   upd.status AS "status", upd.client_id AS "clientId",
+                   upd.version AS "accountVersion"
+              FROM ins
+              JOIN upd ON upd.id = ins.account_id
+            """, nativeQuery = true)
+    Optional<PostedTransactionView> post(@Param("id") UUID id,
+                                         @Param("accountId") UUID accountId,
+                                         @Param("transactionTypeId") Integer transactionTypeId,
+                                         @Param("amount") BigDecimal amount,
+                                         @Param("date") Date date);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TransactionEntity t SET t.amount = :amount, t.balance = :balance, t.version = t.version + 1 " +
+            "WHERE t.id = :id AND t.date >= :from AND t.date <= :to AND t.version = :version")
+    int updateIfCurrent(@Param("id") UUID id,
+                        @Param("from") Date from,
+                        @Param("to") Date to,
+                        @Param("version") Long version,
+                        @Param("amount") BigDecimal amount,
+                        @Param("balance") BigDecimal balance);
+
+    @Modifying
+    @Query("DELETE FROM TransactionEntity t WHERE t.id = :id AND t.date >= :from AND t.date <= :to")
+    int deleteByIdBetween(@Param("id") UUID id,
+                          @Param("from") Date from,
+                          @Param("to") Date to);
+
+    @Query("SELECT COUNT(t) FROM TransactionEntity t WHERE t.account.id = :accountId AND t.date >= :since")
+    long countByAccountId(@Param("accountId") UUID accountId, @Param("since") Date since);
+
+    @Modifying
+    @Query("DELETE FROM TransactionEntity t WHERE t.account.id = :accountId AND t.date >= :since")
+    int deleteByAccountId(@Param("accountId") UUID accountId, @Param("since") Date since);
+
+    /**
+     * Deletes at most {@code limit} movements of the account, so a long history can be purged in short transactions.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM transaction WHERE account_id = :accountId AND date >= :since AND id IN " +
+            "(SELECT id FROM transaction WHERE account_id = :accountId AND date >= :since LIMIT :limit)",
+            nativeQuery = true)
+    int deleteChunkByAccountId(@Param("accountId") UUID accountId, @Param("since") Date since, @Param("limit") int limit);
 
 }
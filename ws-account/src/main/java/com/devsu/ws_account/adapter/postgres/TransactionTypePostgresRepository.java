@@ -0,0 +1,9 @@
+package com.devsu.ws_account.adapter.postgres;
+
+import com.devsu.ws_account.adapter.postgres.models.TransactionTypeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TransactionTypePostgresRepository extends JpaRepository<TransactionTypeEntity, Integer> {
+}
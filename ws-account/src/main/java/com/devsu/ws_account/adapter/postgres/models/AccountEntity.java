@@ -1,14 +1,12 @@
 package com.devsu.ws_account.adapter.postgres.models;
 
+import com.devsu.ws_account.config.catalog.ReferenceCatalog;
 import com.devsu.ws_account.domain.AccountDomain;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Column;
-import jakarta.persistence.ManyToOne;
-import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
@@ -27,33 +25,45 @@ import java.util.UUID;
 public class AccountEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @TimeOrderedId
     private UUID id;
 
     @Column(nullable = false, unique = true, updatable = false)
     private String accountNumber;
 
-    @ManyToOne
-    @JoinColumn(name = "account_type_id", nullable = false)
-    private AccountTypeEntity accountType;
+    @Column(name = "account_type_id", nullable = false)
+    private Integer accountTypeId;
 
     @Column(nullable = false)
     private BigDecimal initialBalance;
 
+    @Column(nullable = false, updatable = false)
+    private BigDecimal currentBalance;
+
     @Column(nullable = false)
     private Boolean status;
 
     @Column(nullable = false, updatable = false)
     private UUID clientId;
 
-    public AccountDomain toDomain() {
+    @Builder.Default
+    @Column(nullable = false, updatable = false)
+    private Long lastSeq = 0L;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    public AccountDomain toDomain(ReferenceCatalog catalog) {
         return AccountDomain.builder()
                 .id(this.id)
                 .accountNumber(this.accountNumber)
-                .accountType(this.accountType.toDomain())
+                .accountType(catalog.accountType(this.accountTypeId))
                 .initialBalance(this.initialBalance)
+                .currentBalance(this.currentBalance)
                 .status(this.status)
                 .clientId(this.clientId)
+                .version(this.version)
                 .build();
     }
 
@@ -61,10 +71,12 @@ public class AccountEntity {
         return AccountEntity.builder()
                 .id(domain.getId())
                 .accountNumber(domain.getAccountNumber())
-                .accountType(AccountTypeEntity.fromDomain(domain.getAccountType()))
+                .accountTypeId(domain.getAccountType().getId())
                 .initialBalance(domain.getInitialBalance())
+                .currentBalance(domain.getCurrentBalance())
                 .status(domain.getStatus())
                 .clientId(domain.getClientId())
+                .version(domain.getVersion())
                 .build();
     }
 
@@ -0,0 +1,59 @@
+package com.devsu.ws_account.adapter.postgres.models;
+
+import com.devsu.ws_account.domain.BalanceSnapshotDomain;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Column;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "balance_snapshot", uniqueConstraints = {
+        @UniqueConstraint(name = "uq_balance_snapshot_account_date", columnNames = {"account_id", "snapshot_date"})
+})
+public class BalanceSnapshotEntity {
+
+    @Id
+    @TimeOrderedId
+    private UUID id;
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private UUID accountId;
+
+    @Column(name = "snapshot_date", nullable = false, updatable = false)
+    private LocalDate snapshotDate;
+
+    @Column(nullable = false)
+    private BigDecimal balance;
+
+    public BalanceSnapshotDomain toDomain() {
+        return BalanceSnapshotDomain.builder()
+                .id(this.id)
+                .accountId(this.accountId)
+                .snapshotDate(this.snapshotDate)
+                .balance(this.balance)
+                .build();
+    }
+
+    public static BalanceSnapshotEntity fromDomain(BalanceSnapshotDomain domain) {
+        return BalanceSnapshotEntity.builder()
+                .id(domain.getId())
+                .accountId(domain.getAccountId())
+                .snapshotDate(domain.getSnapshotDate())
+                .balance(domain.getBalance())
+                .build();
+    }
+}
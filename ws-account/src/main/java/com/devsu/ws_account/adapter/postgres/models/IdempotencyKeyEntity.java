@@ -0,0 +1,106 @@
+package com.devsu.ws_account.adapter.postgres.models;
+
+import com.devsu.ws_account.domain.IdempotencyRecordDomain;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Column;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import org.springframework.data.domain.Persistable;
+
+import java.util.Date;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "idempotency_key", indexes = {
+        @Index(name = "idx_idempotency_key_expires_at", columnList = "expires_at")
+})
+public class IdempotencyKeyEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false, updatable = false, length = 100)
+    private String scope;
+
+    @Column(name = "request_hash", nullable = false, updatable = false, length = 64)
+    private String requestHash;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Date createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Date expiresAt;
+
+    /**
+     * Keys are assigned by the client, so save() must always insert: a duplicate key has to fail
+     * on the primary key instead of being merged over the stored response.
+     */
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    public IdempotencyRecordDomain toDomain() {
+        return IdempotencyRecordDomain.builder()
+                .idempotencyKey(this.idempotencyKey)
+                .scope(this.scope)
+                .requestHash(this.requestHash)
+                .completed(this.completed)
+                .responseStatus(this.responseStatus)
+                .responseBody(this.responseBody)
+                .createdAt(this.createdAt)
+                .expiresAt(this.expiresAt)
+                .build();
+    }
+
+    public static IdempotencyKeyEntity fromDomain(IdempotencyRecordDomain domain) {
+        return IdempotencyKeyEntity.builder()
+                .idempotencyKey(domain.getIdempotencyKey())
+                .scope(domain.getScope())
+                .requestHash(domain.getRequestHash())
+                .completed(domain.isCompleted())
+                .responseStatus(domain.getResponseStatus())
+                .responseBody(domain.getResponseBody())
+                .createdAt(domain.getCreatedAt())
+                .expiresAt(domain.getExpiresAt())
+                .build();
+    }
+}
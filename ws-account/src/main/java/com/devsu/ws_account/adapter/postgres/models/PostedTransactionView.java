@@ -0,0 +1,52 @@
+package com.devsu.ws_account.adapter.postgres.models;
+
+import com.devsu.ws_account.config.catalog.ReferenceCatalog;
+import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.TransactionDomain;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.UUID;
+
+public interface PostedTransactionView {
+
+    UUID getId();
+    Date getDate();
+    BigDecimal getAmount();
+    BigDecimal getBalance();
+    Long getSeq();
+    Long getVersion();
+    Integer getTransactionTypeId();
+    UUID getAccountId();
+    String getAccountNumber();
+    Integer getAccountTypeId();
+    BigDecimal getInitialBalance();
+    BigDecimal getCurrentBalance();
+    Boolean getStatus();
+    UUID getClientId();
+    Long getAccountVersion();
+
+    default TransactionDomain toDomain(ReferenceCatalog catalog) {
+        AccountDomain account = AccountDomain.builder()
+                .id(getAccountId())
+                .accountNumber(getAccountNumber())
+                .accountType(catalog.accountType(getAccountTypeId()))
+                .initialBalance(getInitialBalance())
+                .currentBalance(getCurrentBalance())
+                .status(getStatus())
+                .clientId(getClientId())
+                .version(getAccountVersion())
+                .build();
+
+        return TransactionDomain.builder()
+                .id(getId())
+                .date(getDate())
+                .transactionType(catalog.transactionType(getTransactionTypeId()))
+                .amount(getAmount())
+                .balance(getBalance())
+                .account(account)
+                .seq(getSeq())
+                .version(getVersion())
+                .build();
+    }
+}
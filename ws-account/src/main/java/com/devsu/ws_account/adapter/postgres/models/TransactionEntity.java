@@ -1,15 +1,18 @@
 package com.devsu.ws_account.adapter.postgres.models;
 
+import com.devsu.ws_account.config.catalog.ReferenceCatalog;
 import com.devsu.ws_account.domain.TransactionDomain;
 
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Column;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
@@ -25,19 +28,22 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "transaction")
+@Table(name = "transaction", indexes = {
+        @Index(name = "idx_transaction_account_date_seq", columnList = "account_id, date DESC, seq DESC")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uq_transaction_account_seq", columnNames = {"account_id", "seq", "date"})
+})
 public class TransactionEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @TimeOrderedId
     private UUID id;
 
     @Column(nullable = false, updatable = false)
     private Date date;
 
-    @ManyToOne
-    @JoinColumn(name = "transaction_type_id", nullable = false, updatable = false)
-    private TransactionTypeEntity transactionType;
+    @Column(name = "transaction_type_id", nullable = false, updatable = false)
+    private Integer transactionTypeId;
 
     @Column(nullable = false)
     private BigDecimal amount;
@@ -45,18 +51,27 @@ public class TransactionEntity {
     @Column(nullable = false)
     private BigDecimal balance;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "account_id", nullable = false, updatable = false)
     private AccountEntity account;
 
-    public TransactionDomain toDomain() {
+    @Column(nullable = false, updatable = false)
+    private Long seq;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    public TransactionDomain toDomain(ReferenceCatalog catalog) {
         return TransactionDomain.builder()
                 .id(this.id)
                 .date(this.date)
-                .transactionType(this.transactionType.toDomain())
+                .transactionType(catalog.transactionType(this.transactionTypeId))
                 .amount(this.amount)
                 .balance(this.balance)
-                .account(this.account.toDomain())
+                .account(this.account.toDomain(catalog))
+                .seq(this.seq)
+                .version(this.version)
                 .build();
     }
 
@@ -64,10 +79,12 @@ public class TransactionEntity {
         return TransactionEntity.builder()
                 .id(domain.getId())
                 .date(domain.getDate())
-                .transactionType(TransactionTypeEntity.fromDomain(domain.getTransactionType()))
+                .transactionTypeId(domain.getTransactionType().getId())
                 .amount(domain.getAmount())
                 .balance(domain.getBalance())
                 .account(AccountEntity.fromDomain(domain.getAccount()))
+                .seq(domain.getSeq())
+                .version(domain.getVersion())
                 .build();
     }
 
@@ -22,10 +22,14 @@ public class TransactionTypeEntity {
     @Column(name = "name", unique = true, nullable = false)
     private String name;
 
+    @Column(name = "debit", nullable = false)
+    private Boolean debit;
+
     public TransactionTypeDomain toDomain(){
         return TransactionTypeDomain.builder()
                 .id(this.id)
                 .name(this.name)
+                .debit(this.debit)
                 .build();
     }
 
@@ -33,6 +37,7 @@ public class TransactionTypeEntity {
         return TransactionTypeEntity.builder()
                 .id(domain.getId())
                 .name(domain.getName())
+                .debit(domain.getDebit())
                 .build();
     }
 
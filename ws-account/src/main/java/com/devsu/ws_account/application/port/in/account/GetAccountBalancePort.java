@@ -0,0 +1,10 @@
+package com.devsu.ws_account.application.port.in.account;
+
+import com.devsu.ws_account.domain.AccountBalanceDomain;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface GetAccountBalancePort {
+    AccountBalanceDomain getBalance(UUID accountId, LocalDate date);
+}
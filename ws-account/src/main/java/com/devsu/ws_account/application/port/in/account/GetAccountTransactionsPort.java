@@ -0,0 +1,10 @@
+package com.devsu.ws_account.application.port.in.account;
+
+import com.devsu.ws_account.domain.TransactionPageDomain;
+
+import java.util.Date;
+import java.util.UUID;
+
+public interface GetAccountTransactionsPort {
+    TransactionPageDomain getTransactions(UUID accountId, String after, int limit, Date from, Date to);
+}
@@ -0,0 +1,9 @@
+package com.devsu.ws_account.application.port.in.account;
+
+import com.devsu.ws_account.domain.AccountPurgeJobDomain;
+
+import java.util.UUID;
+
+public interface PurgeAccountPort {
+    AccountPurgeJobDomain purge(UUID accountId);
+}
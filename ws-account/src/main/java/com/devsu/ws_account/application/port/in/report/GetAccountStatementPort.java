@@ -0,0 +1,14 @@
+package com.devsu.ws_account.application.port.in.report;
+
+import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.TransactionDomain;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface GetAccountStatementPort {
+    List<AccountDomain> getStatementAccounts(UUID clientId, Date from, Date to);
+    void streamStatement(List<AccountDomain> accounts, Date from, Date to, Consumer<TransactionDomain> consumer);
+}
@@ -0,0 +1,10 @@
+package com.devsu.ws_account.application.port.in.transaction;
+
+import com.devsu.ws_account.domain.TransactionBatchResultDomain;
+import com.devsu.ws_account.domain.TransactionDomain;
+
+import java.util.List;
+
+public interface CreateTransactionBatchPort {
+    List<TransactionBatchResultDomain> createBatch(List<TransactionDomain> domains);
+}
@@ -0,0 +1,11 @@
+package com.devsu.ws_account.application.port.in.transaction;
+
+import com.devsu.ws_account.domain.TransactionDomain;
+
+import java.util.Date;
+import java.util.function.Consumer;
+
+public interface ExportTransactionsPort {
+    void checkRange(Date from, Date to);
+    void export(Date from, Date to, Consumer<TransactionDomain> consumer);
+}
@@ -4,6 +4,7 @@ package com.devsu.ws_account.application.port.out;
 import com.devsu.ws_account.domain.AccountDomain;
 import org.springframework.data.domain.Page;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,9 +14,15 @@ public interface AccountStorageRepository {
     List<AccountDomain> getAll();
 
     AccountDomain getById(UUID id);
+    boolean existsById(UUID id);
     Page<AccountDomain> getAllPaginated(int page, int size);
     AccountDomain update(AccountDomain domain);
     void delete(UUID id);
     public AccountDomain findByAccountNumber(String accountNumber);
     public AccountDomain findByClientId(UUID clientId);
+    List<AccountDomain> getAllByClientId(UUID clientId);
+    AccountDomain getByIdForUpdate(UUID id);
+    boolean adjustBalance(UUID id, long lastSeq, BigDecimal delta);
+    boolean revertLastMovement(UUID id, long lastSeq, BigDecimal delta);
+    Long applyMovements(UUID id, BigDecimal delta, int count);
 }
@@ -0,0 +1,14 @@
+package com.devsu.ws_account.application.port.out;
+
+import com.devsu.ws_account.domain.BalanceSnapshotDomain;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.UUID;
+
+public interface BalanceSnapshotStorageRepository {
+
+    int refreshUntil(Date until);
+    BalanceSnapshotDomain findLatest(UUID accountId, LocalDate date);
+    void deleteFrom(UUID accountId, LocalDate from);
+}
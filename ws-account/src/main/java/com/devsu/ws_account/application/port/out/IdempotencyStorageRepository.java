@@ -0,0 +1,14 @@
+package com.devsu.ws_account.application.port.out;
+
+import com.devsu.ws_account.domain.IdempotencyRecordDomain;
+
+import java.util.Date;
+
+public interface IdempotencyStorageRepository {
+
+    IdempotencyRecordDomain reserve(IdempotencyRecordDomain reservation);
+    boolean complete(String idempotencyKey, int responseStatus, String responseBody, Date expiresAt);
+    void release(String idempotencyKey);
+    boolean releaseExpired(String idempotencyKey, Date now);
+    int purgeExpired(Date now);
+}
@@ -0,0 +1,12 @@
+package com.devsu.ws_account.application.port.out;
+
+import com.devsu.ws_account.domain.AccountTypeDomain;
+import com.devsu.ws_account.domain.TransactionTypeDomain;
+
+import java.util.List;
+
+public interface ReferenceDataStorageRepository {
+
+    List<AccountTypeDomain> getAccountTypes();
+    List<TransactionTypeDomain> getTransactionTypes();
+}
@@ -0,0 +1,12 @@
+package com.devsu.ws_account.application.port.out;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface TransactionPartitionStorageRepository {
+
+    boolean isPartitioned();
+    List<YearMonth> getMonths();
+    void createMonth(YearMonth month);
+    void detachMonth(YearMonth month);
+}
@@ -5,8 +5,11 @@ import com.devsu.ws_account.domain.AccountDomain;
 import com.devsu.ws_account.domain.TransactionDomain;
 import org.springframework.data.domain.Page;
 
+import java.math.BigDecimal;
+import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface TransactionStorageRepository {
 
@@ -18,4 +21,15 @@ public interface TransactionStorageRepository {
     void delete(UUID id);
     List<TransactionDomain> getTransactionsByAccount(AccountDomain account);
     TransactionDomain getLastTransactionByAccount(AccountDomain account);
+    TransactionDomain post(TransactionDomain domain);
+    void saveAll(List<TransactionDomain> domains);
+    // a null from starts at the account's first movement and a null to has no upper bound
+    List<TransactionDomain> getByAccountPage(UUID accountId, Date afterDate, Long afterSeq, Date from, Date to, int limit);
+    // a null from starts at the account's first movement
+    BigDecimal sumAmounts(UUID accountId, Date from, Date to);
+    void streamStatement(List<UUID> accountIds, Date from, Date to, Consumer<TransactionDomain> consumer);
+    void streamAll(Date from, Date to, Consumer<TransactionDomain> consumer);
+    long countByAccount(UUID accountId);
+    int deleteByAccount(UUID accountId);
+    int deleteChunkByAccount(UUID accountId, int chunkSize);
 }
@@ -0,0 +1,43 @@
+package com.devsu.ws_account.application.usecase.account;
+
+import com.devsu.ws_account.application.port.in.account.GetAccountBalancePort;
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountBalanceDomain;
+import com.devsu.ws_account.domain.service.BalanceSnapshotService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public class GetAccountBalanceUseCase implements GetAccountBalancePort {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetAccountBalanceUseCase.class);
+    private final BalanceSnapshotService service;
+
+    public GetAccountBalanceUseCase(BalanceSnapshotService service) {
+        this.service = service;
+    }
+
+    @Override
+    public AccountBalanceDomain getBalance(UUID accountId, LocalDate date) {
+        try {
+            LocalDate balanceDate = date != null ? date : LocalDate.now();
+            logger.info("Initiating process to retrieve balance for account ID: {} at {}", accountId, balanceDate);
+            AccountBalanceDomain balance = service.getBalanceAt(accountId, balanceDate);
+            logger.info("Successfully retrieved balance for account ID: {}", accountId);
+            return balance;
+        } catch (CustomException c) {
+            throw c;
+        } catch (DataBaseException d) {
+            logger.error("Database error while retrieving balance for account ID: {}. Error: {}", accountId, d.getMessage());
+            throw d;
+        } catch (Exception e) {
+            logger.error("Unexpected error occurred while retrieving balance for account ID: {}. Error: {}", accountId, e.getMessage(), e);
+            throw new CustomException(SPError.GENERIC_ERROR.getErrorCode(),
+                    "An unexpected error occurred during balance retrieval", e);
+        }
+    }
+}
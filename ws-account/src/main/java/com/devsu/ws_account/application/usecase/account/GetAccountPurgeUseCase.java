@@ -0,0 +1,33 @@
+package com.devsu.ws_account.application.usecase.account;
+
+import com.devsu.ws_account.application.port.in.account.GetAccountPurgePort;
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountPurgeJobDomain;
+import com.devsu.ws_account.domain.service.AccountPurgeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.UUID;
+
+public class GetAccountPurgeUseCase implements GetAccountPurgePort {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetAccountPurgeUseCase.class);
+    private final AccountPurgeService service;
+
+    public GetAccountPurgeUseCase(AccountPurgeService service) {
+        this.service = service;
+    }
+
+    @Override
+    public AccountPurgeJobDomain getPurge(UUID accountId) {
+        logger.info("Retrieving purge progress for accountId: {}", accountId);
+        AccountPurgeJobDomain job = service.getJob(accountId);
+        if (job == null) {
+            logger.warn("No purge job found for accountId: {}", accountId);
+            throw new CustomException(SPError.ACCOUNT_PURGE_NOT_FOUND.getErrorCode(),
+                    SPError.ACCOUNT_PURGE_NOT_FOUND.getErrorMessage());
+        }
+        return job;
+    }
+}
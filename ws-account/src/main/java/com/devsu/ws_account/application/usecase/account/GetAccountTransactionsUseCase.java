@@ -0,0 +1,91 @@
+package com.devsu.ws_account.application.usecase.account;
+
+import com.devsu.ws_account.application.port.in.account.GetAccountTransactionsPort;
+import com.devsu.ws_account.application.port.out.AccountStorageRepository;
+import com.devsu.ws_account.application.port.out.TransactionStorageRepository;
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.TransactionDomain;
+import com.devsu.ws_account.domain.TransactionPageDomain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+public class GetAccountTransactionsUseCase implements GetAccountTransactionsPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetAccountTransactionsUseCase.class);
+    private static final int MAX_LIMIT = 500;
+
+    private final TransactionStorageRepository repository;
+    private final AccountStorageRepository accountRepository;
+
+    public GetAccountTransactionsUseCase(TransactionStorageRepository repository, AccountStorageRepository accountRepository) {
+        this.repository = repository;
+        this.accountRepository = accountRepository;
+    }
+
+    @Override
+    public TransactionPageDomain getTransactions(UUID accountId, String after, int limit, Date from, Date to) {
+        try {
+            logger.info("Initiating process to retrieve transactions for account ID: {}, cursor: {}, limit: {}", accountId, after, limit);
+            int pageSize = Math.min(Math.max(limit, 1), MAX_LIMIT);
+            TransactionDomain cursor = decodeCursor(after);
+
+            List<TransactionDomain> transactions = repository.getByAccountPage(accountId, cursor.getDate(), cursor.getSeq(), from, to, pageSize + 1);
+            // only an empty page can hide an unknown account, so the lookup stays off the common path
+            if (transactions.isEmpty() && !accountRepository.existsById(accountId)) {
+                logger.warn("Account not found with ID: {}", accountId);
+                throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), "Account not found");
+            }
+
+            String nextCursor = null;
+            if (transactions.size() > pageSize) {
+                transactions = transactions.subList(0, pageSize);
+                TransactionDomain last = transactions.get(pageSize - 1);
+                nextCursor = encodeCursor(last.getDate(), last.getSeq());
+            }
+            logger.info("Successfully retrieved {} transactions for account ID: {}", transactions.size(), accountId);
+            return TransactionPageDomain.builder()
+                    .items(transactions)
+                    .nextCursor(nextCursor)
+                    .build();
+        } catch (CustomException c) {
+            throw c;
+        } catch (DataBaseException d) {
+            logger.error("Database error while retrieving transactions for account ID: {}. Error: {}", accountId, d.getMessage());
+            throw d;
+        } catch (Exception e) {
+            logger.error("Unexpected error occurred while retrieving transactions for account ID: {}. Error: {}", accountId, e.getMessage(), e);
+            throw new CustomException(SPError.GENERIC_ERROR.getErrorCode(),
+                    "An unexpected error occurred during transaction retrieval", e);
+        }
+    }
+
+    private String encodeCursor(Date date, Long seq) {
+        String cursor = date.getTime() + ":" + seq;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private TransactionDomain decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new TransactionDomain();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(":", 2);
+            return TransactionDomain.builder()
+                    .date(new Date(Long.parseLong(parts[0])))
+                    .seq(Long.parseLong(parts[1]))
+                    .build();
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            logger.error("Invalid transactions cursor [{}]: {}", cursor, e.getMessage());
+            throw new CustomException(SPError.INVALID_PARAMS_ERROR.getErrorCode(), "Invalid cursor");
+        }
+    }
+}
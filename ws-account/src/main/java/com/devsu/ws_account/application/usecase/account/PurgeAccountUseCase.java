@@ -0,0 +1,41 @@
+package com.devsu.ws_account.application.usecase.account;
+
+import com.devsu.ws_account.application.port.in.account.PurgeAccountPort;
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountPurgeJobDomain;
+import com.devsu.ws_account.domain.service.AccountPurgeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.UUID;
+
+public class PurgeAccountUseCase implements PurgeAccountPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(PurgeAccountUseCase.class);
+    private final AccountPurgeService service;
+
+    public PurgeAccountUseCase(AccountPurgeService service) {
+        this.service = service;
+    }
+
+    @Override
+    public AccountPurgeJobDomain purge(UUID accountId) {
+        try {
+            logger.info("Initiating asynchronous purge for accountId: {}", accountId);
+            AccountPurgeJobDomain job = service.start(accountId);
+            logger.info("Purge for accountId: {} is {}", accountId, job.getStatus());
+            return job;
+        } catch (CustomException c) {
+            throw c;
+        } catch (DataBaseException d) {
+            logger.error("Database error while starting purge for accountId: {}. Error: {}", accountId, d.getMessage());
+            throw d;
+        } catch (Exception e) {
+            logger.error("Unexpected error occurred while starting purge for accountId: {}. Error: {}", accountId, e.getMessage(), e);
+            throw new CustomException(SPError.GENERIC_ERROR.getErrorCode(),
+                    "An unexpected error occurred while starting the account purge", e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.devsu.ws_account.application.usecase.report;
+
+import com.devsu.ws_account.application.port.in.report.GetAccountStatementPort;
+import com.devsu.ws_account.application.port.out.AccountStorageRepository;
+import com.devsu.ws_account.application.port.out.TransactionStorageRepository;
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.TransactionDomain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public class GetAccountStatementUseCase implements GetAccountStatementPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetAccountStatementUseCase.class);
+
+    private final AccountStorageRepository accountRepository;
+    private final TransactionStorageRepository transactionRepository;
+
+    public GetAccountStatementUseCase(AccountStorageRepository accountRepository, TransactionStorageRepository transactionRepository) {
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+    }
+
+    @Override
+    public List<AccountDomain> getStatementAccounts(UUID clientId, Date from, Date to) {
+        try {
+            logger.info("Initiating process to retrieve statement accounts for client ID: {}", clientId);
+            if (!from.before(to)) {
+                throw new CustomException(SPError.INVALID_PARAMS_ERROR.getErrorCode(), "Invalid date range");
+            }
+            List<AccountDomain> accounts = accountRepository.getAllByClientId(clientId);
+            if (accounts.isEmpty()) {
+                throw new CustomException(SPError.INVALID_PARAMS_ERROR.getErrorCode(), "No accounts found for client");
+            }
+            logger.info("Successfully retrieved {} statement accounts for client ID: {}", accounts.size(), clientId);
+            return accounts;
+        } catch (CustomException c) {
+            logger.error("Invalid statement request for client ID: {}. Error: {}", clientId, c.getMessage());
+            throw c;
+        } catch (DataBaseException d) {
+            logger.error("Database error while retrieving statement accounts for client ID: {}. Error: {}", clientId, d.getMessage());
+            throw d;
+        } catch (Exception e) {
+            logger.error("Unexpected error occurred while retrieving statement accounts for client ID: {}. Error: {}", clientId, e.getMessage(), e);
+            throw new CustomException(SPError.GENERIC_ERROR.getErrorCode(),
+                    "An unexpected error occurred during statement retrieval", e);
+        }
+    }
+
+    @Override
+    public void streamStatement(List<AccountDomain> accounts, Date from, Date to, Consumer<TransactionDomain> consumer) {
+        List<UUID> accountIds = accounts.stream()
+                .map(AccountDomain::getId)
+                .collect(Collectors.toList());
+        logger.info("Streaming statement movements for accounts: {}", accountIds);
+        transactionRepository.streamStatement(accountIds, from, to, consumer);
+    }
+}
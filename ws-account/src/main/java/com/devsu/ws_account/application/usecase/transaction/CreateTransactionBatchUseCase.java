@@ -0,0 +1,75 @@
+package com.devsu.ws_account.application.usecase.transaction;
+
+import com.devsu.ws_account.application.port.in.transaction.CreateTransactionBatchPort;
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.domain.TransactionBatchResultDomain;
+import com.devsu.ws_account.domain.TransactionDomain;
+import com.devsu.ws_account.domain.service.TransactionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class CreateTransactionBatchUseCase implements CreateTransactionBatchPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(CreateTransactionBatchUseCase.class);
+    private final TransactionService service;
+
+    public CreateTransactionBatchUseCase(TransactionService service) {
+        this.service = service;
+    }
+
+    @Override
+    public List<TransactionBatchResultDomain> createBatch(List<TransactionDomain> domains) {
+        logger.info("Initiating batch creation of {} transactions", domains.size());
+
+        Map<UUID, List<Integer>> positionsByAccount = new LinkedHashMap<>();
+        for (int i = 0; i < domains.size(); i++) {
+            positionsByAccount.computeIfAbsent(domains.get(i).getAccount().getId(), id -> new ArrayList<>()).add(i);
+        }
+
+        TransactionBatchResultDomain[] results = new TransactionBatchResultDomain[domains.size()];
+        positionsByAccount.forEach((accountId, positions) -> {
+            List<TransactionDomain> group = positions.stream().map(domains::get).toList();
+            List<TransactionBatchResultDomain> groupResults = postGroup(accountId, group);
+            for (int i = 0; i < positions.size(); i++) {
+                TransactionBatchResultDomain result = groupResults.get(i);
+                result.setIndex(positions.get(i));
+                results[positions.get(i)] = result;
+            }
+        });
+
+        long accepted = Arrays.stream(results).filter(TransactionBatchResultDomain::getAccepted).count();
+        logger.info("Batch processed across {} accounts: {} accepted, {} rejected",
+                positionsByAccount.size(), accepted, results.length - accepted);
+        return Arrays.asList(results);
+    }
+
+    private List<TransactionBatchResultDomain> postGroup(UUID accountId, List<TransactionDomain> group) {
+        try {
+            return service.postBatch(accountId, group);
+        } catch (DataBaseException | CustomException e) {
+            logger.error("Batch group for account ID: {} rejected. Error: {}", accountId, e.getMessage());
+            return rejectAll(group, e.getMessage());
+        } catch (Exception e) {
+            logger.error("Unexpected error posting batch group for account ID: {}. Error: {}", accountId, e.getMessage(), e);
+            return rejectAll(group, "An unexpected error occurred during transaction creation");
+        }
+    }
+
+    private List<TransactionBatchResultDomain> rejectAll(List<TransactionDomain> group, String error) {
+        return group.stream()
+                .map(transaction -> TransactionBatchResultDomain.builder()
+                        .accepted(false)
+                        .transaction(transaction)
+                        .error(error)
+                        .build())
+                .toList();
+    }
+}
@@ -5,6 +5,7 @@ import com.devsu.ws_account.config.exception.CustomException;
 import com.devsu.ws_account.config.exception.DataBaseException;
 import com.devsu.ws_account.config.exception.SPError;
 import com.devsu.ws_account.domain.TransactionDomain;
+import com.devsu.ws_account.domain.service.TransactionGroupCommitService;
 import com.devsu.ws_account.domain.service.TransactionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,16 +14,20 @@ public class CreateTransactionUseCase implements CreateTransactionPort {
 
     private static final Logger logger = LoggerFactory.getLogger(CreateTransactionUseCase.class);
     private final TransactionService service;
+    private final TransactionGroupCommitService groupCommitService;
 
-    public CreateTransactionUseCase(TransactionService service) {
+    public CreateTransactionUseCase(TransactionService service, TransactionGroupCommitService groupCommitService) {
         this.service = service;
+        this.groupCommitService = groupCommitService;
     }
 
     @Override
     public TransactionDomain create(TransactionDomain domain) {
         try {
             logger.info("Initiating transaction creation for accountNumber: {} with amount: {}", domain.getAccount().getAccountNumber(), domain.getAmount());
-            TransactionDomain createdTransaction = service.create(domain);
+            TransactionDomain createdTransaction = groupCommitService.isEnabled()
+                    ? groupCommitService.submit(domain)
+                    : service.create(domain);
             logger.info("Transaction created successfully for accountNumber: {} with transaction ID: {}", domain.getAccount().getAccountNumber(), createdTransaction.getId());
             return createdTransaction;
         } catch (DataBaseException d) {
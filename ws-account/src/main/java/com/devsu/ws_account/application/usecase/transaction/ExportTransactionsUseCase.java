@@ -0,0 +1,40 @@
+package com.devsu.ws_account.application.usecase.transaction;
+
+import com.devsu.ws_account.application.port.in.transaction.ExportTransactionsPort;
+import com.devsu.ws_account.application.port.out.TransactionStorageRepository;
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.TransactionDomain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Date;
+import java.util.function.Consumer;
+
+public class ExportTransactionsUseCase implements ExportTransactionsPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportTransactionsUseCase.class);
+    private final TransactionStorageRepository repository;
+
+    public ExportTransactionsUseCase(TransactionStorageRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void checkRange(Date from, Date to) {
+        if (!from.before(to)) {
+            logger.error("Invalid export range from {} to {}", from, to);
+            throw new CustomException(SPError.INVALID_PARAMS_ERROR.getErrorCode(), "Invalid date range");
+        }
+    }
+
+    /**
+     * Hands every transaction dated in {@code [from, to)} to the consumer while it is read from the database,
+     * in date order. The consumer runs inside the read transaction and should not hold on to the rows.
+     */
+    @Override
+    public void export(Date from, Date to, Consumer<TransactionDomain> consumer) {
+        logger.info("Exporting transactions from {} to {}", from, to);
+        repository.streamAll(from, to, consumer);
+    }
+}
@@ -0,0 +1,105 @@
+package com.devsu.ws_account.config.catalog;
+
+import com.devsu.ws_account.application.port.out.ReferenceDataStorageRepository;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.domain.AccountTypeDomain;
+import com.devsu.ws_account.domain.TransactionTypeDomain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory copy of the account and transaction type tables. The tables are loaded once when the
+ * application is ready and swapped as a whole on reload, so readers never see a partial catalog.
+ * Lookups return copies, callers are free to modify what they get back.
+ */
+@Component
+public class ReferenceCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceCatalog.class);
+
+    private final ReferenceDataStorageRepository referenceDataAdapter;
+    private volatile Snapshot snapshot;
+
+    public ReferenceCatalog(ReferenceDataStorageRepository referenceDataAdapter) {
+        this.referenceDataAdapter = referenceDataAdapter;
+    }
+
+    /**
+     * A failed startup load is logged and retried on the first lookup instead of stopping the application.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            reload();
+        } catch (DataBaseException e) {
+            logger.warn("Reference catalog could not be loaded at startup: {}", e.getMessage());
+        }
+    }
+
+    public synchronized Snapshot reload() {
+        Map<Integer, AccountTypeDomain> accountTypes = referenceDataAdapter.getAccountTypes().stream()
+                .collect(Collectors.toUnmodifiableMap(AccountTypeDomain::getId, Function.identity()));
+        Map<Integer, TransactionTypeDomain> transactionTypes = referenceDataAdapter.getTransactionTypes().stream()
+                .collect(Collectors.toUnmodifiableMap(TransactionTypeDomain::getId, Function.identity()));
+
+        snapshot = new Snapshot(accountTypes, transactionTypes, Instant.now());
+        logger.info("Reference catalog loaded: {} account types, {} transaction types",
+                accountTypes.size(), transactionTypes.size());
+        return snapshot;
+    }
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    public Optional<AccountTypeDomain> findAccountType(Integer id) {
+        return Optional.ofNullable(id)
+                .map(snapshot().accountTypes()::get)
+                .map(type -> new AccountTypeDomain(type.getId(), type.getName()));
+    }
+
+    public Optional<TransactionTypeDomain> findTransactionType(Integer id) {
+        return Optional.ofNullable(id)
+                .map(snapshot().transactionTypes()::get)
+                .map(type -> new TransactionTypeDomain(type.getId(), type.getName(), type.getDebit()));
+    }
+
+    /**
+     * Used by the entity mappers. A type missing from the catalog still maps to its id, so a row
+     * referencing a type added after the last reload is returned instead of failing the read.
+     */
+    public AccountTypeDomain accountType(Integer id) {
+        return findAccountType(id).orElseGet(() -> {
+            logger.warn("Account type {} is not in the reference catalog", id);
+            return AccountTypeDomain.builder().id(id).build();
+        });
+    }
+
+    public TransactionTypeDomain transactionType(Integer id) {
+        return findTransactionType(id).orElseGet(() -> {
+            logger.warn("Transaction type {} is not in the reference catalog", id);
+            return TransactionTypeDomain.builder().id(id).build();
+        });
+    }
+
+    public boolean isDebit(Integer transactionTypeId) {
+        return findTransactionType(transactionTypeId)
+                .map(type -> Boolean.TRUE.equals(type.getDebit()))
+                .orElse(false);
+    }
+
+    public record Snapshot(Map<Integer, AccountTypeDomain> accountTypes,
+                           Map<Integer, TransactionTypeDomain> transactionTypes,
+                           Instant loadedAt) {
+    }
+}
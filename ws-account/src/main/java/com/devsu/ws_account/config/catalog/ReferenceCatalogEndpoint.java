@@ -0,0 +1,38 @@
+package com.devsu.ws_account.config.catalog;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "catalogs")
+public class ReferenceCatalogEndpoint {
+
+    private final ReferenceCatalog catalog;
+
+    public ReferenceCatalogEndpoint(ReferenceCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    @ReadOperation
+    public Map<String, Object> catalogs() {
+        return describe(catalog.snapshot());
+    }
+
+    @WriteOperation
+    public Map<String, Object> reload() {
+        return describe(catalog.reload());
+    }
+
+    private Map<String, Object> describe(ReferenceCatalog.Snapshot snapshot) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("loadedAt", snapshot.loadedAt());
+        details.put("accountTypes", snapshot.accountTypes().values());
+        details.put("transactionTypes", snapshot.transactionTypes().values());
+        return details;
+    }
+}
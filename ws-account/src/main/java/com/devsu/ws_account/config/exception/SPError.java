@@ -22,7 +22,24 @@ public enum SPError {
     UNCHANGEABLE_ACCOUNT_DATA(1015, "Unchangeable account data"),
     BALANCE_NOT_AVAILABLE_FOR_TRANSACTION(1016, "Balance not available for transaction"),
     INVALID_TRANSACTION_UPDATE_ERROR(1017, "Failed to update transaction information"),
-    RABBITMQ_RECEIVE_ERROR(1018, "Error receiving message from RabbitMQ");
+    RABBITMQ_RECEIVE_ERROR(1018, "Error receiving message from RabbitMQ"),
+    TRANSACTION_CONTROLLER_BATCH_ERROR(1019, "Failed to process transaction batch"),
+    ACCOUNT_CONTROLLER_FIND_TRANSACTIONS_ERROR(1020, "Failed to retrieve account transactions"),
+    REPORT_CONTROLLER_STATEMENT_ERROR(1021, "Failed to generate account statement"),
+    ACCOUNT_CONTROLLER_FIND_BALANCE_ERROR(1022, "Failed to retrieve account balance"),
+    BALANCE_SNAPSHOT_ADAPTER_ERROR(1023, "Error while processing balance snapshots in the database"),
+    IDEMPOTENCY_KEY_IN_PROGRESS(1024, "A request with this Idempotency-Key is still being processed"),
+    IDEMPOTENCY_KEY_REUSED(1025, "Idempotency-Key was already used with a different request"),
+    IDEMPOTENCY_ADAPTER_ERROR(1026, "Error while processing idempotency keys in the database"),
+    ACCOUNT_CONTROLLER_PURGE_ERROR(1027, "Failed to start account purge"),
+    ACCOUNT_CONTROLLER_FIND_PURGE_ERROR(1028, "Failed to retrieve account purge progress"),
+    ACCOUNT_PURGE_NOT_FOUND(1029, "No purge job found for the account"),
+    INVALID_ACCOUNT_TYPE(1030, "The account type does not exist"),
+    INVALID_TRANSACTION_TYPE(1031, "The transaction type does not exist"),
+    REFERENCE_DATA_ADAPTER_ERROR(1032, "Error while loading reference data from the database"),
+    STALE_UPDATE_ERROR(1033, "The record was modified or removed by another request"),
+    TRANSACTION_PARTITION_ADAPTER_ERROR(1034, "Error while maintaining the partitions of the transaction table"),
+    EXPORT_CONTROLLER_TRANSACTIONS_ERROR(1035, "Failed to export transactions");
 
 
 
@@ -0,0 +1,30 @@
+package com.devsu.ws_account.config.lock;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "accountlocks")
+public class AccountLockEndpoint {
+
+    private static final int HOTTEST_STRIPES = 10;
+
+    private final AccountLockManager lockManager;
+
+    public AccountLockEndpoint(AccountLockManager lockManager) {
+        this.lockManager = lockManager;
+    }
+
+    @ReadOperation
+    public Map<String, Object> locks() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("stripes", lockManager.stripeCount());
+        details.put("queueLength", lockManager.queueLength());
+        details.put("hottestStripes", lockManager.hottestStripes(HOTTEST_STRIPES));
+        return details;
+    }
+}
@@ -0,0 +1,149 @@
+package com.devsu.ws_account.config.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serializes work on the same account inside this JVM by hashing account ids onto a fixed set of lock stripes.
+ * When called inside a transaction the stripe is held until the transaction completes, so the next posting on the
+ * account only starts once the previous one is committed or rolled back.
+ */
+@Component
+public class AccountLockManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountLockManager.class);
+
+    private final ReentrantLock[] stripes;
+    private final LongAdder[] acquisitions;
+    private final LongAdder[] contentions;
+    private final Timer waitTimer;
+    private final Counter contendedCounter;
+
+    public AccountLockManager(@Value("${account.lock.stripes:64}") int stripeCount, MeterRegistry meterRegistry) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("account.lock.stripes must be greater than zero");
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        this.acquisitions = new LongAdder[stripeCount];
+        this.contentions = new LongAdder[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+            acquisitions[i] = new LongAdder();
+            contentions[i] = new LongAdder();
+        }
+
+        this.waitTimer = Timer.builder("account.lock.wait")
+                .description("Time spent waiting for an account lock stripe")
+                .register(meterRegistry);
+        this.contendedCounter = Counter.builder("account.lock.contended")
+                .description("Account lock acquisitions that had to wait for another posting")
+                .register(meterRegistry);
+        Gauge.builder("account.lock.queue", this, AccountLockManager::queueLength)
+                .description("Threads currently waiting for an account lock stripe")
+                .register(meterRegistry);
+        logger.info("Account lock manager initialized with {} stripes", stripeCount);
+    }
+
+    public <T> T withLock(UUID accountId, Supplier<T> action) {
+        ReentrantLock lock = acquire(accountId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        lock.unlock();
+                    }
+                });
+            } catch (RuntimeException e) {
+                lock.unlock();
+                throw e;
+            }
+            return action.get();
+        }
+
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void withLock(UUID accountId, Runnable action) {
+        withLock(accountId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public int stripeCount() {
+        return stripes.length;
+    }
+
+    public int queueLength() {
+        int total = 0;
+        for (ReentrantLock stripe : stripes) {
+            total += stripe.getQueueLength();
+        }
+        return total;
+    }
+
+    public List<StripeStats> hottestStripes(int limit) {
+        List<StripeStats> stats = new ArrayList<>(stripes.length);
+        for (int i = 0; i < stripes.length; i++) {
+            stats.add(new StripeStats(i, acquisitions[i].sum(), contentions[i].sum(),
+                    stripes[i].getQueueLength(), stripes[i].isLocked()));
+        }
+        return stats.stream()
+                .sorted(Comparator.comparingLong(StripeStats::contended)
+                        .thenComparingLong(StripeStats::acquisitions)
+                        .reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private ReentrantLock acquire(UUID accountId) {
+        int index = stripeFor(accountId);
+        ReentrantLock lock = stripes[index];
+        acquisitions[index].increment();
+
+        if (lock.tryLock()) {
+            waitTimer.record(0, TimeUnit.NANOSECONDS);
+            return lock;
+        }
+
+        contentions[index].increment();
+        contendedCounter.increment();
+        long start = System.nanoTime();
+        lock.lock();
+        long waited = System.nanoTime() - start;
+        waitTimer.record(waited, TimeUnit.NANOSECONDS);
+        logger.debug("Waited {} ms for lock stripe {} of account ID: {}", waited / 1_000_000, index, accountId);
+        return lock;
+    }
+
+    private int stripeFor(UUID accountId) {
+        int hash = accountId.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+
+    public record StripeStats(int stripe, long acquisitions, long contended, int queueLength, boolean locked) {
+    }
+}
@@ -16,6 +16,8 @@ public class AccountDomain {
     private String accountNumber;
     private AccountTypeDomain accountType;
     private BigDecimal initialBalance;
+    private BigDecimal currentBalance;
     private Boolean status;
     private UUID clientId;
+    private Long version;
 }
@@ -0,0 +1,29 @@
+package com.devsu.ws_account.domain;
+
+import lombok.*;
+import java.util.Date;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@ToString
+public class AccountPurgeJobDomain {
+
+    public enum Status { PENDING, RUNNING, COMPLETED, FAILED }
+
+    private UUID accountId;
+    private Status status;
+    private long totalTransactions;
+    private long deletedTransactions;
+    private Date requestedAt;
+    private Date startedAt;
+    private Date finishedAt;
+    private String error;
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
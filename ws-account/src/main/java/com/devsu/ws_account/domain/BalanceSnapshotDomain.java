@@ -0,0 +1,20 @@
+package com.devsu.ws_account.domain;
+
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class BalanceSnapshotDomain {
+
+    private UUID id;
+    private UUID accountId;
+    private LocalDate snapshotDate;
+    private BigDecimal balance;
+}
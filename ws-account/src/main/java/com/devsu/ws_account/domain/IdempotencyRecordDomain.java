@@ -0,0 +1,22 @@
+package com.devsu.ws_account.domain;
+
+import lombok.*;
+import java.util.Date;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class IdempotencyRecordDomain {
+
+    private String idempotencyKey;
+    private String scope;
+    private String requestHash;
+    private boolean completed;
+    private Integer responseStatus;
+    private String responseBody;
+    private Date createdAt;
+    private Date expiresAt;
+}
@@ -0,0 +1,17 @@
+package com.devsu.ws_account.domain;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TransactionBatchResultDomain {
+
+    private Integer index;
+    private Boolean accepted;
+    private TransactionDomain transaction;
+    private String error;
+}
@@ -19,4 +19,6 @@ public class TransactionDomain {
     private BigDecimal amount;
     private BigDecimal balance;
     private AccountDomain account;
+    private Long seq;
+    private Long version;
 }
@@ -0,0 +1,17 @@
+package com.devsu.ws_account.domain;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class TransactionPageDomain {
+
+    private List<TransactionDomain> items;
+    private String nextCursor;
+}
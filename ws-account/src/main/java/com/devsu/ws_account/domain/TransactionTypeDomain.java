@@ -13,4 +13,5 @@ public class TransactionTypeDomain {
 
     private Integer id;
     private String name;
+    private Boolean debit;
 }
\ No newline at end of file
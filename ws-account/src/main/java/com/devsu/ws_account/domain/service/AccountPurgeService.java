@@ -0,0 +1,150 @@
+package com.devsu.ws_account.domain.service;
+
+import com.devsu.ws_account.application.port.out.AccountStorageRepository;
+import com.devsu.ws_account.application.port.out.TransactionStorageRepository;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountPurgeJobDomain;
+import com.devsu.ws_account.domain.AccountPurgeJobDomain.Status;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes accounts with long histories in the background. Movements are removed in chunks of
+ * {@code account.purge.chunk-size}, each in its own database transaction, and the account itself is
+ * removed last. Progress is kept in memory per account for {@code account.purge.retention-minutes}
+ * after the job finishes.
+ */
+public class AccountPurgeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountPurgeService.class);
+
+    private final AccountService accountService;
+    private final AccountStorageRepository accountAdapter;
+    private final TransactionStorageRepository transactionAdapter;
+    private final int chunkSize;
+    private final long retentionMillis;
+    private final Map<UUID, AccountPurgeJobDomain> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    public AccountPurgeService(AccountService accountService, AccountStorageRepository accountAdapter,
+                               TransactionStorageRepository transactionAdapter,
+                               @Value("${account.purge.chunk-size:5000}") int chunkSize,
+                               @Value("${account.purge.retention-minutes:60}") long retentionMinutes) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("account.purge.chunk-size must be positive");
+        }
+        this.accountService = accountService;
+        this.accountAdapter = accountAdapter;
+        this.transactionAdapter = transactionAdapter;
+        this.chunkSize = chunkSize;
+        this.retentionMillis = TimeUnit.MINUTES.toMillis(retentionMinutes);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "account-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues the purge of the account and returns its job. A purge already pending or running for the
+     * same account is returned as is instead of being queued twice.
+     */
+    public AccountPurgeJobDomain start(UUID accountId) {
+        evictFinishedJobs();
+        if (!accountAdapter.existsById(accountId)) {
+            logger.warn("Account purge requested for unknown accountId: {}", accountId);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), "Account not found");
+        }
+
+        AccountPurgeJobDomain candidate = AccountPurgeJobDomain.builder()
+                .accountId(accountId)
+                .status(Status.PENDING)
+                .requestedAt(new Date())
+                .build();
+        AccountPurgeJobDomain job = jobs.merge(accountId, candidate,
+                (current, next) -> current.isFinished() ? next : current);
+
+        if (job == candidate) {
+            logger.info("Account purge queued for accountId: {}", accountId);
+            executor.execute(() -> run(candidate));
+        } else {
+            logger.info("Account purge already in progress for accountId: {}", accountId);
+        }
+        return job;
+    }
+
+    public AccountPurgeJobDomain getJob(UUID accountId) {
+        return jobs.get(accountId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    void run(AccountPurgeJobDomain job) {
+        UUID accountId = job.getAccountId();
+        AccountPurgeJobDomain progress = publish(job.toBuilder()
+                .status(Status.RUNNING)
+                .startedAt(new Date())
+                .build());
+
+        try {
+            progress = publish(progress.toBuilder()
+                    .totalTransactions(transactionAdapter.countByAccount(accountId))
+                    .build());
+            logger.info("Purging {} transactions for accountId: {} in chunks of {}",
+                    progress.getTotalTransactions(), accountId, chunkSize);
+
+            int deleted;
+            do {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedException("Account purge interrupted");
+                }
+                deleted = transactionAdapter.deleteChunkByAccount(accountId, chunkSize);
+                progress = publish(progress.toBuilder()
+                        .deletedTransactions(progress.getDeletedTransactions() + deleted)
+                        .build());
+            } while (deleted > 0);
+
+            accountService.delete(accountId);
+            publish(progress.toBuilder()
+                    .status(Status.COMPLETED)
+                    .finishedAt(new Date())
+                    .build());
+            logger.info("Account purge completed for accountId: {}, {} transactions deleted",
+                    accountId, progress.getDeletedTransactions());
+        } catch (Exception e) {
+            logger.error("Account purge failed for accountId: {}: {}", accountId, e.getMessage(), e);
+            publish(progress.toBuilder()
+                    .status(Status.FAILED)
+                    .finishedAt(new Date())
+                    .error(e.getMessage())
+                    .build());
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private AccountPurgeJobDomain publish(AccountPurgeJobDomain job) {
+        jobs.put(job.getAccountId(), job);
+        return job;
+    }
+
+    private void evictFinishedJobs() {
+        long threshold = System.currentTimeMillis() - retentionMillis;
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().getTime() < threshold);
+    }
+}
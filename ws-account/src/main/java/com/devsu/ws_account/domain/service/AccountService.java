@@ -1,11 +1,13 @@
 package com.devsu.ws_account.domain.service;
 
-import com.devsu.ws_account.adapter.postgres.AccountPostgresAdapter;
-import com.devsu.ws_account.adapter.postgres.TransactionPostgresAdapter;
+import com.devsu.ws_account.application.port.out.AccountStorageRepository;
+import com.devsu.ws_account.application.port.out.TransactionStorageRepository;
+import com.devsu.ws_account.config.catalog.ReferenceCatalog;
 import com.devsu.ws_account.config.exception.CustomException;
 import com.devsu.ws_account.config.exception.DataBaseException;
 import com.devsu.ws_account.config.exception.SPError;
 import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.AccountTypeDomain;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,17 +20,21 @@ public class AccountService {
     private static final Logger logger = LoggerFactory.getLogger(AccountService.class);
     private static final String ACCOUNT_NOT_FOUND = "Account with ID %s does not exist";
 
-    private final AccountPostgresAdapter accountAdapter;
-    private final TransactionPostgresAdapter transactionAdapter;
+    private final AccountStorageRepository accountAdapter;
+    private final TransactionStorageRepository transactionAdapter;
+    private final ReferenceCatalog catalog;
 
-    public AccountService(AccountPostgresAdapter accountAdapter, TransactionPostgresAdapter transactionAdapter) {
+    public AccountService(AccountStorageRepository accountAdapter, TransactionStorageRepository transactionAdapter,
+                          ReferenceCatalog catalog) {
         this.accountAdapter = accountAdapter;
         this.transactionAdapter = transactionAdapter;
+        this.catalog = catalog;
     }
 
     @Transactional
     public AccountDomain create(AccountDomain accountDomain) {
         logger.info("Starting account creation process for clientId: {}", accountDomain.getClientId());
+        accountDomain.setAccountType(resolveAccountType(accountDomain));
 
         if (accountExists(accountDomain.getAccountNumber())) {
             logAndThrowError("Account creation failed: Client ID {} already has an account with number {} and type {}",
@@ -37,6 +43,7 @@ public class AccountService {
         }
 
         accountDomain.setStatus(true);
+        accountDomain.setCurrentBalance(accountDomain.getInitialBalance());
         AccountDomain createdAccount = accountAdapter.save(accountDomain);
         logger.info("Account successfully created with ID: {} for clientId: {}", createdAccount.getId(), accountDomain.getClientId());
 
@@ -46,9 +53,15 @@ public class AccountService {
     @Transactional
     public AccountDomain update(AccountDomain accountDomain) {
         logger.info("Starting account update process for accountId: {}", accountDomain.getId());
+        accountDomain.setAccountType(resolveAccountType(accountDomain));
 
         AccountDomain existingAccount = getAccountOrThrow(accountDomain.getId());
         validateNonModifiableFields(accountDomain, existingAccount);
+        accountDomain.setInitialBalance(existingAccount.getInitialBalance());
+        accountDomain.setCurrentBalance(existingAccount.getCurrentBalance());
+        if (accountDomain.getVersion() == null) {
+            accountDomain.setVersion(existingAccount.getVersion());
+        }
 
         AccountDomain updatedAccount = accountAdapter.update(accountDomain);
         logger.info("Account successfully updated with ID: {} for clientId: {}", updatedAccount.getId(), accountDomain.getClientId());
@@ -72,25 +85,36 @@ public class AccountService {
                 .orElseThrow(() -> new DataBaseException(SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorCode(), String.format(ACCOUNT_NOT_FOUND, accountId)));
     }
 
+    private AccountTypeDomain resolveAccountType(AccountDomain accountDomain) {
+        Integer accountTypeId = accountDomain.getAccountType() != null ? accountDomain.getAccountType().getId() : null;
+        return catalog.findAccountType(accountTypeId).orElseThrow(() -> {
+            logger.error("Account type {} does not exist", accountTypeId);
+            return new CustomException(SPError.INVALID_ACCOUNT_TYPE.getErrorCode(), SPError.INVALID_ACCOUNT_TYPE.getErrorMessage());
+        });
+    }
+
     private boolean accountExists(String accountNumber) {
         return accountAdapter.findByAccountNumber(accountNumber) != null;
     }
 
     private void validateNonModifiableFields(AccountDomain accountDomain, AccountDomain existingAccount) {
         if (!existingAccount.getAccountNumber().equals(accountDomain.getAccountNumber()) ||
-                !existingAccount.getClientId().equals(accountDomain.getClientId())) {
-            logAndThrowError("Attempted to modify non-modifiable fields (accountNumber, accountType, or clientId) for accountId: {}",
-                    accountDomain.getId(), SPError.UNCHANGEABLE_ACCOUNT_DATA, "Cannot modify accountNumber, accountType, or clientId");
+                !existingAccount.getClientId().equals(accountDomain.getClientId()) ||
+                initialBalanceChanged(accountDomain, existingAccount)) {
+            logAndThrowError("Attempted to modify non-modifiable fields (accountNumber, accountType, clientId, or initialBalance) for accountId: {}",
+                    accountDomain.getId(), SPError.UNCHANGEABLE_ACCOUNT_DATA, "Cannot modify accountNumber, accountType, clientId, or initialBalance");
         }
     }
 
+    // current_balance is carried forward from initial_balance by each posting, so a new initial balance would not reach it
+    private boolean initialBalanceChanged(AccountDomain accountDomain, AccountDomain existingAccount) {
+        return accountDomain.getInitialBalance() != null &&
+                accountDomain.getInitialBalance().compareTo(existingAccount.getInitialBalance()) != 0;
+    }
+
     private void deleteAssociatedTransactions(AccountDomain account) {
-        var transactions = transactionAdapter.getTransactionsByAccount(account);
-        if (!transactions.isEmpty()) {
-            logger.info("Found {} transactions for accountId: {}. Proceeding to delete transactions first.", transactions.size(), account.getId());
-            transactions.forEach(transaction -> transactionAdapter.delete(transaction.getId()));
-            logger.info("All transactions for accountId: {} have been deleted.", account.getId());
-        }
+        int deleted = transactionAdapter.deleteByAccount(account.getId());
+        logger.info("Deleted {} transactions for accountId: {} before removing the account.", deleted, account.getId());
     }
 
     private void logAndThrowError(String logMessage, Object... logArgs) {
@@ -0,0 +1,81 @@
+package com.devsu.ws_account.domain.service;
+
+import com.devsu.ws_account.application.port.out.AccountStorageRepository;
+import com.devsu.ws_account.application.port.out.BalanceSnapshotStorageRepository;
+import com.devsu.ws_account.application.port.out.TransactionStorageRepository;
+import com.devsu.ws_account.domain.AccountBalanceDomain;
+import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.BalanceSnapshotDomain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.UUID;
+
+public class BalanceSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BalanceSnapshotService.class);
+
+    private final BalanceSnapshotStorageRepository snapshotAdapter;
+    private final AccountStorageRepository accountAdapter;
+    private final TransactionStorageRepository transactionAdapter;
+
+    public BalanceSnapshotService(BalanceSnapshotStorageRepository snapshotAdapter, AccountStorageRepository accountAdapter,
+                                  TransactionStorageRepository transactionAdapter) {
+        this.snapshotAdapter = snapshotAdapter;
+        this.accountAdapter = accountAdapter;
+        this.transactionAdapter = transactionAdapter;
+    }
+
+    /**
+     * Closes every finished day since the previous run. Today is never snapshotted because it can still
+     * receive movements.
+     */
+    @Scheduled(cron = "${account.snapshot.cron:0 5 0 * * *}")
+    public void refreshSnapshots() {
+        Date until = startOfDay(LocalDate.now());
+        logger.info("Starting balance snapshot refresh for days before {}", until);
+
+        int written = snapshotAdapter.refreshUntil(until);
+        logger.info("Balance snapshot refresh finished, {} snapshots written", written);
+    }
+
+    /**
+     * Balance at the end of the given day: the nearest snapshot on or before it plus the movements
+     * recorded after that snapshot. Without a snapshot the initial balance is the starting point, zero
+     * when the account has none.
+     */
+    public AccountBalanceDomain getBalanceAt(UUID accountId, LocalDate date) {
+        logger.info("Calculating balance for account ID: {} at {}", accountId, date);
+        AccountDomain account = accountAdapter.getById(accountId);
+
+        BalanceSnapshotDomain snapshot = snapshotAdapter.findLatest(accountId, date);
+        BigDecimal base = snapshot != null ? snapshot.getBalance() : initialBalance(account);
+        // without a snapshot the adapter starts at the account's first movement
+        Date from = snapshot != null ? startOfDay(snapshot.getSnapshotDate().plusDays(1)) : null;
+        BigDecimal delta = transactionAdapter.sumAmounts(accountId, from, startOfDay(date.plusDays(1)));
+
+        BigDecimal balance = base.add(delta);
+        logger.info("Balance for account ID: {} at {} is {} (snapshot: {})", accountId, date, balance,
+                snapshot != null ? snapshot.getSnapshotDate() : "none");
+
+        return AccountBalanceDomain.builder()
+                .accountId(accountId)
+                .accountNumber(account.getAccountNumber())
+                .date(date)
+                .balance(balance)
+                .build();
+    }
+
+    private BigDecimal initialBalance(AccountDomain account) {
+        return account.getInitialBalance() != null ? account.getInitialBalance() : BigDecimal.ZERO;
+    }
+
+    private Date startOfDay(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
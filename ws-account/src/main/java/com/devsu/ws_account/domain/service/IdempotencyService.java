@@ -0,0 +1,142 @@
+package com.devsu.ws_account.domain.service;
+
+import com.devsu.ws_account.adapter.postgres.IdempotencyKeyPostgresAdapter;
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.IdempotencyRecordDomain;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * Keeps the outcome of POST requests by idempotency key. A key in progress only holds a short lease, so a
+ * request that dies before finishing blocks its retries for the lease and not for the whole retention;
+ * a completed key is kept for the full TTL. The lease must outlast the slowest request, otherwise a retry
+ * could take the key over and run again while the first attempt is still working.
+ */
+public class IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private final IdempotencyKeyPostgresAdapter idempotencyAdapter;
+    private final Duration ttl;
+    private final Duration lease;
+    private final Cache<String, IdempotencyRecordDomain> completedRecords;
+
+    public IdempotencyService(IdempotencyKeyPostgresAdapter idempotencyAdapter,
+                              @Value("${idempotency.ttl-minutes:1440}") long ttlMinutes,
+                              @Value("${idempotency.lease-seconds:60}") long leaseSeconds,
+                              @Value("${idempotency.cache.max-size:10000}") long cacheMaxSize) {
+        this.idempotencyAdapter = idempotencyAdapter;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.completedRecords = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new RecordExpiry())
+                .build();
+    }
+
+    /**
+     * Starts a request under the given key. A completed record is returned for replay; otherwise the key is
+     * reserved for the caller, who must finish it with {@link #complete} or {@link #release}.
+     */
+    public IdempotencyRecordDomain begin(String idempotencyKey, String scope, String requestHash) {
+        IdempotencyRecordDomain cached = completedRecords.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            logger.debug("Idempotency key served from cache: {}", idempotencyKey);
+            return checkSameRequest(cached, scope, requestHash);
+        }
+
+        Date now = new Date();
+        IdempotencyRecordDomain reservation = IdempotencyRecordDomain.builder()
+                .idempotencyKey(idempotencyKey)
+                .scope(scope)
+                .requestHash(requestHash)
+                .completed(false)
+                .createdAt(now)
+                .expiresAt(new Date(now.getTime() + lease.toMillis()))
+                .build();
+
+        IdempotencyRecordDomain existing = idempotencyAdapter.reserve(reservation);
+        if (existing != null && existing.getExpiresAt().before(now)
+                && idempotencyAdapter.releaseExpired(idempotencyKey, now)) {
+            logger.info("Expired idempotency key reused: {}", idempotencyKey);
+            existing = idempotencyAdapter.reserve(reservation);
+        }
+        if (existing == null) {
+            return reservation;
+        }
+
+        checkSameRequest(existing, scope, requestHash);
+        if (!existing.isCompleted()) {
+            throw new CustomException(SPError.IDEMPOTENCY_KEY_IN_PROGRESS.getErrorCode(),
+                    SPError.IDEMPOTENCY_KEY_IN_PROGRESS.getErrorMessage());
+        }
+        completedRecords.put(idempotencyKey, existing);
+        return existing;
+    }
+
+    /**
+     * Stores the outcome and extends the key from its lease to the full TTL.
+     */
+    public void complete(IdempotencyRecordDomain reservation, int responseStatus, String responseBody) {
+        Date expiresAt = new Date(System.currentTimeMillis() + ttl.toMillis());
+        reservation.setCompleted(true);
+        reservation.setResponseStatus(responseStatus);
+        reservation.setResponseBody(responseBody);
+        reservation.setExpiresAt(expiresAt);
+
+        if (idempotencyAdapter.complete(reservation.getIdempotencyKey(), responseStatus, responseBody, expiresAt)) {
+            completedRecords.put(reservation.getIdempotencyKey(), reservation);
+        } else {
+            logger.warn("Idempotency key {} was no longer reserved when completing", reservation.getIdempotencyKey());
+        }
+    }
+
+    public void release(IdempotencyRecordDomain reservation) {
+        idempotencyAdapter.release(reservation.getIdempotencyKey());
+    }
+
+    @Scheduled(cron = "${idempotency.purge-cron:0 */30 * * * *}")
+    public void purgeExpired() {
+        int purged = idempotencyAdapter.purgeExpired(new Date());
+        logger.info("Idempotency key purge finished, {} keys removed", purged);
+    }
+
+    private IdempotencyRecordDomain checkSameRequest(IdempotencyRecordDomain record, String scope, String requestHash) {
+        if (!Objects.equals(record.getScope(), scope) || !Objects.equals(record.getRequestHash(), requestHash)) {
+            throw new CustomException(SPError.IDEMPOTENCY_KEY_REUSED.getErrorCode(),
+                    SPError.IDEMPOTENCY_KEY_REUSED.getErrorMessage());
+        }
+        return record;
+    }
+
+    /**
+     * Cached replays live no longer than the stored key, so the cache never answers for a purged row.
+     */
+    private static final class RecordExpiry implements Expiry<String, IdempotencyRecordDomain> {
+
+        @Override
+        public long expireAfterCreate(String key, IdempotencyRecordDomain value, long currentTime) {
+            return Math.max(0L, Duration.ofMillis(value.getExpiresAt().getTime() - System.currentTimeMillis()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, IdempotencyRecordDomain value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, IdempotencyRecordDomain value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.devsu.ws_account.domain.service;
+
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.TransactionBatchResultDomain;
+import com.devsu.ws_account.domain.TransactionDomain;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Opt-in group commit for single postings. Callers are parked for at most {@code max-wait-ms} while a
+ * single flusher thread collects up to {@code max-batch-size} postings and writes them in one database
+ * transaction; every caller still receives its own transaction or its own error. A caller waits at most
+ * {@code submit-timeout-ms} to be queued and again to be answered, and a failed flush fails only the
+ * callers of that batch, never the flusher thread.
+ */
+public class TransactionGroupCommitService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionGroupCommitService.class);
+    private static final long IDLE_POLL_MS = 100;
+
+    private final TransactionService transactionService;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final long submitTimeoutMs;
+    private final BlockingQueue<PendingPosting> queue;
+    private final DistributionSummary batchSizes;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public TransactionGroupCommitService(TransactionService transactionService, MeterRegistry meterRegistry,
+                                         @Value("${transaction.group-commit.enabled:false}") boolean enabled,
+                                         @Value("${transaction.group-commit.max-batch-size:64}") int maxBatchSize,
+                                         @Value("${transaction.group-commit.max-wait-ms:5}") long maxWaitMs,
+                                         @Value("${transaction.group-commit.queue-capacity:10000}") int queueCapacity,
+                                         @Value("${transaction.group-commit.submit-timeout-ms:30000}") long submitTimeoutMs) {
+        if (maxBatchSize <= 0 || maxWaitMs < 0 || queueCapacity <= 0 || submitTimeoutMs <= 0) {
+            throw new IllegalArgumentException("Invalid transaction.group-commit settings");
+        }
+        this.transactionService = transactionService;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.submitTimeoutMs = submitTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.batchSizes = DistributionSummary.builder("transaction.group_commit.batch_size")
+                .description("Postings written per group commit")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("transaction.group_commit.flush")
+                .description("Time spent writing a group commit")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("transaction.group_commit.queue", queue, BlockingQueue::size)
+                .description("Postings waiting for the next group commit")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::flushLoop, "transaction-group-commit");
+        flusher.setDaemon(true);
+        flusher.start();
+        logger.info("Transaction group commit enabled, max batch size: {}, max wait: {} ms",
+                maxBatchSize, TimeUnit.NANOSECONDS.toMillis(maxWaitNanos));
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+        }
+        List<PendingPosting> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.future().completeExceptionally(
+                new CustomException(SPError.GENERIC_ERROR.getErrorCode(), "Transaction group commit is shutting down")));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues the posting and waits for its outcome. When the wait times out and the posting is still
+     * queued, it is withdrawn and was not posted; when a flush already took it, its outcome is unknown
+     * and the error says so.
+     */
+    public TransactionDomain submit(TransactionDomain transaction) {
+        transactionService.resolveTransactionType(transaction);
+        PendingPosting pending = new PendingPosting(transaction, new CompletableFuture<>());
+        try {
+            if (!running || !queue.offer(pending, submitTimeoutMs, TimeUnit.MILLISECONDS)) {
+                logger.error("Transaction group commit is not accepting postings, queue size: {}", queue.size());
+                throw new CustomException(SPError.GENERIC_ERROR.getErrorCode(), "Transaction group commit is not available");
+            }
+            return pending.future().get(submitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CustomException(SPError.GENERIC_ERROR.getErrorCode(), "Transaction group commit failed", e.getCause());
+        } catch (TimeoutException e) {
+            if (queue.remove(pending)) {
+                logger.error("Posting for account ID: {} timed out before being flushed", transaction.getAccount().getId());
+                throw new CustomException(SPError.GENERIC_ERROR.getErrorCode(), "Timed out waiting for group commit, transaction not posted");
+            }
+            logger.error("Posting for account ID: {} timed out while being flushed", transaction.getAccount().getId());
+            throw new CustomException(SPError.GENERIC_ERROR.getErrorCode(), "Timed out waiting for group commit, transaction outcome unknown");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(SPError.GENERIC_ERROR.getErrorCode(), "Interrupted while waiting for group commit", e);
+        }
+    }
+
+    private void flushLoop() {
+        while (running) {
+            List<PendingPosting> batch;
+            try {
+                batch = nextBatch();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+            try {
+                flush(batch);
+            } catch (Throwable t) {
+                logger.error("Group commit of {} postings failed unexpectedly: {}", batch.size(), t.getMessage(), t);
+                fail(batch, t);
+            }
+        }
+    }
+
+    private List<PendingPosting> nextBatch() throws InterruptedException {
+        PendingPosting first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return List.of();
+        }
+        List<PendingPosting> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            PendingPosting next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    void flush(List<PendingPosting> batch) {
+        batchSizes.record(batch.size());
+
+        Map<UUID, List<PendingPosting>> pendingByAccount = new LinkedHashMap<>();
+        for (PendingPosting pending : batch) {
+            pendingByAccount.computeIfAbsent(pending.transaction().getAccount().getId(), id -> new ArrayList<>()).add(pending);
+        }
+        Map<UUID, List<TransactionDomain>> groups = new LinkedHashMap<>();
+        pendingByAccount.forEach((accountId, pendings) ->
+                groups.put(accountId, pendings.stream().map(PendingPosting::transaction).toList()));
+
+        Map<UUID, TransactionService.GroupOutcome> outcomes;
+        try {
+            outcomes = flushTimer.record(() -> transactionService.postGroups(groups));
+        } catch (RuntimeException e) {
+            logger.error("Group commit of {} postings failed: {}", batch.size(), e.getMessage(), e);
+            fail(batch, e);
+            return;
+        }
+
+        pendingByAccount.forEach((accountId, pendings) -> complete(pendings, outcomes.get(accountId)));
+        fail(batch, new CustomException(SPError.GENERIC_ERROR.getErrorCode(), "No group commit outcome for this transaction"));
+        logger.debug("Group commit flushed {} postings for {} accounts", batch.size(), pendingByAccount.size());
+    }
+
+    private void complete(List<PendingPosting> pendings, TransactionService.GroupOutcome outcome) {
+        if (outcome == null) {
+            return;
+        }
+        if (outcome.error() != null) {
+            pendings.forEach(pending -> pending.future().completeExceptionally(outcome.error()));
+            return;
+        }
+        for (TransactionBatchResultDomain result : outcome.results()) {
+            CompletableFuture<TransactionDomain> future = pendings.get(result.getIndex()).future();
+            if (Boolean.TRUE.equals(result.getAccepted())) {
+                future.complete(result.getTransaction());
+            } else {
+                future.completeExceptionally(new CustomException(
+                        SPError.BALANCE_NOT_AVAILABLE_FOR_TRANSACTION.getErrorCode(), result.getError()));
+            }
+        }
+    }
+
+    /**
+     * Fails every posting of the batch that has no outcome yet; postings already answered keep theirs.
+     */
+    private void fail(List<PendingPosting> batch, Throwable error) {
+        batch.forEach(pending -> pending.future().completeExceptionally(error));
+    }
+
+    record PendingPosting(TransactionDomain transaction, CompletableFuture<TransactionDomain> future) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.devsu.ws_account.domain.service;
+
+import com.devsu.ws_account.application.port.out.TransactionPartitionStorageRepository;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public class TransactionPartitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionPartitionService.class);
+
+    private final TransactionPartitionStorageRepository partitionAdapter;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public TransactionPartitionService(TransactionPartitionStorageRepository partitionAdapter,
+                                       @Value("${transaction.partitioning.enabled:true}") boolean enabled,
+                                       @Value("${transaction.partitioning.months-ahead:3}") int monthsAhead,
+                                       @Value("${transaction.partitioning.retention-months:0}") int retentionMonths) {
+        this.partitionAdapter = partitionAdapter;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * Runs at startup and then daily, so the partitions for the coming months exist long before the first
+     * movement needs them. A failed run is logged and retried on the next one.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${transaction.partitioning.cron:0 30 0 * * *}")
+    public void maintainPartitions() {
+        try {
+            maintainPartitions(YearMonth.now());
+        } catch (DataBaseException e) {
+            logger.warn("Transaction partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Creates the partitions from {@code current} to {@code monthsAhead} months later and, with a retention
+     * configured, detaches the partitions of the months before it. Detached partitions stay in the database
+     * as standalone tables, to be archived or dropped outside of the service. Retention removes history from
+     * statements, reports and the account history, but not from balances, which start at the balance snapshots.
+     */
+    public void maintainPartitions(YearMonth current) {
+        if (!enabled) {
+            return;
+        }
+        if (!partitionAdapter.isPartitioned()) {
+            logger.info("Transaction table is not partitioned, skipping partition maintenance");
+            return;
+        }
+
+        List<YearMonth> existing = partitionAdapter.getMonths();
+        int created = 0;
+        for (YearMonth month = current; !month.isAfter(current.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+            if (!existing.contains(month)) {
+                partitionAdapter.createMonth(month);
+                created++;
+            }
+        }
+
+        int detached = 0;
+        if (retentionMonths > 0) {
+            YearMonth oldestKept = current.minusMonths(retentionMonths);
+            for (YearMonth month : existing) {
+                if (month.isBefore(oldestKept)) {
+                    partitionAdapter.detachMonth(month);
+                    detached++;
+                }
+            }
+        }
+        logger.info("Transaction partition maintenance finished, {} created, {} detached", created, detached);
+    }
+}
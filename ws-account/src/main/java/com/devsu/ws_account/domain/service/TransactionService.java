@@ -1,68 +1,235 @@
 package com.devsu.ws_account.domain.service;
 
-import com.devsu.ws_account.adapter.postgres.AccountPostgresAdapter;
-import com.devsu.ws_account.adapter.postgres.TransactionPostgresAdapter;
+import com.devsu.ws_account.application.port.out.AccountStorageRepository;
+import com.devsu.ws_account.application.port.out.BalanceSnapshotStorageRepository;
+import com.devsu.ws_account.application.port.out.TransactionStorageRepository;
+import com.devsu.ws_account.config.catalog.ReferenceCatalog;
 import com.devsu.ws_account.config.exception.CustomException;
 import com.devsu.ws_account.config.exception.DataBaseException;
 import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.config.id.TimeOrderedUuids;
+import com.devsu.ws_account.config.lock.AccountLockManager;
 import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.TransactionBatchResultDomain;
 import com.devsu.ws_account.domain.TransactionDomain;
+import com.devsu.ws_account.domain.TransactionTypeDomain;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class TransactionService {
 
     private static final Logger logger = LoggerFactory.getLogger(TransactionService.class);
 
-    private final TransactionPostgresAdapter transactionAdapter;
-    private final AccountPostgresAdapter accountAdapter;
+    private final TransactionStorageRepository transactionAdapter;
+    private final AccountStorageRepository accountAdapter;
+    private final BalanceSnapshotStorageRepository snapshotAdapter;
+    private final AccountLockManager lockManager;
+    private final ReferenceCatalog catalog;
 
-    public TransactionService(TransactionPostgresAdapter transactionAdapter, AccountPostgresAdapter accountAdapter) {
+    public TransactionService(TransactionStorageRepository transactionAdapter, AccountStorageRepository accountAdapter,
+                              BalanceSnapshotStorageRepository snapshotAdapter, AccountLockManager lockManager,
+                              ReferenceCatalog catalog) {
         this.transactionAdapter = transactionAdapter;
         this.accountAdapter = accountAdapter;
+        this.snapshotAdapter = snapshotAdapter;
+        this.lockManager = lockManager;
+        this.catalog = catalog;
     }
 
     @Transactional
     public TransactionDomain create(TransactionDomain transactionDomain) {
-        logger.info("Starting transaction creation process for account ID: {}", transactionDomain.getAccount().getId());
+        UUID accountId = transactionDomain.getAccount().getId();
+        logger.info("Starting transaction creation process for account ID: {}", accountId);
+        resolveTransactionType(transactionDomain);
 
-        AccountDomain existingAccount = verifyAccountExists(transactionDomain.getAccount().getId());
-        transactionDomain.setAccount(existingAccount);
-        BigDecimal availableBalance = calculateAvailableBalance(transactionDomain.getAccount().getId());
+        return lockManager.withLock(accountId, () -> post(transactionDomain));
+    }
 
-        BigDecimal newBalance = updateBalance(availableBalance, transactionDomain);
+    @Transactional
+    public List<TransactionBatchResultDomain> postBatch(UUID accountId, List<TransactionDomain> transactions) {
+        logger.info("Starting batch posting of {} transactions for account ID: {}", transactions.size(), accountId);
 
-        transactionDomain.setBalance(newBalance);
+        return lockManager.withLock(accountId, () -> postGroup(accountId, transactions));
+    }
+
+    /**
+     * Posts the groups of several accounts in a single database transaction. A group rejected by this
+     * service's own checks (unknown account, or a balance that cannot absorb the group) has written nothing
+     * and is reported in its outcome while the other groups still commit. An error raised by a storage
+     * adapter marks the shared transaction rollback-only, so it is rethrown instead and the whole call
+     * fails: no group is posted.
+     * <p>
+     * No lock stripe is taken here: stripes are held until commit, so a flush of many accounts would hold
+     * most of them and stall unrelated postings that hash onto the same stripes. Each group already locks
+     * its account row with {@code FOR UPDATE}, which orders it against every other posting on that account.
+     */
+    @Transactional
+    public Map<UUID, GroupOutcome> postGroups(Map<UUID, List<TransactionDomain>> groups) {
+        logger.info("Starting group commit for {} accounts", groups.size());
+
+        Map<UUID, GroupOutcome> outcomes = new LinkedHashMap<>();
+        groups.forEach((accountId, transactions) -> {
+            try {
+                List<TransactionBatchResultDomain> results = postGroup(accountId, transactions);
+                outcomes.put(accountId, new GroupOutcome(results, null));
+            } catch (DataBaseException | CustomException e) {
+                if (isRollbackOnly()) {
+                    logger.error("Group for account ID: {} failed, rolling back the group commit: {}", accountId, e.getMessage());
+                    throw e;
+                }
+                logger.warn("Group for account ID: {} rejected: {}", accountId, e.getMessage());
+                outcomes.put(accountId, new GroupOutcome(List.of(), e));
+            }
+        });
+        return outcomes;
+    }
+
+    @Transactional
+    public TransactionDomain update(TransactionDomain transactionDomain) {
+        logger.info("Starting transaction update process for transaction ID: {}", transactionDomain.getId());
+        resolveTransactionType(transactionDomain);
+
+        return lockManager.withLock(transactionDomain.getAccount().getId(), () -> updateLastTransaction(transactionDomain));
+    }
+
+    @Transactional
+    public void delete(UUID id) {
+        logger.info("Starting transaction delete process for transaction ID: {}", id);
+
+        TransactionDomain transactionDomain = transactionAdapter.getById(id);
+        if (transactionDomain == null) {
+            logger.error("No transaction found for transaction ID: {}", id);
+            throw new CustomException(SPError.INVALID_TRANSACTION_UPDATE_ERROR.getErrorCode(), "No transaction found.");
+        }
+
+        lockManager.withLock(transactionDomain.getAccount().getId(), () -> deleteLastTransaction(transactionDomain));
+    }
+
+    private TransactionDomain post(TransactionDomain transactionDomain) {
+        UUID accountId = transactionDomain.getAccount().getId();
         transactionDomain.setDate(currentDate());
         transactionDomain.setAmount(this.castWithdrawal(transactionDomain));
 
-        TransactionDomain createdTransaction = transactionAdapter.save(transactionDomain);
+        TransactionDomain createdTransaction = transactionAdapter.post(transactionDomain);
+        if (createdTransaction == null) {
+            verifyAccountExists(accountId);
+            logger.error("Insufficient funds for account ID: {}, transaction amount: {}", accountId, transactionDomain.getAmount());
+            throw new CustomException(SPError.BALANCE_NOT_AVAILABLE_FOR_TRANSACTION.getErrorCode(),
+                    "Insufficient funds for this transaction");
+        }
         logger.info("Transaction created successfully with ID: {} and new balance: {}", createdTransaction.getId(), createdTransaction.getBalance());
 
         return createdTransaction;
     }
 
-    @Transactional
-    public TransactionDomain update(TransactionDomain transactionDomain) {
-        logger.info("Starting transaction update process for transaction ID: {}", transactionDomain.getId());
+    private List<TransactionBatchResultDomain> postGroup(UUID accountId, List<TransactionDomain> transactions) {
+        AccountDomain account = accountAdapter.getByIdForUpdate(accountId);
+        if (account == null) {
+            logger.error("Account with ID {} does not exist", accountId);
+            throw new DataBaseException(SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorCode(), "Account does not exist");
+        }
+
+        BigDecimal runningBalance = account.getCurrentBalance();
+        long postedAt = currentDate().getTime();
+        List<TransactionDomain> accepted = new ArrayList<>();
+        List<TransactionBatchResultDomain> results = new ArrayList<>(transactions.size());
+
+        for (int i = 0; i < transactions.size(); i++) {
+            TransactionDomain transaction = transactions.get(i);
+            TransactionTypeDomain transactionType = catalog.findTransactionType(transactionTypeId(transaction)).orElse(null);
+            if (transactionType == null) {
+                logger.warn("Batch item {} rejected for account ID: {}. Unknown transaction type: {}",
+                        i, accountId, transactionTypeId(transaction));
+                results.add(TransactionBatchResultDomain.builder()
+                        .index(i)
+                        .accepted(false)
+                        .transaction(transaction)
+                        .error(SPError.INVALID_TRANSACTION_TYPE.getErrorMessage())
+                        .build());
+                continue;
+            }
+            transaction.setTransactionType(transactionType);
+
+            BigDecimal amount = this.castWithdrawal(transaction);
+            BigDecimal newBalance = runningBalance.add(amount);
+
+            if (newBalance.compareTo(BigDecimal.ZERO) < 0) {
+                logger.warn("Batch item {} rejected for account ID: {}. Available balance: {}, transaction amount: {}",
+                        i, accountId, runningBalance, amount);
+                results.add(TransactionBatchResultDomain.builder()
+                        .index(i)
+                        .accepted(false)
+                        .transaction(transaction)
+                        .error("Insufficient funds for this transaction")
+                        .build());
+                continue;
+            }
 
+            runningBalance = newBalance;
+            transaction.setId(TimeOrderedUuids.next());
+            // every item carries the real posting time; seq keeps the batch in order
+            transaction.setDate(new Date(postedAt));
+            transaction.setAmount(amount);
+            transaction.setBalance(newBalance);
+            transaction.setAccount(account);
+            accepted.add(transaction);
+            results.add(TransactionBatchResultDomain.builder()
+                    .index(i)
+                    .accepted(true)
+                    .transaction(transaction)
+                    .build());
+        }
+
+        if (!accepted.isEmpty()) {
+            Long lastSeq = accountAdapter.applyMovements(accountId, runningBalance.subtract(account.getCurrentBalance()), accepted.size());
+            if (lastSeq == null) {
+                logger.error("Current balance for account ID {} cannot absorb the batch", accountId);
+                throw new CustomException(SPError.BALANCE_NOT_AVAILABLE_FOR_TRANSACTION.getErrorCode(),
+                        "Insufficient funds for this transaction");
+            }
+            long seq = lastSeq - accepted.size();
+            for (TransactionDomain transaction : accepted) {
+                transaction.setSeq(++seq);
+            }
+            transactionAdapter.saveAll(accepted);
+            account.setCurrentBalance(runningBalance);
+        }
+        logger.info("Batch posted for account ID: {}, {} accepted, {} rejected, new balance: {}",
+                accountId, accepted.size(), transactions.size() - accepted.size(), runningBalance);
+
+        return results;
+    }
+
+    private TransactionDomain updateLastTransaction(TransactionDomain transactionDomain) {
         AccountDomain existingAccount = verifyAccountExists(transactionDomain.getAccount().getId());
         transactionDomain.setAccount(existingAccount);
         TransactionDomain lastTransaction = verifyLastTransaction(transactionDomain);
 
-        BigDecimal amount = this.castWithdrawal(lastTransaction);
-        BigDecimal availableBalance = lastTransaction.getBalance().subtract(amount);
+        BigDecimal availableBalance = lastTransaction.getBalance().subtract(lastTransaction.getAmount());
         BigDecimal newBalance = updateBalance(availableBalance, transactionDomain);
+        if (!accountAdapter.adjustBalance(existingAccount.getId(), lastTransaction.getSeq(), newBalance.subtract(lastTransaction.getBalance()))) {
+            logger.error("Current balance for account ID {} cannot absorb the update of transaction {}", existingAccount.getId(), lastTransaction.getId());
+            throw new CustomException(SPError.BALANCE_NOT_AVAILABLE_FOR_TRANSACTION.getErrorCode(),
+                    "Insufficient funds for this transaction");
+        }
+        invalidateSnapshots(lastTransaction);
 
+        // the posting date is kept: it is the partition key and the update does not move the row
         lastTransaction.setBalance(newBalance);
-        lastTransaction.setDate(currentDate());
         lastTransaction.setAmount(this.castWithdrawal(transactionDomain));
 
         TransactionDomain updatedTransaction = transactionAdapter.update(lastTransaction);
@@ -71,21 +238,26 @@ public class TransactionService {
         return updatedTransaction;
     }
 
-    @Transactional
-    public void delete(UUID id) {
-        logger.info("Starting transaction delete process for transaction ID: {}", id);
-
-        TransactionDomain transactionDomain = transactionAdapter.getById(id);
-        if (transactionDomain == null) {
-            logger.error("No transaction found for transaction ID: {}", id);
-            throw new CustomException(SPError.INVALID_TRANSACTION_UPDATE_ERROR.getErrorCode(), "No transaction found.");
-        }
-
+    private void deleteLastTransaction(TransactionDomain transactionDomain) {
         TransactionDomain lastTransaction = verifyLastTransaction(transactionDomain);
+        if (!accountAdapter.revertLastMovement(lastTransaction.getAccount().getId(), lastTransaction.getSeq(), lastTransaction.getAmount().negate())) {
+            logger.error("Transaction ID {} is no longer the last movement of account ID: {}", lastTransaction.getId(), lastTransaction.getAccount().getId());
+            throw new CustomException(SPError.INVALID_TRANSACTION_UPDATE_ERROR.getErrorCode(),
+                    "This transaction cannot be modified/deleted as it is not the most recent one.");
+        }
+        invalidateSnapshots(lastTransaction);
         transactionAdapter.delete(lastTransaction.getId());
         logger.info("Transaction deleted successfully with ID: {}", lastTransaction.getId());
     }
 
+    private boolean isRollbackOnly() {
+        try {
+            return TransactionAspectSupport.currentTransactionStatus().isRollbackOnly();
+        } catch (NoTransactionException e) {
+            return false;
+        }
+    }
+
     private AccountDomain verifyAccountExists(UUID accountId) {
         AccountDomain existingAccount = accountAdapter.getById(accountId);
         if (existingAccount == null) {
@@ -106,13 +278,9 @@ public class TransactionService {
         return lastTransaction;
     }
 
-    private BigDecimal calculateAvailableBalance(UUID accountId) {
-        TransactionDomain lastTransaction = transactionAdapter.getLastTransactionByAccount(accountAdapter.getById(accountId));
-        if (lastTransaction == null) {
-            AccountDomain account = accountAdapter.getById(accountId);
-            return account.getInitialBalance();
-        }
-        return lastTransaction.getBalance();
+    private void invalidateSnapshots(TransactionDomain transaction) {
+        LocalDate day = transaction.getDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+        snapshotAdapter.deleteFrom(transaction.getAccount().getId(), day);
     }
 
     private BigDecimal updateBalance(BigDecimal availableBalance, TransactionDomain domain) {
@@ -131,12 +299,31 @@ public class TransactionService {
 
     private BigDecimal castWithdrawal(TransactionDomain domain){
         BigDecimal amount = domain.getAmount();
-        if (domain.getTransactionType().getId().equals(2)) {
+        if (catalog.isDebit(domain.getTransactionType().getId())) {
             amount = amount.negate();
         }
         return amount;
     }
 
+    /**
+     * Replaces the requested transaction type with the catalog entry, rejecting ids the catalog does not know.
+     */
+    public void resolveTransactionType(TransactionDomain domain) {
+        Integer transactionTypeId = transactionTypeId(domain);
+        TransactionTypeDomain transactionType = catalog.findTransactionType(transactionTypeId).orElseThrow(() -> {
+            logger.error("Transaction type {} does not exist", transactionTypeId);
+            return new CustomException(SPError.INVALID_TRANSACTION_TYPE.getErrorCode(), SPError.INVALID_TRANSACTION_TYPE.getErrorMessage());
+        });
+        domain.setTransactionType(transactionType);
+    }
+
+    private Integer transactionTypeId(TransactionDomain domain) {
+        return domain.getTransactionType() != null ? domain.getTransactionType().getId() : null;
+    }
+
+
+    public record GroupOutcome(List<TransactionBatchResultDomain> results, RuntimeException error) {
+    }
 
     private Date currentDate() {
         return Date.from(LocalDateTime.now().atZone(ZoneId.systemDefault()).toInstant());
@@ -5,8 +5,13 @@ import com.devsu.ws_account.adapter.controller.models.UpdateAccountRequest;
 import com.devsu.ws_account.application.port.in.account.*;
 import com.devsu.ws_account.config.exception.DataBaseException;
 import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountBalanceDomain;
 import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.AccountPurgeJobDomain;
 import com.devsu.ws_account.domain.AccountTypeDomain;
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.domain.TransactionDomain;
+import com.devsu.ws_account.domain.TransactionPageDomain;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +21,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.hamcrest.Matchers.*;
@@ -44,6 +50,18 @@ class AccountControllerTest {
     @MockBean
     private DeleteAccountPort deleteAccountPort;
 
+    @MockBean
+    private GetAccountTransactionsPort getAccountTransactionsPort;
+
+    @MockBean
+    private GetAccountBalancePort getAccountBalancePort;
+
+    @MockBean
+    private PurgeAccountPort purgeAccountPort;
+
+    @MockBean
+    private GetAccountPurgePort getAccountPurgePort;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -213,6 +231,73 @@ class AccountControllerTest {
         verify(getAccountByIdPort, times(1)).getById(accountId);
     }
 
+    @Test
+    void testGetAccountTransactionsSuccess() throws Exception {
+        TransactionPageDomain page = TransactionPageDomain.builder()
+                .items(List.of(TransactionDomain.builder()
+                        .id(UUID.randomUUID())
+                        .amount(new BigDecimal("100.00"))
+                        .balance(new BigDecimal("1100.00"))
+                        .build()))
+                .nextCursor("next-cursor")
+                .build();
+
+        when(getAccountTransactionsPort.getTransactions(eq(accountId), eq("cursor"), eq(20), isNull(), isNull())).thenReturn(page);
+
+        mockMvc.perform(get("/cuentas/{id}/movimientos", accountId)
+                        .param("after", "cursor")
+                        .param("limit", "20")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(true))
+                .andExpect(jsonPath("$.data.items", hasSize(1)))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-cursor"));
+
+        verify(getAccountTransactionsPort, times(1)).getTransactions(eq(accountId), eq("cursor"), eq(20), isNull(), isNull());
+    }
+
+    @Test
+    void testGetAccountTransactionsInvalidCursor() throws Exception {
+        when(getAccountTransactionsPort.getTransactions(any(UUID.class), anyString(), anyInt(), any(), any()))
+                .thenThrow(new CustomException(SPError.INVALID_PARAMS_ERROR.getErrorCode(), "Invalid cursor"));
+
+        mockMvc.perform(get("/cuentas/{id}/movimientos", accountId)
+                        .param("after", "not-a-cursor")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(false))
+                .andExpect(jsonPath("$.code_status").value(SPError.ACCOUNT_CONTROLLER_FIND_TRANSACTIONS_ERROR.getErrorCode()));
+    }
+
+    @Test
+    void testGetAccountBalanceSuccess() throws Exception {
+        LocalDate date = LocalDate.of(2024, 3, 15);
+        AccountBalanceDomain balance = new AccountBalanceDomain(accountId, "1234567890", date, BigDecimal.valueOf(1300));
+
+        when(getAccountBalancePort.getBalance(accountId, date)).thenReturn(balance);
+
+        mockMvc.perform(get("/cuentas/{id}/saldo", accountId)
+                        .param("fecha", "2024-03-15")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(true))
+                .andExpect(jsonPath("$.data.date").value("2024-03-15"))
+                .andExpect(jsonPath("$.data.balance").value(1300));
+
+        verify(getAccountBalancePort, times(1)).getBalance(accountId, date);
+    }
+
+    @Test
+    void testGetAccountBalanceAccountNotFound() throws Exception {
+        when(getAccountBalancePort.getBalance(eq(accountId), isNull()))
+                .thenThrow(new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), "Account not found"));
+
+        mockMvc.perform(get("/cuentas/{id}/saldo", accountId)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code_status").value(SPError.ACCOUNT_CONTROLLER_FIND_BALANCE_ERROR.getErrorCode()));
+    }
+
     @Test
     void testGetAccountByIdNotFound() throws Exception {
         DataBaseException dbException = new DataBaseException(
@@ -354,4 +439,51 @@ class AccountControllerTest {
 
         verify(deleteAccountPort, times(1)).delete(accountId);
     }
+
+    @Test
+    void testDeleteAccountAsyncAccepted() throws Exception {
+        AccountPurgeJobDomain job = AccountPurgeJobDomain.builder()
+                .accountId(accountId)
+                .status(AccountPurgeJobDomain.Status.PENDING)
+                .requestedAt(new Date())
+                .build();
+        when(purgeAccountPort.purge(accountId)).thenReturn(job);
+
+        mockMvc.perform(delete("/cuentas/{id}", accountId)
+                        .param("async", "true"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", org.hamcrest.Matchers.endsWith("/cuentas/" + accountId + "/purga")))
+                .andExpect(jsonPath("$.status").value(true))
+                .andExpect(jsonPath("$.data.status").value("PENDING"));
+
+        verify(purgeAccountPort, times(1)).purge(accountId);
+        verify(deleteAccountPort, never()).delete(any(UUID.class));
+    }
+
+    @Test
+    void testGetAccountPurgeProgress() throws Exception {
+        AccountPurgeJobDomain job = AccountPurgeJobDomain.builder()
+                .accountId(accountId)
+                .status(AccountPurgeJobDomain.Status.RUNNING)
+                .totalTransactions(12000)
+                .deletedTransactions(5000)
+                .build();
+        when(getAccountPurgePort.getPurge(accountId)).thenReturn(job);
+
+        mockMvc.perform(get("/cuentas/{id}/purga", accountId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("RUNNING"))
+                .andExpect(jsonPath("$.data.totalTransactions").value(12000))
+                .andExpect(jsonPath("$.data.deletedTransactions").value(5000));
+    }
+
+    @Test
+    void testGetAccountPurgeNotFound() throws Exception {
+        when(getAccountPurgePort.getPurge(accountId)).thenThrow(new CustomException(
+                SPError.ACCOUNT_PURGE_NOT_FOUND.getErrorCode(), SPError.ACCOUNT_PURGE_NOT_FOUND.getErrorMessage()));
+
+        mockMvc.perform(get("/cuentas/{id}/purga", accountId))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code_status").value(SPError.ACCOUNT_CONTROLLER_FIND_PURGE_ERROR.getErrorCode()));
+    }
 }
@@ -0,0 +1,123 @@
+package com.devsu.ws_account.adapter.controller;
+
+import com.devsu.ws_account.application.port.in.transaction.ExportTransactionsPort;
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.AccountTypeDomain;
+import com.devsu.ws_account.domain.TransactionDomain;
+import com.devsu.ws_account.domain.TransactionTypeDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ExportController.class)
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExportTransactionsPort exportTransactionsPort;
+
+    private TransactionDomain transactionDomain;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        AccountDomain accountDomain = new AccountDomain(UUID.randomUUID(), "1234567890", new AccountTypeDomain(1, "SAVINGS"), BigDecimal.valueOf(1000), BigDecimal.valueOf(1500), true, UUID.randomUUID(), 0L);
+        transactionDomain = new TransactionDomain(UUID.randomUUID(), new Date(0L), new TransactionTypeDomain(1, "DEPOSIT, CASH", false), new BigDecimal("500.00"), new BigDecimal("1500.00"), accountDomain, 1L, 0L);
+        doAnswer(invocation -> {
+            Consumer<TransactionDomain> consumer = invocation.getArgument(2);
+            consumer.accept(transactionDomain);
+            consumer.accept(transactionDomain);
+            return null;
+        }).when(exportTransactionsPort).export(any(Date.class), any(Date.class), any(Consumer.class));
+    }
+
+    @Test
+    void testExportTransactionsAsNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/export/movimientos")
+                        .param("from", "1970-01-01")
+                        .param("to", "1970-01-31"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"accountNumber\":\"1234567890\""));
+        assertTrue(lines[0].contains("\"amount\":500.00"));
+        assertTrue(lines[0].contains("\"date\":\"1970-01-01T00:00:00Z\""));
+    }
+
+    @Test
+    void testExportTransactionsAsCsv() throws Exception {
+        MvcResult result = mockMvc.perform(get("/export/movimientos")
+                        .param("from", "1970-01-01")
+                        .param("to", "1970-01-31")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", containsString("movimientos_1970-01-01_1970-01-31.csv")))
+                .andExpect(content().string(org.hamcrest.Matchers.startsWith("id,date,accountId,accountNumber,accountType,transactionType,amount,balance,seq\r\n")))
+                .andExpect(content().string(containsString(",1234567890,SAVINGS,\"DEPOSIT, CASH\",500.00,1500.00,1\r\n")));
+    }
+
+    @Test
+    void testExportTransactionsUnknownFormat() throws Exception {
+        MvcResult result = mockMvc.perform(get("/export/movimientos")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-31")
+                        .param("format", "xml"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code_status").value(SPError.EXPORT_CONTROLLER_TRANSACTIONS_ERROR.getErrorCode()));
+
+        verify(exportTransactionsPort, never()).export(any(), any(), any());
+    }
+
+    @Test
+    void testExportTransactionsInvalidRange() throws Exception {
+        doThrow(new CustomException(SPError.INVALID_PARAMS_ERROR.getErrorCode(), "Invalid date range"))
+                .when(exportTransactionsPort).checkRange(any(Date.class), any(Date.class));
+
+        MvcResult result = mockMvc.perform(get("/export/movimientos")
+                        .param("from", "2024-02-01")
+                        .param("to", "2024-01-01"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest());
+
+        verify(exportTransactionsPort, never()).export(any(), any(), any());
+    }
+}
@@ -0,0 +1,95 @@
+package com.devsu.ws_account.adapter.controller;
+
+import com.devsu.ws_account.application.port.in.report.GetAccountStatementPort;
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.AccountTypeDomain;
+import com.devsu.ws_account.domain.TransactionDomain;
+import com.devsu.ws_account.domain.TransactionTypeDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReportController.class)
+class ReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GetAccountStatementPort getAccountStatementPort;
+
+    private UUID clientId;
+    private AccountDomain accountDomain;
+    private TransactionDomain transactionDomain;
+
+    @BeforeEach
+    void setUp() {
+        clientId = UUID.randomUUID();
+        accountDomain = new AccountDomain(UUID.randomUUID(), "1234567890", new AccountTypeDomain(1, "SAVINGS"), BigDecimal.valueOf(1000), BigDecimal.valueOf(1500), true, clientId, 0L);
+        transactionDomain = new TransactionDomain(UUID.randomUUID(), new Date(), new TransactionTypeDomain(1, "DEPOSIT", false), BigDecimal.valueOf(500), BigDecimal.valueOf(1500), accountDomain, 1L, 0L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetStatementSuccess() throws Exception {
+        when(getAccountStatementPort.getStatementAccounts(eq(clientId), any(Date.class), any(Date.class))).thenReturn(List.of(accountDomain));
+        doAnswer(invocation -> {
+            Consumer<TransactionDomain> consumer = invocation.getArgument(3);
+            consumer.accept(transactionDomain);
+            return null;
+        }).when(getAccountStatementPort).streamStatement(anyList(), any(Date.class), any(Date.class), any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get("/reportes")
+                        .param("clientId", clientId.toString())
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-31"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.clientId").value(clientId.toString()))
+                .andExpect(jsonPath("$.from").value("2024-01-01"))
+                .andExpect(jsonPath("$.to").value("2024-01-31"))
+                .andExpect(jsonPath("$.accounts[0].accountNumber").value("1234567890"))
+                .andExpect(jsonPath("$.movements[0].accountNumber").value("1234567890"))
+                .andExpect(jsonPath("$.movements[0].transactionType").value("DEPOSIT"))
+                .andExpect(jsonPath("$.movements[0].balance").value(1500));
+    }
+
+    @Test
+    void testGetStatementNoAccounts() throws Exception {
+        when(getAccountStatementPort.getStatementAccounts(eq(clientId), any(Date.class), any(Date.class)))
+                .thenThrow(new CustomException(SPError.INVALID_PARAMS_ERROR.getErrorCode(), "No accounts found for client"));
+
+        MvcResult result = mockMvc.perform(get("/reportes")
+                        .param("clientId", clientId.toString())
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-31"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code_status").value(SPError.REPORT_CONTROLLER_STATEMENT_ERROR.getErrorCode()));
+
+        verify(getAccountStatementPort, never()).streamStatement(anyList(), any(), any(), any());
+    }
+}
@@ -1,30 +1,40 @@
 package com.devsu.ws_account.adapter.controller;
 
+import com.devsu.ws_account.adapter.controller.models.CreateTransactionBatchRequest;
 import com.devsu.ws_account.adapter.controller.models.CreateTransactionRequest;
 import com.devsu.ws_account.adapter.controller.models.UpdateTransactionRequest;
 import com.devsu.ws_account.application.port.in.transaction.*;
 import com.devsu.ws_account.config.exception.DataBaseException;
 import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.config.exception.CustomException;
 import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.IdempotencyRecordDomain;
+import com.devsu.ws_account.domain.TransactionBatchResultDomain;
 import com.devsu.ws_account.domain.TransactionDomain;
 import com.devsu.ws_account.domain.TransactionTypeDomain;
+import com.devsu.ws_account.domain.service.IdempotencyService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import java.math.BigDecimal;
 import java.util.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(TransactionController.class)
+@Import(IdempotencyHandler.class)
 class TransactionControllerTest {
 
     @Autowired
@@ -45,6 +55,12 @@ class TransactionControllerTest {
     @MockBean
     private DeleteTransactionPort deleteTransactionPort;
 
+    @MockBean
+    private CreateTransactionBatchPort createTransactionBatchPort;
+
+    @MockBean
+    private IdempotencyService idempotencyService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -105,6 +121,85 @@ class TransactionControllerTest {
         verify(createTransactionPort, times(1)).create(any(TransactionDomain.class));
     }
 
+    @Test
+    void testCreateTransactionWithIdempotencyKeyStoresResponse() throws Exception {
+        IdempotencyRecordDomain reservation = IdempotencyRecordDomain.builder()
+                .idempotencyKey("key-1")
+                .completed(false)
+                .build();
+        when(idempotencyService.begin(eq("key-1"), eq("POST /movimientos"), anyString())).thenReturn(reservation);
+        when(createTransactionPort.create(any(TransactionDomain.class))).thenReturn(transactionDomain);
+
+        mockMvc.perform(post("/movimientos")
+                        .header(IdempotencyHandler.HEADER, "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createTransactionRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.amount").value(500.00));
+
+        verify(idempotencyService, times(1)).complete(eq(reservation), eq(201), anyString());
+        verify(idempotencyService, never()).release(any(IdempotencyRecordDomain.class));
+    }
+
+    @Test
+    void testCreateTransactionWithIdempotencyKeyReplaysStoredResponse() throws Exception {
+        IdempotencyRecordDomain stored = IdempotencyRecordDomain.builder()
+                .idempotencyKey("key-1")
+                .completed(true)
+                .responseStatus(201)
+                .responseBody("{\"status\":true,\"code_status\":201,\"message\":\"Created\",\"data\":{\"amount\":500.00}}")
+                .build();
+        when(idempotencyService.begin(eq("key-1"), eq("POST /movimientos"), anyString())).thenReturn(stored);
+
+        mockMvc.perform(post("/movimientos")
+                        .header(IdempotencyHandler.HEADER, "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createTransactionRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyHandler.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.code_status").value(201))
+                .andExpect(jsonPath("$.data.amount").value(500.00));
+
+        verify(createTransactionPort, never()).create(any(TransactionDomain.class));
+    }
+
+    @Test
+    void testCreateTransactionWithIdempotencyKeyInProgress() throws Exception {
+        when(idempotencyService.begin(eq("key-1"), eq("POST /movimientos"), anyString()))
+                .thenThrow(new CustomException(SPError.IDEMPOTENCY_KEY_IN_PROGRESS.getErrorCode(),
+                        SPError.IDEMPOTENCY_KEY_IN_PROGRESS.getErrorMessage()));
+
+        mockMvc.perform(post("/movimientos")
+                        .header(IdempotencyHandler.HEADER, "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createTransactionRequest)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(false))
+                .andExpect(jsonPath("$.code_status").value(SPError.IDEMPOTENCY_KEY_IN_PROGRESS.getErrorCode()));
+
+        verify(createTransactionPort, never()).create(any(TransactionDomain.class));
+    }
+
+    @Test
+    void testCreateTransactionWithIdempotencyKeyReleasedOnFailure() throws Exception {
+        IdempotencyRecordDomain reservation = IdempotencyRecordDomain.builder()
+                .idempotencyKey("key-1")
+                .completed(false)
+                .build();
+        when(idempotencyService.begin(eq("key-1"), eq("POST /movimientos"), anyString())).thenReturn(reservation);
+        when(createTransactionPort.create(any(TransactionDomain.class)))
+                .thenThrow(new DataBaseException(SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorCode(), "Database error"));
+
+        mockMvc.perform(post("/movimientos")
+                        .header(IdempotencyHandler.HEADER, "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createTransactionRequest)))
+                .andExpect(status().isBadRequest());
+
+        verify(idempotencyService, times(1)).release(reservation);
+        verify(idempotencyService, never()).complete(any(IdempotencyRecordDomain.class), anyInt(), anyString());
+    }
+
     @Test
     void testCreateTransactionValidationErrors() throws Exception {
         CreateTransactionRequest invalidRequest = CreateTransactionRequest.builder()
@@ -125,6 +220,51 @@ class TransactionControllerTest {
         verify(createTransactionPort, never()).create(any(TransactionDomain.class));
     }
 
+    @Test
+    void testCreateTransactionBatchSuccess() throws Exception {
+        CreateTransactionBatchRequest batchRequest = CreateTransactionBatchRequest.builder()
+                .transactions(List.of(createTransactionRequest, createTransactionRequest))
+                .build();
+        List<TransactionBatchResultDomain> results = List.of(
+                TransactionBatchResultDomain.builder().index(0).accepted(true).transaction(transactionDomain).build(),
+                TransactionBatchResultDomain.builder().index(1).accepted(false).error("Insufficient funds for this transaction").build());
+
+        when(createTransactionBatchPort.createBatch(anyList())).thenReturn(results);
+
+        mockMvc.perform(post("/movimientos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(true))
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].accepted").value(true))
+                .andExpect(jsonPath("$.data[1].accepted").value(false))
+                .andExpect(jsonPath("$.data[1].error").value("Insufficient funds for this transaction"));
+
+        verify(createTransactionBatchPort, times(1)).createBatch(anyList());
+    }
+
+    @Test
+    void testCreateTransactionBatchValidationErrors() throws Exception {
+        CreateTransactionRequest invalidRequest = CreateTransactionRequest.builder()
+                .transactionType(1)
+                .amount(new BigDecimal("-100.00"))
+                .accountId(accountId.toString())
+                .build();
+        CreateTransactionBatchRequest batchRequest = CreateTransactionBatchRequest.builder()
+                .transactions(List.of(createTransactionRequest, invalidRequest))
+                .build();
+
+        mockMvc.perform(post("/movimientos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(false))
+                .andExpect(jsonPath("$.data", hasSize(1)));
+
+        verify(createTransactionBatchPort, never()).createBatch(anyList());
+    }
+
     @Test
     void testCreateTransactionDataBaseException() throws Exception {
         DataBaseException dbException = new DataBaseException(
@@ -0,0 +1,128 @@
+package com.devsu.ws_account.adapter.postgres;
+
+import com.devsu.ws_account.domain.AccountDomain;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountIdentityMapAdapterTest {
+
+    @Mock
+    private AccountPostgresAdapter delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountIdentityMapAdapter adapter;
+    private AccountDomain account;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new AccountIdentityMapAdapter(delegate, meterRegistry);
+        account = AccountDomain.builder().id(UUID.randomUUID()).currentBalance(BigDecimal.TEN).version(0L).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            completeTransaction();
+        }
+    }
+
+    @Test
+    void testRepeatedLookupInTransactionIsServedFromMemory() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(delegate.getById(account.getId())).thenReturn(account);
+
+        AccountDomain first = adapter.getById(account.getId());
+        AccountDomain second = adapter.getById(account.getId());
+
+        assertSame(first, second);
+        verify(delegate, times(1)).getById(account.getId());
+        assertEquals(1.0, lookups("hit"));
+        assertEquals(1.0, lookups("miss"));
+    }
+
+    @Test
+    void testBalanceChangeEvictsAccount() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(delegate.getById(account.getId())).thenReturn(account);
+        when(delegate.adjustBalance(account.getId(), 3L, BigDecimal.ONE)).thenReturn(true);
+
+        adapter.getById(account.getId());
+        adapter.adjustBalance(account.getId(), 3L, BigDecimal.ONE);
+        adapter.getById(account.getId());
+
+        verify(delegate, times(2)).getById(account.getId());
+    }
+
+    @Test
+    void testUpdateRefreshesAccount() {
+        TransactionSynchronizationManager.initSynchronization();
+        AccountDomain updated = AccountDomain.builder().id(account.getId()).version(1L).build();
+        when(delegate.update(account)).thenReturn(updated);
+
+        adapter.update(account);
+
+        assertSame(updated, adapter.getById(account.getId()));
+        verify(delegate, never()).getById(any(UUID.class));
+    }
+
+    @Test
+    void testMapIsDroppedWhenTransactionCompletes() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(delegate.getById(account.getId())).thenReturn(account);
+        adapter.getById(account.getId());
+
+        completeTransaction();
+        TransactionSynchronizationManager.initSynchronization();
+        adapter.getById(account.getId());
+
+        verify(delegate, times(2)).getById(account.getId());
+    }
+
+    @Test
+    void testLookupOutsideTransactionGoesToDatabase() {
+        when(delegate.getById(account.getId())).thenReturn(account);
+
+        adapter.getById(account.getId());
+        adapter.getById(account.getId());
+
+        verify(delegate, times(2)).getById(account.getId());
+        assertEquals(2.0, lookups("bypass"));
+    }
+
+    @Test
+    void testMissingAccountIsNotRemembered() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(delegate.getById(account.getId())).thenReturn(null);
+
+        assertNull(adapter.getById(account.getId()));
+        assertNull(adapter.getById(account.getId()));
+
+        verify(delegate, times(2)).getById(account.getId());
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("account.identity_map.lookups").tag("result", result).counter().count();
+    }
+
+    private void completeTransaction() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
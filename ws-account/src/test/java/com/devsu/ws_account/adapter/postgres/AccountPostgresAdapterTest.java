@@ -40,7 +40,7 @@ class AccountPostgresAdapterTest {
     @BeforeEach
     void setUp() {
         AccountTypeDomain accountType = new AccountTypeDomain(1, "SAVINGS");
-        accountDomain = new AccountDomain(UUID.randomUUID(), "1234567890", accountType, BigDecimal.valueOf(1000), true, UUID.randomUUID());
+        accountDomain = new AccountDomain(UUID.randomUUID(), "1234567890", accountType, BigDecimal.valueOf(1000), BigDecimal.valueOf(1000), true, UUID.randomUUID(), 0L);
         accountEntity = AccountEntity.fromDomain(accountDomain);
     }
 
@@ -82,6 +82,22 @@ class AccountPostgresAdapterTest {
         verify(repository, times(1)).findById(any(UUID.class));
     }
 
+    @Test
+    void testExistsById() {
+        when(repository.existsById(accountDomain.getId())).thenReturn(true);
+
+        assertTrue(adapter.existsById(accountDomain.getId()));
+        verify(repository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    void testExistsByIdException() {
+        when(repository.existsById(any(UUID.class))).thenThrow(new RuntimeException("Database error"));
+
+        DataBaseException exception = assertThrows(DataBaseException.class, () -> adapter.existsById(accountDomain.getId()));
+        assertEquals(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), exception.getErrorCode());
+    }
+
     @Test
     void testSaveAccountReturnsNull() {
         when(repository.save(any(AccountEntity.class))).thenReturn(null);
@@ -101,13 +117,24 @@ class AccountPostgresAdapterTest {
     }
 
     @Test
-    void testUpdateAccountNotFound() {
-        when(repository.existsById(any(UUID.class))).thenReturn(false);
+    void testUpdateAccountSuccess() {
+        when(repository.updateIfCurrent(any(UUID.class), anyLong(), anyInt(), any(BigDecimal.class), anyBoolean())).thenReturn(1);
+
+        AccountDomain result = adapter.update(accountDomain);
+
+        assertEquals(1L, result.getVersion());
+        verify(repository, times(1)).updateIfCurrent(accountDomain.getId(), 0L, 1, BigDecimal.valueOf(1000), true);
+        verify(repository, never()).existsById(any(UUID.class));
+        verify(repository, never()).save(any(AccountEntity.class));
+    }
+
+    @Test
+    void testUpdateAccountNotFoundOrStale() {
+        when(repository.updateIfCurrent(any(UUID.class), anyLong(), anyInt(), any(BigDecimal.class), anyBoolean())).thenReturn(0);
 
         DataBaseException exception = assertThrows(DataBaseException.class, () -> adapter.update(accountDomain));
-        assertEquals(SPError.ACCOUNT_ADAPTER_UPDATE_ERROR.getErrorCode(), exception.getErrorCode());
-        assertEquals("Account not found", exception.getMessage());
-        verify(repository, times(1)).existsById(any(UUID.class));
+        assertEquals(SPError.STALE_UPDATE_ERROR.getErrorCode(), exception.getErrorCode());
+        assertEquals(0L, accountDomain.getVersion());
         verify(repository, never()).save(any(AccountEntity.class));
     }
 
@@ -170,4 +197,76 @@ class AccountPostgresAdapterTest {
         assertEquals(accountDomain.getAccountNumber(), result.getContent().get(0).getAccountNumber());
         verify(repository, times(1)).findAll(pageable);
     }
+
+    @Test
+    void testGetByIdForUpdateSuccess() {
+        when(repository.findByIdForUpdate(any(UUID.class))).thenReturn(Optional.of(accountEntity));
+
+        AccountDomain result = adapter.getByIdForUpdate(accountDomain.getId());
+
+        assertNotNull(result);
+        assertEquals(accountDomain.getCurrentBalance(), result.getCurrentBalance());
+        verify(repository, times(1)).findByIdForUpdate(accountDomain.getId());
+    }
+
+    @Test
+    void testGetAllByClientIdSuccess() {
+        when(repository.findByClientId(any(UUID.class))).thenReturn(List.of(accountEntity));
+
+        List<AccountDomain> result = adapter.getAllByClientId(accountDomain.getClientId());
+
+        assertEquals(1, result.size());
+        assertEquals(accountDomain.getAccountNumber(), result.get(0).getAccountNumber());
+    }
+
+    @Test
+    void testGetAllByClientIdFailure() {
+        when(repository.findByClientId(any(UUID.class))).thenThrow(new RuntimeException("Error finding accounts"));
+
+        assertThrows(DataBaseException.class, () -> adapter.getAllByClientId(accountDomain.getClientId()));
+    }
+
+    @Test
+    void testGetByIdForUpdateNotFound() {
+        when(repository.findByIdForUpdate(any(UUID.class))).thenReturn(Optional.empty());
+
+        assertNull(adapter.getByIdForUpdate(accountDomain.getId()));
+    }
+
+    @Test
+    void testAdjustBalanceSuccess() {
+        when(repository.adjustLastMovement(any(UUID.class), anyLong(), any(BigDecimal.class), anyInt())).thenReturn(1);
+
+        assertTrue(adapter.adjustBalance(accountDomain.getId(), 4L, BigDecimal.valueOf(-100)));
+        verify(repository, times(1)).adjustLastMovement(accountDomain.getId(), 4L, BigDecimal.valueOf(-100), 0);
+    }
+
+    @Test
+    void testAdjustBalanceRejected() {
+        when(repository.adjustLastMovement(any(UUID.class), anyLong(), any(BigDecimal.class), anyInt())).thenReturn(0);
+
+        assertFalse(adapter.adjustBalance(accountDomain.getId(), 4L, BigDecimal.valueOf(-5000)));
+    }
+
+    @Test
+    void testRevertLastMovementSuccess() {
+        when(repository.adjustLastMovement(any(UUID.class), anyLong(), any(BigDecimal.class), anyInt())).thenReturn(1);
+
+        assertTrue(adapter.revertLastMovement(accountDomain.getId(), 4L, BigDecimal.valueOf(-100)));
+        verify(repository, times(1)).adjustLastMovement(accountDomain.getId(), 4L, BigDecimal.valueOf(-100), -1);
+    }
+
+    @Test
+    void testApplyMovementsSuccess() {
+        when(repository.applyMovements(any(UUID.class), any(BigDecimal.class), anyInt())).thenReturn(Optional.of(9L));
+
+        assertEquals(9L, adapter.applyMovements(accountDomain.getId(), BigDecimal.valueOf(-100), 3));
+    }
+
+    @Test
+    void testApplyMovementsRejected() {
+        when(repository.applyMovements(any(UUID.class), any(BigDecimal.class), anyInt())).thenReturn(Optional.empty());
+
+        assertNull(adapter.applyMovements(accountDomain.getId(), BigDecimal.valueOf(-5000), 1));
+    }
 }
@@ -0,0 +1,110 @@
+package com.devsu.ws_account.adapter.postgres;
+
+import com.devsu.ws_account.adapter.postgres.models.BalanceSnapshotEntity;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.domain.BalanceSnapshotDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BalanceSnapshotPostgresAdapterTest {
+
+    private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+
+    @Autowired
+    private BalanceSnapshotPostgresAdapter adapter;
+
+    @MockBean
+    private BalanceSnapshotPostgresRepository repository;
+
+    private UUID accountId;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        accountId = UUID.randomUUID();
+        date = LocalDate.of(2024, 3, 15);
+    }
+
+    @Test
+    void testRefreshUntilReadsFromPreviousRun() {
+        Date lastRun = new Date(10 * DAY_MILLIS);
+        Date until = new Date(11 * DAY_MILLIS);
+        when(repository.findRefreshedUntil()).thenReturn(Optional.of(lastRun));
+        when(repository.refreshBetween(any(Date.class), any(Date.class))).thenReturn(5);
+
+        assertEquals(5, adapter.refreshUntil(until));
+        verify(repository, times(1)).refreshBetween(new Date(9 * DAY_MILLIS), until);
+        verify(repository, times(1)).saveRefreshedUntil(until);
+    }
+
+    @Test
+    void testRefreshUntilFirstRunReadsWholeHistory() {
+        Date until = new Date(11 * DAY_MILLIS);
+        when(repository.findRefreshedUntil()).thenReturn(Optional.empty());
+        when(repository.refreshBetween(any(Date.class), any(Date.class))).thenReturn(3);
+
+        assertEquals(3, adapter.refreshUntil(until));
+        verify(repository, times(1)).refreshBetween(new Date(0L), until);
+        verify(repository, times(1)).saveRefreshedUntil(until);
+    }
+
+    @Test
+    void testRefreshUntilSkipsWhenAlreadyRefreshed() {
+        Date until = new Date(11 * DAY_MILLIS);
+        when(repository.findRefreshedUntil()).thenReturn(Optional.of(new Date(13 * DAY_MILLIS)));
+
+        assertEquals(0, adapter.refreshUntil(until));
+        verify(repository, never()).refreshBetween(any(Date.class), any(Date.class));
+        verify(repository, never()).saveRefreshedUntil(any(Date.class));
+    }
+
+    @Test
+    void testRefreshUntilFailure() {
+        when(repository.findRefreshedUntil()).thenReturn(Optional.empty());
+        when(repository.refreshBetween(any(Date.class), any(Date.class))).thenThrow(new RuntimeException("Error refreshing snapshots"));
+
+        assertThrows(DataBaseException.class, () -> adapter.refreshUntil(new Date()));
+    }
+
+    @Test
+    void testFindLatestSuccess() {
+        BalanceSnapshotEntity entity = new BalanceSnapshotEntity(UUID.randomUUID(), accountId, LocalDate.of(2024, 3, 10), BigDecimal.valueOf(1500));
+        when(repository.findTopByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(accountId, date)).thenReturn(Optional.of(entity));
+
+        BalanceSnapshotDomain result = adapter.findLatest(accountId, date);
+
+        assertNotNull(result);
+        assertEquals(BigDecimal.valueOf(1500), result.getBalance());
+        assertEquals(LocalDate.of(2024, 3, 10), result.getSnapshotDate());
+    }
+
+    @Test
+    void testFindLatestNotFound() {
+        when(repository.findTopByAccountIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(accountId, date)).thenReturn(Optional.empty());
+
+        assertNull(adapter.findLatest(accountId, date));
+    }
+
+    @Test
+    void testDeleteFromSuccess() {
+        when(repository.deleteFrom(accountId, date)).thenReturn(2);
+
+        assertDoesNotThrow(() -> adapter.deleteFrom(accountId, date));
+        verify(repository, times(1)).deleteFrom(accountId, date);
+    }
+}
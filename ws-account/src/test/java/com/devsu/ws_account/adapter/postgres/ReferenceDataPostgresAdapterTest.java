@@ -0,0 +1,66 @@
+package com.devsu.ws_account.adapter.postgres;
+
+import com.devsu.ws_account.adapter.postgres.models.AccountTypeEntity;
+import com.devsu.ws_account.adapter.postgres.models.TransactionTypeEntity;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.domain.AccountTypeDomain;
+import com.devsu.ws_account.domain.TransactionTypeDomain;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReferenceDataPostgresAdapterTest {
+
+    @Autowired
+    private ReferenceDataPostgresAdapter adapter;
+
+    @MockBean
+    private AccountTypePostgresRepository accountTypeRepository;
+
+    @MockBean
+    private TransactionTypePostgresRepository transactionTypeRepository;
+
+    @Test
+    void testGetAccountTypesSuccess() {
+        when(accountTypeRepository.findAll()).thenReturn(List.of(new AccountTypeEntity(1, "Ahorros")));
+
+        List<AccountTypeDomain> result = adapter.getAccountTypes();
+
+        assertEquals(1, result.size());
+        assertEquals("Ahorros", result.get(0).getName());
+    }
+
+    @Test
+    void testGetAccountTypesFailure() {
+        when(accountTypeRepository.findAll()).thenThrow(new RuntimeException("Error retrieving account types"));
+
+        assertThrows(DataBaseException.class, () -> adapter.getAccountTypes());
+    }
+
+    @Test
+    void testGetTransactionTypesSuccess() {
+        when(transactionTypeRepository.findAll()).thenReturn(List.of(
+                new TransactionTypeEntity(1, "Depósito", false), new TransactionTypeEntity(2, "Retiro", true)));
+
+        List<TransactionTypeDomain> result = adapter.getTransactionTypes();
+
+        assertEquals(2, result.size());
+        assertTrue(result.get(1).getDebit());
+    }
+
+    @Test
+    void testGetTransactionTypesFailure() {
+        when(transactionTypeRepository.findAll()).thenThrow(new RuntimeException("Error retrieving transaction types"));
+
+        assertThrows(DataBaseException.class, () -> adapter.getTransactionTypes());
+    }
+}
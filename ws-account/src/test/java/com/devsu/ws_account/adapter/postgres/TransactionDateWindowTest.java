@@ -0,0 +1,76 @@
+package com.devsu.ws_account.adapter.postgres;
+
+import com.devsu.ws_account.config.id.TimeOrderedUuids;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionDateWindowTest {
+
+    @Test
+    void testWindowAroundTimeOrderedIdContainsItsTimestamp() {
+        UUID id = TimeOrderedUuids.next();
+        Date created = new Date(TimeOrderedUuids.unixMillis(id));
+
+        TransactionDateWindow window = TransactionDateWindow.around(id);
+
+        assertTrue(window.from().before(created));
+        assertTrue(window.to().after(created));
+        assertTrue(window.to().getTime() - window.from().getTime() <= 2 * 24 * 60 * 60 * 1000L);
+    }
+
+    @Test
+    void testWindowAroundRandomIdCoversEveryPartition() {
+        TransactionDateWindow window = TransactionDateWindow.around(UUID.randomUUID());
+
+        assertEquals(TransactionDateWindow.EARLIEST, window.from());
+        assertEquals(TransactionDateWindow.LATEST, window.to());
+    }
+
+    @Test
+    void testSinceStartsBeforeTheAccountWasCreated() {
+        UUID accountId = TimeOrderedUuids.next();
+
+        assertTrue(TransactionDateWindow.since(accountId).getTime() < TimeOrderedUuids.unixMillis(accountId));
+        assertEquals(TransactionDateWindow.EARLIEST, TransactionDateWindow.since(UUID.randomUUID()));
+    }
+
+    @Test
+    void testSinceRaisesAnEarlierOrMissingBoundToTheAccountCreation() {
+        UUID accountId = TimeOrderedUuids.next();
+        Date since = TransactionDateWindow.since(accountId);
+        Date later = new Date(since.getTime() + 1_000L);
+
+        assertEquals(since, TransactionDateWindow.since(accountId, null));
+        assertEquals(since, TransactionDateWindow.since(accountId, new Date(0L)));
+        assertEquals(later, TransactionDateWindow.since(accountId, later));
+    }
+
+    @Test
+    void testUntilDefaultsToLatest() {
+        Date to = new Date();
+
+        assertEquals(TransactionDateWindow.LATEST, TransactionDateWindow.until(null));
+        assertEquals(to, TransactionDateWindow.until(to));
+    }
+
+    @Test
+    void testRecentStartsOnTheFirstDayOfThePreviousMonth() {
+        Date recent = TransactionDateWindow.recent();
+
+        assertTrue(recent.before(new Date()));
+        assertTrue(new Date().getTime() - recent.getTime() <= 62 * 24 * 60 * 60 * 1000L);
+    }
+
+    @Test
+    void testRecentIsMidnightUtc() {
+        LocalDate expected = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1).minusMonths(1);
+
+        assertEquals(expected.atStartOfDay(ZoneOffset.UTC).toInstant(), TransactionDateWindow.recent().toInstant());
+    }
+}
@@ -0,0 +1,178 @@
+package com.devsu.ws_account.adapter.postgres;
+
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.TransactionDomain;
+import com.devsu.ws_account.domain.TransactionTypeDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "transaction.storage=jdbc")
+@ActiveProfiles("test")
+@Transactional
+class TransactionJdbcAdapterTest {
+
+    @Autowired
+    private TransactionJdbcAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AccountDomain account;
+
+    @BeforeEach
+    void setUp() {
+        account = AccountDomain.builder()
+                .id(UUID.randomUUID())
+                .accountNumber("JDBC-" + System.nanoTime() % 1_000_000_000L)
+                .build();
+        jdbcTemplate.update("INSERT INTO account (id, account_number, account_type_id, initial_balance, current_balance, " +
+                        "status, client_id, last_seq, version) VALUES (?, ?, 1, 100, 250, TRUE, ?, 2, 0)",
+                account.getId(), account.getAccountNumber(), UUID.randomUUID());
+    }
+
+    @Test
+    void testSaveAllAndReadHistory() {
+        adapter.saveAll(List.of(movement(1L, 100, 200, 1_000L), movement(2L, 50, 250, 2_000L)));
+
+        List<TransactionDomain> history = adapter.getTransactionsByAccount(account);
+
+        assertEquals(2, history.size());
+        assertEquals(1L, history.get(0).getSeq());
+        assertEquals(account.getAccountNumber(), history.get(1).getAccount().getAccountNumber());
+        assertEquals("Ahorros", history.get(1).getAccount().getAccountType().getName());
+        assertEquals(0, BigDecimal.valueOf(250).compareTo(history.get(1).getAccount().getCurrentBalance()));
+        assertEquals(0L, history.get(1).getVersion());
+    }
+
+    @Test
+    void testGetLastTransactionByAccount() {
+        adapter.saveAll(List.of(movement(1L, 100, 200, 1_000L), movement(2L, 50, 250, 2_000L)));
+
+        TransactionDomain last = adapter.getLastTransactionByAccount(account);
+
+        assertEquals(2L, last.getSeq());
+        assertEquals(0, BigDecimal.valueOf(250).compareTo(last.getBalance()));
+    }
+
+    @Test
+    void testGetByIdNotFound() {
+        DataBaseException exception = assertThrows(DataBaseException.class, () -> adapter.getById(UUID.randomUUID()));
+
+        assertEquals("Transaction not found", exception.getMessage());
+    }
+
+    @Test
+    void testUpdateChecksVersion() {
+        TransactionDomain saved = adapter.save(movement(1L, 100, 200, 1_000L));
+        saved.setAmount(BigDecimal.valueOf(80));
+        saved.setBalance(BigDecimal.valueOf(180));
+
+        TransactionDomain updated = adapter.update(saved);
+        assertEquals(1L, updated.getVersion());
+        assertEquals(0, BigDecimal.valueOf(180).compareTo(adapter.getById(saved.getId()).getBalance()));
+
+        updated.setVersion(0L);
+        DataBaseException exception = assertThrows(DataBaseException.class, () -> adapter.update(updated));
+        assertEquals(SPError.STALE_UPDATE_ERROR.getErrorCode(), exception.getErrorCode());
+    }
+
+    @Test
+    void testUpdateKeepsPostingDate() {
+        TransactionDomain saved = adapter.save(movement(1L, 100, 200, 1_000L));
+        saved.setAmount(BigDecimal.valueOf(80));
+        saved.setBalance(BigDecimal.valueOf(180));
+
+        adapter.update(saved);
+
+        TransactionDomain reloaded = adapter.getById(saved.getId());
+        assertEquals(1_000L, reloaded.getDate().getTime());
+        assertEquals(0, BigDecimal.valueOf(80).compareTo(reloaded.getAmount()));
+    }
+
+    @Test
+    void testGetByAccountPageWithCursor() {
+        adapter.saveAll(List.of(movement(1L, 100, 200, 1_000L), movement(2L, 50, 250, 2_000L)));
+        Date from = new Date(0L);
+        Date to = new Date(10_000L);
+
+        List<TransactionDomain> first = adapter.getByAccountPage(account.getId(), null, null, from, to, 1);
+        List<TransactionDomain> second = adapter.getByAccountPage(account.getId(), first.get(0).getDate(), first.get(0).getSeq(), from, to, 1);
+
+        assertEquals(2L, first.get(0).getSeq());
+        assertEquals(1L, second.get(0).getSeq());
+    }
+
+    @Test
+    void testGetByAccountPageOrdersSamePostingTimeBySeq() {
+        adapter.saveAll(List.of(movement(1L, 100, 200, 1_000L), movement(2L, 50, 250, 1_000L), movement(3L, 25, 275, 1_000L)));
+        Date from = new Date(0L);
+        Date to = new Date(10_000L);
+
+        List<TransactionDomain> first = adapter.getByAccountPage(account.getId(), null, null, from, to, 2);
+        List<TransactionDomain> second = adapter.getByAccountPage(account.getId(), first.get(1).getDate(), first.get(1).getSeq(), from, to, 2);
+
+        assertEquals(List.of(3L, 2L), first.stream().map(TransactionDomain::getSeq).toList());
+        assertEquals(List.of(1L), second.stream().map(TransactionDomain::getSeq).toList());
+    }
+
+    @Test
+    void testAggregatesAndDeletes() {
+        adapter.saveAll(List.of(movement(1L, 100, 200, 1_000L), movement(2L, 50, 250, 2_000L)));
+
+        assertEquals(0, BigDecimal.valueOf(150).compareTo(adapter.sumAmounts(account.getId(), new Date(0L), new Date(10_000L))));
+        assertEquals(2L, adapter.countByAccount(account.getId()));
+        assertEquals(1, adapter.deleteChunkByAccount(account.getId(), 1));
+        assertEquals(1, adapter.deleteByAccount(account.getId()));
+        assertEquals(0L, adapter.countByAccount(account.getId()));
+    }
+
+    @Test
+    void testStreamStatement() {
+        adapter.saveAll(List.of(movement(1L, 100, 200, 1_000L), movement(2L, 50, 250, 2_000L)));
+        List<TransactionDomain> streamed = new ArrayList<>();
+
+        adapter.streamStatement(List.of(account.getId()), new Date(0L), new Date(10_000L), streamed::add);
+
+        assertEquals(2, streamed.size());
+        assertEquals(1L, streamed.get(0).getSeq());
+    }
+
+    @Test
+    void testStreamAllWithinRange() {
+        adapter.saveAll(List.of(movement(1L, 100, 200, 1_000L), movement(2L, 50, 250, 20_000L)));
+        List<TransactionDomain> streamed = new ArrayList<>();
+
+        adapter.streamAll(new Date(0L), new Date(10_000L), streamed::add);
+
+        assertEquals(1, streamed.size());
+        assertEquals(1L, streamed.get(0).getSeq());
+        assertEquals(account.getAccountNumber(), streamed.get(0).getAccount().getAccountNumber());
+    }
+
+    private TransactionDomain movement(long seq, int amount, int balance, long date) {
+        return TransactionDomain.builder()
+                .id(UUID.randomUUID())
+                .date(new Date(date))
+                .transactionType(new TransactionTypeDomain(1, "Depósito", false))
+                .amount(BigDecimal.valueOf(amount))
+                .balance(BigDecimal.valueOf(balance))
+                .account(account)
+                .seq(seq)
+                .build();
+    }
+}
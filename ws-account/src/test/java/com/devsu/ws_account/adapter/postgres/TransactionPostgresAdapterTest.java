@@ -1,8 +1,9 @@
 package com.devsu.ws_account.adapter.postgres;
 
-import com.devsu.ws_account.adapter.postgres.models.AccountEntity;
+import com.devsu.ws_account.adapter.postgres.models.PostedTransactionView;
 import com.devsu.ws_account.adapter.postgres.models.TransactionEntity;
 import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.id.TimeOrderedUuids;
 import com.devsu.ws_account.config.exception.SPError;
 import com.devsu.ws_account.domain.AccountDomain;
 import com.devsu.ws_account.domain.AccountTypeDomain;
@@ -20,10 +21,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -45,8 +48,8 @@ class TransactionPostgresAdapterTest {
 
     @BeforeEach
     void setUp() {
-        accountDomain = new AccountDomain(UUID.randomUUID(), "1234567890", new AccountTypeDomain(1, "OTHER"), BigDecimal.valueOf(1000), true, UUID.randomUUID());
-        transactionDomain = new TransactionDomain(UUID.randomUUID(), new Date(), new TransactionTypeDomain(1, "DEPOSIT"), BigDecimal.valueOf(500), BigDecimal.valueOf(1500), accountDomain);
+        accountDomain = new AccountDomain(UUID.randomUUID(), "1234567890", new AccountTypeDomain(1, "OTHER"), BigDecimal.valueOf(1000), BigDecimal.valueOf(1000), true, UUID.randomUUID(), 0L);
+        transactionDomain = new TransactionDomain(UUID.randomUUID(), new Date(), new TransactionTypeDomain(1, "DEPOSIT", false), BigDecimal.valueOf(500), BigDecimal.valueOf(1500), accountDomain, 1L, 0L);
         transactionEntity = TransactionEntity.fromDomain(transactionDomain);
     }
 
@@ -71,21 +74,21 @@ class TransactionPostgresAdapterTest {
 
     @Test
     void testGetTransactionByIdSuccess() {
-        when(repository.findById(any(UUID.class))).thenReturn(Optional.of(transactionEntity));
+        when(repository.findWithDetailsById(any(UUID.class), any(Date.class), any(Date.class))).thenReturn(Optional.of(transactionEntity));
 
         TransactionDomain result = adapter.getById(transactionDomain.getId());
 
         assertNotNull(result);
         assertEquals(transactionDomain.getId(), result.getId());
-        verify(repository, times(1)).findById(any(UUID.class));
+        verify(repository, times(1)).findWithDetailsById(any(UUID.class), any(Date.class), any(Date.class));
     }
 
     @Test
     void testGetTransactionByIdFailure() {
-        when(repository.findById(any(UUID.class))).thenReturn(Optional.empty());
+        when(repository.findWithDetailsById(any(UUID.class), any(Date.class), any(Date.class))).thenReturn(Optional.empty());
 
         assertThrows(DataBaseException.class, () -> adapter.getById(transactionDomain.getId()));
-        verify(repository, times(1)).findById(any(UUID.class));
+        verify(repository, times(1)).findWithDetailsById(any(UUID.class), any(Date.class), any(Date.class));
     }
 
     @Test
@@ -99,28 +102,52 @@ class TransactionPostgresAdapterTest {
 
     @Test
     void testGetTransactionByIdException() {
-        when(repository.findById(any(UUID.class))).thenThrow(new RuntimeException("Database error"));
+        when(repository.findWithDetailsById(any(UUID.class), any(Date.class), any(Date.class))).thenThrow(new RuntimeException("Database error"));
 
         DataBaseException exception = assertThrows(DataBaseException.class, () -> adapter.getById(transactionDomain.getId()));
         assertEquals(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), exception.getErrorCode());
-        verify(repository, times(1)).findById(any(UUID.class));
+        verify(repository, times(1)).findWithDetailsById(any(UUID.class), any(Date.class), any(Date.class));
     }
 
     @Test
     void testDeleteTransactionSuccess() {
-        doNothing().when(repository).deleteById(any(UUID.class));
+        when(repository.deleteByIdBetween(any(UUID.class), any(Date.class), any(Date.class))).thenReturn(1);
 
         assertDoesNotThrow(() -> adapter.delete(transactionDomain.getId()));
-        verify(repository, times(1)).deleteById(any(UUID.class));
+        verify(repository, times(1)).deleteByIdBetween(any(UUID.class), any(Date.class), any(Date.class));
     }
 
     @Test
     void testDeleteTransactionFailure() {
-        doThrow(new RuntimeException("Error deleting transaction")).when(repository).deleteById(any(UUID.class));
+        when(repository.deleteByIdBetween(any(UUID.class), any(Date.class), any(Date.class)))
+                .thenThrow(new RuntimeException("Error deleting transaction"));
 
         DataBaseException exception = assertThrows(DataBaseException.class, () -> adapter.delete(transactionDomain.getId()));
         assertEquals(SPError.ACCOUNT_ADAPTER_DELETE_ERROR.getErrorCode(), exception.getErrorCode());
-        verify(repository, times(1)).deleteById(any(UUID.class));
+        verify(repository, times(1)).deleteByIdBetween(any(UUID.class), any(Date.class), any(Date.class));
+    }
+
+    @Test
+    void testUpdateTransactionSuccess() {
+        when(repository.updateIfCurrent(any(UUID.class), any(Date.class), any(Date.class), anyLong(), any(BigDecimal.class), any(BigDecimal.class))).thenReturn(1);
+
+        Date postedAt = transactionDomain.getDate();
+
+        TransactionDomain result = adapter.update(transactionDomain);
+
+        assertEquals(1L, result.getVersion());
+        assertEquals(postedAt, result.getDate());
+        verify(repository, times(1)).updateIfCurrent(eq(transactionDomain.getId()), any(Date.class), any(Date.class), eq(0L),
+                eq(BigDecimal.valueOf(500)), eq(BigDecimal.valueOf(1500)));
+        verify(repository, never()).save(any(TransactionEntity.class));
+    }
+
+    @Test
+    void testUpdateTransactionNotFoundOrStale() {
+        when(repository.updateIfCurrent(any(UUID.class), any(Date.class), any(Date.class), anyLong(), any(BigDecimal.class), any(BigDecimal.class))).thenReturn(0);
+
+        DataBaseException exception = assertThrows(DataBaseException.class, () -> adapter.update(transactionDomain));
+        assertEquals(SPError.STALE_UPDATE_ERROR.getErrorCode(), exception.getErrorCode());
     }
 
     @Test
@@ -128,7 +155,7 @@ class TransactionPostgresAdapterTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         Page<TransactionEntity> page = mock(Page.class);
-        when(repository.findAll(pageable)).thenReturn(page);
+        when(repository.findAllWithDetails(pageable)).thenReturn(page);
 
         when(page.map(any())).thenAnswer(invocation -> {
             return Page.empty();
@@ -137,7 +164,7 @@ class TransactionPostgresAdapterTest {
         Page<TransactionDomain> result = adapter.getAllPaginated(0, 10);
 
         assertNotNull(result);
-        verify(repository, times(1)).findAll(pageable);
+        verify(repository, times(1)).findAllWithDetails(pageable);
     }
 
     @Test
@@ -146,57 +173,221 @@ class TransactionPostgresAdapterTest {
         TransactionEntity transactionEntity = TransactionEntity.fromDomain(transactionDomain);
 
         Page<TransactionEntity> page = new PageImpl<>(List.of(transactionEntity));
-        when(repository.findAll(pageable)).thenReturn(page);
+        when(repository.findAllWithDetails(pageable)).thenReturn(page);
 
         Page<TransactionDomain> result = adapter.getAllPaginated(0, 10);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(transactionDomain.getId(), result.getContent().get(0).getId());
-        verify(repository, times(1)).findAll(pageable);
+        verify(repository, times(1)).findAllWithDetails(pageable);
     }
 
     @Test
     void testGetLastTransactionByAccountSuccess() {
-        when(repository.findTopByAccountOrderByDateDesc(any(AccountEntity.class))).thenReturn(transactionEntity);
+        when(repository.findLastByAccountId(any(UUID.class), any(Date.class))).thenReturn(Optional.of(transactionEntity));
 
         TransactionDomain result = adapter.getLastTransactionByAccount(accountDomain);
 
         assertNotNull(result);
         assertEquals(transactionDomain.getId(), result.getId());
-        verify(repository, times(1)).findTopByAccountOrderByDateDesc(any(AccountEntity.class));
+        verify(repository, times(1)).findLastByAccountId(eq(accountDomain.getId()), any(Date.class));
     }
 
     @Test
     void testGetLastTransactionByAccountNotFound() {
-        when(repository.findTopByAccountOrderByDateDesc(any(AccountEntity.class))).thenReturn(null);
+        when(repository.findLastByAccountId(any(UUID.class), any(Date.class))).thenReturn(Optional.empty());
 
         TransactionDomain result = adapter.getLastTransactionByAccount(accountDomain);
 
         assertNull(result);
-        verify(repository, times(1)).findTopByAccountOrderByDateDesc(any(AccountEntity.class));
+        verify(repository, times(2)).findLastByAccountId(eq(accountDomain.getId()), any(Date.class));
     }
 
     @Test
     void testGetTransactionsByAccountSuccess() {
-        when(repository.findByAccount(any(AccountEntity.class))).thenReturn(List.of(transactionEntity));
+        when(repository.findByAccountIdWithDetails(any(UUID.class), any(Date.class))).thenReturn(List.of(transactionEntity));
 
         List<TransactionDomain> result = adapter.getTransactionsByAccount(accountDomain);
 
         assertNotNull(result);
         assertFalse(result.isEmpty());
         assertEquals(transactionDomain.getId(), result.get(0).getId());
-        verify(repository, times(1)).findByAccount(any(AccountEntity.class));
+        verify(repository, times(1)).findByAccountIdWithDetails(any(UUID.class), any(Date.class));
     }
 
     @Test
     void testGetTransactionsByAccountNotFound() {
-        when(repository.findByAccount(any(AccountEntity.class))).thenReturn(List.of());
+        when(repository.findByAccountIdWithDetails(any(UUID.class), any(Date.class))).thenReturn(List.of());
 
         List<TransactionDomain> result = adapter.getTransactionsByAccount(accountDomain);
 
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(repository, times(1)).findByAccount(any(AccountEntity.class));
+        verify(repository, times(1)).findByAccountIdWithDetails(any(UUID.class), any(Date.class));
+    }
+
+    @Test
+    void testGetByAccountPageWithoutCursor() {
+        Date from = new Date(0L);
+        Date to = new Date();
+        when(repository.findFirstPageByAccount(accountDomain.getId(), from, to, 51)).thenReturn(List.of(transactionEntity));
+
+        List<TransactionDomain> result = adapter.getByAccountPage(accountDomain.getId(), null, null, from, to, 51);
+
+        assertEquals(1, result.size());
+        verify(repository, never()).findPageByAccountAfter(any(), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void testGetByAccountPageWithCursor() {
+        Date from = new Date(0L);
+        Date to = new Date();
+        when(repository.findPageByAccountAfter(accountDomain.getId(), transactionDomain.getDate(), 7L, from, to, 51))
+                .thenReturn(List.of());
+
+        List<TransactionDomain> result = adapter.getByAccountPage(accountDomain.getId(), transactionDomain.getDate(),
+                7L, from, to, 51);
+
+        assertTrue(result.isEmpty());
+        verify(repository, never()).findFirstPageByAccount(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void testGetByAccountPageBoundsMissingDatesByAccountCreation() {
+        UUID accountId = TimeOrderedUuids.next();
+        when(repository.findFirstPageByAccount(eq(accountId), any(Date.class), any(Date.class), eq(51))).thenReturn(List.of());
+
+        adapter.getByAccountPage(accountId, null, null, null, null, 51);
+
+        verify(repository, times(1)).findFirstPageByAccount(accountId, TransactionDateWindow.since(accountId),
+                TransactionDateWindow.LATEST, 51);
+    }
+
+    @Test
+    void testPostTransactionSuccess() {
+        PostedTransactionView view = mock(PostedTransactionView.class, CALLS_REAL_METHODS);
+        when(view.getId()).thenReturn(transactionDomain.getId());
+        when(view.getAmount()).thenReturn(transactionDomain.getAmount());
+        when(view.getBalance()).thenReturn(transactionDomain.getBalance());
+        when(view.getAccountId()).thenReturn(accountDomain.getId());
+        when(view.getSeq()).thenReturn(3L);
+        when(view.getTransactionTypeId()).thenReturn(2);
+        when(repository.post(any(UUID.class), any(UUID.class), anyInt(), any(BigDecimal.class), any(Date.class)))
+                .thenReturn(Optional.of(view));
+
+        TransactionDomain result = adapter.post(transactionDomain);
+
+        assertNotNull(result);
+        assertEquals(transactionDomain.getId(), result.getId());
+        assertEquals(transactionDomain.getBalance(), result.getBalance());
+        assertEquals(accountDomain.getId(), result.getAccount().getId());
+        assertEquals(3L, result.getSeq());
+        assertEquals("Retiro", result.getTransactionType().getName());
+        assertTrue(result.getTransactionType().getDebit());
+        verify(repository, times(1)).post(any(UUID.class), eq(accountDomain.getId()), eq(1), eq(transactionDomain.getAmount()), any(Date.class));
+    }
+
+    @Test
+    void testPostTransactionRejected() {
+        when(repository.post(any(UUID.class), any(UUID.class), anyInt(), any(BigDecimal.class), any(Date.class)))
+                .thenReturn(Optional.empty());
+
+        TransactionDomain result = adapter.post(transactionDomain);
+
+        assertNull(result);
+    }
+
+    @Test
+    void testPostTransactionFailure() {
+        when(repository.post(any(UUID.class), any(UUID.class), anyInt(), any(BigDecimal.class), any(Date.class)))
+                .thenThrow(new RuntimeException("Error posting transaction"));
+
+        assertThrows(DataBaseException.class, () -> adapter.post(transactionDomain));
+    }
+
+    @Test
+    void testStreamStatementSuccess() {
+        when(repository.streamStatement(anyList(), any(Date.class), any(Date.class))).thenReturn(Stream.of(transactionEntity));
+        List<TransactionDomain> streamed = new ArrayList<>();
+
+        adapter.streamStatement(List.of(accountDomain.getId()), new Date(0L), new Date(), streamed::add);
+
+        assertEquals(1, streamed.size());
+        assertEquals(transactionDomain.getId(), streamed.get(0).getId());
+    }
+
+    @Test
+    void testStreamStatementFailure() {
+        when(repository.streamStatement(anyList(), any(Date.class), any(Date.class))).thenThrow(new RuntimeException("Error streaming transactions"));
+
+        assertThrows(DataBaseException.class,
+                () -> adapter.streamStatement(List.of(accountDomain.getId()), new Date(0L), new Date(), transaction -> { }));
+    }
+
+    @Test
+    void testStreamAllSuccess() {
+        when(repository.streamAllBetween(any(Date.class), any(Date.class))).thenReturn(Stream.of(transactionEntity));
+        List<TransactionDomain> streamed = new ArrayList<>();
+
+        adapter.streamAll(new Date(0L), new Date(), streamed::add);
+
+        assertEquals(1, streamed.size());
+        assertEquals(accountDomain.getAccountNumber(), streamed.get(0).getAccount().getAccountNumber());
+    }
+
+    @Test
+    void testStreamAllFailure() {
+        when(repository.streamAllBetween(any(Date.class), any(Date.class))).thenThrow(new RuntimeException("Error streaming transactions"));
+
+        assertThrows(DataBaseException.class, () -> adapter.streamAll(new Date(0L), new Date(), transaction -> { }));
+    }
+
+    @Test
+    void testSumAmountsSuccess() {
+        when(repository.sumAmountByAccountBetween(any(UUID.class), any(Date.class), any(Date.class))).thenReturn(BigDecimal.valueOf(-200));
+
+        BigDecimal result = adapter.sumAmounts(accountDomain.getId(), new Date(0L), new Date());
+
+        assertEquals(BigDecimal.valueOf(-200), result);
+    }
+
+    @Test
+    void testSumAmountsBoundsMissingFromByAccountCreation() {
+        UUID accountId = TimeOrderedUuids.next();
+        Date to = new Date();
+        when(repository.sumAmountByAccountBetween(eq(accountId), any(Date.class), eq(to))).thenReturn(BigDecimal.TEN);
+
+        assertEquals(BigDecimal.TEN, adapter.sumAmounts(accountId, null, to));
+        verify(repository, times(1)).sumAmountByAccountBetween(accountId, TransactionDateWindow.since(accountId), to);
+    }
+
+    @Test
+    void testCountByAccountSuccess() {
+        when(repository.countByAccountId(eq(accountDomain.getId()), any(Date.class))).thenReturn(42L);
+
+        assertEquals(42L, adapter.countByAccount(accountDomain.getId()));
+    }
+
+    @Test
+    void testDeleteByAccountSuccess() {
+        when(repository.deleteByAccountId(eq(accountDomain.getId()), any(Date.class))).thenReturn(3);
+
+        assertEquals(3, adapter.deleteByAccount(accountDomain.getId()));
+        verify(repository, never()).deleteByIdBetween(any(UUID.class), any(Date.class), any(Date.class));
+    }
+
+    @Test
+    void testDeleteByAccountFailure() {
+        when(repository.deleteByAccountId(any(UUID.class), any(Date.class))).thenThrow(new RuntimeException("Error deleting transactions"));
+
+        assertThrows(DataBaseException.class, () -> adapter.deleteByAccount(accountDomain.getId()));
+    }
+
+    @Test
+    void testDeleteChunkByAccountSuccess() {
+        when(repository.deleteChunkByAccountId(eq(accountDomain.getId()), any(Date.class), eq(500))).thenReturn(500);
+
+        assertEquals(500, adapter.deleteChunkByAccount(accountDomain.getId(), 500));
     }
 }
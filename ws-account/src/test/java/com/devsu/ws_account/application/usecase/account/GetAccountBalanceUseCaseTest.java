@@ -0,0 +1,73 @@
+package com.devsu.ws_account.application.usecase.account;
+
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountBalanceDomain;
+import com.devsu.ws_account.domain.service.BalanceSnapshotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetAccountBalanceUseCaseTest {
+
+    @Mock
+    private BalanceSnapshotService service;
+
+    private GetAccountBalanceUseCase useCase;
+
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetAccountBalanceUseCase(service);
+        accountId = UUID.randomUUID();
+    }
+
+    @Test
+    void testGetBalanceSuccess() {
+        LocalDate date = LocalDate.of(2024, 3, 15);
+        AccountBalanceDomain balance = new AccountBalanceDomain(accountId, "1234567890", date, BigDecimal.valueOf(1300));
+        when(service.getBalanceAt(accountId, date)).thenReturn(balance);
+
+        AccountBalanceDomain result = useCase.getBalance(accountId, date);
+
+        assertEquals(BigDecimal.valueOf(1300), result.getBalance());
+    }
+
+    @Test
+    void testGetBalanceDefaultsToToday() {
+        when(service.getBalanceAt(eq(accountId), any(LocalDate.class))).thenReturn(new AccountBalanceDomain());
+
+        useCase.getBalance(accountId, null);
+
+        verify(service, times(1)).getBalanceAt(eq(accountId), any(LocalDate.class));
+    }
+
+    @Test
+    void testGetBalanceDataBaseException() {
+        when(service.getBalanceAt(eq(accountId), any(LocalDate.class)))
+                .thenThrow(new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), "Account not found"));
+
+        assertThrows(DataBaseException.class, () -> useCase.getBalance(accountId, LocalDate.now()));
+    }
+
+    @Test
+    void testGetBalanceUnexpectedException() {
+        when(service.getBalanceAt(eq(accountId), any(LocalDate.class))).thenThrow(new RuntimeException("Unexpected"));
+
+        CustomException exception = assertThrows(CustomException.class, () -> useCase.getBalance(accountId, LocalDate.now()));
+
+        assertEquals(SPError.GENERIC_ERROR.getErrorCode(), exception.getErrorCode());
+    }
+}
@@ -0,0 +1,56 @@
+package com.devsu.ws_account.application.usecase.account;
+
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountPurgeJobDomain;
+import com.devsu.ws_account.domain.service.AccountPurgeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetAccountPurgeUseCaseTest {
+
+    @Mock
+    private AccountPurgeService service;
+
+    private GetAccountPurgeUseCase useCase;
+
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetAccountPurgeUseCase(service);
+        accountId = UUID.randomUUID();
+    }
+
+    @Test
+    void testGetPurgeSuccess() {
+        AccountPurgeJobDomain job = AccountPurgeJobDomain.builder()
+                .accountId(accountId)
+                .status(AccountPurgeJobDomain.Status.RUNNING)
+                .deletedTransactions(100)
+                .build();
+        when(service.getJob(accountId)).thenReturn(job);
+
+        AccountPurgeJobDomain result = useCase.getPurge(accountId);
+
+        assertEquals(100, result.getDeletedTransactions());
+    }
+
+    @Test
+    void testGetPurgeNotFound() {
+        when(service.getJob(accountId)).thenReturn(null);
+
+        CustomException exception = assertThrows(CustomException.class, () -> useCase.getPurge(accountId));
+
+        assertEquals(SPError.ACCOUNT_PURGE_NOT_FOUND.getErrorCode(), exception.getErrorCode());
+    }
+}
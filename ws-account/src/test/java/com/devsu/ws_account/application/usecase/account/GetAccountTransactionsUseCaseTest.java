@@ -0,0 +1,117 @@
+package com.devsu.ws_account.application.usecase.account;
+
+import com.devsu.ws_account.application.port.out.AccountStorageRepository;
+import com.devsu.ws_account.application.port.out.TransactionStorageRepository;
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.TransactionDomain;
+import com.devsu.ws_account.domain.TransactionPageDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetAccountTransactionsUseCaseTest {
+
+    @Mock
+    private TransactionStorageRepository repository;
+
+    @Mock
+    private AccountStorageRepository accountRepository;
+
+    private GetAccountTransactionsUseCase useCase;
+
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetAccountTransactionsUseCase(repository, accountRepository);
+        accountId = UUID.randomUUID();
+    }
+
+    @Test
+    void testFirstPageReturnsCursorWhenMoreRowsExist() {
+        TransactionDomain newest = transaction(3000L, 3L);
+        TransactionDomain middle = transaction(2000L, 2L);
+        TransactionDomain oldest = transaction(1000L, 1L);
+        when(repository.getByAccountPage(eq(accountId), isNull(), isNull(), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(newest, middle, oldest));
+
+        TransactionPageDomain page = useCase.getTransactions(accountId, null, 2, null, null);
+
+        assertEquals(2, page.getItems().size());
+        assertNotNull(page.getNextCursor());
+
+        when(repository.getByAccountPage(eq(accountId), eq(middle.getDate()), eq(middle.getSeq()), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(oldest));
+
+        TransactionPageDomain nextPage = useCase.getTransactions(accountId, page.getNextCursor(), 2, null, null);
+
+        assertEquals(1, nextPage.getItems().size());
+        assertNull(nextPage.getNextCursor());
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void testLimitIsCapped() {
+        when(repository.getByAccountPage(eq(accountId), isNull(), isNull(), isNull(), isNull(), eq(501)))
+                .thenReturn(List.of());
+        when(accountRepository.existsById(accountId)).thenReturn(true);
+
+        TransactionPageDomain page = useCase.getTransactions(accountId, null, 10_000, null, null);
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testUnknownAccountIsNotFound() {
+        when(repository.getByAccountPage(eq(accountId), isNull(), isNull(), isNull(), isNull(), eq(51)))
+                .thenReturn(List.of());
+        when(accountRepository.existsById(accountId)).thenReturn(false);
+
+        DataBaseException exception = assertThrows(DataBaseException.class,
+                () -> useCase.getTransactions(accountId, null, 50, null, null));
+
+        assertEquals(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), exception.getErrorCode());
+        assertEquals("Account not found", exception.getMessage());
+    }
+
+    @Test
+    void testInvalidCursor() {
+        CustomException exception = assertThrows(CustomException.class,
+                () -> useCase.getTransactions(accountId, "not-a-cursor", 10, null, null));
+
+        assertEquals(SPError.INVALID_PARAMS_ERROR.getErrorCode(), exception.getErrorCode());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void testDatabaseError() {
+        when(repository.getByAccountPage(any(), any(), any(), any(), any(), anyInt()))
+                .thenThrow(new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), "Error"));
+
+        assertThrows(DataBaseException.class, () -> useCase.getTransactions(accountId, null, 10, null, null));
+    }
+
+    private TransactionDomain transaction(long epochMillis, long seq) {
+        return TransactionDomain.builder()
+                .id(UUID.randomUUID())
+                .seq(seq)
+                .date(new Date(epochMillis))
+                .amount(BigDecimal.TEN)
+                .balance(BigDecimal.TEN)
+                .build();
+    }
+}
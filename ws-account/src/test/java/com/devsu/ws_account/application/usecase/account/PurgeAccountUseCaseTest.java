@@ -0,0 +1,64 @@
+package com.devsu.ws_account.application.usecase.account;
+
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountPurgeJobDomain;
+import com.devsu.ws_account.domain.service.AccountPurgeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PurgeAccountUseCaseTest {
+
+    @Mock
+    private AccountPurgeService service;
+
+    private PurgeAccountUseCase useCase;
+
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new PurgeAccountUseCase(service);
+        accountId = UUID.randomUUID();
+    }
+
+    @Test
+    void testPurgeSuccess() {
+        AccountPurgeJobDomain job = AccountPurgeJobDomain.builder()
+                .accountId(accountId)
+                .status(AccountPurgeJobDomain.Status.PENDING)
+                .build();
+        when(service.start(accountId)).thenReturn(job);
+
+        AccountPurgeJobDomain result = useCase.purge(accountId);
+
+        assertEquals(AccountPurgeJobDomain.Status.PENDING, result.getStatus());
+    }
+
+    @Test
+    void testPurgeDataBaseException() {
+        when(service.start(accountId))
+                .thenThrow(new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), "Account not found"));
+
+        assertThrows(DataBaseException.class, () -> useCase.purge(accountId));
+    }
+
+    @Test
+    void testPurgeUnexpectedException() {
+        when(service.start(accountId)).thenThrow(new RuntimeException("Unexpected"));
+
+        CustomException exception = assertThrows(CustomException.class, () -> useCase.purge(accountId));
+
+        assertEquals(SPError.GENERIC_ERROR.getErrorCode(), exception.getErrorCode());
+    }
+}
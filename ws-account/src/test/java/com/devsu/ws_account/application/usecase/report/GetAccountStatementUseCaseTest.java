@@ -0,0 +1,94 @@
+package com.devsu.ws_account.application.usecase.report;
+
+import com.devsu.ws_account.application.port.out.AccountStorageRepository;
+import com.devsu.ws_account.application.port.out.TransactionStorageRepository;
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.AccountTypeDomain;
+import com.devsu.ws_account.domain.TransactionDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetAccountStatementUseCaseTest {
+
+    @Mock
+    private AccountStorageRepository accountRepository;
+
+    @Mock
+    private TransactionStorageRepository transactionRepository;
+
+    private GetAccountStatementUseCase useCase;
+
+    private UUID clientId;
+    private AccountDomain accountDomain;
+    private Date from;
+    private Date to;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetAccountStatementUseCase(accountRepository, transactionRepository);
+        clientId = UUID.randomUUID();
+        accountDomain = new AccountDomain(UUID.randomUUID(), "1234567890", new AccountTypeDomain(1, "SAVINGS"), BigDecimal.valueOf(1000), BigDecimal.valueOf(1000), true, clientId, 0L);
+        from = new Date(0L);
+        to = new Date();
+    }
+
+    @Test
+    void testGetStatementAccountsSuccess() {
+        when(accountRepository.getAllByClientId(clientId)).thenReturn(List.of(accountDomain));
+
+        List<AccountDomain> result = useCase.getStatementAccounts(clientId, from, to);
+
+        assertEquals(1, result.size());
+        verify(accountRepository, times(1)).getAllByClientId(clientId);
+    }
+
+    @Test
+    void testGetStatementAccountsNoAccounts() {
+        when(accountRepository.getAllByClientId(clientId)).thenReturn(List.of());
+
+        CustomException exception = assertThrows(CustomException.class, () -> useCase.getStatementAccounts(clientId, from, to));
+
+        assertEquals(SPError.INVALID_PARAMS_ERROR.getErrorCode(), exception.getErrorCode());
+    }
+
+    @Test
+    void testGetStatementAccountsInvalidRange() {
+        CustomException exception = assertThrows(CustomException.class, () -> useCase.getStatementAccounts(clientId, to, from));
+
+        assertEquals(SPError.INVALID_PARAMS_ERROR.getErrorCode(), exception.getErrorCode());
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void testGetStatementAccountsDatabaseError() {
+        when(accountRepository.getAllByClientId(clientId)).thenThrow(new DataBaseException(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), "Database error"));
+
+        assertThrows(DataBaseException.class, () -> useCase.getStatementAccounts(clientId, from, to));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testStreamStatementDelegatesAccountIds() {
+        Consumer<TransactionDomain> consumer = mock(Consumer.class);
+
+        useCase.streamStatement(List.of(accountDomain), from, to, consumer);
+
+        verify(transactionRepository, times(1)).streamStatement(List.of(accountDomain.getId()), from, to, consumer);
+    }
+}
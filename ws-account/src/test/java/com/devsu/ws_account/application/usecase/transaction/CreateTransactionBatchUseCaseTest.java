@@ -0,0 +1,96 @@
+package com.devsu.ws_account.application.usecase.transaction;
+
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.TransactionBatchResultDomain;
+import com.devsu.ws_account.domain.TransactionDomain;
+import com.devsu.ws_account.domain.TransactionTypeDomain;
+import com.devsu.ws_account.domain.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateTransactionBatchUseCaseTest {
+
+    @Mock
+    private TransactionService service;
+
+    private CreateTransactionBatchUseCase useCase;
+
+    private UUID firstAccountId;
+    private UUID secondAccountId;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CreateTransactionBatchUseCase(service);
+        firstAccountId = UUID.randomUUID();
+        secondAccountId = UUID.randomUUID();
+    }
+
+    @Test
+    void testCreateBatchGroupsByAccountAndKeepsOrder() {
+        List<TransactionDomain> batch = List.of(
+                transaction(firstAccountId, 100),
+                transaction(secondAccountId, 200),
+                transaction(firstAccountId, 300));
+
+        when(service.postBatch(eq(firstAccountId), anyList())).thenAnswer(invocation -> accepted(invocation.getArgument(1)));
+        when(service.postBatch(eq(secondAccountId), anyList())).thenAnswer(invocation -> accepted(invocation.getArgument(1)));
+
+        List<TransactionBatchResultDomain> results = useCase.createBatch(batch);
+
+        assertEquals(3, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).getIndex());
+            assertTrue(results.get(i).getAccepted());
+            assertSame(batch.get(i), results.get(i).getTransaction());
+        }
+        verify(service, times(1)).postBatch(firstAccountId, List.of(batch.get(0), batch.get(2)));
+        verify(service, times(1)).postBatch(secondAccountId, List.of(batch.get(1)));
+    }
+
+    @Test
+    void testCreateBatchRejectsOnlyFailedGroup() {
+        List<TransactionDomain> batch = List.of(
+                transaction(firstAccountId, 100),
+                transaction(secondAccountId, 200));
+
+        when(service.postBatch(eq(firstAccountId), anyList()))
+                .thenThrow(new DataBaseException(SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorCode(), "Account does not exist"));
+        when(service.postBatch(eq(secondAccountId), anyList())).thenAnswer(invocation -> accepted(invocation.getArgument(1)));
+
+        List<TransactionBatchResultDomain> results = useCase.createBatch(batch);
+
+        assertFalse(results.get(0).getAccepted());
+        assertEquals("Account does not exist", results.get(0).getError());
+        assertTrue(results.get(1).getAccepted());
+    }
+
+    private TransactionDomain transaction(UUID accountId, int amount) {
+        return TransactionDomain.builder()
+                .transactionType(new TransactionTypeDomain(1, "DEPOSIT", false))
+                .amount(BigDecimal.valueOf(amount))
+                .account(AccountDomain.builder().id(accountId).build())
+                .build();
+    }
+
+    private List<TransactionBatchResultDomain> accepted(List<TransactionDomain> group) {
+        return group.stream()
+                .map(transaction -> TransactionBatchResultDomain.builder()
+                        .accepted(true)
+                        .transaction(transaction)
+                        .build())
+                .toList();
+    }
+}
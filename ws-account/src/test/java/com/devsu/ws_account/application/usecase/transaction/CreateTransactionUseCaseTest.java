@@ -5,6 +5,7 @@ import com.devsu.ws_account.config.exception.DataBaseException;
 import com.devsu.ws_account.config.exception.SPError;
 import com.devsu.ws_account.domain.TransactionDomain;
 import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.service.TransactionGroupCommitService;
 import com.devsu.ws_account.domain.service.TransactionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,9 @@ class CreateTransactionUseCaseTest {
     @Mock
     private TransactionService service;
 
+    @Mock
+    private TransactionGroupCommitService groupCommitService;
+
     private CreateTransactionUseCase useCase;
 
     private TransactionDomain transactionDomain;
@@ -32,7 +36,7 @@ class CreateTransactionUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new CreateTransactionUseCase(service);
+        useCase = new CreateTransactionUseCase(service, groupCommitService);
 
         accountDomain = AccountDomain.builder()
                 .id(UUID.randomUUID())
@@ -62,6 +66,18 @@ class CreateTransactionUseCaseTest {
         verify(service, times(1)).create(transactionDomain);
     }
 
+    @Test
+    void testCreateTransactionWithGroupCommit() {
+        when(groupCommitService.isEnabled()).thenReturn(true);
+        when(groupCommitService.submit(any(TransactionDomain.class))).thenReturn(transactionDomain);
+
+        TransactionDomain result = useCase.create(transactionDomain);
+
+        assertEquals(transactionDomain.getId(), result.getId());
+        verify(groupCommitService, times(1)).submit(transactionDomain);
+        verify(service, never()).create(any(TransactionDomain.class));
+    }
+
     @Test
     void testCreateTransactionDataBaseException() {
         DataBaseException dbException = new DataBaseException(
@@ -0,0 +1,54 @@
+package com.devsu.ws_account.application.usecase.transaction;
+
+import com.devsu.ws_account.application.port.out.TransactionStorageRepository;
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.TransactionDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportTransactionsUseCaseTest {
+
+    @Mock
+    private TransactionStorageRepository repository;
+
+    private ExportTransactionsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ExportTransactionsUseCase(repository);
+    }
+
+    @Test
+    void testCheckRangeAcceptsOrderedDates() {
+        assertDoesNotThrow(() -> useCase.checkRange(new Date(0L), new Date(1_000L)));
+    }
+
+    @Test
+    void testCheckRangeRejectsEmptyRange() {
+        CustomException exception = assertThrows(CustomException.class, () -> useCase.checkRange(new Date(1_000L), new Date(1_000L)));
+
+        assertEquals(SPError.INVALID_PARAMS_ERROR.getErrorCode(), exception.getErrorCode());
+    }
+
+    @Test
+    void testExportStreamsFromRepository() {
+        Date from = new Date(0L);
+        Date to = new Date(1_000L);
+        Consumer<TransactionDomain> consumer = transaction -> { };
+
+        useCase.export(from, to, consumer);
+
+        verify(repository, times(1)).streamAll(from, to, consumer);
+    }
+}
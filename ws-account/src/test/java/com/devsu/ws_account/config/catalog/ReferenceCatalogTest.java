@@ -0,0 +1,73 @@
+package com.devsu.ws_account.config.catalog;
+
+import com.devsu.ws_account.application.port.out.ReferenceDataStorageRepository;
+import com.devsu.ws_account.domain.AccountTypeDomain;
+import com.devsu.ws_account.domain.TransactionTypeDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReferenceCatalogTest {
+
+    private ReferenceDataStorageRepository referenceDataAdapter;
+    private ReferenceCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        referenceDataAdapter = mock(ReferenceDataStorageRepository.class);
+        when(referenceDataAdapter.getAccountTypes()).thenReturn(List.of(new AccountTypeDomain(1, "Ahorros")));
+        when(referenceDataAdapter.getTransactionTypes()).thenReturn(List.of(
+                new TransactionTypeDomain(1, "Depósito", false), new TransactionTypeDomain(2, "Retiro", true)));
+        catalog = new ReferenceCatalog(referenceDataAdapter);
+    }
+
+    @Test
+    void testLoadsOnceAndServesFromMemory() {
+        catalog.load();
+
+        assertEquals("Ahorros", catalog.accountType(1).getName());
+        assertEquals("Retiro", catalog.transactionType(2).getName());
+        assertTrue(catalog.isDebit(2));
+        assertFalse(catalog.isDebit(1));
+        verify(referenceDataAdapter, times(1)).getAccountTypes();
+        verify(referenceDataAdapter, times(1)).getTransactionTypes();
+    }
+
+    @Test
+    void testLoadsLazilyBeforeApplicationIsReady() {
+        assertTrue(catalog.findAccountType(1).isPresent());
+        verify(referenceDataAdapter, times(1)).getAccountTypes();
+    }
+
+    @Test
+    void testLookupsReturnCopies() {
+        catalog.accountType(1).setName("changed");
+
+        assertEquals("Ahorros", catalog.accountType(1).getName());
+    }
+
+    @Test
+    void testUnknownTypes() {
+        assertTrue(catalog.findTransactionType(9).isEmpty());
+        assertTrue(catalog.findAccountType(null).isEmpty());
+        assertFalse(catalog.isDebit(9));
+        assertEquals(9, catalog.transactionType(9).getId());
+        assertNull(catalog.transactionType(9).getName());
+    }
+
+    @Test
+    void testReloadReplacesSnapshot() {
+        catalog.load();
+        when(referenceDataAdapter.getAccountTypes()).thenReturn(List.of(
+                new AccountTypeDomain(1, "Ahorros"), new AccountTypeDomain(2, "Corriente")));
+
+        ReferenceCatalog.Snapshot snapshot = catalog.reload();
+
+        assertEquals(2, snapshot.accountTypes().size());
+        assertEquals("Corriente", catalog.accountType(2).getName());
+    }
+}
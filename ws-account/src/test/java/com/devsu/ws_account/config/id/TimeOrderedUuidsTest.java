@@ -0,0 +1,46 @@
+package com.devsu.ws_account.config.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedUuidsTest {
+
+    @Test
+    void testNextIsVersion7WithRfcVariant() {
+        UUID id = TimeOrderedUuids.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void testNextCarriesCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = TimeOrderedUuids.next();
+        long after = System.currentTimeMillis();
+
+        long millis = TimeOrderedUuids.unixMillis(id);
+        assertTrue(millis >= before, "timestamp before generation");
+        // a burst of more than 4096 ids in one millisecond borrows from the next milliseconds
+        assertTrue(millis <= after + 1000, "timestamp far after generation");
+    }
+
+    @Test
+    void testNextIsStrictlyIncreasingAndUnique() {
+        Set<UUID> seen = new HashSet<>();
+        UUID previous = TimeOrderedUuids.next();
+        seen.add(previous);
+
+        for (int i = 0; i < 20_000; i++) {
+            UUID current = TimeOrderedUuids.next();
+            assertTrue(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            assertTrue(seen.add(current));
+            previous = current;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.devsu.ws_account.config.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountLockManagerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AccountLockManager lockManager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lockManager = new AccountLockManager(8, meterRegistry);
+    }
+
+    @Test
+    void testWithLockReturnsResultAndReleases() {
+        UUID accountId = UUID.randomUUID();
+
+        String result = lockManager.withLock(accountId, () -> "done");
+
+        assertEquals("done", result);
+        assertEquals(0, lockManager.queueLength());
+        assertTrue(lockManager.hottestStripes(8).stream().noneMatch(AccountLockManager.StripeStats::locked));
+    }
+
+    @Test
+    void testWithLockReleasesOnException() {
+        UUID accountId = UUID.randomUUID();
+        Supplier<String> failingPosting = () -> {
+            throw new IllegalStateException("posting failed");
+        };
+
+        assertThrows(IllegalStateException.class, () -> lockManager.withLock(accountId, failingPosting));
+
+        assertTrue(lockManager.hottestStripes(8).stream().noneMatch(AccountLockManager.StripeStats::locked));
+    }
+
+    @Test
+    void testSameAccountIsSerialized() throws Exception {
+        UUID accountId = UUID.randomUUID();
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 50; j++) {
+                        lockManager.withLock(accountId, () -> {
+                            maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                            Thread.yield();
+                            inside.decrementAndGet();
+                        });
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, maxInside.get());
+        assertEquals(200, lockManager.hottestStripes(1).get(0).acquisitions());
+        assertEquals(200, meterRegistry.get("account.lock.wait").timer().count());
+    }
+
+    @Test
+    void testInvalidStripeCount() {
+        assertThrows(IllegalArgumentException.class, () -> new AccountLockManager(0, meterRegistry));
+    }
+}
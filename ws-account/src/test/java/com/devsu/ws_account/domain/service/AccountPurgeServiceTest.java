@@ -0,0 +1,114 @@
+package com.devsu.ws_account.domain.service;
+
+import com.devsu.ws_account.adapter.postgres.AccountPostgresAdapter;
+import com.devsu.ws_account.adapter.postgres.TransactionPostgresAdapter;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountPurgeJobDomain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class AccountPurgeServiceTest {
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private AccountPostgresAdapter accountAdapter;
+
+    @Mock
+    private TransactionPostgresAdapter transactionAdapter;
+
+    private AccountPurgeService accountPurgeService;
+
+    private UUID accountId;
+
+    @BeforeEach
+    void setUp() {
+        accountPurgeService = new AccountPurgeService(accountService, accountAdapter, transactionAdapter, 2, 60);
+        accountId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountPurgeService.stop();
+    }
+
+    @Test
+    void testRunDeletesInChunksAndRemovesAccount() {
+        when(transactionAdapter.countByAccount(accountId)).thenReturn(5L);
+        when(transactionAdapter.deleteChunkByAccount(accountId, 2)).thenReturn(2, 2, 1, 0);
+
+        accountPurgeService.run(pendingJob());
+
+        AccountPurgeJobDomain job = accountPurgeService.getJob(accountId);
+        assertEquals(AccountPurgeJobDomain.Status.COMPLETED, job.getStatus());
+        assertEquals(5L, job.getTotalTransactions());
+        assertEquals(5L, job.getDeletedTransactions());
+        assertNotNull(job.getFinishedAt());
+        verify(transactionAdapter, times(4)).deleteChunkByAccount(accountId, 2);
+        verify(accountService, times(1)).delete(accountId);
+    }
+
+    @Test
+    void testRunMarksJobFailed() {
+        when(transactionAdapter.countByAccount(accountId)).thenReturn(3L);
+        when(transactionAdapter.deleteChunkByAccount(accountId, 2))
+                .thenReturn(2)
+                .thenThrow(new DataBaseException(SPError.ACCOUNT_ADAPTER_DELETE_ERROR.getErrorCode(), "Error deleting chunk"));
+
+        accountPurgeService.run(pendingJob());
+
+        AccountPurgeJobDomain job = accountPurgeService.getJob(accountId);
+        assertEquals(AccountPurgeJobDomain.Status.FAILED, job.getStatus());
+        assertEquals(2L, job.getDeletedTransactions());
+        assertEquals("Error deleting chunk", job.getError());
+        verify(accountService, never()).delete(accountId);
+    }
+
+    @Test
+    void testStartRunsJobInBackground() throws Exception {
+        when(accountAdapter.existsById(accountId)).thenReturn(true);
+        when(transactionAdapter.countByAccount(accountId)).thenReturn(0L);
+        when(transactionAdapter.deleteChunkByAccount(accountId, 2)).thenReturn(0);
+
+        AccountPurgeJobDomain started = accountPurgeService.start(accountId);
+        assertEquals(accountId, started.getAccountId());
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!accountPurgeService.getJob(accountId).isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(AccountPurgeJobDomain.Status.COMPLETED, accountPurgeService.getJob(accountId).getStatus());
+        verify(accountService, times(1)).delete(accountId);
+    }
+
+    @Test
+    void testStartAccountNotFound() {
+        when(accountAdapter.existsById(accountId)).thenReturn(false);
+
+        DataBaseException exception = assertThrows(DataBaseException.class, () -> accountPurgeService.start(accountId));
+        assertEquals(SPError.ACCOUNT_ADAPTER_FIND_ERROR.getErrorCode(), exception.getErrorCode());
+        assertNull(accountPurgeService.getJob(accountId));
+    }
+
+    private AccountPurgeJobDomain pendingJob() {
+        return AccountPurgeJobDomain.builder()
+                .accountId(accountId)
+                .status(AccountPurgeJobDomain.Status.PENDING)
+                .build();
+    }
+}
@@ -2,6 +2,8 @@ package com.devsu.ws_account.domain.service;
 
 import com.devsu.ws_account.adapter.postgres.AccountPostgresAdapter;
 import com.devsu.ws_account.adapter.postgres.TransactionPostgresAdapter;
+import com.devsu.ws_account.application.port.out.ReferenceDataStorageRepository;
+import com.devsu.ws_account.config.catalog.ReferenceCatalog;
 import com.devsu.ws_account.config.exception.CustomException;
 import com.devsu.ws_account.config.exception.DataBaseException;
 import com.devsu.ws_account.config.exception.SPError;
@@ -31,16 +33,21 @@ class AccountServiceTest {
     @Mock
     private TransactionPostgresAdapter transactionAdapter;
 
+    @Mock
+    private ReferenceDataStorageRepository referenceDataAdapter;
+
     private AccountService accountService;
 
     private AccountDomain accountDomain;
 
     @BeforeEach
     void setUp() {
-        accountService = new AccountService(accountAdapter, transactionAdapter);
-
         AccountTypeDomain accountType = new AccountTypeDomain(1, "SAVINGS");
-        accountDomain = new AccountDomain(UUID.randomUUID(), "1234567890", accountType, BigDecimal.valueOf(1000), true, UUID.randomUUID());
+        lenient().when(referenceDataAdapter.getAccountTypes()).thenReturn(List.of(accountType));
+        lenient().when(referenceDataAdapter.getTransactionTypes()).thenReturn(List.of());
+        accountService = new AccountService(accountAdapter, transactionAdapter, new ReferenceCatalog(referenceDataAdapter));
+
+        accountDomain = new AccountDomain(UUID.randomUUID(), "1234567890", accountType, BigDecimal.valueOf(1000), BigDecimal.valueOf(1000), true, UUID.randomUUID(), 0L);
     }
 
     @Test
@@ -56,6 +63,16 @@ class AccountServiceTest {
         verify(accountAdapter, times(1)).save(any(AccountDomain.class));
     }
 
+    @Test
+    void testCreateAccountUnknownType() {
+        accountDomain.setAccountType(AccountTypeDomain.builder().id(9).build());
+
+        CustomException exception = assertThrows(CustomException.class, () -> accountService.create(accountDomain));
+
+        assertEquals(SPError.INVALID_ACCOUNT_TYPE.getErrorCode(), exception.getErrorCode());
+        verify(accountAdapter, never()).save(any(AccountDomain.class));
+    }
+
     @Test
     void testCreateAccountAlreadyExists() {
         when(accountAdapter.findByAccountNumber(anyString())).thenReturn(accountDomain);
@@ -82,6 +99,61 @@ class AccountServiceTest {
         verify(accountAdapter, times(1)).update(any(AccountDomain.class));
     }
 
+    @Test
+    void testUpdateAccountRejectsInitialBalanceChange() {
+        AccountDomain request = AccountDomain.builder()
+                .id(accountDomain.getId())
+                .accountNumber(accountDomain.getAccountNumber())
+                .accountType(accountDomain.getAccountType())
+                .initialBalance(BigDecimal.valueOf(5000))
+                .status(true)
+                .clientId(accountDomain.getClientId())
+                .build();
+        when(accountAdapter.getById(any(UUID.class))).thenReturn(accountDomain);
+
+        CustomException exception = assertThrows(CustomException.class, () -> accountService.update(request));
+
+        assertEquals(SPError.UNCHANGEABLE_ACCOUNT_DATA.getErrorCode(), exception.getErrorCode());
+        verify(accountAdapter, never()).update(any(AccountDomain.class));
+    }
+
+    @Test
+    void testUpdateAccountKeepsInitialBalanceWhenOmitted() {
+        AccountDomain request = AccountDomain.builder()
+                .id(accountDomain.getId())
+                .accountNumber(accountDomain.getAccountNumber())
+                .accountType(accountDomain.getAccountType())
+                .status(true)
+                .clientId(accountDomain.getClientId())
+                .build();
+        when(accountAdapter.getById(any(UUID.class))).thenReturn(accountDomain);
+        when(accountAdapter.update(any(AccountDomain.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        AccountDomain result = accountService.update(request);
+
+        assertEquals(accountDomain.getInitialBalance(), result.getInitialBalance());
+    }
+
+    @Test
+    void testUpdateAccountUsesVersionReadByService() {
+        AccountDomain request = AccountDomain.builder()
+                .id(accountDomain.getId())
+                .accountNumber(accountDomain.getAccountNumber())
+                .accountType(accountDomain.getAccountType())
+                .initialBalance(accountDomain.getInitialBalance())
+                .status(false)
+                .clientId(accountDomain.getClientId())
+                .build();
+        accountDomain.setVersion(3L);
+        when(accountAdapter.getById(any(UUID.class))).thenReturn(accountDomain);
+        when(accountAdapter.update(any(AccountDomain.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        AccountDomain result = accountService.update(request);
+
+        assertEquals(3L, result.getVersion());
+        assertEquals(accountDomain.getCurrentBalance(), result.getCurrentBalance());
+    }
+
     @Test
     void testUpdateAccountNotFound() {
         when(accountAdapter.getById(any(UUID.class))).thenReturn(null);
@@ -97,22 +169,23 @@ class AccountServiceTest {
     @Test
     void testDeleteAccountSuccess() {
         when(accountAdapter.getById(any(UUID.class))).thenReturn(accountDomain);
-        when(transactionAdapter.getTransactionsByAccount(any(AccountDomain.class))).thenReturn(List.of());
+        when(transactionAdapter.deleteByAccount(any(UUID.class))).thenReturn(0);
 
         assertDoesNotThrow(() -> accountService.delete(accountDomain.getId()));
         verify(accountAdapter, times(1)).getById(any(UUID.class));
-        verify(transactionAdapter, times(1)).getTransactionsByAccount(any(AccountDomain.class));
+        verify(transactionAdapter, times(1)).deleteByAccount(accountDomain.getId());
         verify(accountAdapter, times(1)).delete(any(UUID.class));
     }
 
     @Test
     void testDeleteAccountWithTransactions() {
         when(accountAdapter.getById(any(UUID.class))).thenReturn(accountDomain);
-        when(transactionAdapter.getTransactionsByAccount(any(AccountDomain.class))).thenReturn(List.of());
+        when(transactionAdapter.deleteByAccount(any(UUID.class))).thenReturn(3);
 
         assertDoesNotThrow(() -> accountService.delete(accountDomain.getId()));
         verify(accountAdapter, times(1)).getById(any(UUID.class));
-        verify(transactionAdapter, times(1)).getTransactionsByAccount(any(AccountDomain.class));
+        verify(transactionAdapter, times(1)).deleteByAccount(accountDomain.getId());
+        verify(transactionAdapter, never()).delete(any(UUID.class));
         verify(accountAdapter, times(1)).delete(any(UUID.class));
     }
 
@@ -125,14 +198,14 @@ class AccountServiceTest {
         assertEquals(SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorCode(), exception.getErrorCode());
         assertEquals("Account with ID " + accountDomain.getId() + " does not exist", exception.getMessage());
         verify(accountAdapter, times(1)).getById(any(UUID.class));
-        verify(transactionAdapter, never()).getTransactionsByAccount(any(AccountDomain.class));
+        verify(transactionAdapter, never()).deleteByAccount(any(UUID.class));
         verify(accountAdapter, never()).delete(any(UUID.class));
     }
 
     @Test
     void testDeleteAccountWithTransactionsFailure() {
         when(accountAdapter.getById(any(UUID.class))).thenReturn(accountDomain);
-        when(transactionAdapter.getTransactionsByAccount(any(AccountDomain.class))).thenReturn(List.of());
+        when(transactionAdapter.deleteByAccount(any(UUID.class))).thenReturn(0);
         doThrow(new DataBaseException(SPError.ACCOUNT_ADAPTER_DELETE_ERROR.getErrorCode(), "Error deleting account")).when(accountAdapter).delete(any(UUID.class));
 
         DataBaseException exception = assertThrows(DataBaseException.class, () -> accountService.delete(accountDomain.getId()));
@@ -140,7 +213,7 @@ class AccountServiceTest {
         assertEquals(SPError.ACCOUNT_ADAPTER_DELETE_ERROR.getErrorCode(), exception.getErrorCode());
         assertEquals("Error deleting account", exception.getMessage());
         verify(accountAdapter, times(1)).getById(any(UUID.class));
-        verify(transactionAdapter, times(1)).getTransactionsByAccount(any(AccountDomain.class));
+        verify(transactionAdapter, times(1)).deleteByAccount(accountDomain.getId());
         verify(accountAdapter, times(1)).delete(any(UUID.class));
     }
 }
@@ -0,0 +1,100 @@
+package com.devsu.ws_account.domain.service;
+
+import com.devsu.ws_account.adapter.postgres.AccountPostgresAdapter;
+import com.devsu.ws_account.adapter.postgres.TransactionPostgresAdapter;
+import com.devsu.ws_account.application.port.out.BalanceSnapshotStorageRepository;
+import com.devsu.ws_account.domain.AccountBalanceDomain;
+import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.BalanceSnapshotDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class BalanceSnapshotServiceTest {
+
+    @Mock
+    private BalanceSnapshotStorageRepository snapshotAdapter;
+
+    @Mock
+    private AccountPostgresAdapter accountAdapter;
+
+    @Mock
+    private TransactionPostgresAdapter transactionAdapter;
+
+    private BalanceSnapshotService balanceSnapshotService;
+
+    private AccountDomain accountDomain;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        balanceSnapshotService = new BalanceSnapshotService(snapshotAdapter, accountAdapter, transactionAdapter);
+        accountDomain = new AccountDomain(UUID.randomUUID(), "1234567890", null, BigDecimal.valueOf(1000), BigDecimal.valueOf(1800), true, UUID.randomUUID(), 0L);
+        date = LocalDate.of(2024, 3, 15);
+    }
+
+    @Test
+    void testGetBalanceAtFromSnapshotPlusDelta() {
+        BalanceSnapshotDomain snapshot = new BalanceSnapshotDomain(UUID.randomUUID(), accountDomain.getId(), LocalDate.of(2024, 3, 10), BigDecimal.valueOf(1500));
+        when(accountAdapter.getById(accountDomain.getId())).thenReturn(accountDomain);
+        when(snapshotAdapter.findLatest(accountDomain.getId(), date)).thenReturn(snapshot);
+        when(transactionAdapter.sumAmounts(eq(accountDomain.getId()), any(Date.class), any(Date.class))).thenReturn(BigDecimal.valueOf(-200));
+
+        AccountBalanceDomain result = balanceSnapshotService.getBalanceAt(accountDomain.getId(), date);
+
+        assertEquals(BigDecimal.valueOf(1300), result.getBalance());
+        assertEquals(date, result.getDate());
+        verify(transactionAdapter, times(1)).sumAmounts(accountDomain.getId(), startOfDay(LocalDate.of(2024, 3, 11)), startOfDay(LocalDate.of(2024, 3, 16)));
+    }
+
+    @Test
+    void testGetBalanceAtWithoutSnapshotStartsFromInitialBalance() {
+        when(accountAdapter.getById(accountDomain.getId())).thenReturn(accountDomain);
+        when(snapshotAdapter.findLatest(accountDomain.getId(), date)).thenReturn(null);
+        when(transactionAdapter.sumAmounts(eq(accountDomain.getId()), isNull(), any(Date.class))).thenReturn(BigDecimal.valueOf(250));
+
+        AccountBalanceDomain result = balanceSnapshotService.getBalanceAt(accountDomain.getId(), date);
+
+        assertEquals(BigDecimal.valueOf(1250), result.getBalance());
+        verify(transactionAdapter, times(1)).sumAmounts(eq(accountDomain.getId()), isNull(), eq(startOfDay(LocalDate.of(2024, 3, 16))));
+    }
+
+    @Test
+    void testGetBalanceAtWithoutSnapshotOrInitialBalanceStartsFromZero() {
+        accountDomain.setInitialBalance(null);
+        when(accountAdapter.getById(accountDomain.getId())).thenReturn(accountDomain);
+        when(snapshotAdapter.findLatest(accountDomain.getId(), date)).thenReturn(null);
+        when(transactionAdapter.sumAmounts(eq(accountDomain.getId()), isNull(), any(Date.class))).thenReturn(BigDecimal.valueOf(250));
+
+        AccountBalanceDomain result = balanceSnapshotService.getBalanceAt(accountDomain.getId(), date);
+
+        assertEquals(BigDecimal.valueOf(250), result.getBalance());
+    }
+
+    @Test
+    void testRefreshSnapshotsOnlyClosesPastDays() {
+        when(snapshotAdapter.refreshUntil(any(Date.class))).thenReturn(3);
+
+        balanceSnapshotService.refreshSnapshots();
+
+        verify(snapshotAdapter, times(1)).refreshUntil(startOfDay(LocalDate.now()));
+    }
+
+    private Date startOfDay(LocalDate day) {
+        return Date.from(day.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,195 @@
+package com.devsu.ws_account.domain.service;
+
+import com.devsu.ws_account.config.exception.CustomException;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.TransactionBatchResultDomain;
+import com.devsu.ws_account.domain.TransactionDomain;
+import com.devsu.ws_account.domain.TransactionTypeDomain;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class TransactionGroupCommitServiceTest {
+
+    @Mock
+    private TransactionService transactionService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TransactionGroupCommitService groupCommitService;
+
+    private AccountDomain account;
+    private AccountDomain missingAccount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        groupCommitService = new TransactionGroupCommitService(transactionService, meterRegistry, true, 16, 1, 100, 30000);
+        account = AccountDomain.builder().id(UUID.randomUUID()).accountNumber("1234567890").build();
+        missingAccount = AccountDomain.builder().id(UUID.randomUUID()).accountNumber("0000000000").build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        groupCommitService.stop();
+    }
+
+    @Test
+    void testFlushCompletesEachCallerWithItsOwnOutcome() {
+        TransactionGroupCommitService.PendingPosting accepted = pending(account, 100);
+        TransactionGroupCommitService.PendingPosting rejected = pending(account, 5000);
+        TransactionGroupCommitService.PendingPosting failed = pending(missingAccount, 10);
+        DataBaseException notFound = new DataBaseException(SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorCode(), "Account does not exist");
+
+        when(transactionService.postGroups(anyMap())).thenReturn(Map.of(
+                account.getId(), new TransactionService.GroupOutcome(List.of(
+                        TransactionBatchResultDomain.builder().index(0).accepted(true).transaction(accepted.transaction()).build(),
+                        TransactionBatchResultDomain.builder().index(1).accepted(false).error("Insufficient funds for this transaction").build()), null),
+                missingAccount.getId(), new TransactionService.GroupOutcome(List.of(), notFound)));
+
+        groupCommitService.flush(List.of(accepted, rejected, failed));
+
+        assertSame(accepted.transaction(), accepted.future().join());
+        CompletionException insufficient = assertThrows(CompletionException.class, () -> rejected.future().join());
+        assertEquals(SPError.BALANCE_NOT_AVAILABLE_FOR_TRANSACTION.getErrorCode(), ((CustomException) insufficient.getCause()).getErrorCode());
+        CompletionException missing = assertThrows(CompletionException.class, () -> failed.future().join());
+        assertSame(notFound, missing.getCause());
+        verify(transactionService, times(1)).postGroups(anyMap());
+        assertEquals(3, meterRegistry.get("transaction.group_commit.batch_size").summary().totalAmount());
+    }
+
+    @Test
+    void testFlushFailureFailsWholeBatch() {
+        TransactionGroupCommitService.PendingPosting first = pending(account, 100);
+        TransactionGroupCommitService.PendingPosting second = pending(missingAccount, 100);
+        RuntimeException failure = new RuntimeException("Connection lost");
+        when(transactionService.postGroups(anyMap())).thenThrow(failure);
+
+        groupCommitService.flush(List.of(first, second));
+
+        assertSame(failure, assertThrows(CompletionException.class, () -> first.future().join()).getCause());
+        assertSame(failure, assertThrows(CompletionException.class, () -> second.future().join()).getCause());
+    }
+
+    @Test
+    void testFlushWithoutOutcomeFailsOnlyThatAccount() {
+        TransactionGroupCommitService.PendingPosting accepted = pending(account, 100);
+        TransactionGroupCommitService.PendingPosting orphan = pending(missingAccount, 100);
+        when(transactionService.postGroups(anyMap())).thenReturn(Map.of(account.getId(), new TransactionService.GroupOutcome(List.of(
+                TransactionBatchResultDomain.builder().index(0).accepted(true).transaction(accepted.transaction()).build()), null)));
+
+        groupCommitService.flush(List.of(accepted, orphan));
+
+        assertSame(accepted.transaction(), accepted.future().join());
+        CompletionException missing = assertThrows(CompletionException.class, () -> orphan.future().join());
+        assertEquals(SPError.GENERIC_ERROR.getErrorCode(), ((CustomException) missing.getCause()).getErrorCode());
+    }
+
+    @Test
+    void testFlusherSurvivesUnexpectedError() {
+        StackOverflowError error = new StackOverflowError();
+        when(transactionService.postGroups(anyMap())).thenThrow(error).thenAnswer(invocation -> {
+            Map<UUID, List<TransactionDomain>> groups = invocation.getArgument(0);
+            TransactionDomain posted = groups.get(account.getId()).get(0);
+            return Map.of(account.getId(), new TransactionService.GroupOutcome(List.of(
+                    TransactionBatchResultDomain.builder().index(0).accepted(true).transaction(posted).build()), null));
+        });
+        groupCommitService.start();
+
+        CustomException failed = assertThrows(CustomException.class, () -> groupCommitService.submit(pending(account, 100).transaction()));
+        TransactionDomain transaction = pending(account, 100).transaction();
+        TransactionDomain result = groupCommitService.submit(transaction);
+
+        assertSame(error, failed.getCause());
+        assertSame(transaction, result);
+    }
+
+    @Test
+    void testSubmitTimesOutWhenFlushHangs() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        when(transactionService.postGroups(anyMap())).thenAnswer(invocation -> {
+            release.await();
+            return Map.of();
+        });
+        TransactionGroupCommitService shortTimeout = new TransactionGroupCommitService(transactionService, meterRegistry, true, 16, 1, 100, 50);
+        shortTimeout.start();
+        try {
+            CustomException exception = assertThrows(CustomException.class, () -> shortTimeout.submit(pending(account, 100).transaction()));
+
+            assertEquals("Timed out waiting for group commit, transaction outcome unknown", exception.getMessage());
+        } finally {
+            release.countDown();
+            shortTimeout.stop();
+        }
+    }
+
+    @Test
+    void testSubmitFailsWhenNotStarted() {
+        CustomException exception = assertThrows(CustomException.class, () -> groupCommitService.submit(pending(account, 100).transaction()));
+
+        assertEquals(SPError.GENERIC_ERROR.getErrorCode(), exception.getErrorCode());
+        verify(transactionService, never()).postGroups(anyMap());
+    }
+
+    @Test
+    void testSubmitReturnsPostedTransaction() {
+        TransactionDomain transaction = pending(account, 100).transaction();
+        when(transactionService.postGroups(anyMap())).thenAnswer(invocation -> {
+            Map<UUID, List<TransactionDomain>> groups = invocation.getArgument(0);
+            TransactionDomain posted = groups.get(account.getId()).get(0);
+            return Map.of(account.getId(), new TransactionService.GroupOutcome(List.of(
+                    TransactionBatchResultDomain.builder().index(0).accepted(true).transaction(posted).build()), null));
+        });
+        groupCommitService.start();
+
+        TransactionDomain result = groupCommitService.submit(transaction);
+
+        assertSame(transaction, result);
+    }
+
+    @Test
+    void testSubmitRethrowsCallerError() {
+        when(transactionService.postGroups(anyMap())).thenReturn(Map.of(account.getId(), new TransactionService.GroupOutcome(List.of(
+                TransactionBatchResultDomain.builder().index(0).accepted(false).error("Insufficient funds for this transaction").build()), null)));
+        groupCommitService.start();
+
+        CustomException exception = assertThrows(CustomException.class, () -> groupCommitService.submit(pending(account, 5000).transaction()));
+
+        assertEquals("Insufficient funds for this transaction", exception.getMessage());
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        TransactionGroupCommitService disabled = new TransactionGroupCommitService(transactionService, meterRegistry, false, 16, 1, 100, 30000);
+
+        assertFalse(disabled.isEnabled());
+    }
+
+    private TransactionGroupCommitService.PendingPosting pending(AccountDomain accountDomain, long amount) {
+        TransactionDomain transaction = TransactionDomain.builder()
+                .transactionType(new TransactionTypeDomain(2, "WITHDRAWAL", true))
+                .amount(BigDecimal.valueOf(amount))
+                .account(accountDomain)
+                .build();
+        return new TransactionGroupCommitService.PendingPosting(transaction, new CompletableFuture<>());
+    }
+}
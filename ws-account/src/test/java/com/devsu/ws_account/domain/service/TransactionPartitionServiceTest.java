@@ -0,0 +1,88 @@
+package com.devsu.ws_account.domain.service;
+
+import com.devsu.ws_account.adapter.postgres.TransactionPartitionPostgresAdapter;
+import com.devsu.ws_account.config.exception.DataBaseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class TransactionPartitionServiceTest {
+
+    @Mock
+    private TransactionPartitionPostgresAdapter partitionAdapter;
+
+    private YearMonth current;
+
+    @BeforeEach
+    void setUp() {
+        current = YearMonth.of(2024, 3);
+    }
+
+    @Test
+    void testCreatesMissingMonthsAhead() {
+        TransactionPartitionService service = new TransactionPartitionService(partitionAdapter, true, 2, 0);
+        when(partitionAdapter.isPartitioned()).thenReturn(true);
+        when(partitionAdapter.getMonths()).thenReturn(List.of(YearMonth.of(2024, 2), YearMonth.of(2024, 3)));
+
+        service.maintainPartitions(current);
+
+        verify(partitionAdapter).createMonth(YearMonth.of(2024, 4));
+        verify(partitionAdapter).createMonth(YearMonth.of(2024, 5));
+        verify(partitionAdapter, never()).createMonth(YearMonth.of(2024, 3));
+        verify(partitionAdapter, never()).detachMonth(any(YearMonth.class));
+    }
+
+    @Test
+    void testDetachesMonthsBeforeRetention() {
+        TransactionPartitionService service = new TransactionPartitionService(partitionAdapter, true, 0, 12);
+        when(partitionAdapter.isPartitioned()).thenReturn(true);
+        when(partitionAdapter.getMonths()).thenReturn(List.of(YearMonth.of(2023, 2), YearMonth.of(2023, 3),
+                YearMonth.of(2023, 4), YearMonth.of(2024, 3)));
+
+        service.maintainPartitions(current);
+
+        verify(partitionAdapter).detachMonth(YearMonth.of(2023, 2));
+        verify(partitionAdapter, never()).detachMonth(YearMonth.of(2023, 3));
+        verify(partitionAdapter, never()).detachMonth(YearMonth.of(2023, 4));
+        verify(partitionAdapter, never()).createMonth(any(YearMonth.class));
+    }
+
+    @Test
+    void testSkipsTableThatIsNotPartitioned() {
+        TransactionPartitionService service = new TransactionPartitionService(partitionAdapter, true, 3, 12);
+        when(partitionAdapter.isPartitioned()).thenReturn(false);
+
+        service.maintainPartitions(current);
+
+        verify(partitionAdapter, never()).getMonths();
+        verify(partitionAdapter, never()).createMonth(any(YearMonth.class));
+    }
+
+    @Test
+    void testDisabledDoesNothing() {
+        TransactionPartitionService service = new TransactionPartitionService(partitionAdapter, false, 3, 12);
+
+        service.maintainPartitions(current);
+
+        verifyNoInteractions(partitionAdapter);
+    }
+
+    @Test
+    void testScheduledRunLogsFailures() {
+        TransactionPartitionService service = new TransactionPartitionService(partitionAdapter, true, 3, 0);
+        when(partitionAdapter.isPartitioned()).thenThrow(new DataBaseException(1034, "Error"));
+
+        assertDoesNotThrow(() -> service.maintainPartitions());
+    }
+}
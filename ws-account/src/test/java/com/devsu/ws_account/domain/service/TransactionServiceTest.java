@@ -2,12 +2,18 @@ package com.devsu.ws_account.domain.service;
 
 import com.devsu.ws_account.adapter.postgres.AccountPostgresAdapter;
 import com.devsu.ws_account.adapter.postgres.TransactionPostgresAdapter;
+import com.devsu.ws_account.application.port.out.BalanceSnapshotStorageRepository;
+import com.devsu.ws_account.application.port.out.ReferenceDataStorageRepository;
+import com.devsu.ws_account.config.catalog.ReferenceCatalog;
 import com.devsu.ws_account.config.exception.CustomException;
 import com.devsu.ws_account.config.exception.DataBaseException;
 import com.devsu.ws_account.config.exception.SPError;
+import com.devsu.ws_account.config.lock.AccountLockManager;
 import com.devsu.ws_account.domain.AccountDomain;
+import com.devsu.ws_account.domain.TransactionBatchResultDomain;
 import com.devsu.ws_account.domain.TransactionDomain;
 import com.devsu.ws_account.domain.TransactionTypeDomain;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,7 +21,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,6 +40,12 @@ class TransactionServiceTest {
     @Mock
     private AccountPostgresAdapter accountAdapter;
 
+    @Mock
+    private BalanceSnapshotStorageRepository snapshotAdapter;
+
+    @Mock
+    private ReferenceDataStorageRepository referenceDataAdapter;
+
     private TransactionService transactionService;
 
     private AccountDomain accountDomain;
@@ -37,48 +53,51 @@ class TransactionServiceTest {
 
     @BeforeEach
     void setUp() {
-        transactionService = new TransactionService(transactionAdapter, accountAdapter);
-
-        accountDomain = new AccountDomain(UUID.randomUUID(), "1234567890", null, BigDecimal.valueOf(1000), true, UUID.randomUUID());
-        TransactionTypeDomain transactionType = new TransactionTypeDomain(1, "DEPOSIT");
-        transactionDomain = new TransactionDomain(UUID.randomUUID(), new Date(), transactionType, BigDecimal.valueOf(500), BigDecimal.valueOf(1500), accountDomain);
+        lenient().when(referenceDataAdapter.getAccountTypes()).thenReturn(List.of());
+        lenient().when(referenceDataAdapter.getTransactionTypes()).thenReturn(List.of(
+                new TransactionTypeDomain(1, "DEPOSIT", false), new TransactionTypeDomain(2, "WITHDRAWAL", true)));
+        transactionService = new TransactionService(transactionAdapter, accountAdapter, snapshotAdapter,
+                new AccountLockManager(16, new SimpleMeterRegistry()), new ReferenceCatalog(referenceDataAdapter));
+
+        accountDomain = new AccountDomain(UUID.randomUUID(), "1234567890", null, BigDecimal.valueOf(1000), BigDecimal.valueOf(1000), true, UUID.randomUUID(), 0L);
+        TransactionTypeDomain transactionType = new TransactionTypeDomain(1, "DEPOSIT", false);
+        transactionDomain = new TransactionDomain(UUID.randomUUID(), new Date(), transactionType, BigDecimal.valueOf(500), BigDecimal.valueOf(1500), accountDomain, 7L, 0L);
     }
 
     @Test
     void testCreateTransactionSuccess() {
-        when(accountAdapter.getById(any(UUID.class))).thenReturn(accountDomain);
-        when(transactionAdapter.getLastTransactionByAccount(any(AccountDomain.class))).thenReturn(null);
-        when(transactionAdapter.save(any(TransactionDomain.class))).thenReturn(transactionDomain);
+        when(transactionAdapter.post(any(TransactionDomain.class))).thenReturn(transactionDomain);
 
         TransactionDomain result = transactionService.create(transactionDomain);
 
         assertNotNull(result);
         assertEquals(transactionDomain.getId(), result.getId());
-        verify(accountAdapter, times(3)).getById(any(UUID.class));
-        verify(transactionAdapter, times(1)).getLastTransactionByAccount(any(AccountDomain.class));
-        verify(transactionAdapter, times(1)).save(any(TransactionDomain.class));
+        verify(transactionAdapter, times(1)).post(any(TransactionDomain.class));
+        verify(accountAdapter, never()).getById(any(UUID.class));
+        verify(transactionAdapter, never()).getLastTransactionByAccount(any(AccountDomain.class));
     }
 
     @Test
     void testCreateTransactionAccountNotFound() {
+        when(transactionAdapter.post(any(TransactionDomain.class))).thenReturn(null);
         when(accountAdapter.getById(any(UUID.class))).thenReturn(null);
 
         DataBaseException exception = assertThrows(DataBaseException.class, () -> transactionService.create(transactionDomain));
 
         assertEquals(SPError.ACCOUNT_ADAPTER_SAVE_ERROR.getErrorCode(), exception.getErrorCode());
         assertEquals("Account does not exist", exception.getMessage());
+        verify(transactionAdapter, times(1)).post(any(TransactionDomain.class));
         verify(accountAdapter, times(1)).getById(any(UUID.class));
-        verify(transactionAdapter, never()).save(any(TransactionDomain.class));
     }
 
     @Test
     void testCreateTransactionInsufficientFunds() {
+        when(transactionAdapter.post(any(TransactionDomain.class))).thenReturn(null);
         when(accountAdapter.getById(any(UUID.class))).thenReturn(accountDomain);
-        when(transactionAdapter.getLastTransactionByAccount(any(AccountDomain.class))).thenReturn(transactionDomain);
 
         TransactionDomain withdrawalTransaction = TransactionDomain.builder()
                 .id(UUID.randomUUID())
-                .transactionType(new TransactionTypeDomain(2, "WITHDRAWAL"))
+                .transactionType(new TransactionTypeDomain(2, "WITHDRAWAL", true))
                 .amount(BigDecimal.valueOf(2000))  // Attempt to withdraw more than the balance
                 .account(accountDomain)
                 .build();
@@ -87,31 +106,194 @@ class TransactionServiceTest {
 
         assertEquals(SPError.BALANCE_NOT_AVAILABLE_FOR_TRANSACTION.getErrorCode(), exception.getErrorCode());
         assertEquals("Insufficient funds for this transaction", exception.getMessage());
-        verify(accountAdapter, times(2)).getById(any(UUID.class));
-        verify(transactionAdapter, times(1)).getLastTransactionByAccount(any(AccountDomain.class));
-        verify(transactionAdapter, never()).save(any(TransactionDomain.class));
+        assertEquals(BigDecimal.valueOf(-2000), withdrawalTransaction.getAmount());
+        verify(transactionAdapter, times(1)).post(any(TransactionDomain.class));
+        verify(accountAdapter, times(1)).getById(any(UUID.class));
+    }
+
+    @Test
+    void testCreateTransactionUnknownType() {
+        TransactionDomain unknownType = TransactionDomain.builder()
+                .transactionType(TransactionTypeDomain.builder().id(9).build())
+                .amount(BigDecimal.valueOf(100))
+                .account(accountDomain)
+                .build();
+
+        CustomException exception = assertThrows(CustomException.class, () -> transactionService.create(unknownType));
+
+        assertEquals(SPError.INVALID_TRANSACTION_TYPE.getErrorCode(), exception.getErrorCode());
+        verify(transactionAdapter, never()).post(any(TransactionDomain.class));
+    }
+
+    @Test
+    void testCreateTransactionResolvesTypeFromCatalog() {
+        when(transactionAdapter.post(any(TransactionDomain.class))).thenReturn(transactionDomain);
+        TransactionDomain withdrawal = TransactionDomain.builder()
+                .transactionType(TransactionTypeDomain.builder().id(2).build())
+                .amount(BigDecimal.valueOf(100))
+                .account(accountDomain)
+                .build();
+
+        transactionService.create(withdrawal);
+
+        assertEquals("WITHDRAWAL", withdrawal.getTransactionType().getName());
+        assertEquals(BigDecimal.valueOf(-100), withdrawal.getAmount());
+    }
+
+    @Test
+    void testPostBatchRejectsUnknownType() {
+        TransactionDomain unknownType = TransactionDomain.builder()
+                .transactionType(TransactionTypeDomain.builder().id(9).build())
+                .amount(BigDecimal.valueOf(100))
+                .account(accountDomain)
+                .build();
+        when(accountAdapter.getByIdForUpdate(accountDomain.getId())).thenReturn(accountDomain);
+
+        List<TransactionBatchResultDomain> results = transactionService.postBatch(accountDomain.getId(), List.of(unknownType));
+
+        assertFalse(results.get(0).getAccepted());
+        assertEquals(SPError.INVALID_TRANSACTION_TYPE.getErrorMessage(), results.get(0).getError());
+        verify(transactionAdapter, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testPostBatchRejectsOnlyOverdrawingItems() {
+        TransactionDomain withdrawal = TransactionDomain.builder()
+                .transactionType(new TransactionTypeDomain(2, "WITHDRAWAL", true))
+                .amount(BigDecimal.valueOf(800))
+                .account(accountDomain)
+                .build();
+        TransactionDomain overdraft = TransactionDomain.builder()
+                .transactionType(new TransactionTypeDomain(2, "WITHDRAWAL", true))
+                .amount(BigDecimal.valueOf(300))
+                .account(accountDomain)
+                .build();
+        TransactionDomain deposit = TransactionDomain.builder()
+                .transactionType(new TransactionTypeDomain(1, "DEPOSIT", false))
+                .amount(BigDecimal.valueOf(50))
+                .account(accountDomain)
+                .build();
+
+        when(accountAdapter.getByIdForUpdate(accountDomain.getId())).thenReturn(accountDomain);
+        when(accountAdapter.applyMovements(any(UUID.class), any(BigDecimal.class), anyInt())).thenReturn(12L);
+
+        List<TransactionBatchResultDomain> results = transactionService.postBatch(accountDomain.getId(), List.of(withdrawal, overdraft, deposit));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).getAccepted());
+        assertFalse(results.get(1).getAccepted());
+        assertEquals("Insufficient funds for this transaction", results.get(1).getError());
+        assertTrue(results.get(2).getAccepted());
+        assertEquals(BigDecimal.valueOf(200), withdrawal.getBalance());
+        assertEquals(BigDecimal.valueOf(250), deposit.getBalance());
+        assertEquals(withdrawal.getDate(), deposit.getDate());
+        verify(transactionAdapter, times(1)).saveAll(List.of(withdrawal, deposit));
+        assertEquals(11L, withdrawal.getSeq());
+        assertEquals(12L, deposit.getSeq());
+        verify(accountAdapter, times(1)).applyMovements(accountDomain.getId(), BigDecimal.valueOf(-750), 2);
+    }
+
+    @Test
+    void testPostBatchAccountNotFound() {
+        when(accountAdapter.getByIdForUpdate(any(UUID.class))).thenReturn(null);
+
+        DataBaseException exception = assertThrows(DataBaseException.class,
+                () -> transactionService.postBatch(UUID.randomUUID(), List.of(transactionDomain)));
+
+        assertEquals("Account does not exist", exception.getMessage());
+        verify(transactionAdapter, never()).saveAll(anyList());
+    }
+
+    @Test
+    void testPostGroupsIsolatesFailedGroup() {
+        UUID missingAccountId = UUID.randomUUID();
+        TransactionDomain deposit = TransactionDomain.builder()
+                .transactionType(new TransactionTypeDomain(1, "DEPOSIT", false))
+                .amount(BigDecimal.valueOf(50))
+                .account(accountDomain)
+                .build();
+
+        when(accountAdapter.getByIdForUpdate(accountDomain.getId())).thenReturn(accountDomain);
+        when(accountAdapter.getByIdForUpdate(missingAccountId)).thenReturn(null);
+        when(accountAdapter.applyMovements(any(UUID.class), any(BigDecimal.class), anyInt())).thenReturn(1L);
+
+        Map<UUID, List<TransactionDomain>> groups = new LinkedHashMap<>();
+        groups.put(missingAccountId, List.of(transactionDomain));
+        groups.put(accountDomain.getId(), List.of(deposit));
+        Map<UUID, TransactionService.GroupOutcome> outcomes = transactionService.postGroups(groups);
+
+        assertInstanceOf(DataBaseException.class, outcomes.get(missingAccountId).error());
+        assertNull(outcomes.get(accountDomain.getId()).error());
+        assertTrue(outcomes.get(accountDomain.getId()).results().get(0).getAccepted());
+        verify(transactionAdapter, times(1)).saveAll(List.of(deposit));
+    }
+
+    @Test
+    void testPostGroupsTakesNoLockStripe() {
+        AccountLockManager lockManager = mock(AccountLockManager.class);
+        TransactionService service = new TransactionService(transactionAdapter, accountAdapter, snapshotAdapter,
+                lockManager, new ReferenceCatalog(referenceDataAdapter));
+        TransactionDomain deposit = TransactionDomain.builder()
+                .transactionType(new TransactionTypeDomain(1, "DEPOSIT", false))
+                .amount(BigDecimal.valueOf(50))
+                .account(accountDomain)
+                .build();
+        when(accountAdapter.getByIdForUpdate(accountDomain.getId())).thenReturn(accountDomain);
+        when(accountAdapter.applyMovements(any(UUID.class), any(BigDecimal.class), anyInt())).thenReturn(1L);
+
+        Map<UUID, TransactionService.GroupOutcome> outcomes = service.postGroups(Map.of(accountDomain.getId(), List.of(deposit)));
+
+        assertNull(outcomes.get(accountDomain.getId()).error());
+        verify(accountAdapter, times(1)).getByIdForUpdate(accountDomain.getId());
+        verifyNoInteractions(lockManager);
     }
 
     @Test
     void testUpdateTransactionSuccess() {
         when(accountAdapter.getById(any(UUID.class))).thenReturn(accountDomain);
         when(transactionAdapter.getLastTransactionByAccount(any(AccountDomain.class))).thenReturn(transactionDomain);
+        when(accountAdapter.adjustBalance(any(UUID.class), anyLong(), any(BigDecimal.class))).thenReturn(true);
         when(transactionAdapter.update(any(TransactionDomain.class))).thenReturn(transactionDomain);
+        Date postedAt = new Date(1_000L);
+        transactionDomain.setDate(postedAt);
 
         TransactionDomain result = transactionService.update(transactionDomain);
 
         assertNotNull(result);
         assertEquals(transactionDomain.getId(), result.getId());
+        assertEquals(postedAt, result.getDate());
         verify(accountAdapter, times(1)).getById(any(UUID.class));
         verify(transactionAdapter, times(1)).getLastTransactionByAccount(any(AccountDomain.class));
+        verify(accountAdapter, times(1)).adjustBalance(accountDomain.getId(), 7L, BigDecimal.ZERO);
+        verify(snapshotAdapter, times(1)).deleteFrom(eq(accountDomain.getId()), any(LocalDate.class));
         verify(transactionAdapter, times(1)).update(any(TransactionDomain.class));
     }
 
+    @Test
+    void testUpdateTransactionInsufficientFunds() {
+        TransactionDomain withdrawalUpdate = TransactionDomain.builder()
+                .id(transactionDomain.getId())
+                .transactionType(new TransactionTypeDomain(2, "WITHDRAWAL", true))
+                .amount(BigDecimal.valueOf(900))
+                .account(accountDomain)
+                .build();
+
+        when(accountAdapter.getById(any(UUID.class))).thenReturn(accountDomain);
+        when(transactionAdapter.getLastTransactionByAccount(any(AccountDomain.class))).thenReturn(transactionDomain);
+        when(accountAdapter.adjustBalance(any(UUID.class), anyLong(), any(BigDecimal.class))).thenReturn(false);
+
+        CustomException exception = assertThrows(CustomException.class, () -> transactionService.update(withdrawalUpdate));
+
+        assertEquals(SPError.BALANCE_NOT_AVAILABLE_FOR_TRANSACTION.getErrorCode(), exception.getErrorCode());
+        verify(snapshotAdapter, never()).deleteFrom(any(UUID.class), any(LocalDate.class));
+        verify(transactionAdapter, never()).update(any(TransactionDomain.class));
+    }
+
     @Test
     void testUpdateTransactionNotLastTransaction() {
         TransactionDomain otherTransaction = TransactionDomain.builder()
                 .id(UUID.randomUUID())
-                .transactionType(new TransactionTypeDomain(2, "WITHDRAWAL"))
+                .transactionType(new TransactionTypeDomain(2, "WITHDRAWAL", true))
                 .amount(BigDecimal.valueOf(100))
                 .account(accountDomain)
                 .build();
@@ -132,11 +314,14 @@ class TransactionServiceTest {
     void testDeleteTransactionSuccess() {
         when(transactionAdapter.getById(any(UUID.class))).thenReturn(transactionDomain);
         when(transactionAdapter.getLastTransactionByAccount(any(AccountDomain.class))).thenReturn(transactionDomain);
+        when(accountAdapter.revertLastMovement(any(UUID.class), anyLong(), any(BigDecimal.class))).thenReturn(true);
         doNothing().when(transactionAdapter).delete(any(UUID.class));
 
         assertDoesNotThrow(() -> transactionService.delete(transactionDomain.getId()));
         verify(transactionAdapter, times(1)).getById(any(UUID.class));
         verify(transactionAdapter, times(1)).getLastTransactionByAccount(any(AccountDomain.class));
+        verify(accountAdapter, times(1)).revertLastMovement(accountDomain.getId(), 7L, BigDecimal.valueOf(-500));
+        verify(snapshotAdapter, times(1)).deleteFrom(eq(accountDomain.getId()), any(LocalDate.class));
         verify(transactionAdapter, times(1)).delete(any(UUID.class));
     }
 
@@ -144,7 +329,7 @@ class TransactionServiceTest {
     void testDeleteTransactionNotLastTransaction() {
         TransactionDomain otherTransaction = TransactionDomain.builder()
                 .id(UUID.randomUUID())
-                .transactionType(new TransactionTypeDomain(2, "WITHDRAWAL"))
+                .transactionType(new TransactionTypeDomain(2, "WITHDRAWAL", true))
                 .amount(BigDecimal.valueOf(100))
                 .account(accountDomain)
                 .build();
@@ -161,6 +346,18 @@ class TransactionServiceTest {
         verify(transactionAdapter, never()).delete(any(UUID.class));
     }
 
+    @Test
+    void testDeleteTransactionSequenceMoved() {
+        when(transactionAdapter.getById(any(UUID.class))).thenReturn(transactionDomain);
+        when(transactionAdapter.getLastTransactionByAccount(any(AccountDomain.class))).thenReturn(transactionDomain);
+        when(accountAdapter.revertLastMovement(any(UUID.class), anyLong(), any(BigDecimal.class))).thenReturn(false);
+
+        CustomException exception = assertThrows(CustomException.class, () -> transactionService.delete(transactionDomain.getId()));
+
+        assertEquals(SPError.INVALID_TRANSACTION_UPDATE_ERROR.getErrorCode(), exception.getErrorCode());
+        verify(transactionAdapter, never()).delete(any(UUID.class));
+    }
+
     @Test
     void testDeleteTransactionNotFound() {
         when(transactionAdapter.getById(any(UUID.class))).thenReturn(null);
@@ -3,5 +3,5 @@ INSERT INTO accounttype (id, name)
 VALUES (1, 'Ahorros'), (2, 'Corriente');
 
 -- Insertar datos en la tabla TransactionType
-INSERT INTO transactiontype (id, name)
-VALUES (1, 'Depósito'), (2, 'Retiro');
+INSERT INTO transactiontype (id, name, debit)
+VALUES (1, 'Depósito', false), (2, 'Retiro', true);
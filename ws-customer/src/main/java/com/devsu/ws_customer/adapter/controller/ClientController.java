@@ -1,6 +1,7 @@
 package com.devsu.ws_customer.adapter.controller;
 
 import com.devsu.ws_customer.adapter.controller.models.ClientUpdateRequest;
+import com.devsu.ws_customer.adapter.controller.models.CreateClientBatchRequest;
 import com.devsu.ws_customer.adapter.controller.models.CreateClientRequest;
 import com.devsu.ws_customer.application.port.in.*;
 import com.devsu.ws_customer.config.exception.CustomException;
@@ -8,7 +9,10 @@ import com.devsu.ws_customer.config.exception.DataBaseException;
 import com.devsu.ws_customer.config.exception.ErrorResponse;
 import com.devsu.ws_customer.config.exception.SPError;
 import com.devsu.ws_customer.adapter.controller.models.ClientResponse;
+import com.devsu.ws_customer.domain.ClientBatchResultDomain;
 import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.ClientPageDomain;
+import com.devsu.ws_customer.domain.ClientSummaryDomain;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,32 +38,60 @@ public class ClientController {
     private final UpdateClientPort updateClientPort;
     private final DeleteClientPort deleteClientPort;
     private final GetAllClientsPaginatedPort getAllClientsPaginatedPort;
+    private final SearchClientsPort searchClientsPort;
+    private final CreateClientBatchPort createClientBatchPort;
+    private final IdempotencyHandler idempotencyHandler;
 
     public ClientController(CreateClientPort createClientPort, GetAllClientsPort getAllClientsPort,
                             GetClientByIdPort getClientByIdPort, UpdateClientPort updateClientPort,
-                            DeleteClientPort deleteClientPort, GetAllClientsPaginatedPort getAllClientsPaginatedPort) {
+                            DeleteClientPort deleteClientPort, GetAllClientsPaginatedPort getAllClientsPaginatedPort,
+                            SearchClientsPort searchClientsPort, CreateClientBatchPort createClientBatchPort,
+                            IdempotencyHandler idempotencyHandler) {
         this.createClientPort = createClientPort;
         this.getAllClientsPort = getAllClientsPort;
         this.getClientByIdPort = getClientByIdPort;
         this.updateClientPort = updateClientPort;
         this.deleteClientPort = deleteClientPort;
         this.getAllClientsPaginatedPort = getAllClientsPaginatedPort;
+        this.searchClientsPort = searchClientsPort;
+        this.createClientBatchPort = createClientBatchPort;
+        this.idempotencyHandler = idempotencyHandler;
     }
 
     @PostMapping
-    public ResponseEntity<Object> createClient(@Valid @RequestBody CreateClientRequest request, BindingResult bindingResult) {
+    public ResponseEntity<Object> createClient(@Valid @RequestBody CreateClientRequest request, BindingResult bindingResult,
+                                               @RequestHeader(value = IdempotencyHandler.HEADER, required = false) String idempotencyKey) {
         if (bindingResult.hasErrors()) {
             logger.warn("Validation errors while creating client: {}", bindingResult.getFieldErrors());
             return handleValidationErrors(bindingResult);
         }
 
+        return idempotencyHandler.execute(idempotencyKey, "POST /clientes", request, () -> {
+            try {
+                logger.info("Creating client: {}", request);
+                ClientDomain createdClient = createClientPort.create(request.toDomain());
+                logger.info("Client created successfully with ID: {}", createdClient.getId());
+                return ResponseEntity.status(HttpStatus.CREATED).body(ClientResponse.of(createdClient, HttpStatus.CREATED));
+            } catch (Exception ex) {
+                return handleError(SPError.CUSTOMER_CONTROLLER_CREATE_ERROR, ex);
+            }
+        });
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<Object> createClientBatch(@Valid @RequestBody CreateClientBatchRequest request, BindingResult bindingResult) {
+        if (bindingResult.hasErrors()) {
+            logger.warn("Validation errors while creating client batch: {}", bindingResult.getFieldErrors());
+            return handleValidationErrors(bindingResult);
+        }
+
         try {
-            logger.info("Creating client: {}", request);
-            ClientDomain createdClient = createClientPort.create(request.toDomain());
-            logger.info("Client created successfully with ID: {}", createdClient.getId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(ClientResponse.of(createdClient, HttpStatus.CREATED));
+            logger.info("Creating batch of {} clients", request.getClients().size());
+            List<ClientBatchResultDomain> results = createClientBatchPort.createBatch(request.toDomain());
+            logger.info("Client batch processed, total items: {}", results.size());
+            return ResponseEntity.ok(ClientResponse.of(results, HttpStatus.OK));
         } catch (Exception ex) {
-            return handleError(SPError.CUSTOMER_CONTROLLER_CREATE_ERROR, ex);
+            return handleError(SPError.CUSTOMER_CONTROLLER_BATCH_ERROR, ex);
         }
     }
 
@@ -67,7 +99,7 @@ public class ClientController {
     public ResponseEntity<Object> getAllClients() {
         try {
             logger.info("Fetching all clients");
-            List<ClientDomain> clients = getAllClientsPort.getAll();
+            List<ClientSummaryDomain> clients = getAllClientsPort.getAll();
             return ResponseEntity.ok(ClientResponse.of(clients, HttpStatus.OK));
         } catch (Exception ex) {
             return handleError(SPError.CUSTOMER_CONTROLLER_FIND_ALL_ERROR, ex);
@@ -119,13 +151,45 @@ public class ClientController {
     public ResponseEntity<Object> getAllClientsPaginated(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
         try {
             logger.info("Fetching paginated clients - page: {}, size: {}", page, size);
-            Page<ClientDomain> clientsPage = getAllClientsPaginatedPort.getAllPaginated(page, size);
+            Page<ClientSummaryDomain> clientsPage = getAllClientsPaginatedPort.getAllPaginated(page, size);
             return ResponseEntity.ok(ClientResponse.of(clientsPage.getContent(), HttpStatus.OK));
         } catch (Exception ex) {
             return handleError(SPError.CUSTOMER_CONTROLLER_FIND_ALL_ERROR, ex);
         }
     }
 
+    /**
+     * Keyset page of clients: pass the {@code nextCursor} of a page as {@code after} to get the next one, and
+     * {@code estimate=true} for an approximate total. Unlike {@code /paginated}, deep pages cost the same as
+     * the first one.
+     */
+    @GetMapping("/page")
+    public ResponseEntity<Object> getClientsPage(@RequestParam(required = false) String after,
+                                                 @RequestParam(defaultValue = "10") int size,
+                                                 @RequestParam(defaultValue = "false") boolean estimate) {
+        try {
+            logger.info("Fetching clients page - cursor: {}, size: {}", after, size);
+            ClientPageDomain clientsPage = getAllClientsPaginatedPort.getPage(after, size, estimate);
+            return ResponseEntity.ok(ClientResponse.of(clientsPage, HttpStatus.OK));
+        } catch (Exception ex) {
+            return handleError(SPError.CUSTOMER_CONTROLLER_FIND_ALL_ERROR, ex);
+        }
+    }
+
+    /**
+     * Finds clients by part of the name, or by the start of the identification or phone, best matches first.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Object> searchClients(@RequestParam("q") String query, @RequestParam(defaultValue = "20") int limit) {
+        try {
+            logger.info("Searching clients by: {}, limit: {}", query, limit);
+            List<ClientSummaryDomain> clients = searchClientsPort.search(query, limit);
+            return ResponseEntity.ok(ClientResponse.of(clients, HttpStatus.OK));
+        } catch (Exception ex) {
+            return handleError(SPError.CUSTOMER_CONTROLLER_SEARCH_ERROR, ex);
+        }
+    }
+
     private ResponseEntity<Object> handleValidationErrors(BindingResult bindingResult) {
         return ResponseEntity.badRequest().body(ClientResponse.badRequest(bindingResult));
     }
@@ -0,0 +1,109 @@
+package com.devsu.ws_customer.adapter.controller;
+
+import com.devsu.ws_customer.application.port.in.ExportClientsPort;
+import com.devsu.ws_customer.config.exception.CustomException;
+import com.devsu.ws_customer.config.exception.DataBaseException;
+import com.devsu.ws_customer.config.exception.ErrorResponse;
+import com.devsu.ws_customer.config.exception.SPError;
+import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.PersonDomain;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Bulk exports for data warehouse pulls. Rows go from a database cursor straight to the response as NDJSON
+ * or CSV, without collecting them first, so an export costs the same memory whatever its size.
+ * Passwords are never exported.
+ */
+@RestController
+@RequestMapping("/export")
+@CrossOrigin(origins = "*", allowedHeaders = "*", methods = {})
+public class ExportController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportController.class);
+    private static final List<String> CLIENT_COLUMNS = List.of("id", "clientId", "status", "personId", "name",
+            "gender", "age", "identification", "address", "phone");
+
+    private final ExportClientsPort exportClientsPort;
+    private final ObjectMapper objectMapper;
+
+    public ExportController(ExportClientsPort exportClientsPort, ObjectMapper objectMapper) {
+        this.exportClientsPort = exportClientsPort;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/clientes")
+    public ResponseEntity<StreamingResponseBody> exportClients(@RequestParam(defaultValue = "ndjson") String format) {
+        try {
+            logger.info("Exporting clients as {}", format);
+            ExportWriter.Format exportFormat = ExportWriter.Format.of(format);
+
+            StreamingResponseBody body = out -> writeClients(out, exportFormat);
+            return ResponseEntity.ok()
+                    .contentType(exportFormat.getMediaType())
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"clientes." + exportFormat.getExtension() + "\"")
+                    .body(body);
+        } catch (Exception ex) {
+            return handleError(SPError.EXPORT_CONTROLLER_CLIENTS_ERROR, ex);
+        }
+    }
+
+    private void writeClients(OutputStream out, ExportWriter.Format format) throws IOException {
+        try (ExportWriter writer = new ExportWriter(out, format, objectMapper, CLIENT_COLUMNS)) {
+            exportClientsPort.export(client -> {
+                try {
+                    writeClient(writer, client);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            logger.info("Client export finished, rows: {}", writer.getRows());
+        } catch (UncheckedIOException e) {
+            logger.error("Client aborted client export: {}", e.getMessage());
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            logger.error("Error while streaming client export", e);
+            throw e;
+        }
+    }
+
+    private void writeClient(ExportWriter writer, ClientDomain client) throws IOException {
+        PersonDomain person = client.getPerson();
+        writer.writeRow(
+                client.getId(),
+                client.getClientId(),
+                client.isStatus(),
+                person.getId(),
+                person.getName(),
+                person.getGender() != null ? person.getGender().getGenderName() : null,
+                person.getAge(),
+                person.getIdentification(),
+                person.getAddress(),
+                person.getPhone());
+    }
+
+    private ResponseEntity<StreamingResponseBody> handleError(SPError error, Exception ex) {
+        ErrorResponse errorResponse = new ErrorResponse(false, error.getErrorCode(), error.getErrorMessage(), ex.getCause());
+        logger.error("Error occurred: {}", errorResponse, ex);
+
+        HttpStatus status = ex instanceof DataBaseException || ex instanceof CustomException
+                ? HttpStatus.BAD_REQUEST
+                : HttpStatus.INTERNAL_SERVER_ERROR;
+
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> objectMapper.writeValue(out, errorResponse));
+    }
+}
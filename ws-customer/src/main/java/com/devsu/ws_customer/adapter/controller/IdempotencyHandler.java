@@ -0,0 +1,156 @@
+package com.devsu.ws_customer.adapter.controller;
+
+import com.devsu.ws_customer.config.exception.ErrorResponse;
+import com.devsu.ws_customer.config.exception.GenericException;
+import com.devsu.ws_customer.config.exception.SPError;
+import com.devsu.ws_customer.domain.IdempotencyRecordDomain;
+import com.devsu.ws_customer.domain.service.IdempotencyService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Wraps a POST handler so that a retried request carrying the same {@value #HEADER} gets the stored
+ * response back instead of being executed again. Only successful responses are kept; a failed attempt
+ * releases the key so the client can retry it. The stored body leaves out the {@code idempotency.redacted-fields}
+ * at any depth, so a replay returns the same status and body without them.
+ */
+@Component
+public class IdempotencyHandler {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyHandler.class);
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+    private final Set<String> redactedFields;
+
+    public IdempotencyHandler(IdempotencyService idempotencyService, ObjectMapper objectMapper,
+                              @Value("${idempotency.redacted-fields:password}") Set<String> redactedFields) {
+        this.idempotencyService = idempotencyService;
+        this.objectMapper = objectMapper;
+        this.redactedFields = redactedFields;
+    }
+
+    public ResponseEntity<Object> execute(String idempotencyKey, String scope, Object request,
+                                          Supplier<ResponseEntity<Object>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            logger.warn("Rejected invalid idempotency key for {}", scope);
+            return error(HttpStatus.BAD_REQUEST, SPError.INVALID_PARAMS_ERROR.getErrorCode(),
+                    HEADER + " must have between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        IdempotencyRecordDomain reservation;
+        try {
+            reservation = idempotencyService.begin(idempotencyKey, scope, fingerprint(scope, request));
+        } catch (GenericException ex) {
+            logger.warn("Idempotency key {} rejected for {}: {}", idempotencyKey, scope, ex.getMessage());
+            return error(statusFor(ex.getErrorCode()), ex.getErrorCode(), ex.getMessage());
+        }
+
+        if (reservation.isCompleted()) {
+            logger.info("Replaying stored response for idempotency key: {}", idempotencyKey);
+            return replay(reservation);
+        }
+
+        ResponseEntity<Object> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException ex) {
+            releaseQuietly(reservation);
+            throw ex;
+        }
+
+        if (response.getStatusCode().is2xxSuccessful()) {
+            try {
+                idempotencyService.complete(reservation, response.getStatusCode().value(),
+                        redactedBody(response.getBody()));
+            } catch (Exception ex) {
+                // The key stays reserved until its lease expires, so a retry is refused rather than executed twice
+                logger.error("Could not store response for idempotency key {}: {}", idempotencyKey, ex.getMessage(), ex);
+            }
+        } else {
+            releaseQuietly(reservation);
+        }
+        return response;
+    }
+
+    private ResponseEntity<Object> replay(IdempotencyRecordDomain record) {
+        try {
+            Object body = record.getResponseBody() != null ? objectMapper.readTree(record.getResponseBody()) : null;
+            return ResponseEntity.status(record.getResponseStatus())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(body);
+        } catch (JsonProcessingException ex) {
+            logger.error("Stored response for idempotency key {} is unreadable", record.getIdempotencyKey(), ex);
+            return error(HttpStatus.INTERNAL_SERVER_ERROR, SPError.IDEMPOTENCY_ADAPTER_ERROR.getErrorCode(),
+                    SPError.IDEMPOTENCY_ADAPTER_ERROR.getErrorMessage());
+        }
+    }
+
+    private String redactedBody(Object body) throws JsonProcessingException {
+        JsonNode tree = objectMapper.valueToTree(body);
+        redact(tree);
+        return objectMapper.writeValueAsString(tree);
+    }
+
+    private void redact(JsonNode node) {
+        if (node instanceof ObjectNode object) {
+            object.remove(redactedFields);
+        }
+        node.forEach(this::redact);
+    }
+
+    private void releaseQuietly(IdempotencyRecordDomain reservation) {
+        try {
+            idempotencyService.release(reservation);
+        } catch (Exception ex) {
+            logger.error("Could not release idempotency key {}: {}", reservation.getIdempotencyKey(), ex.getMessage(), ex);
+        }
+    }
+
+    private String fingerprint(String scope, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(scope.getBytes(StandardCharsets.UTF_8));
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException ex) {
+            throw new IllegalStateException("Could not fingerprint request for " + scope, ex);
+        }
+    }
+
+    private HttpStatus statusFor(int errorCode) {
+        if (errorCode == SPError.IDEMPOTENCY_KEY_IN_PROGRESS.getErrorCode()) {
+            return HttpStatus.CONFLICT;
+        }
+        if (errorCode == SPError.IDEMPOTENCY_KEY_REUSED.getErrorCode()) {
+            return HttpStatus.UNPROCESSABLE_ENTITY;
+        }
+        return HttpStatus.SERVICE_UNAVAILABLE;
+    }
+
+    private ResponseEntity<Object> error(HttpStatus status, int code, String message) {
+        return ResponseEntity.status(status).body(new ErrorResponse(false, code, message, null));
+    }
+}
@@ -0,0 +1,28 @@
+package com.devsu.ws_customer.adapter.controller.models;
+
+import com.devsu.ws_customer.domain.ClientDomain;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateClientBatchRequest {
+
+    @NotEmpty(message = "Clients cannot be empty")
+    @Size(max = 5000, message = "A batch cannot contain more than 5000 clients")
+    private List<@NotNull @Valid CreateClientRequest> clients;
+
+    public List<ClientDomain> toDomain() {
+        return this.clients.stream()
+                .map(CreateClientRequest::toDomain)
+                .collect(Collectors.toList());
+    }
+}
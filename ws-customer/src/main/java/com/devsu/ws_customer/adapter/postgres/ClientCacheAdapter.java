@@ -0,0 +1,166 @@
+package com.devsu.ws_customer.adapter.postgres;
+
+import com.devsu.ws_customer.application.port.out.ClientStorageRepository;
+import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.ClientSummaryDomain;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Read-through cache in front of {@link ClientPostgresAdapter} for lookups by id and by clientId. Entries are
+ * bounded by size and expire a fixed time after loading. Updates and deletes through this port evict the
+ * client right away and again after commit, so a reader that reloads it before the commit cannot leave the old
+ * row behind. Inside a read-write transaction lookups skip the cache, so writes never decide on a cached copy
+ * and uncommitted rows are never cached. Cached clients are shared between callers and must not be modified.
+ * Statistics are published under {@code cache.*{cache=clients}}.
+ */
+@Primary
+@Component
+public class ClientCacheAdapter implements ClientStorageRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientCacheAdapter.class);
+
+    private final ClientPostgresAdapter delegate;
+    private final Cache<UUID, ClientDomain> clients;
+    private final Cache<String, UUID> idsByClientId;
+
+    public ClientCacheAdapter(ClientPostgresAdapter delegate, MeterRegistry meterRegistry,
+                              @Value("${client.cache.max-size:10000}") long maxSize,
+                              @Value("${client.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.delegate = delegate;
+        this.clients = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.idsByClientId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, clients, "clients");
+    }
+
+    @Override
+    public ClientDomain getById(UUID id) {
+        if (inWriteTransaction()) {
+            return delegate.getById(id);
+        }
+        return clients.get(id, delegate::getById);
+    }
+
+    /**
+     * Resolves the clientId to an id and serves the client from the id cache. A mapping whose client has
+     * since changed its clientId is ignored and reloaded.
+     */
+    @Override
+    public ClientDomain findByClientId(String clientId) {
+        if (inWriteTransaction()) {
+            return delegate.findByClientId(clientId);
+        }
+        UUID id = idsByClientId.getIfPresent(clientId);
+        if (id != null) {
+            ClientDomain cached = clients.getIfPresent(id);
+            if (cached != null && clientId.equals(cached.getClientId())) {
+                return cached;
+            }
+        }
+        ClientDomain client = delegate.findByClientId(clientId);
+        if (client != null && client.getId() != null) {
+            clients.put(client.getId(), client);
+            idsByClientId.put(clientId, client.getId());
+        }
+        return client;
+    }
+
+    @Override
+    public ClientDomain update(ClientDomain domain) {
+        evict(domain.getId());
+        return delegate.update(domain);
+    }
+
+    @Override
+    public void delete(UUID id) {
+        evict(id);
+        delegate.delete(id);
+    }
+
+    @Override
+    public ClientDomain save(ClientDomain domain) {
+        return delegate.save(domain);
+    }
+
+    @Override
+    public List<ClientDomain> saveAll(List<ClientDomain> domains) {
+        return delegate.saveAll(domains);
+    }
+
+    @Override
+    public Set<String> findExistingClientIds(Collection<String> clientIds) {
+        return delegate.findExistingClientIds(clientIds);
+    }
+
+    @Override
+    public List<ClientSummaryDomain> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public Page<ClientSummaryDomain> getAllPaginated(int page, int size) {
+        return delegate.getAllPaginated(page, size);
+    }
+
+    @Override
+    public List<ClientSummaryDomain> getPageAfter(UUID afterId, int limit) {
+        return delegate.getPageAfter(afterId, limit);
+    }
+
+    @Override
+    public Long estimateCount() {
+        return delegate.estimateCount();
+    }
+
+    @Override
+    public void streamAll(Consumer<ClientDomain> consumer) {
+        delegate.streamAll(consumer);
+    }
+
+    @Override
+    public List<ClientSummaryDomain> search(String term, int limit) {
+        return delegate.search(term, limit);
+    }
+
+    private void evict(UUID id) {
+        clients.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clients.invalidate(id);
+                    logger.debug("Client {} evicted from cache after commit", id);
+                }
+            });
+        }
+    }
+
+    private static boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -2,31 +2,51 @@ package com.devsu.ws_customer.adapter.postgres;
 
 import com.devsu.ws_customer.adapter.postgres.models.ClientEntity;
 import com.devsu.ws_customer.application.port.out.ClientStorageRepository;
+import com.devsu.ws_customer.config.catalog.ReferenceCatalog;
 import com.devsu.ws_customer.config.exception.DataBaseException;
 import com.devsu.ws_customer.config.exception.SPError;
 import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.ClientSummaryDomain;
+import jakarta.persistence.EntityManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class ClientPostgresAdapter implements ClientStorageRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(ClientPostgresAdapter.class);
+    private static final String ESTIMATE_COUNT_SQL =
+            "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass('client')";
+
     private final ClientPostgresRepository repository;
+    private final ReferenceCatalog catalog;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     @Autowired
-    public ClientPostgresAdapter(ClientPostgresRepository repository) {
+    public ClientPostgresAdapter(ClientPostgresRepository repository, ReferenceCatalog catalog, EntityManager entityManager,
+                                 JdbcTemplate jdbcTemplate) {
         this.repository = repository;
+        this.catalog = catalog;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -36,22 +56,56 @@ public class ClientPostgresAdapter implements ClientStorageRepository {
             logger.info("Attempting to save client: {}", domain.toString());
             ClientEntity entity = ClientEntity.fromDomain(domain);
             ClientEntity savedEntity = repository.save(entity);
-            logger.info("Client saved successfully: {}", savedEntity.toDomain());
-            return savedEntity.toDomain();
+            logger.info("Client saved successfully: {}", savedEntity.toDomain(catalog));
+            return savedEntity.toDomain(catalog);
         } catch (Exception e) {
             logger.error("Error saving client: {}", e.getMessage());
             throw new DataBaseException(SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
         }
     }
 
+    /**
+     * Inserts all clients in one flush; ids are assigned up front, so Hibernate groups the inserts into
+     * JDBC batches of {@code hibernate.jdbc.batch_size}.
+     */
+    @Override
+    @Transactional
+    public List<ClientDomain> saveAll(List<ClientDomain> domains) {
+        try {
+            logger.info("Attempting to save {} clients", domains.size());
+            List<ClientEntity> entities = domains.stream()
+                    .map(ClientEntity::fromDomain)
+                    .collect(Collectors.toList());
+            return repository.saveAll(entities).stream()
+                    .map(entity -> entity.toDomain(catalog))
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            logger.error("Error saving clients: {}", e.getMessage());
+            throw new DataBaseException(SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<ClientDomain> getAll() {
+    public Set<String> findExistingClientIds(Collection<String> clientIds) {
+        if (clientIds.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            logger.info("Checking {} client IDs for duplicates", clientIds.size());
+            return new HashSet<>(repository.findExistingClientIds(clientIds));
+        } catch (Exception e) {
+            logger.error("Error checking client IDs: {}", e.getMessage());
+            throw new DataBaseException(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClientSummaryDomain> getAll() {
         try {
             logger.info("Retrieving all clients from the database");
-            return repository.findAll().stream()
-                    .map(ClientEntity::toDomain)
-                    .collect(Collectors.toList());
+            return repository.findAllSummaries();
         } catch (Exception e) {
             logger.error("Error retrieving clients: {}", e.getMessage());
             throw new DataBaseException(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorMessage(), e);
@@ -63,8 +117,8 @@ public class ClientPostgresAdapter implements ClientStorageRepository {
     public ClientDomain getById(UUID id) {
         try {
             logger.info("Retrieving client by ID: {}", id);
-            return repository.findById(id)
-                    .map(ClientEntity::toDomain)
+            return repository.findWithPersonById(id)
+                    .map(entity -> entity.toDomain(catalog))
                     .orElseThrow(() -> new DataBaseException(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), "Client not found"));
         } catch (DataBaseException e) {
             throw e;
@@ -76,30 +130,65 @@ public class ClientPostgresAdapter implements ClientStorageRepository {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<ClientDomain> getAllPaginated(int page, int size) {
+    public Page<ClientSummaryDomain> getAllPaginated(int page, int size) {
         try {
             logger.info("Retrieving clients paginated");
             Pageable pageable = PageRequest.of(page, size);
-            return repository.findAll(pageable)
-                    .map(ClientEntity::toDomain);
+            return repository.findAllSummaries(pageable);
         } catch (Exception e) {
             logger.error("Error retrieving clients paginated: {}", e.getMessage());
             throw new DataBaseException(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorMessage(), e);
         }
     }
 
+    /**
+     * Keyset page ordered by id. Ids are time ordered, so pages follow creation order and cost the same
+     * however deep they are.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClientSummaryDomain> getPageAfter(UUID afterId, int limit) {
+        try {
+            logger.info("Retrieving clients page after: {}, limit: {}", afterId, limit);
+            Pageable pageable = PageRequest.of(0, limit);
+            return afterId == null
+                    ? repository.findFirstSummaryPage(pageable)
+                    : repository.findSummaryPageAfter(afterId, pageable);
+        } catch (Exception e) {
+            logger.error("Error retrieving clients page: {}", e.getMessage());
+            throw new DataBaseException(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Row count from the planner statistics, as of the last ANALYZE or autovacuum. Returns null when no
+     * estimate is available (a table never analyzed, or a database without pg_class), callers treat the
+     * total as unknown rather than failing the page.
+     */
+    @Override
+    public Long estimateCount() {
+        try {
+            Long estimate = jdbcTemplate.queryForObject(ESTIMATE_COUNT_SQL, Long.class);
+            return estimate != null && estimate >= 0 ? estimate : null;
+        } catch (Exception e) {
+            logger.warn("Client count estimate not available: {}", e.getMessage());
+            return null;
+        }
+    }
+
     @Override
     @Transactional
     public ClientDomain update(ClientDomain domain) {
         try {
             logger.info("Attempting to update client: {}", domain);
-            if (!repository.existsById(domain.getId())) {
-                throw new DataBaseException(SPError.CUSTOMER_ADAPTER_UPDATE_ERROR.getErrorCode(), "Client not found");
+            int updated = repository.updateIfCurrent(domain.getId(), domain.getVersion(), domain.getClientId(),
+                    domain.getPassword(), domain.isStatus());
+            if (updated == 0) {
+                throw new DataBaseException(SPError.STALE_UPDATE_ERROR.getErrorCode(), SPError.STALE_UPDATE_ERROR.getErrorMessage());
             }
-            ClientEntity entity = ClientEntity.fromDomain(domain);
-            ClientEntity updatedEntity = repository.save(entity);
-            logger.info("Client updated successfully: {}", updatedEntity.toDomain());
-            return updatedEntity.toDomain();
+            domain.setVersion(domain.getVersion() + 1);
+            logger.info("Client updated successfully: {}", domain);
+            return domain;
         } catch (DataBaseException e) {
             throw e;
         } catch (Exception e) {
@@ -127,7 +216,7 @@ public class ClientPostgresAdapter implements ClientStorageRepository {
         try {
             logger.info("Retrieving client by clientId: {}", clientId);
             return repository.findByClientId(clientId)
-                    .map(ClientEntity::toDomain)
+                    .map(entity -> entity.toDomain(catalog))
                     .orElseThrow(() -> new DataBaseException(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), "Client not found"));
         } catch (DataBaseException e) {
             throw e;
@@ -136,4 +225,45 @@ public class ClientPostgresAdapter implements ClientStorageRepository {
             throw new DataBaseException(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorMessage(), e);
         }
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ClientSummaryDomain> search(String term, int limit) {
+        try {
+            logger.info("Searching clients by: {}", term);
+            String escaped = escapeLike(term);
+            String lowered = escaped.toLowerCase(Locale.ROOT);
+            return repository.search(term, escaped + "%", lowered + "%", "%" + lowered + "%", PageRequest.of(0, limit));
+        } catch (Exception e) {
+            logger.error("Error searching clients: {}", e.getMessage());
+            throw new DataBaseException(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    /**
+     * Client and person are detached after each row, so the persistence context stays small however
+     * many clients there are.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<ClientDomain> consumer) {
+        try (Stream<ClientEntity> entities = repository.streamAllWithPerson()) {
+            logger.info("Streaming all clients");
+            long[] count = {0};
+            entities.forEach(entity -> {
+                consumer.accept(entity.toDomain(catalog));
+                entityManager.detach(entity.getPerson());
+                entityManager.detach(entity);
+                count[0]++;
+            });
+            logger.info("Streamed {} clients", count[0]);
+        } catch (Exception e) {
+            logger.error("Error streaming clients: {}", e.getMessage());
+            throw new DataBaseException(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    private static String escapeLike(String term) {
+        return term.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
 }
@@ -1,16 +1,95 @@
 package com.devsu.ws_customer.adapter.postgres;
 
 import com.devsu.ws_customer.adapter.postgres.models.ClientEntity;
+import com.devsu.ws_customer.domain.ClientSummaryDomain;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ClientPostgresRepository extends JpaRepository<ClientEntity, UUID> {
 
-    Optional<ClientEntity> findByClientId(String clientId);
+    /**
+     * Summary queries select only the columns of {@link ClientSummaryDomain}, so no entity is loaded or
+     * tracked and the password, gender and contact columns are never read.
+     */
+    String SELECT_SUMMARY = "SELECT new com.devsu.ws_customer.domain.ClientSummaryDomain(" +
+            "c.id, c.clientId, c.status, p.name, p.identification) FROM ClientEntity c JOIN c.person p";
+
+    @Query(SELECT_SUMMARY)
+    List<ClientSummaryDomain> findAllSummaries();
+
+    @Query(value = SELECT_SUMMARY,
+            countQuery = "SELECT COUNT(c) FROM ClientEntity c")
+    Page<ClientSummaryDomain> findAllSummaries(Pageable pageable);
+
+    @Query(SELECT_SUMMARY + " ORDER BY c.id")
+    List<ClientSummaryDomain> findFirstSummaryPage(Pageable pageable);
+
+    @Query(SELECT_SUMMARY + " WHERE c.id > :afterId ORDER BY c.id")
+    List<ClientSummaryDomain> findSummaryPageAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT c FROM ClientEntity c JOIN FETCH c.person ORDER BY c.id")
+    Stream<ClientEntity> streamAllWithPerson();
+
+    @Query("SELECT c FROM ClientEntity c JOIN FETCH c.person WHERE c.id = :id")
+    Optional<ClientEntity> findWithPersonById(@Param("id") UUID id);
+
+    @Query("SELECT c FROM ClientEntity c JOIN FETCH c.person WHERE c.clientId = :clientId")
+    Optional<ClientEntity> findByClientId(@Param("clientId") String clientId);
+
+    /**
+     * Matches a name containing the term, or an identification or phone starting with it. Exact and prefix
+     * identification matches come first, then phone prefixes, then names starting with the term. Served by
+     * the trigram indexes of customerdb.sql, which also cover the prefix patterns.
+     * <p>
+     * The ranking is computed per row, so every match is read and sorted before the limit applies: the cost
+     * grows with the number of matches, not with the limit. The minimum term length of the use case keeps
+     * broad terms out; a term matching a large share of the names still sorts all of them.
+     */
+    @Query(SELECT_SUMMARY + " " +
+            "WHERE lower(p.name) LIKE :contains ESCAPE '!' " +
+            "OR p.identification LIKE :prefix ESCAPE '!' " +
+            "OR p.phone LIKE :prefix ESCAPE '!' " +
+            "ORDER BY CASE WHEN p.identification = :term THEN 0 " +
+            "WHEN p.identification LIKE :prefix ESCAPE '!' THEN 1 " +
+            "WHEN p.phone LIKE :prefix ESCAPE '!' THEN 2 " +
+            "WHEN lower(p.name) LIKE :namePrefix ESCAPE '!' THEN 3 " +
+            "ELSE 4 END, p.name, c.id")
+    List<ClientSummaryDomain> search(@Param("term") String term,
+                                     @Param("prefix") String prefix,
+                                     @Param("namePrefix") String namePrefix,
+                                     @Param("contains") String contains,
+                                     Pageable pageable);
+
+    @Query("SELECT c.clientId FROM ClientEntity c WHERE c.clientId IN :clientIds")
+    List<String> findExistingClientIds(@Param("clientIds") Collection<String> clientIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ClientEntity c SET c.clientId = :clientId, c.password = :password, c.status = :status, " +
+            "c.version = c.version + 1 WHERE c.id = :id AND c.version = :version")
+    int updateIfCurrent(@Param("id") UUID id,
+                        @Param("version") Long version,
+                        @Param("clientId") String clientId,
+                        @Param("password") String password,
+                        @Param("status") boolean status);
 }
 
 
@@ -0,0 +1,9 @@
+package com.devsu.ws_customer.adapter.postgres;
+
+import com.devsu.ws_customer.adapter.postgres.models.GenderEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GenderPostgresRepository extends JpaRepository<GenderEntity, Integer> {
+}
@@ -2,25 +2,46 @@ package com.devsu.ws_customer.adapter.postgres;
 
 import com.devsu.ws_customer.adapter.postgres.models.PersonEntity;
 import com.devsu.ws_customer.application.port.out.PersonStorageRepository;
+import com.devsu.ws_customer.config.catalog.ReferenceCatalog;
 import com.devsu.ws_customer.config.exception.DataBaseException;
 import com.devsu.ws_customer.config.exception.SPError;
+import com.devsu.ws_customer.config.id.TimeOrderedUuids;
 import com.devsu.ws_customer.domain.PersonDomain;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Component
 public class PersonPostgresAdapter implements PersonStorageRepository {
 
     private static final Logger logger = LoggerFactory.getLogger(PersonPostgresAdapter.class);
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO person (id, name, gender_id, age, identification, address, phone, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 0) ON CONFLICT (identification) DO NOTHING";
+
     private final PersonPostgresRepository repository;
+    private final ReferenceCatalog catalog;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean onConflictSupported;
 
     @Autowired
-    public PersonPostgresAdapter(PersonPostgresRepository repository) {
+    public PersonPostgresAdapter(PersonPostgresRepository repository, ReferenceCatalog catalog, JdbcTemplate jdbcTemplate) {
         this.repository = repository;
+        this.catalog = catalog;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -30,21 +51,64 @@ public class PersonPostgresAdapter implements PersonStorageRepository {
             logger.info("Attempting to save person: {}", domain.toString());
             PersonEntity entity = PersonEntity.fromDomain(domain);
             PersonEntity savedEntity = repository.save(entity);
-            logger.info("Person saved successfully: {}", savedEntity.toDomain());
-            return savedEntity.toDomain();
+            logger.info("Person saved successfully: {}", savedEntity.toDomain(catalog));
+            return savedEntity.toDomain(catalog);
         } catch (Exception e) {
             logger.error("Error saving person: {}", e.getMessage());
             throw new DataBaseException(SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
         }
     }
 
+    /**
+     * Inserts the person unless its identification is already stored, and returns null in that case. On
+     * PostgreSQL this is a single INSERT ... ON CONFLICT DO NOTHING, which needs no prior lookup and leaves
+     * the surrounding transaction usable when the identification exists. Other databases (H2 in the tests)
+     * look the identification up first, unless {@code mightExist} says it is certainly not stored.
+     */
+    @Override
+    @Transactional
+    public PersonDomain insertIfAbsent(PersonDomain domain, boolean mightExist) {
+        try {
+            if (!supportsOnConflict()) {
+                return mightExist && repository.findByIdentification(domain.getIdentification()).isPresent() ? null : save(domain);
+            }
+            UUID id = TimeOrderedUuids.next();
+            int inserted = jdbcTemplate.update(INSERT_IF_ABSENT_SQL, id, domain.getName(), domain.getGender().getId(),
+                    domain.getAge(), domain.getIdentification(), domain.getAddress(), domain.getPhone());
+            if (inserted == 0) {
+                logger.info("Person with identification {} already exists", domain.getIdentification());
+                return null;
+            }
+            domain.setId(id);
+            domain.setVersion(0L);
+            logger.info("Person inserted successfully: {}", id);
+            return domain;
+        } catch (DataBaseException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.error("Error inserting person: {}", e.getMessage());
+            throw new DataBaseException(SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamIdentifications(Consumer<String> consumer) {
+        try (Stream<String> identifications = repository.streamAllIdentifications()) {
+            identifications.forEach(consumer);
+        } catch (Exception e) {
+            logger.error("Error streaming identifications: {}", e.getMessage());
+            throw new DataBaseException(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PersonDomain getById(UUID id) {
         try {
             logger.info("Retrieving person by ID: {}", id);
             return repository.findById(id)
-                    .map(PersonEntity::toDomain)
+                    .map(entity -> entity.toDomain(catalog))
                     .orElseThrow(() -> new DataBaseException(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), "Person not found"));
         } catch (DataBaseException e) {
             throw e;
@@ -59,13 +123,14 @@ public class PersonPostgresAdapter implements PersonStorageRepository {
     public PersonDomain update(PersonDomain domain) {
         try {
             logger.info("Attempting to update person: {}", domain);
-            if (!repository.existsById(domain.getId())) {
-                throw new DataBaseException(SPError.CUSTOMER_ADAPTER_UPDATE_ERROR.getErrorCode(), "Person not found");
+            int updated = repository.updateIfCurrent(domain.getId(), domain.getVersion(), domain.getName(),
+                    domain.getGender().getId(), domain.getAge(), domain.getAddress(), domain.getPhone());
+            if (updated == 0) {
+                throw new DataBaseException(SPError.STALE_UPDATE_ERROR.getErrorCode(), SPError.STALE_UPDATE_ERROR.getErrorMessage());
             }
-            PersonEntity entity = PersonEntity.fromDomain(domain);
-            PersonEntity updatedEntity = repository.save(entity);
-            logger.info("Person updated successfully: {}", updatedEntity.toDomain());
-            return updatedEntity.toDomain();
+            domain.setVersion(domain.getVersion() + 1);
+            logger.info("Person updated successfully: {}", domain);
+            return domain;
         } catch (DataBaseException e) {
             throw e;
         } catch (Exception e) {
@@ -93,11 +158,56 @@ public class PersonPostgresAdapter implements PersonStorageRepository {
         try {
             logger.info("Retrieving person by identification: {}", identification);
             return repository.findByIdentification(identification)
-                    .map(PersonEntity::toDomain)
+                    .map(entity -> entity.toDomain(catalog))
                     .orElse(null);
         } catch (Exception e) {
             logger.error("Error retrieving person by ID: {}", e.getMessage());
             throw new DataBaseException(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorMessage(), e);
         }
     }
+
+    /**
+     * Inserts all persons in one flush; ids are assigned up front, so Hibernate groups the inserts into
+     * JDBC batches of {@code hibernate.jdbc.batch_size}.
+     */
+    @Override
+    @Transactional
+    public List<PersonDomain> saveAll(List<PersonDomain> domains) {
+        try {
+            logger.info("Attempting to save {} persons", domains.size());
+            List<PersonEntity> entities = domains.stream()
+                    .map(PersonEntity::fromDomain)
+                    .collect(Collectors.toList());
+            return repository.saveAll(entities).stream()
+                    .map(entity -> entity.toDomain(catalog))
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            logger.error("Error saving persons: {}", e.getMessage());
+            throw new DataBaseException(SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorCode(), SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findExistingIdentifications(Collection<String> identifications) {
+        if (identifications.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            logger.info("Checking {} identifications for duplicates", identifications.size());
+            return new HashSet<>(repository.findExistingIdentifications(identifications));
+        } catch (Exception e) {
+            logger.error("Error checking identifications: {}", e.getMessage());
+            throw new DataBaseException(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorMessage(), e);
+        }
+    }
+
+    private boolean supportsOnConflict() {
+        if (onConflictSupported == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            onConflictSupported = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return onConflictSupported;
+    }
 }
@@ -1,13 +1,47 @@
 package com.devsu.ws_customer.adapter.postgres;
 
 import com.devsu.ws_customer.adapter.postgres.models.PersonEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface PersonPostgresRepository extends JpaRepository<PersonEntity, UUID> {
     Optional<PersonEntity> findByIdentification(String identification);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.identification FROM PersonEntity p")
+    Stream<String> streamAllIdentifications();
+
+    @Query("SELECT p.identification FROM PersonEntity p WHERE p.identification IN :identifications")
+    List<String> findExistingIdentifications(@Param("identifications") Collection<String> identifications);
+
+    /**
+     * Writes the editable columns in one statement, matching only the version the caller read,
+     * so a missing or concurrently modified person affects no rows.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PersonEntity p SET p.name = :name, p.genderId = :genderId, p.age = :age, p.address = :address, " +
+            "p.phone = :phone, p.version = p.version + 1 WHERE p.id = :id AND p.version = :version")
+    int updateIfCurrent(@Param("id") UUID id,
+                        @Param("version") Long version,
+                        @Param("name") String name,
+                        @Param("genderId") Integer genderId,
+                        @Param("age") int age,
+                        @Param("address") String address,
+                        @Param("phone") String phone);
 }
\ No newline at end of file
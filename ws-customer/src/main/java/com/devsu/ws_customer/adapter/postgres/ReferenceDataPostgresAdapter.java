@@ -0,0 +1,42 @@
+package com.devsu.ws_customer.adapter.postgres;
+
+import com.devsu.ws_customer.adapter.postgres.models.GenderEntity;
+import com.devsu.ws_customer.application.port.out.ReferenceDataStorageRepository;
+import com.devsu.ws_customer.config.exception.DataBaseException;
+import com.devsu.ws_customer.config.exception.SPError;
+import com.devsu.ws_customer.domain.GenderDomain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class ReferenceDataPostgresAdapter implements ReferenceDataStorageRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataPostgresAdapter.class);
+    private final GenderPostgresRepository genderRepository;
+
+    @Autowired
+    public ReferenceDataPostgresAdapter(GenderPostgresRepository genderRepository) {
+        this.genderRepository = genderRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<GenderDomain> getGenders() {
+        try {
+            logger.info("Retrieving all genders");
+            return genderRepository.findAll().stream()
+                    .map(GenderEntity::toDomain)
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            logger.error("Error retrieving genders: {}", e.getMessage(), e);
+            throw new DataBaseException(SPError.REFERENCE_DATA_ADAPTER_ERROR.getErrorCode(),
+                    SPError.REFERENCE_DATA_ADAPTER_ERROR.getErrorMessage(), e);
+        }
+    }
+}
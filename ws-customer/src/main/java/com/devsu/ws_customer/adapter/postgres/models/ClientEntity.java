@@ -1,5 +1,6 @@
 package com.devsu.ws_customer.adapter.postgres.models;
 
+import com.devsu.ws_customer.config.catalog.ReferenceCatalog;
 import com.devsu.ws_customer.domain.ClientDomain;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -11,7 +12,9 @@ import org.hibernate.annotations.Cascade;
 import java.util.UUID;
 
 @Entity
-@Table(name = "client")
+@Table(name = "client", indexes = {
+        @Index(name = "idx_client_person_id", columnList = "person_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -19,7 +22,7 @@ import java.util.UUID;
 public class ClientEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @TimeOrderedId
     private UUID id;
 
     @Column(name = "client_id", unique = true, nullable = false)
@@ -31,17 +34,22 @@ public class ClientEntity {
     @Column(name = "status", nullable = false)
     private boolean status;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "person_id", nullable = false)
     private PersonEntity person;
 
-    public ClientDomain toDomain() {
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public ClientDomain toDomain(ReferenceCatalog catalog) {
         return ClientDomain.builder()
                 .id(this.id)
                 .clientId(this.clientId)
                 .password(this.password)
                 .status(this.status)
-                .person(this.person.toDomain())
+                .person(this.person.toDomain(catalog))
+                .version(this.version)
                 .build();
     }
 
@@ -52,6 +60,7 @@ public class ClientEntity {
                 .password(domain.getPassword())
                 .status(domain.isStatus())
                 .person(PersonEntity.fromDomain(domain.getPerson()))
+                .version(domain.getVersion())
                 .build();
     }
 }
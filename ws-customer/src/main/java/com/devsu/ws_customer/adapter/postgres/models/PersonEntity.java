@@ -1,5 +1,6 @@
 package com.devsu.ws_customer.adapter.postgres.models;
 
+import com.devsu.ws_customer.config.catalog.ReferenceCatalog;
 import com.devsu.ws_customer.domain.PersonDomain;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -18,15 +19,14 @@ import java.util.UUID;
 public class PersonEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @TimeOrderedId
     private UUID id;
 
     @Column(name = "name", nullable = false)
     private String name;
 
-    @ManyToOne
-    @JoinColumn(name = "gender_id", nullable = false)
-    private GenderEntity gender;
+    @Column(name = "gender_id", nullable = false)
+    private Integer genderId;
 
     @Column(name = "age")
     private int age;
@@ -40,15 +40,20 @@ public class PersonEntity {
     @Column(name = "phone")
     private String phone;
 
-    public PersonDomain toDomain() {
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    public PersonDomain toDomain(ReferenceCatalog catalog) {
         return PersonDomain.builder()
                 .id(this.id)
                 .name(this.name)
-                .gender(this.gender.toDomain())
+                .gender(catalog.gender(this.genderId))
                 .age(this.age)
                 .identification(this.identification)
                 .address(this.address)
                 .phone(this.phone)
+                .version(this.version)
                 .build();
     }
 
@@ -56,11 +61,12 @@ public class PersonEntity {
         return PersonEntity.builder()
                 .id(domain.getId())
                 .name(domain.getName())
-                .gender(GenderEntity.fromDomain(domain.getGender()))
+                .genderId(domain.getGender().getId())
                 .age(domain.getAge())
                 .identification(domain.getIdentification())
                 .address(domain.getAddress())
                 .phone(domain.getPhone())
+                .version(domain.getVersion())
                 .build();
     }
 }
@@ -12,10 +12,13 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Component
 public class MessageSenderAdapter implements MessageSendRabbit {
 
     private static final Logger logger = LoggerFactory.getLogger(MessageSenderAdapter.class);
+    private static final int PUBLISH_CHUNK_SIZE = 500;
     private final RabbitTemplate rabbitTemplate;
 
     public MessageSenderAdapter(RabbitTemplate rabbitTemplate) {
@@ -36,4 +39,35 @@ public class MessageSenderAdapter implements MessageSendRabbit {
         }
     }
 
+    /**
+     * Publishes the clients in order, each chunk on a single channel held for the whole chunk instead of
+     * one channel checkout per message. Stops at the first failure and returns how many were published,
+     * so the caller knows exactly which clients were not announced.
+     */
+    @Override
+    public int sendClientInfoBatch(List<ClientDomain> clientDomains) {
+        int published = 0;
+        try {
+            logger.info("Attempting to send {} client infos to RabbitMQ", clientDomains.size());
+            for (int from = 0; from < clientDomains.size(); from += PUBLISH_CHUNK_SIZE) {
+                List<ClientDomain> chunk = clientDomains.subList(from, Math.min(from + PUBLISH_CHUNK_SIZE, clientDomains.size()));
+                int[] sent = {0};
+                try {
+                    rabbitTemplate.invoke(operations -> {
+                        for (ClientDomain clientDomain : chunk) {
+                            operations.convertAndSend(RabbitMQConfig.QUEUE_NAME, ClientDTO.fromDomain(clientDomain));
+                            sent[0]++;
+                        }
+                        return null;
+                    });
+                } finally {
+                    published += sent[0];
+                }
+            }
+            logger.info("{} client infos sent successfully to RabbitMQ", published);
+        } catch (Exception e) {
+            logger.error("Error sending client infos to RabbitMQ after {} of {}: {}", published, clientDomains.size(), e.getMessage());
+        }
+        return published;
+    }
 }
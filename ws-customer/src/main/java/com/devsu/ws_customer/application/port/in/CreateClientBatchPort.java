@@ -0,0 +1,11 @@
+package com.devsu.ws_customer.application.port.in;
+
+import com.devsu.ws_customer.domain.ClientBatchResultDomain;
+import com.devsu.ws_customer.domain.ClientDomain;
+
+import java.util.List;
+
+public interface CreateClientBatchPort {
+
+    List<ClientBatchResultDomain> createBatch(List<ClientDomain> domains);
+}
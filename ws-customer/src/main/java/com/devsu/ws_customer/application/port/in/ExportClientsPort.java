@@ -0,0 +1,9 @@
+package com.devsu.ws_customer.application.port.in;
+
+import com.devsu.ws_customer.domain.ClientDomain;
+
+import java.util.function.Consumer;
+
+public interface ExportClientsPort {
+    void export(Consumer<ClientDomain> consumer);
+}
@@ -1,9 +1,12 @@
 package com.devsu.ws_customer.application.port.in;
 
-import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.ClientPageDomain;
+import com.devsu.ws_customer.domain.ClientSummaryDomain;
 import org.springframework.data.domain.Page;
 
 public interface GetAllClientsPaginatedPort {
 
-    Page<ClientDomain> getAllPaginated(int page, int size);
+    Page<ClientSummaryDomain> getAllPaginated(int page, int size);
+
+    ClientPageDomain getPage(String after, int size, boolean estimateTotal);
 }
@@ -1,9 +1,9 @@
 package com.devsu.ws_customer.application.port.in;
 
-import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.ClientSummaryDomain;
 
 import java.util.List;
 
 public interface GetAllClientsPort {
-    List<ClientDomain> getAll();
+    List<ClientSummaryDomain> getAll();
 }
@@ -0,0 +1,10 @@
+package com.devsu.ws_customer.application.port.in;
+
+import com.devsu.ws_customer.domain.ClientSummaryDomain;
+
+import java.util.List;
+
+public interface SearchClientsPort {
+
+    List<ClientSummaryDomain> search(String query, int limit);
+}
@@ -1,18 +1,28 @@
 package com.devsu.ws_customer.application.port.out;
 
 import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.ClientSummaryDomain;
 import org.springframework.data.domain.Page;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface ClientStorageRepository {
 
     ClientDomain save(ClientDomain domain);
-    List<ClientDomain> getAll();
+    List<ClientDomain> saveAll(List<ClientDomain> domains);
+    Set<String> findExistingClientIds(Collection<String> clientIds);
+    List<ClientSummaryDomain> getAll();
     ClientDomain getById(UUID id);
-    Page<ClientDomain> getAllPaginated(int page, int size);
+    Page<ClientSummaryDomain> getAllPaginated(int page, int size);
+    List<ClientSummaryDomain> getPageAfter(UUID afterId, int limit);
+    Long estimateCount();
     ClientDomain update(ClientDomain domain);
     void delete(UUID id);
     ClientDomain findByClientId(String clientId);
+    void streamAll(Consumer<ClientDomain> consumer);
+    List<ClientSummaryDomain> search(String term, int limit);
 }
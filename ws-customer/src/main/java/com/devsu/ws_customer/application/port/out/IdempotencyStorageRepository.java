@@ -0,0 +1,14 @@
+package com.devsu.ws_customer.application.port.out;
+
+import com.devsu.ws_customer.domain.IdempotencyRecordDomain;
+
+import java.util.Date;
+
+public interface IdempotencyStorageRepository {
+
+    IdempotencyRecordDomain reserve(IdempotencyRecordDomain reservation);
+    boolean complete(String idempotencyKey, int responseStatus, String responseBody, Date expiresAt);
+    void release(String idempotencyKey);
+    boolean releaseExpired(String idempotencyKey, Date now);
+    int purgeExpired(Date now);
+}
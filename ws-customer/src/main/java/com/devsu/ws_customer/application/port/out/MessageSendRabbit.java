@@ -2,7 +2,10 @@ package com.devsu.ws_customer.application.port.out;
 
 import com.devsu.ws_customer.domain.ClientDomain;
 
+import java.util.List;
+
 public interface MessageSendRabbit {
 
     void sendClientInfo(ClientDomain clientDomain);
+    int sendClientInfoBatch(List<ClientDomain> clientDomains);
 }
@@ -2,13 +2,21 @@ package com.devsu.ws_customer.application.port.out;
 
 import com.devsu.ws_customer.domain.PersonDomain;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface PersonStorageRepository {
 
     PersonDomain save(PersonDomain domain);
+    PersonDomain insertIfAbsent(PersonDomain domain, boolean mightExist);
+    void streamIdentifications(Consumer<String> consumer);
     PersonDomain getById(UUID id);
     PersonDomain update(PersonDomain domain);
     void delete(UUID id);
     PersonDomain findByIdentification(String identification);
+    List<PersonDomain> saveAll(List<PersonDomain> domains);
+    Set<String> findExistingIdentifications(Collection<String> identifications);
 }
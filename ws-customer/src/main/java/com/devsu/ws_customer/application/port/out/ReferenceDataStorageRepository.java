@@ -0,0 +1,10 @@
+package com.devsu.ws_customer.application.port.out;
+
+import com.devsu.ws_customer.domain.GenderDomain;
+
+import java.util.List;
+
+public interface ReferenceDataStorageRepository {
+
+    List<GenderDomain> getGenders();
+}
@@ -0,0 +1,64 @@
+package com.devsu.ws_customer.application.usecase;
+
+import com.devsu.ws_customer.application.port.in.CreateClientBatchPort;
+import com.devsu.ws_customer.application.port.out.MessageSendRabbit;
+import com.devsu.ws_customer.config.exception.CustomException;
+import com.devsu.ws_customer.config.exception.DataBaseException;
+import com.devsu.ws_customer.domain.ClientBatchResultDomain;
+import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.service.ClientPersonService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class CreateClientBatchUseCase implements CreateClientBatchPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(CreateClientBatchUseCase.class);
+    private static final String NOT_PUBLISHED = "Client created, but its notification could not be published";
+
+    private final ClientPersonService service;
+    private final MessageSendRabbit message;
+
+    public CreateClientBatchUseCase(ClientPersonService service, MessageSendRabbit message) {
+        this.service = service;
+        this.message = message;
+    }
+
+    @Override
+    public List<ClientBatchResultDomain> createBatch(List<ClientDomain> domains) {
+        logger.info("Initiating batch creation of {} clients", domains.size());
+        List<ClientBatchResultDomain> results;
+        try {
+            results = service.createBatch(domains);
+        } catch (DataBaseException | CustomException e) {
+            logger.error("Client batch rejected. Error: {}", e.getMessage());
+            return rejectAll(domains, e.getMessage());
+        } catch (Exception e) {
+            logger.error("Unexpected error creating client batch. Error: {}", e.getMessage(), e);
+            return rejectAll(domains, "An unexpected error occurred during client creation");
+        }
+
+        List<ClientBatchResultDomain> created = results.stream()
+                .filter(ClientBatchResultDomain::getAccepted)
+                .toList();
+        int published = message.sendClientInfoBatch(created.stream().map(ClientBatchResultDomain::getClient).toList());
+        if (published < created.size()) {
+            logger.error("Only {} of {} created clients were published", published, created.size());
+            created.subList(published, created.size()).forEach(result -> result.setError(NOT_PUBLISHED));
+        }
+        return results;
+    }
+
+    private List<ClientBatchResultDomain> rejectAll(List<ClientDomain> domains, String error) {
+        return IntStream.range(0, domains.size())
+                .mapToObj(i -> ClientBatchResultDomain.builder()
+                        .index(i)
+                        .accepted(false)
+                        .client(domains.get(i))
+                        .error(error)
+                        .build())
+                .toList();
+    }
+}
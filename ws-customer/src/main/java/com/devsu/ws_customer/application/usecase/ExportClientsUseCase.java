@@ -0,0 +1,29 @@
+package com.devsu.ws_customer.application.usecase;
+
+import com.devsu.ws_customer.application.port.in.ExportClientsPort;
+import com.devsu.ws_customer.application.port.out.ClientStorageRepository;
+import com.devsu.ws_customer.domain.ClientDomain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Consumer;
+
+public class ExportClientsUseCase implements ExportClientsPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportClientsUseCase.class);
+    private final ClientStorageRepository repository;
+
+    public ExportClientsUseCase(ClientStorageRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Hands every client, with its person, to the consumer while it is read from the database.
+     * The consumer runs inside the read transaction and should not hold on to the rows.
+     */
+    @Override
+    public void export(Consumer<ClientDomain> consumer) {
+        logger.info("Exporting all clients");
+        repository.streamAll(consumer);
+    }
+}
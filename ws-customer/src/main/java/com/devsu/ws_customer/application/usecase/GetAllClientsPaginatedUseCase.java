@@ -4,15 +4,22 @@ import com.devsu.ws_customer.application.port.in.GetAllClientsPaginatedPort;
 import com.devsu.ws_customer.config.exception.CustomException;
 import com.devsu.ws_customer.config.exception.DataBaseException;
 import com.devsu.ws_customer.config.exception.SPError;
-import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.ClientPageDomain;
+import com.devsu.ws_customer.domain.ClientSummaryDomain;
 import com.devsu.ws_customer.application.port.out.ClientStorageRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
 public class GetAllClientsPaginatedUseCase implements GetAllClientsPaginatedPort {
 
     private static final Logger logger = LoggerFactory.getLogger(GetAllClientsPaginatedUseCase.class);
+    private static final int MAX_SIZE = 500;
     private final ClientStorageRepository repository;
 
     public GetAllClientsPaginatedUseCase(ClientStorageRepository repository) {
@@ -20,7 +27,7 @@ public class GetAllClientsPaginatedUseCase implements GetAllClientsPaginatedPort
     }
 
     @Override
-    public Page<ClientDomain> getAllPaginated(int page, int size) {
+    public Page<ClientSummaryDomain> getAllPaginated(int page, int size) {
         try {
             logger.info("Attempting to retrieve clients in a paginated way");
             return repository.getAllPaginated(page, size);
@@ -34,4 +41,52 @@ public class GetAllClientsPaginatedUseCase implements GetAllClientsPaginatedPort
                     "Unexpected error during client paginated retrieval", e);
         }
     }
+
+    @Override
+    public ClientPageDomain getPage(String after, int size, boolean estimateTotal) {
+        try {
+            logger.info("Attempting to retrieve clients page after cursor: {}, size: {}", after, size);
+            int pageSize = Math.min(Math.max(size, 1), MAX_SIZE);
+            UUID afterId = decodeCursor(after);
+
+            List<ClientSummaryDomain> clients = repository.getPageAfter(afterId, pageSize + 1);
+
+            String nextCursor = null;
+            if (clients.size() > pageSize) {
+                clients = clients.subList(0, pageSize);
+                nextCursor = encodeCursor(clients.get(pageSize - 1).getId());
+            }
+            return ClientPageDomain.builder()
+                    .items(clients)
+                    .nextCursor(nextCursor)
+                    .estimatedTotal(estimateTotal ? repository.estimateCount() : null)
+                    .build();
+        } catch (CustomException c) {
+            throw c;
+        } catch (DataBaseException d) {
+            logger.error("Database error while retrieving clients page", d);
+            throw new CustomException(SPError.CUSTOMER_CONTROLLER_FIND_ALL_ERROR.getErrorCode(),
+                    "Failed to retrieve clients page", d);
+        } catch (Exception e) {
+            logger.error("Unexpected error while retrieving clients page", e);
+            throw new CustomException(SPError.GENERIC_ERROR.getErrorCode(),
+                    "Unexpected error during client page retrieval", e);
+        }
+    }
+
+    private String encodeCursor(UUID id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private UUID decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid clients cursor [{}]: {}", cursor, e.getMessage());
+            throw new CustomException(SPError.INVALID_PARAMS_ERROR.getErrorCode(), "Invalid cursor");
+        }
+    }
 }
@@ -4,7 +4,7 @@ import com.devsu.ws_customer.application.port.in.GetAllClientsPort;
 import com.devsu.ws_customer.config.exception.CustomException;
 import com.devsu.ws_customer.config.exception.DataBaseException;
 import com.devsu.ws_customer.config.exception.SPError;
-import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.ClientSummaryDomain;
 import com.devsu.ws_customer.application.port.out.ClientStorageRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,7 +20,7 @@ public class GetAllClientsUseCase implements GetAllClientsPort {
     }
 
     @Override
-    public List<ClientDomain> getAll() {
+    public List<ClientSummaryDomain> getAll() {
         try {
             logger.info("Attempting to retrieve all clients");
             return repository.getAll();
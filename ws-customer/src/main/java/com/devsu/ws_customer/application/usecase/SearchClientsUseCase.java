@@ -0,0 +1,55 @@
+package com.devsu.ws_customer.application.usecase;
+
+import com.devsu.ws_customer.application.port.in.SearchClientsPort;
+import com.devsu.ws_customer.application.port.out.ClientStorageRepository;
+import com.devsu.ws_customer.config.exception.CustomException;
+import com.devsu.ws_customer.config.exception.DataBaseException;
+import com.devsu.ws_customer.config.exception.SPError;
+import com.devsu.ws_customer.domain.ClientSummaryDomain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+public class SearchClientsUseCase implements SearchClientsPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchClientsUseCase.class);
+    private static final int MIN_QUERY_LENGTH = 3;
+    private static final int MAX_LIMIT = 50;
+
+    private final ClientStorageRepository repository;
+
+    public SearchClientsUseCase(ClientStorageRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Shorter terms than three characters are rejected: the trigram indexes cannot narrow them down and the
+     * search would read the whole table.
+     */
+    @Override
+    public List<ClientSummaryDomain> search(String query, int limit) {
+        String term = query == null ? "" : query.trim();
+        if (term.length() < MIN_QUERY_LENGTH) {
+            throw new CustomException(SPError.INVALID_PARAMS_ERROR.getErrorCode(),
+                    "Search term must have at least " + MIN_QUERY_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new CustomException(SPError.INVALID_PARAMS_ERROR.getErrorCode(),
+                    "Search limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        try {
+            logger.info("Attempting to search clients by: {}", term);
+            return repository.search(term, limit);
+        } catch (DataBaseException d) {
+            logger.error("Database error while searching clients by: {}", term, d);
+            throw new CustomException(SPError.CUSTOMER_CONTROLLER_SEARCH_ERROR.getErrorCode(),
+                    "Failed to search clients", d);
+        } catch (Exception e) {
+            logger.error("Unexpected error while searching clients by: {}", term, e);
+            throw new CustomException(SPError.GENERIC_ERROR.getErrorCode(),
+                    "Unexpected error during client search", e);
+        }
+    }
+}
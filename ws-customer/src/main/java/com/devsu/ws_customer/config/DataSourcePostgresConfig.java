@@ -16,4 +16,20 @@ public class DataSourcePostgresConfig {
     private String username;
     private String password;
 
+    private String readUrl;
+    private String readUsername;
+    private String readPassword;
+    private Pool pool = new Pool();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Pool {
+
+        private int maximumSize = 20;
+        private int minimumIdle = 5;
+        private long connectionTimeoutMs = 3000;
+        private long idleTimeoutMs = 600000;
+        private long maxLifetimeMs = 1800000;
+    }
 }
@@ -1,12 +1,20 @@
 package com.devsu.ws_customer.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
+import java.util.Map;
 
 
 @Configuration
@@ -14,6 +22,8 @@ import javax.sql.DataSource;
 @EnableConfigurationProperties(DataSourcePostgresConfig.class)
 public class PostgresConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(PostgresConfig.class);
+
     private final DataSourcePostgresConfig dataSourcePostgresConfig;
 
 
@@ -21,13 +31,62 @@ public class PostgresConfig {
         this.dataSourcePostgresConfig = dataSourcePostgresConfig;
     }
 
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource() {
+        return createPool("primary", dataSourcePostgresConfig.getUrl(), dataSourcePostgresConfig.getUsername(),
+                dataSourcePostgresConfig.getPassword(), false);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "spring.datasource", name = "read-url")
+    public HikariDataSource replicaDataSource() {
+        String username = dataSourcePostgresConfig.getReadUsername() != null
+                ? dataSourcePostgresConfig.getReadUsername() : dataSourcePostgresConfig.getUsername();
+        String password = dataSourcePostgresConfig.getReadPassword() != null
+                ? dataSourcePostgresConfig.getReadPassword() : dataSourcePostgresConfig.getPassword();
+        return createPool("replica", dataSourcePostgresConfig.getReadUrl(), username, password, true);
+    }
+
+    /**
+     * Without a read URL every connection comes from the primary pool. With one, read-only transactions
+     * are routed to the replica; expect replication lag on reads that follow a write.
+     */
     @Bean
-    public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replicaDataSource) {
+        HikariDataSource replica = replicaDataSource.getIfAvailable();
+        if (replica == null) {
+            logger.info("No read replica configured, all connections use the primary pool");
+            return primaryDataSource;
+        }
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.PRIMARY, primaryDataSource,
+                ReadWriteRoutingDataSource.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+        logger.info("Read-only transactions routed to replica {}", dataSourcePostgresConfig.getReadUrl());
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private HikariDataSource createPool(String name, String url, String username, String password, boolean readOnly) {
+        DataSourcePostgresConfig.Pool pool = dataSourcePostgresConfig.getPool();
+
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("ws-customer-" + name);
         dataSource.setDriverClassName(dataSourcePostgresConfig.getDriverClassName());
-        dataSource.setUrl(dataSourcePostgresConfig.getUrl());
-        dataSource.setUsername(dataSourcePostgresConfig.getUsername());
-        dataSource.setPassword(dataSourcePostgresConfig.getPassword());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setReadOnly(readOnly);
+        dataSource.setMaximumPoolSize(pool.getMaximumSize());
+        dataSource.setMinimumIdle(pool.getMinimumIdle());
+        dataSource.setConnectionTimeout(pool.getConnectionTimeoutMs());
+        dataSource.setIdleTimeout(pool.getIdleTimeoutMs());
+        dataSource.setMaxLifetime(pool.getMaxLifetimeMs());
+        dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
         return dataSource;
     }
 }
@@ -0,0 +1,79 @@
+package com.devsu.ws_customer.config.catalog;
+
+import com.devsu.ws_customer.application.port.out.ReferenceDataStorageRepository;
+import com.devsu.ws_customer.config.exception.DataBaseException;
+import com.devsu.ws_customer.domain.GenderDomain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory copy of the gender table. The table is loaded once when the application is ready and
+ * swapped as a whole on reload, so readers never see a partial catalog. Lookups return copies.
+ */
+@Component
+public class ReferenceCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceCatalog.class);
+
+    private final ReferenceDataStorageRepository referenceDataAdapter;
+    private volatile Snapshot snapshot;
+
+    public ReferenceCatalog(ReferenceDataStorageRepository referenceDataAdapter) {
+        this.referenceDataAdapter = referenceDataAdapter;
+    }
+
+    /**
+     * A failed startup load is logged and retried on the first lookup instead of stopping the application.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            reload();
+        } catch (DataBaseException e) {
+            logger.warn("Reference catalog could not be loaded at startup: {}", e.getMessage());
+        }
+    }
+
+    public synchronized Snapshot reload() {
+        Map<Integer, GenderDomain> genders = referenceDataAdapter.getGenders().stream()
+                .collect(Collectors.toUnmodifiableMap(GenderDomain::getId, Function.identity()));
+
+        snapshot = new Snapshot(genders, Instant.now());
+        logger.info("Reference catalog loaded: {} genders", genders.size());
+        return snapshot;
+    }
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    public Optional<GenderDomain> findGender(Integer id) {
+        return Optional.ofNullable(id)
+                .map(snapshot().genders()::get)
+                .map(gender -> new GenderDomain(gender.getId(), gender.getGenderName()));
+    }
+
+    /**
+     * Used by the entity mappers. A gender missing from the catalog still maps to its id, so a row
+     * referencing a value added after the last reload is returned instead of failing the read.
+     */
+    public GenderDomain gender(Integer id) {
+        return findGender(id).orElseGet(() -> {
+            logger.warn("Gender {} is not in the reference catalog", id);
+            return GenderDomain.builder().id(id).build();
+        });
+    }
+
+    public record Snapshot(Map<Integer, GenderDomain> genders, Instant loadedAt) {
+    }
+}
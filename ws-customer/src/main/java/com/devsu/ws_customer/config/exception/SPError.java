@@ -19,7 +19,16 @@ public enum SPError {
     CUSTOMER_CONTROLLER_FIND_BY_ID_ERROR(1012, "Failed to retrieve client by ID"),
     CUSTOMER_CONTROLLER_UPDATE_ERROR(1013, "Failed to update client information"),
     CUSTOMER_CONTROLLER_DELETE_ERROR(1014, "Failed to delete client"),
-    RABBITMQ_SEND_ERROR(1015, "Failed send message rabbit");
+    RABBITMQ_SEND_ERROR(1015, "Failed send message rabbit"),
+    IDEMPOTENCY_KEY_IN_PROGRESS(1016, "A request with this Idempotency-Key is still being processed"),
+    IDEMPOTENCY_KEY_REUSED(1017, "Idempotency-Key was already used with a different request"),
+    IDEMPOTENCY_ADAPTER_ERROR(1018, "Error while processing idempotency keys in the database"),
+    INVALID_GENDER(1019, "The gender does not exist"),
+    REFERENCE_DATA_ADAPTER_ERROR(1020, "Error while loading reference data from the database"),
+    STALE_UPDATE_ERROR(1021, "The record was modified or removed by another request"),
+    EXPORT_CONTROLLER_CLIENTS_ERROR(1022, "Failed to export clients"),
+    CUSTOMER_CONTROLLER_SEARCH_ERROR(1023, "Failed to search clients"),
+    CUSTOMER_CONTROLLER_BATCH_ERROR(1024, "Failed to process client batch");
 
     private final int errorCode;
     private final String errorMessage;
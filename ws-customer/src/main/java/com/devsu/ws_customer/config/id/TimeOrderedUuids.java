@@ -0,0 +1,32 @@
+package com.devsu.ws_customer.config.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version 7 UUIDs: a 48-bit Unix millisecond timestamp, the version, a 12-bit sequence and 62 random bits.
+ * Keys generated one after the other land at the right edge of the primary key index instead of on a
+ * random page. The sequence keeps ids monotonic within this process, also for many ids in the same
+ * millisecond or when the clock steps back.
+ */
+public final class TimeOrderedUuids {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST_STAMP = new AtomicLong();
+
+    private TimeOrderedUuids() {
+    }
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        long stamp = LAST_STAMP.updateAndGet(last -> Math.max(now, last + 1));
+        long mostSigBits = (stamp >>> 12) << 16 | 0x7000L | (stamp & 0xFFFL);
+        long leastSigBits = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public static long unixMillis(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+}
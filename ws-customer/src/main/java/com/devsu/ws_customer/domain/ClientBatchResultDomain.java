@@ -0,0 +1,17 @@
+package com.devsu.ws_customer.domain;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class ClientBatchResultDomain {
+
+    private Integer index;
+    private Boolean accepted;
+    private ClientDomain client;
+    private String error;
+}
@@ -18,4 +18,5 @@ public class ClientDomain {
     private String password;
     private boolean status;
     private PersonDomain person;
+    private Long version;
 }
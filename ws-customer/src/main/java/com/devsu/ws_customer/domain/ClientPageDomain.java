@@ -0,0 +1,18 @@
+package com.devsu.ws_customer.domain;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class ClientPageDomain {
+
+    private List<ClientSummaryDomain> items;
+    private String nextCursor;
+    private Long estimatedTotal;
+}
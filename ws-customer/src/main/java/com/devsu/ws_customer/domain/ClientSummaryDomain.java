@@ -0,0 +1,25 @@
+package com.devsu.ws_customer.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Listing view of a client: the columns shown in client lists and search results, read straight from the
+ * query. The full client, with its person, is served by {@code GET /clientes/{id}}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClientSummaryDomain {
+
+    private UUID id;
+    private String clientId;
+    private boolean status;
+    private String name;
+    private String identification;
+}
@@ -0,0 +1,24 @@
+package com.devsu.ws_customer.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecordDomain {
+
+    private String idempotencyKey;
+    private String scope;
+    private String requestHash;
+    private boolean completed;
+    private Integer responseStatus;
+    private String responseBody;
+    private Date createdAt;
+    private Date expiresAt;
+}
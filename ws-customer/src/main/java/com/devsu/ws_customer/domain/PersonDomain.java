@@ -20,4 +20,5 @@ public class PersonDomain {
     private String identification;
     private String address;
     private String phone;
+    private Long version;
 }
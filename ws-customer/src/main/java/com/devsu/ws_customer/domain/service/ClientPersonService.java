@@ -1,17 +1,29 @@
 package com.devsu.ws_customer.domain.service;
 
-import com.devsu.ws_customer.adapter.postgres.ClientPostgresAdapter;
 import com.devsu.ws_customer.adapter.postgres.PersonPostgresAdapter;
+import com.devsu.ws_customer.application.port.out.ClientStorageRepository;
+import com.devsu.ws_customer.config.catalog.ReferenceCatalog;
+import com.devsu.ws_customer.config.exception.CustomException;
 import com.devsu.ws_customer.config.exception.DataBaseException;
 import com.devsu.ws_customer.config.exception.SPError;
+import com.devsu.ws_customer.domain.ClientBatchResultDomain;
 import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.GenderDomain;
 import com.devsu.ws_customer.domain.PersonDomain;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 public class ClientPersonService {
 
@@ -19,26 +31,39 @@ public class ClientPersonService {
     private static final String PERSON_NOT_FOUND = "Person with ID %s not found";
     private static final String CLIENT_NOT_FOUND = "Client with ID %s not found";
 
-    private final ClientPostgresAdapter clientAdapter;
+    private final ClientStorageRepository clientAdapter;
     private final PersonPostgresAdapter personAdapter;
+    private final ReferenceCatalog catalog;
+    private final IdentificationFilterService identificationFilter;
 
 
 
-    public ClientPersonService(ClientPostgresAdapter clientAdapter, PersonPostgresAdapter personAdapter) {
+    public ClientPersonService(ClientStorageRepository clientAdapter, PersonPostgresAdapter personAdapter,
+                               ReferenceCatalog catalog, IdentificationFilterService identificationFilter) {
         this.clientAdapter = clientAdapter;
         this.personAdapter = personAdapter;
+        this.catalog = catalog;
+        this.identificationFilter = identificationFilter;
     }
 
+    /**
+     * Creates the person and its client. The insert itself skips an identification that is already stored,
+     * so no lookup precedes it; the filter answer only spares the lookup of the H2 fallback, and the filter
+     * learns the new identification once the transaction commits.
+     */
     @Transactional
     public ClientDomain create(ClientDomain clientDomain) {
         logger.info("Starting client creation process for clientId: {}", clientDomain.getClientId());
+        clientDomain.getPerson().setGender(resolveGender(clientDomain.getPerson()));
+        String identification = clientDomain.getPerson().getIdentification();
 
-        if (personExists(clientDomain.getPerson().getIdentification())) {
+        PersonDomain createdPerson = personAdapter.insertIfAbsent(clientDomain.getPerson(),
+                identificationFilter.mightContain(identification));
+        if (createdPerson == null) {
             logAndThrowError("Person with identification {} already exists",
-                    clientDomain.getPerson().getIdentification(), SPError.CUSTOMER_ADAPTER_SAVE_ERROR, "Person already exists");
+                    identification, SPError.CUSTOMER_ADAPTER_SAVE_ERROR, "Person already exists");
         }
-
-        PersonDomain createdPerson = personAdapter.save(clientDomain.getPerson());
+        afterCommit(() -> identificationFilter.add(identification));
         logger.info("Person created successfully with ID: {}", createdPerson.getId());
 
         clientDomain.setPerson(createdPerson);
@@ -48,14 +73,88 @@ public class ClientPersonService {
         return createdClient;
     }
 
+    /**
+     * Creates the valid clients of a batch in one transaction. Duplicates are found with one query for
+     * identifications and one for client IDs, then persons and clients are inserted in JDBC batches.
+     * Items with an unknown gender, or an identification or client ID already stored or repeated earlier
+     * in the batch, are rejected; results are returned in request order.
+     */
+    @Transactional
+    public List<ClientBatchResultDomain> createBatch(List<ClientDomain> clients) {
+        logger.info("Starting batch creation of {} clients", clients.size());
+        Set<String> existingIdentifications = new HashSet<>(personAdapter.findExistingIdentifications(clients.stream()
+                .map(client -> client.getPerson().getIdentification())
+                .collect(Collectors.toSet())));
+        Set<String> existingClientIds = new HashSet<>(clientAdapter.findExistingClientIds(clients.stream()
+                .map(ClientDomain::getClientId)
+                .collect(Collectors.toSet())));
+
+        ClientBatchResultDomain[] results = new ClientBatchResultDomain[clients.size()];
+        List<Integer> positions = new ArrayList<>();
+        List<PersonDomain> persons = new ArrayList<>();
+        for (int i = 0; i < clients.size(); i++) {
+            ClientDomain client = clients.get(i);
+            PersonDomain person = client.getPerson();
+            Optional<GenderDomain> gender = catalog.findGender(person.getGender() != null ? person.getGender().getId() : null);
+            String error = null;
+            if (gender.isEmpty()) {
+                error = SPError.INVALID_GENDER.getErrorMessage();
+            } else if (existingIdentifications.contains(person.getIdentification())) {
+                error = "Person already exists";
+            } else if (existingClientIds.contains(client.getClientId())) {
+                error = "Client ID already exists";
+            }
+            if (error != null) {
+                results[i] = ClientBatchResultDomain.builder().index(i).accepted(false).client(client).error(error).build();
+                continue;
+            }
+            existingIdentifications.add(person.getIdentification());
+            existingClientIds.add(client.getClientId());
+            person.setGender(gender.get());
+            positions.add(i);
+            persons.add(person);
+        }
+
+        if (!persons.isEmpty()) {
+            List<PersonDomain> createdPersons = personAdapter.saveAll(persons);
+            List<String> createdIdentifications = createdPersons.stream()
+                    .map(PersonDomain::getIdentification)
+                    .collect(Collectors.toList());
+            afterCommit(() -> createdIdentifications.forEach(identificationFilter::add));
+            List<ClientDomain> pending = new ArrayList<>(positions.size());
+            for (int k = 0; k < positions.size(); k++) {
+                ClientDomain client = clients.get(positions.get(k));
+                client.setPerson(createdPersons.get(k));
+                pending.add(client);
+            }
+            List<ClientDomain> createdClients = clientAdapter.saveAll(pending);
+            for (int k = 0; k < positions.size(); k++) {
+                results[positions.get(k)] = ClientBatchResultDomain.builder()
+                        .index(positions.get(k))
+                        .accepted(true)
+                        .client(createdClients.get(k))
+                        .build();
+            }
+        }
+        logger.info("Client batch processed: {} created, {} rejected", positions.size(), clients.size() - positions.size());
+        return Arrays.asList(results);
+    }
+
     @Transactional
     public ClientDomain update(ClientDomain clientDomain) {
         logger.info("Starting client update process for clientId: {}", clientDomain.getClientId());
+        clientDomain.getPerson().setGender(resolveGender(clientDomain.getPerson()));
 
         ClientDomain existingClient = getClientOrThrow(clientDomain.getId());
         PersonDomain existingPerson = getPersonOrThrow(existingClient.getPerson().getId());
 
         clientDomain.getPerson().setId(existingPerson.getId());
+        if (clientDomain.getVersion() == null) {
+            clientDomain.setVersion(existingClient.getVersion());
+        }
+        if (clientDomain.getPerson().getVersion() == null) {
+            clientDomain.getPerson().setVersion(existingPerson.getVersion());
+        }
         PersonDomain updatedPerson = personAdapter.update(clientDomain.getPerson());
         logger.info("Person updated successfully with ID: {}", updatedPerson.getId());
 
@@ -92,8 +191,29 @@ public class ClientPersonService {
                         String.format(PERSON_NOT_FOUND, personId)));
     }
 
-    private boolean personExists(String identification) {
-        return personAdapter.findByIdentification(identification) != null;
+    private GenderDomain resolveGender(PersonDomain person) {
+        Integer genderId = person.getGender() != null ? person.getGender().getId() : null;
+        return catalog.findGender(genderId).orElseThrow(() -> {
+            logger.error("Gender {} does not exist", genderId);
+            return new CustomException(SPError.INVALID_GENDER.getErrorCode(), SPError.INVALID_GENDER.getErrorMessage());
+        });
+    }
+
+    /**
+     * Runs the action once the current transaction commits, so the identification filter never learns
+     * about a person that was rolled back. Without a transaction the action runs right away.
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     private void logAndThrowError(String logMessage, Object logArg, SPError error, String errorMessage) {
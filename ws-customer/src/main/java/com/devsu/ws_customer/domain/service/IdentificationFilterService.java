@@ -0,0 +1,173 @@
+package com.devsu.ws_customer.domain.service;
+
+import com.devsu.ws_customer.adapter.postgres.PersonPostgresAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over every stored person identification, which tells when an identification is certainly
+ * new. It is only needed on the H2 fallback path of {@link PersonPostgresAdapter#insertIfAbsent}, which looks
+ * the identification up before inserting unless the filter rules it out; on PostgreSQL, INSERT ... ON CONFLICT
+ * rejects a duplicate without any lookup and the answer is ignored. It is
+ * built from the database at startup and rebuilt on a schedule, which also drops identifications of deleted
+ * persons. Until the first build finishes, and for identifications stored by other instances since the last
+ * build, the answer may be wrong, so callers must still rely on the unique constraint to reject duplicates.
+ */
+public class IdentificationFilterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdentificationFilterService.class);
+
+    private final PersonPostgresAdapter personAdapter;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private volatile BloomFilter filter;
+
+    public IdentificationFilterService(PersonPostgresAdapter personAdapter,
+                                       @Value("${client.identification-filter.expected-insertions:1000000}") long expectedInsertions,
+                                       @Value("${client.identification-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.personAdapter = personAdapter;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Returns false only when the identification is certainly not stored, as far as this instance knows.
+     */
+    public boolean mightContain(String identification) {
+        BloomFilter current = filter;
+        return current == null || current.mightContain(identification);
+    }
+
+    public void add(String identification) {
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(identification);
+        }
+    }
+
+    /**
+     * Loads every identification into a new filter and swaps it in. Identifications added while the rebuild
+     * runs go to both filters, so none is lost by the swap.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${client.identification-filter.rebuild-cron:0 0 3 * * *}")
+    public void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveRate);
+            BloomFilter previous = filter;
+            filter = previous == null ? null : new MirroredFilter(previous, rebuilt);
+            long[] loaded = {0};
+            personAdapter.streamIdentifications(identification -> {
+                rebuilt.put(identification);
+                loaded[0]++;
+            });
+            filter = rebuilt;
+            logger.info("Identification filter rebuilt with {} entries in {} ms", loaded[0], System.currentTimeMillis() - start);
+            if (loaded[0] > expectedInsertions) {
+                logger.warn("Identification filter holds {} entries, more than the {} it was sized for",
+                        loaded[0], expectedInsertions);
+            }
+        } catch (Exception e) {
+            logger.warn("Could not rebuild identification filter, keeping the previous one: {}", e.getMessage());
+            if (filter instanceof MirroredFilter mirrored) {
+                filter = mirrored.previous;
+            }
+        }
+    }
+
+    static class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long size;
+        private final int hashes;
+
+        BloomFilter(long expectedInsertions, double falsePositiveRate) {
+            long n = Math.max(1, expectedInsertions);
+            long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.size = Math.max(64, Math.min(m, (long) Integer.MAX_VALUE * Long.SIZE));
+            this.hashes = Math.max(1, (int) Math.round((double) size / n * Math.log(2)));
+            this.bits = new AtomicLongArray((int) ((size + Long.SIZE - 1) / Long.SIZE));
+        }
+
+        void put(String value) {
+            long h1 = fnv1a(value);
+            long h2 = mix(h1);
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, size);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                do {
+                    current = bits.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long h1 = fnv1a(value);
+            long h2 = mix(h1);
+            for (int i = 0; i < hashes; i++) {
+                long bit = Math.floorMod(h1 + i * h2, size);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long fnv1a(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+
+        private static long mix(long hash) {
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash | 1;
+        }
+    }
+
+    /**
+     * Answers from the previous filter while a rebuild is loading, and records new identifications in both.
+     */
+    private static final class MirroredFilter extends BloomFilter {
+
+        private final BloomFilter previous;
+        private final BloomFilter next;
+
+        MirroredFilter(BloomFilter previous, BloomFilter next) {
+            super(1, 0.5);
+            this.previous = previous;
+            this.next = next;
+        }
+
+        @Override
+        void put(String value) {
+            previous.put(value);
+            next.put(value);
+        }
+
+        @Override
+        boolean mightContain(String value) {
+            return previous.mightContain(value);
+        }
+    }
+}
@@ -1,34 +1,49 @@
 package com.devsu.ws_customer.adapter.controller;
 
 import com.devsu.ws_customer.adapter.controller.models.ClientUpdateRequest;
+import com.devsu.ws_customer.adapter.controller.models.CreateClientBatchRequest;
 import com.devsu.ws_customer.adapter.controller.models.CreateClientRequest;
 import com.devsu.ws_customer.application.port.in.*;
+import com.devsu.ws_customer.config.exception.CustomException;
 import com.devsu.ws_customer.config.exception.DataBaseException;
 import com.devsu.ws_customer.config.exception.SPError;
+import com.devsu.ws_customer.domain.ClientBatchResultDomain;
 import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.ClientPageDomain;
+import com.devsu.ws_customer.domain.ClientSummaryDomain;
 import com.devsu.ws_customer.domain.GenderDomain;
+import com.devsu.ws_customer.domain.IdempotencyRecordDomain;
 import com.devsu.ws_customer.domain.PersonDomain;
+import com.devsu.ws_customer.domain.service.IdempotencyService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import java.util.*;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 
 
 @WebMvcTest(ClientController.class)
+@Import(IdempotencyHandler.class)
 class ClientControllerTest {
 
     @Autowired
@@ -52,12 +67,22 @@ class ClientControllerTest {
     @MockBean
     private GetAllClientsPaginatedPort getAllClientsPaginatedPort;
 
+    @MockBean
+    private SearchClientsPort searchClientsPort;
+
+    @MockBean
+    private CreateClientBatchPort createClientBatchPort;
+
+    @MockBean
+    private IdempotencyService idempotencyService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private CreateClientRequest createClientRequest;
     private ClientUpdateRequest clientUpdateRequest;
     private ClientDomain clientDomain;
+    private ClientSummaryDomain clientSummary;
     private UUID clientId;
 
     @BeforeEach
@@ -103,6 +128,14 @@ class ClientControllerTest {
                         .phone(createClientRequest.getPhoneNumber())
                         .build())
                 .build();
+
+        clientSummary = ClientSummaryDomain.builder()
+                .id(clientId)
+                .clientId(createClientRequest.getClientId())
+                .status(true)
+                .name(createClientRequest.getName())
+                .identification(createClientRequest.getIdentification())
+                .build();
     }
 
 
@@ -124,6 +157,66 @@ class ClientControllerTest {
         verify(createClientPort, times(1)).create(any(ClientDomain.class));
     }
 
+    @Test
+    void testCreateClientWithIdempotencyKeyStoresResponse() throws Exception {
+        IdempotencyRecordDomain reservation = IdempotencyRecordDomain.builder()
+                .idempotencyKey("key-1")
+                .completed(false)
+                .build();
+        when(idempotencyService.begin(eq("key-1"), eq("POST /clientes"), anyString())).thenReturn(reservation);
+        when(createClientPort.create(any(ClientDomain.class))).thenReturn(clientDomain);
+
+        mockMvc.perform(post("/clientes")
+                        .header(IdempotencyHandler.HEADER, "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createClientRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.clientId").value("client123"))
+                .andExpect(jsonPath("$.data.password").exists());
+
+        ArgumentCaptor<String> storedBody = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyService, times(1)).complete(eq(reservation), eq(201), storedBody.capture());
+        assertTrue(storedBody.getValue().contains("\"clientId\":\"client123\""));
+        assertFalse(storedBody.getValue().contains("password"));
+    }
+
+    @Test
+    void testCreateClientWithIdempotencyKeyReplaysStoredResponse() throws Exception {
+        IdempotencyRecordDomain stored = IdempotencyRecordDomain.builder()
+                .idempotencyKey("key-1")
+                .completed(true)
+                .responseStatus(201)
+                .responseBody("{\"status\":true,\"code_status\":201,\"message\":\"Created\",\"data\":{\"clientId\":\"client123\"}}")
+                .build();
+        when(idempotencyService.begin(eq("key-1"), eq("POST /clientes"), anyString())).thenReturn(stored);
+
+        mockMvc.perform(post("/clientes")
+                        .header(IdempotencyHandler.HEADER, "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createClientRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyHandler.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.data.clientId").value("client123"));
+
+        verify(createClientPort, never()).create(any(ClientDomain.class));
+    }
+
+    @Test
+    void testCreateClientWithIdempotencyKeyReusedForDifferentRequest() throws Exception {
+        when(idempotencyService.begin(eq("key-1"), eq("POST /clientes"), anyString()))
+                .thenThrow(new CustomException(SPError.IDEMPOTENCY_KEY_REUSED.getErrorCode(),
+                        SPError.IDEMPOTENCY_KEY_REUSED.getErrorMessage()));
+
+        mockMvc.perform(post("/clientes")
+                        .header(IdempotencyHandler.HEADER, "key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createClientRequest)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code_status").value(SPError.IDEMPOTENCY_KEY_REUSED.getErrorCode()));
+
+        verify(createClientPort, never()).create(any(ClientDomain.class));
+    }
+
     @Test
     void testCreateClientValidationErrors() throws Exception {
         CreateClientRequest invalidRequest = CreateClientRequest.builder()
@@ -181,7 +274,7 @@ class ClientControllerTest {
 
     @Test
     void testGetAllClientsSuccess() throws Exception {
-        List<ClientDomain> clients = Collections.singletonList(clientDomain);
+        List<ClientSummaryDomain> clients = Collections.singletonList(clientSummary);
         when(getAllClientsPort.getAll()).thenReturn(clients);
 
         mockMvc.perform(get("/clientes")
@@ -191,7 +284,10 @@ class ClientControllerTest {
                 .andExpect(jsonPath("$.code_status").value(200))
                 .andExpect(jsonPath("$.message").value("OK"))
                 .andExpect(jsonPath("$.data", hasSize(1)))
-                .andExpect(jsonPath("$.data[0].clientId").value("client123"));
+                .andExpect(jsonPath("$.data[0].clientId").value("client123"))
+                .andExpect(jsonPath("$.data[0].name").value("John Doe"))
+                .andExpect(jsonPath("$.data[0].password").doesNotExist())
+                .andExpect(jsonPath("$.data[0].person").doesNotExist());
 
         verify(getAllClientsPort, times(1)).getAll();
     }
@@ -353,8 +449,8 @@ class ClientControllerTest {
 
     @Test
     void testGetAllClientsPaginatedSuccess() throws Exception {
-        List<ClientDomain> clients = Collections.singletonList(clientDomain);
-        Page<ClientDomain> paginatedClients = new PageImpl<>(clients);
+        List<ClientSummaryDomain> clients = Collections.singletonList(clientSummary);
+        Page<ClientSummaryDomain> paginatedClients = new PageImpl<>(clients);
 
         when(getAllClientsPaginatedPort.getAllPaginated(0, 10)).thenReturn(paginatedClients);
 
@@ -367,7 +463,9 @@ class ClientControllerTest {
                 .andExpect(jsonPath("$.code_status").value(200))
                 .andExpect(jsonPath("$.message").value("OK"))
                 .andExpect(jsonPath("$.data", hasSize(1)))
-                .andExpect(jsonPath("$.data[0].clientId").value("client123"));
+                .andExpect(jsonPath("$.data[0].clientId").value("client123"))
+                .andExpect(jsonPath("$.data[0].identification").value("123456789"))
+                .andExpect(jsonPath("$.data[0].password").doesNotExist());
 
         verify(getAllClientsPaginatedPort, times(1)).getAllPaginated(0, 10);
     }
@@ -411,4 +509,106 @@ class ClientControllerTest {
         verify(getAllClientsPaginatedPort, times(1)).getAllPaginated(0, 10);
     }
 
+    @Test
+    void testCreateClientBatchSuccess() throws Exception {
+        CreateClientBatchRequest request = CreateClientBatchRequest.builder()
+                .clients(List.of(createClientRequest))
+                .build();
+        when(createClientBatchPort.createBatch(anyList())).thenReturn(List.of(ClientBatchResultDomain.builder()
+                .index(0)
+                .accepted(true)
+                .client(clientDomain)
+                .build()));
+
+        mockMvc.perform(post("/clientes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].index").value(0))
+                .andExpect(jsonPath("$.data[0].accepted").value(true))
+                .andExpect(jsonPath("$.data[0].client.clientId").value("client123"));
+
+        verify(createClientBatchPort, times(1)).createBatch(anyList());
+    }
+
+    @Test
+    void testCreateClientBatchValidationError() throws Exception {
+        CreateClientBatchRequest request = CreateClientBatchRequest.builder()
+                .clients(List.of())
+                .build();
+
+        mockMvc.perform(post("/clientes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(createClientBatchPort, never()).createBatch(anyList());
+    }
+
+    @Test
+    void testGetAllClientsPaginatedDefaultsToFirstOffsetPage() throws Exception {
+        when(getAllClientsPaginatedPort.getAllPaginated(0, 10)).thenReturn(new PageImpl<>(List.of(clientSummary)));
+
+        mockMvc.perform(get("/clientes/paginated")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].clientId").value("client123"));
+
+        verify(getAllClientsPaginatedPort, never()).getPage(any(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    void testGetClientsKeysetPage() throws Exception {
+        ClientPageDomain clientsPage = ClientPageDomain.builder()
+                .items(List.of(clientSummary))
+                .nextCursor("next")
+                .estimatedTotal(42L)
+                .build();
+        when(getAllClientsPaginatedPort.getPage("current", 10, true)).thenReturn(clientsPage);
+
+        mockMvc.perform(get("/clientes/page")
+                        .param("after", "current")
+                        .param("estimate", "true")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items", hasSize(1)))
+                .andExpect(jsonPath("$.data.items[0].clientId").value("client123"))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.estimatedTotal").value(42));
+
+        verify(getAllClientsPaginatedPort, never()).getAllPaginated(anyInt(), anyInt());
+    }
+
+    @Test
+    void testSearchClientsSuccess() throws Exception {
+        when(searchClientsPort.search("john", 20)).thenReturn(List.of(clientSummary));
+
+        mockMvc.perform(get("/clientes/search")
+                        .param("q", "john")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(true))
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].clientId").value("client123"))
+                .andExpect(jsonPath("$.data[0].password").doesNotExist());
+
+        verify(searchClientsPort, times(1)).search("john", 20);
+    }
+
+    @Test
+    void testSearchClientsInvalidQuery() throws Exception {
+        when(searchClientsPort.search("jo", 5)).thenThrow(new CustomException(
+                SPError.INVALID_PARAMS_ERROR.getErrorCode(), "Search term must have at least 3 characters"));
+
+        mockMvc.perform(get("/clientes/search")
+                        .param("q", "jo")
+                        .param("limit", "5")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(false))
+                .andExpect(jsonPath("$.code_status").value(SPError.CUSTOMER_CONTROLLER_SEARCH_ERROR.getErrorCode()));
+    }
+
 }
@@ -0,0 +1,112 @@
+package com.devsu.ws_customer.adapter.controller;
+
+import com.devsu.ws_customer.application.port.in.ExportClientsPort;
+import com.devsu.ws_customer.config.exception.SPError;
+import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.GenderDomain;
+import com.devsu.ws_customer.domain.PersonDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ExportController.class)
+class ExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExportClientsPort exportClientsPort;
+
+    private ClientDomain clientDomain;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        clientDomain = ClientDomain.builder()
+                .id(UUID.randomUUID())
+                .clientId("client123")
+                .password("secret")
+                .status(true)
+                .person(PersonDomain.builder()
+                        .id(UUID.randomUUID())
+                        .name("Jose Lema")
+                        .gender(new GenderDomain(1, "MALE"))
+                        .age(30)
+                        .identification("1234567890")
+                        .address("Otavalo sn, y principal")
+                        .phone("098254785")
+                        .build())
+                .build();
+        doAnswer(invocation -> {
+            Consumer<ClientDomain> consumer = invocation.getArgument(0);
+            consumer.accept(clientDomain);
+            consumer.accept(clientDomain);
+            return null;
+        }).when(exportClientsPort).export(any(Consumer.class));
+    }
+
+    @Test
+    void testExportClientsAsNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/export/clientes"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"clientId\":\"client123\""));
+        assertTrue(lines[0].contains("\"age\":30"));
+        assertTrue(lines[0].contains("\"status\":true"));
+        assertFalse(body.contains("secret"));
+    }
+
+    @Test
+    void testExportClientsAsCsv() throws Exception {
+        MvcResult result = mockMvc.perform(get("/export/clientes")
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", containsString("clientes.csv")))
+                .andExpect(content().string(org.hamcrest.Matchers.startsWith("id,clientId,status,personId,name,gender,age,identification,address,phone\r\n")))
+                .andExpect(content().string(containsString(",Jose Lema,MALE,30,1234567890,\"Otavalo sn, y principal\",098254785\r\n")))
+                .andExpect(content().string(not(containsString("secret"))));
+    }
+
+    @Test
+    void testExportClientsUnknownFormat() throws Exception {
+        MvcResult result = mockMvc.perform(get("/export/clientes")
+                        .param("format", "xml"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code_status").value(SPError.EXPORT_CONTROLLER_CLIENTS_ERROR.getErrorCode()));
+
+        verify(exportClientsPort, never()).export(any());
+    }
+}
@@ -0,0 +1,118 @@
+package com.devsu.ws_customer.adapter.postgres;
+
+import com.devsu.ws_customer.domain.ClientDomain;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClientCacheAdapterTest {
+
+    @Mock
+    private ClientPostgresAdapter delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ClientCacheAdapter adapter;
+    private ClientDomain client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new ClientCacheAdapter(delegate, meterRegistry, 100, 300);
+        client = ClientDomain.builder().id(UUID.randomUUID()).clientId("client123").status(true).version(0L).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void testRepeatedLookupIsServedFromCache() {
+        when(delegate.getById(client.getId())).thenReturn(client);
+
+        ClientDomain first = adapter.getById(client.getId());
+        ClientDomain second = adapter.getById(client.getId());
+
+        assertSame(first, second);
+        verify(delegate, times(1)).getById(client.getId());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "clients").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "clients").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void testLookupByClientIdSharesTheIdCache() {
+        when(delegate.findByClientId("client123")).thenReturn(client);
+
+        adapter.findByClientId("client123");
+        ClientDomain byClientId = adapter.findByClientId("client123");
+        ClientDomain byId = adapter.getById(client.getId());
+
+        assertSame(client, byClientId);
+        assertSame(client, byId);
+        verify(delegate, times(1)).findByClientId("client123");
+        verify(delegate, never()).getById(any(UUID.class));
+    }
+
+    @Test
+    void testUpdateEvictsClient() {
+        when(delegate.getById(client.getId())).thenReturn(client);
+        when(delegate.update(client)).thenReturn(client);
+
+        adapter.getById(client.getId());
+        adapter.update(client);
+        adapter.getById(client.getId());
+
+        verify(delegate, times(2)).getById(client.getId());
+    }
+
+    @Test
+    void testDeleteEvictsClientAgainAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(delegate.getById(client.getId())).thenReturn(client);
+
+        adapter.delete(client.getId());
+        adapter.getById(client.getId());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        adapter.getById(client.getId());
+
+        verify(delegate).delete(client.getId());
+        verify(delegate, times(2)).getById(client.getId());
+    }
+
+    @Test
+    void testWriteTransactionBypassesCache() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(delegate.getById(client.getId())).thenReturn(client);
+
+        adapter.getById(client.getId());
+        adapter.getById(client.getId());
+
+        verify(delegate, times(2)).getById(client.getId());
+    }
+
+    @Test
+    void testNotFoundIsNotCached() {
+        when(delegate.getById(client.getId())).thenReturn(null);
+
+        assertNull(adapter.getById(client.getId()));
+        assertNull(adapter.getById(client.getId()));
+
+        verify(delegate, times(2)).getById(client.getId());
+    }
+}
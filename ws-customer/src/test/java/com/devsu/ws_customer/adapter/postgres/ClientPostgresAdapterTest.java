@@ -4,6 +4,7 @@ import com.devsu.ws_customer.adapter.postgres.models.ClientEntity;
 import com.devsu.ws_customer.config.exception.DataBaseException;
 import com.devsu.ws_customer.config.exception.SPError;
 import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.ClientSummaryDomain;
 import com.devsu.ws_customer.domain.GenderDomain;
 import com.devsu.ws_customer.domain.PersonDomain;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,9 +18,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -36,13 +40,15 @@ class ClientPostgresAdapterTest {
 
     private ClientDomain clientDomain;
     private ClientEntity clientEntity;
+    private ClientSummaryDomain clientSummary;
     private PersonDomain personDomain;
 
     @BeforeEach
     void setUp() {
-        personDomain = new PersonDomain(UUID.randomUUID(), "John Doe", new GenderDomain(1, "OTHER"), 30, "123", "country", "1234567890");
-        clientDomain = new ClientDomain(UUID.randomUUID(), "client123", "123", true, personDomain);
+        personDomain = new PersonDomain(UUID.randomUUID(), "John Doe", new GenderDomain(1, "OTHER"), 30, "123", "country", "1234567890", 0L);
+        clientDomain = new ClientDomain(UUID.randomUUID(), "client123", "123", true, personDomain, 0L);
         clientEntity = ClientEntity.fromDomain(clientDomain);
+        clientSummary = new ClientSummaryDomain(clientDomain.getId(), "client123", true, "John Doe", "123");
     }
 
     @Test
@@ -66,21 +72,21 @@ class ClientPostgresAdapterTest {
 
     @Test
     void testGetClientByIdSuccess() {
-        when(repository.findById(any(UUID.class))).thenReturn(Optional.of(clientEntity));
+        when(repository.findWithPersonById(any(UUID.class))).thenReturn(Optional.of(clientEntity));
 
         ClientDomain result = adapter.getById(clientDomain.getId());
 
         assertNotNull(result);
         assertEquals(clientDomain.getClientId(), result.getClientId());
-        verify(repository, times(1)).findById(any(UUID.class));
+        verify(repository, times(1)).findWithPersonById(any(UUID.class));
     }
 
     @Test
     void testGetClientByIdFailure() {
-        when(repository.findById(any(UUID.class))).thenReturn(Optional.empty());
+        when(repository.findWithPersonById(any(UUID.class))).thenReturn(Optional.empty());
 
         assertThrows(DataBaseException.class, () -> adapter.getById(clientDomain.getId()));
-        verify(repository, times(1)).findById(any(UUID.class));
+        verify(repository, times(1)).findWithPersonById(any(UUID.class));
     }
 
     @Test
@@ -94,21 +100,32 @@ class ClientPostgresAdapterTest {
 
     @Test
     void testGetClientByIdException() {
-        when(repository.findById(any(UUID.class))).thenThrow(new RuntimeException("Database error"));
+        when(repository.findWithPersonById(any(UUID.class))).thenThrow(new RuntimeException("Database error"));
 
         DataBaseException exception = assertThrows(DataBaseException.class, () -> adapter.getById(clientDomain.getId()));
         assertEquals(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), exception.getErrorCode());
-        verify(repository, times(1)).findById(any(UUID.class));
+        verify(repository, times(1)).findWithPersonById(any(UUID.class));
     }
 
     @Test
-    void testUpdateClientNotFound() {
-        when(repository.existsById(any(UUID.class))).thenReturn(false);
+    void testUpdateClientSuccess() {
+        when(repository.updateIfCurrent(any(UUID.class), anyLong(), anyString(), anyString(), anyBoolean())).thenReturn(1);
+
+        ClientDomain result = adapter.update(clientDomain);
+
+        assertEquals(1L, result.getVersion());
+        assertEquals(clientDomain.getPerson(), result.getPerson());
+        verify(repository, times(1)).updateIfCurrent(clientDomain.getId(), 0L, "client123", "123", true);
+        verify(repository, never()).save(any(ClientEntity.class));
+    }
+
+    @Test
+    void testUpdateClientNotFoundOrStale() {
+        when(repository.updateIfCurrent(any(UUID.class), anyLong(), anyString(), anyString(), anyBoolean())).thenReturn(0);
 
         DataBaseException exception = assertThrows(DataBaseException.class, () -> adapter.update(clientDomain));
-        assertEquals(SPError.CUSTOMER_ADAPTER_UPDATE_ERROR.getErrorCode(), exception.getErrorCode());
-        assertEquals("Client not found", exception.getMessage());
-        verify(repository, times(1)).existsById(any(UUID.class));
+        assertEquals(SPError.STALE_UPDATE_ERROR.getErrorCode(), exception.getErrorCode());
+        verify(repository, never()).existsById(any(UUID.class));
         verify(repository, never()).save(any(ClientEntity.class));
     }
 
@@ -139,36 +156,130 @@ class ClientPostgresAdapterTest {
     }
 
     @Test
-    void testGetAllPaginatedSuccess() {
-        Pageable pageable = PageRequest.of(0, 10);
+    void testGetAllReturnsSummaries() {
+        when(repository.findAllSummaries()).thenReturn(List.of(clientSummary));
 
-        Page<ClientEntity> page = mock(Page.class);
-        when(repository.findAll(pageable)).thenReturn(page);
+        List<ClientSummaryDomain> result = adapter.getAll();
+
+        assertEquals(1, result.size());
+        assertEquals(clientDomain.getClientId(), result.get(0).getClientId());
+        verify(repository, times(1)).findAllSummaries();
+    }
+
+    @Test
+    void testGetAllFailure() {
+        when(repository.findAllSummaries()).thenThrow(new RuntimeException("Database error"));
+
+        DataBaseException exception = assertThrows(DataBaseException.class, () -> adapter.getAll());
+        assertEquals(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), exception.getErrorCode());
+    }
 
-        when(page.map(any())).thenAnswer(invocation -> {
-            return Page.empty();
-        });
+    @Test
+    void testGetAllPaginatedSuccess() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(repository.findAllSummaries(pageable)).thenReturn(Page.empty());
 
-        Page<ClientDomain> result = adapter.getAllPaginated(0, 10);
+        Page<ClientSummaryDomain> result = adapter.getAllPaginated(0, 10);
 
         assertNotNull(result);
-        verify(repository, times(1)).findAll(pageable);
+        verify(repository, times(1)).findAllSummaries(pageable);
     }
 
     @Test
     void testGetAllPaginatedWithData() {
         Pageable pageable = PageRequest.of(0, 10);
-        ClientEntity clientEntity = ClientEntity.fromDomain(clientDomain);
-
-        Page<ClientEntity> page = new PageImpl<>(List.of(clientEntity));
-        when(repository.findAll(pageable)).thenReturn(page);
+        when(repository.findAllSummaries(pageable)).thenReturn(new PageImpl<>(List.of(clientSummary)));
 
-        Page<ClientDomain> result = adapter.getAllPaginated(0, 10);
+        Page<ClientSummaryDomain> result = adapter.getAllPaginated(0, 10);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(clientDomain.getClientId(), result.getContent().get(0).getClientId());
-        verify(repository, times(1)).findAll(pageable);
+        assertEquals(personDomain.getName(), result.getContent().get(0).getName());
+        verify(repository, times(1)).findAllSummaries(pageable);
     }
 
+    @Test
+    void testStreamAllSuccess() {
+        when(repository.streamAllWithPerson()).thenReturn(Stream.of(clientEntity));
+        List<ClientDomain> streamed = new ArrayList<>();
+
+        adapter.streamAll(streamed::add);
+
+        assertEquals(1, streamed.size());
+        assertEquals(clientDomain.getClientId(), streamed.get(0).getClientId());
+        assertEquals(personDomain.getName(), streamed.get(0).getPerson().getName());
+    }
+
+    @Test
+    void testStreamAllFailure() {
+        when(repository.streamAllWithPerson()).thenThrow(new RuntimeException("Database error"));
+
+        assertThrows(DataBaseException.class, () -> adapter.streamAll(client -> { }));
+    }
+
+    @Test
+    void testSearchEscapesPatternAndLimitsResults() {
+        when(repository.search(eq("50%_!"), eq("50!%!_!!%"), eq("50!%!_!!%"), eq("%50!%!_!!%"), any(Pageable.class)))
+                .thenReturn(List.of(clientSummary));
+
+        List<ClientSummaryDomain> result = adapter.search("50%_!", 10);
+
+        assertEquals(1, result.size());
+        assertEquals(clientDomain.getClientId(), result.get(0).getClientId());
+        verify(repository).search(anyString(), anyString(), anyString(), anyString(), eq(PageRequest.of(0, 10)));
+    }
+
+    @Test
+    void testSearchFailure() {
+        when(repository.search(anyString(), anyString(), anyString(), anyString(), any(Pageable.class)))
+                .thenThrow(new RuntimeException("Database error"));
+
+        assertThrows(DataBaseException.class, () -> adapter.search("john", 10));
+    }
+
+    @Test
+    void testGetPageAfterUsesKeyset() {
+        UUID afterId = UUID.randomUUID();
+        when(repository.findSummaryPageAfter(afterId, PageRequest.of(0, 11))).thenReturn(List.of(clientSummary));
+
+        List<ClientSummaryDomain> result = adapter.getPageAfter(afterId, 11);
+
+        assertEquals(1, result.size());
+        verify(repository, never()).findFirstSummaryPage(any(Pageable.class));
+    }
+
+    @Test
+    void testGetFirstPage() {
+        when(repository.findFirstSummaryPage(PageRequest.of(0, 11))).thenReturn(List.of(clientSummary));
+
+        List<ClientSummaryDomain> result = adapter.getPageAfter(null, 11);
+
+        assertEquals(1, result.size());
+        verify(repository, never()).findSummaryPageAfter(any(UUID.class), any(Pageable.class));
+    }
+
+    @Test
+    void testEstimateCountUnavailableReturnsNull() {
+        assertNull(adapter.estimateCount());
+    }
+
+    @Test
+    void testSaveAllSuccess() {
+        when(repository.saveAll(anyList())).thenReturn(List.of(clientEntity));
+
+        List<ClientDomain> result = adapter.saveAll(List.of(clientDomain));
+
+        assertEquals(1, result.size());
+        assertEquals(clientDomain.getClientId(), result.get(0).getClientId());
+    }
+
+    @Test
+    void testFindExistingClientIds() {
+        when(repository.findExistingClientIds(anyCollection())).thenReturn(List.of("client123"));
+
+        Set<String> result = adapter.findExistingClientIds(Set.of("client123", "client456"));
+
+        assertEquals(Set.of("client123"), result);
+    }
 }
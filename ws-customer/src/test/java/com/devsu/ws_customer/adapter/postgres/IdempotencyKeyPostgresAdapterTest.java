@@ -0,0 +1,96 @@
+package com.devsu.ws_customer.adapter.postgres;
+
+import com.devsu.ws_customer.adapter.postgres.models.IdempotencyKeyEntity;
+import com.devsu.ws_customer.config.exception.DataBaseException;
+import com.devsu.ws_customer.domain.IdempotencyRecordDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class IdempotencyKeyPostgresAdapterTest {
+
+    @Autowired
+    private IdempotencyKeyPostgresAdapter adapter;
+
+    @MockBean
+    private IdempotencyKeyPostgresRepository repository;
+
+    private IdempotencyRecordDomain reservation;
+
+    @BeforeEach
+    void setUp() {
+        Date now = new Date();
+        reservation = IdempotencyRecordDomain.builder()
+                .idempotencyKey("key-1")
+                .scope("POST /clientes")
+                .requestHash("hash-1")
+                .completed(false)
+                .createdAt(now)
+                .expiresAt(new Date(now.getTime() + 60_000))
+                .build();
+    }
+
+    @Test
+    void testReserveNewKey() {
+        when(repository.saveAndFlush(any(IdempotencyKeyEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertNull(adapter.reserve(reservation));
+    }
+
+    @Test
+    void testReserveExistingKey() {
+        IdempotencyKeyEntity stored = IdempotencyKeyEntity.fromDomain(reservation);
+        stored.setCompleted(true);
+        stored.setResponseStatus(201);
+        when(repository.saveAndFlush(any(IdempotencyKeyEntity.class))).thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(repository.findById("key-1")).thenReturn(Optional.of(stored));
+
+        IdempotencyRecordDomain result = adapter.reserve(reservation);
+
+        assertNotNull(result);
+        assertTrue(result.isCompleted());
+        assertEquals(201, result.getResponseStatus());
+    }
+
+    @Test
+    void testReserveFailure() {
+        when(repository.saveAndFlush(any(IdempotencyKeyEntity.class))).thenThrow(new RuntimeException("Database error"));
+
+        assertThrows(DataBaseException.class, () -> adapter.reserve(reservation));
+    }
+
+    @Test
+    void testCompleteSuccess() {
+        Date expiresAt = new Date();
+        when(repository.complete("key-1", 201, "{}", expiresAt)).thenReturn(1);
+
+        assertTrue(adapter.complete("key-1", 201, "{}", expiresAt));
+    }
+
+    @Test
+    void testReleaseSuccess() {
+        when(repository.release("key-1")).thenReturn(1);
+
+        assertDoesNotThrow(() -> adapter.release("key-1"));
+        verify(repository, times(1)).release("key-1");
+    }
+
+    @Test
+    void testPurgeExpiredFailure() {
+        when(repository.deleteAllExpired(any(Date.class))).thenThrow(new RuntimeException("Database error"));
+
+        assertThrows(DataBaseException.class, () -> adapter.purgeExpired(new Date()));
+    }
+}
@@ -1,6 +1,7 @@
 package com.devsu.ws_customer.adapter.postgres;
 
 import com.devsu.ws_customer.adapter.postgres.models.PersonEntity;
+import com.devsu.ws_customer.config.catalog.ReferenceCatalog;
 import com.devsu.ws_customer.config.exception.DataBaseException;
 import com.devsu.ws_customer.config.exception.SPError;
 import com.devsu.ws_customer.domain.GenderDomain;
@@ -10,10 +11,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,12 +35,15 @@ class PersonPostgresAdapterTest {
     @MockBean
     private PersonPostgresRepository repository;
 
+    @Autowired
+    private ReferenceCatalog catalog;
+
     private PersonDomain personDomain;
     private PersonEntity personEntity;
 
     @BeforeEach
     void setUp() {
-        personDomain = new PersonDomain(UUID.randomUUID(), "John Doe", new GenderDomain(1, "OTHER"), 30, "123", "country", "1234567890");
+        personDomain = new PersonDomain(UUID.randomUUID(), "John Doe", new GenderDomain(1, "OTHER"), 30, "123", "country", "1234567890", 0L);
         personEntity = PersonEntity.fromDomain(personDomain);
     }
 
@@ -96,39 +106,36 @@ class PersonPostgresAdapterTest {
 
     @Test
     void testUpdatePersonSuccess() {
-        when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(repository.save(any(PersonEntity.class))).thenReturn(personEntity);
+        when(repository.updateIfCurrent(any(UUID.class), anyLong(), anyString(), anyInt(), anyInt(), anyString(), anyString())).thenReturn(1);
 
         PersonDomain result = adapter.update(personDomain);
 
         assertNotNull(result);
         assertEquals(personDomain.getName(), result.getName());
-        verify(repository, times(1)).existsById(any(UUID.class));
-        verify(repository, times(1)).save(any(PersonEntity.class));
+        assertEquals(1L, result.getVersion());
+        verify(repository, times(1)).updateIfCurrent(personDomain.getId(), 0L, "John Doe", 1, 30, "country", "1234567890");
+        verify(repository, never()).save(any(PersonEntity.class));
     }
 
     @Test
     void testUpdatePersonNotFound() {
-        when(repository.existsById(any(UUID.class))).thenReturn(false);
+        when(repository.updateIfCurrent(any(UUID.class), anyLong(), anyString(), anyInt(), anyInt(), anyString(), anyString())).thenReturn(0);
 
         DataBaseException exception = assertThrows(DataBaseException.class, () -> adapter.update(personDomain));
 
-        assertEquals(SPError.CUSTOMER_ADAPTER_UPDATE_ERROR.getErrorCode(), exception.getErrorCode());
-        assertEquals("Person not found", exception.getMessage());
-        verify(repository, times(1)).existsById(any(UUID.class));
+        assertEquals(SPError.STALE_UPDATE_ERROR.getErrorCode(), exception.getErrorCode());
+        verify(repository, never()).existsById(any(UUID.class));
         verify(repository, never()).save(any(PersonEntity.class));
     }
 
     @Test
     void testUpdatePersonFailure() {
-        when(repository.existsById(any(UUID.class))).thenReturn(true);
-        when(repository.save(any(PersonEntity.class))).thenThrow(new RuntimeException("Error updating person"));
+        when(repository.updateIfCurrent(any(UUID.class), anyLong(), anyString(), anyInt(), anyInt(), anyString(), anyString()))
+                .thenThrow(new RuntimeException("Error updating person"));
 
         DataBaseException exception = assertThrows(DataBaseException.class, () -> adapter.update(personDomain));
 
         assertEquals(SPError.CUSTOMER_ADAPTER_UPDATE_ERROR.getErrorCode(), exception.getErrorCode());
-        verify(repository, times(1)).existsById(any(UUID.class));
-        verify(repository, times(1)).save(any(PersonEntity.class));
     }
 
     @Test
@@ -180,4 +187,106 @@ class PersonPostgresAdapterTest {
         assertEquals(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), exception.getErrorCode());
         verify(repository, times(1)).findByIdentification(anyString());
     }
+
+    @Test
+    void testSaveAllSuccess() {
+        when(repository.saveAll(anyList())).thenReturn(List.of(personEntity));
+
+        List<PersonDomain> result = adapter.saveAll(List.of(personDomain));
+
+        assertEquals(1, result.size());
+        assertEquals(personDomain.getIdentification(), result.get(0).getIdentification());
+    }
+
+    @Test
+    void testFindExistingIdentifications() {
+        when(repository.findExistingIdentifications(anyCollection())).thenReturn(List.of("123"));
+
+        Set<String> result = adapter.findExistingIdentifications(Set.of("123", "456"));
+
+        assertEquals(Set.of("123"), result);
+    }
+
+    @Test
+    void testFindExistingIdentificationsEmptySkipsQuery() {
+        assertTrue(adapter.findExistingIdentifications(Set.of()).isEmpty());
+
+        verify(repository, never()).findExistingIdentifications(anyCollection());
+    }
+
+    @Test
+    void testInsertIfAbsentInsertsNewPerson() {
+        when(repository.findByIdentification("123")).thenReturn(Optional.empty());
+        when(repository.save(any(PersonEntity.class))).thenReturn(personEntity);
+
+        PersonDomain result = adapter.insertIfAbsent(personDomain, true);
+
+        assertNotNull(result);
+        assertEquals(personDomain.getIdentification(), result.getIdentification());
+        verify(repository, times(1)).save(any(PersonEntity.class));
+    }
+
+    @Test
+    void testInsertIfAbsentSkipsLookupWhenIdentificationIsCertainlyNew() {
+        when(repository.save(any(PersonEntity.class))).thenReturn(personEntity);
+
+        assertNotNull(adapter.insertIfAbsent(personDomain, false));
+        verify(repository, never()).findByIdentification(anyString());
+        verify(repository, times(1)).save(any(PersonEntity.class));
+    }
+
+    @Test
+    void testInsertIfAbsentSkipsExistingIdentification() {
+        when(repository.findByIdentification("123")).thenReturn(Optional.of(personEntity));
+
+        assertNull(adapter.insertIfAbsent(personDomain, true));
+        verify(repository, never()).save(any(PersonEntity.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testInsertIfAbsentUsesOnConflictOnPostgres() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+        when(jdbcTemplate.update(startsWith("INSERT INTO person"), any(Object[].class))).thenReturn(1);
+        PersonPostgresAdapter postgresAdapter = new PersonPostgresAdapter(repository, catalog, jdbcTemplate);
+
+        PersonDomain result = postgresAdapter.insertIfAbsent(personDomain, true);
+
+        assertNotNull(result.getId());
+        assertEquals(0L, result.getVersion());
+        verify(jdbcTemplate).update(contains("ON CONFLICT (identification) DO NOTHING"), any(Object[].class));
+        verify(repository, never()).findByIdentification(anyString());
+        verify(repository, never()).save(any(PersonEntity.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testInsertIfAbsentOnPostgresReturnsNullOnConflict() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("PostgreSQL");
+        when(jdbcTemplate.update(startsWith("INSERT INTO person"), any(Object[].class))).thenReturn(0);
+        PersonPostgresAdapter postgresAdapter = new PersonPostgresAdapter(repository, catalog, jdbcTemplate);
+
+        assertNull(postgresAdapter.insertIfAbsent(personDomain, true));
+        verify(repository, never()).save(any(PersonEntity.class));
+    }
+
+    @Test
+    void testStreamIdentificationsSuccess() {
+        when(repository.streamAllIdentifications()).thenReturn(Stream.of("123", "456"));
+        List<String> identifications = new ArrayList<>();
+
+        adapter.streamIdentifications(identifications::add);
+
+        assertEquals(List.of("123", "456"), identifications);
+    }
+
+    @Test
+    void testStreamIdentificationsFailure() {
+        when(repository.streamAllIdentifications()).thenThrow(new RuntimeException("Database error"));
+
+        DataBaseException exception = assertThrows(DataBaseException.class, () -> adapter.streamIdentifications(identification -> { }));
+        assertEquals(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), exception.getErrorCode());
+    }
 }
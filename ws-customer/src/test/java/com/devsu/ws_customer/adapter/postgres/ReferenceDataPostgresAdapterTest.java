@@ -0,0 +1,43 @@
+package com.devsu.ws_customer.adapter.postgres;
+
+import com.devsu.ws_customer.adapter.postgres.models.GenderEntity;
+import com.devsu.ws_customer.config.exception.DataBaseException;
+import com.devsu.ws_customer.domain.GenderDomain;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReferenceDataPostgresAdapterTest {
+
+    @Autowired
+    private ReferenceDataPostgresAdapter adapter;
+
+    @MockBean
+    private GenderPostgresRepository genderRepository;
+
+    @Test
+    void testGetGendersSuccess() {
+        when(genderRepository.findAll()).thenReturn(List.of(new GenderEntity(1, "Male"), new GenderEntity(2, "Female")));
+
+        List<GenderDomain> result = adapter.getGenders();
+
+        assertEquals(2, result.size());
+        assertEquals("Female", result.get(1).getGenderName());
+    }
+
+    @Test
+    void testGetGendersFailure() {
+        when(genderRepository.findAll()).thenThrow(new RuntimeException("Error retrieving genders"));
+
+        assertThrows(DataBaseException.class, () -> adapter.getGenders());
+    }
+}
@@ -0,0 +1,91 @@
+package com.devsu.ws_customer.application.usecase;
+
+import com.devsu.ws_customer.application.port.out.MessageSendRabbit;
+import com.devsu.ws_customer.config.exception.DataBaseException;
+import com.devsu.ws_customer.config.exception.SPError;
+import com.devsu.ws_customer.domain.ClientBatchResultDomain;
+import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.service.ClientPersonService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreateClientBatchUseCaseTest {
+
+    @Mock
+    private ClientPersonService service;
+
+    @Mock
+    private MessageSendRabbit message;
+
+    private CreateClientBatchUseCase useCase;
+
+    private ClientDomain first;
+    private ClientDomain second;
+    private ClientDomain third;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new CreateClientBatchUseCase(service, message);
+        first = ClientDomain.builder().clientId("client001").build();
+        second = ClientDomain.builder().clientId("client002").build();
+        third = ClientDomain.builder().clientId("client003").build();
+    }
+
+    @Test
+    void testCreateBatchPublishesCreatedClients() {
+        List<ClientDomain> domains = List.of(first, second, third);
+        when(service.createBatch(domains)).thenReturn(List.of(
+                accepted(0, first),
+                ClientBatchResultDomain.builder().index(1).accepted(false).client(second).error("Person already exists").build(),
+                accepted(2, third)));
+        when(message.sendClientInfoBatch(List.of(first, third))).thenReturn(2);
+
+        List<ClientBatchResultDomain> results = useCase.createBatch(domains);
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).getAccepted());
+        assertNull(results.get(0).getError());
+        assertFalse(results.get(1).getAccepted());
+        verify(message, times(1)).sendClientInfoBatch(List.of(first, third));
+    }
+
+    @Test
+    void testCreateBatchMarksUnpublishedClients() {
+        List<ClientDomain> domains = List.of(first, second);
+        when(service.createBatch(domains)).thenReturn(List.of(accepted(0, first), accepted(1, second)));
+        when(message.sendClientInfoBatch(List.of(first, second))).thenReturn(1);
+
+        List<ClientBatchResultDomain> results = useCase.createBatch(domains);
+
+        assertTrue(results.get(1).getAccepted());
+        assertNull(results.get(0).getError());
+        assertNotNull(results.get(1).getError());
+    }
+
+    @Test
+    void testCreateBatchDataBaseErrorRejectsAll() {
+        List<ClientDomain> domains = List.of(first, second);
+        when(service.createBatch(domains)).thenThrow(new DataBaseException(
+                SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorCode(), "Error while saving data in the database"));
+
+        List<ClientBatchResultDomain> results = useCase.createBatch(domains);
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().noneMatch(ClientBatchResultDomain::getAccepted));
+        assertEquals(1, results.get(1).getIndex());
+        verifyNoInteractions(message);
+    }
+
+    private ClientBatchResultDomain accepted(int index, ClientDomain client) {
+        return ClientBatchResultDomain.builder().index(index).accepted(true).client(client).build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.devsu.ws_customer.application.usecase;
+
+import com.devsu.ws_customer.application.port.out.ClientStorageRepository;
+import com.devsu.ws_customer.domain.ClientDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportClientsUseCaseTest {
+
+    @Mock
+    private ClientStorageRepository repository;
+
+    private ExportClientsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ExportClientsUseCase(repository);
+    }
+
+    @Test
+    void testExportStreamsFromRepository() {
+        Consumer<ClientDomain> consumer = client -> { };
+
+        useCase.export(consumer);
+
+        verify(repository, times(1)).streamAll(consumer);
+    }
+}
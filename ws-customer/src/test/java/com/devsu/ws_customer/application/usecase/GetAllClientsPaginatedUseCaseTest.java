@@ -3,7 +3,8 @@ package com.devsu.ws_customer.application.usecase;
 import com.devsu.ws_customer.config.exception.CustomException;
 import com.devsu.ws_customer.config.exception.DataBaseException;
 import com.devsu.ws_customer.config.exception.SPError;
-import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.ClientPageDomain;
+import com.devsu.ws_customer.domain.ClientSummaryDomain;
 import com.devsu.ws_customer.application.port.out.ClientStorageRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,7 +16,10 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,27 +32,27 @@ class GetAllClientsPaginatedUseCaseTest {
 
     private GetAllClientsPaginatedUseCase useCase;
 
-    private Page<ClientDomain> clientPage;
+    private Page<ClientSummaryDomain> clientPage;
 
     @BeforeEach
     void setUp() {
         useCase = new GetAllClientsPaginatedUseCase(repository);
 
-        ClientDomain clientDomain = ClientDomain.builder()
+        ClientSummaryDomain clientSummary = ClientSummaryDomain.builder()
                 .clientId("client123")
-                .password("password")
+                .name("John Doe")
                 .status(true)
                 .build();
 
         Pageable pageable = PageRequest.of(0, 10);
-        clientPage = new PageImpl<>(List.of(clientDomain), pageable, 1);
+        clientPage = new PageImpl<>(List.of(clientSummary), pageable, 1);
     }
 
     @Test
     void testGetAllClientsPaginatedSuccess() {
         when(repository.getAllPaginated(0, 10)).thenReturn(clientPage);
 
-        Page<ClientDomain> result = useCase.getAllPaginated(0, 10);
+        Page<ClientSummaryDomain> result = useCase.getAllPaginated(0, 10);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
@@ -89,4 +93,52 @@ class GetAllClientsPaginatedUseCaseTest {
 
         verify(repository, times(1)).getAllPaginated(0, 10);
     }
+
+    @Test
+    void testGetPageReturnsCursorWhenMoreClientsExist() {
+        ClientSummaryDomain first = ClientSummaryDomain.builder().id(UUID.randomUUID()).clientId("first").build();
+        ClientSummaryDomain second = ClientSummaryDomain.builder().id(UUID.randomUUID()).clientId("second").build();
+        when(repository.getPageAfter(null, 2)).thenReturn(List.of(first, second));
+
+        ClientPageDomain result = useCase.getPage(null, 1, false);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals("first", result.getItems().get(0).getClientId());
+        assertEquals(first.getId().toString(),
+                new String(Base64.getUrlDecoder().decode(result.getNextCursor()), StandardCharsets.UTF_8));
+        assertNull(result.getEstimatedTotal());
+        verify(repository, never()).estimateCount();
+    }
+
+    @Test
+    void testGetPageResumesAfterCursorWithEstimate() {
+        UUID lastId = UUID.randomUUID();
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(lastId.toString().getBytes(StandardCharsets.UTF_8));
+        ClientSummaryDomain next = ClientSummaryDomain.builder().id(UUID.randomUUID()).clientId("next").build();
+        when(repository.getPageAfter(lastId, 11)).thenReturn(List.of(next));
+        when(repository.estimateCount()).thenReturn(1200L);
+
+        ClientPageDomain result = useCase.getPage(cursor, 10, true);
+
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+        assertEquals(1200L, result.getEstimatedTotal());
+    }
+
+    @Test
+    void testGetPageCapsSize() {
+        when(repository.getPageAfter(null, 501)).thenReturn(List.of());
+
+        useCase.getPage(null, 10000, false);
+
+        verify(repository, times(1)).getPageAfter(null, 501);
+    }
+
+    @Test
+    void testGetPageInvalidCursor() {
+        CustomException exception = assertThrows(CustomException.class, () -> useCase.getPage("not-a-cursor", 10, false));
+
+        assertEquals(SPError.INVALID_PARAMS_ERROR.getErrorCode(), exception.getErrorCode());
+        verifyNoInteractions(repository);
+    }
 }
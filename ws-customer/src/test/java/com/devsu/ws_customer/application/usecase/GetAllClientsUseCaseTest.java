@@ -3,7 +3,7 @@ package com.devsu.ws_customer.application.usecase;
 import com.devsu.ws_customer.config.exception.CustomException;
 import com.devsu.ws_customer.config.exception.DataBaseException;
 import com.devsu.ws_customer.config.exception.SPError;
-import com.devsu.ws_customer.domain.ClientDomain;
+import com.devsu.ws_customer.domain.ClientSummaryDomain;
 import com.devsu.ws_customer.application.port.out.ClientStorageRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,16 +25,16 @@ class GetAllClientsUseCaseTest {
 
     private GetAllClientsUseCase useCase;
 
-    private List<ClientDomain> clientList;
+    private List<ClientSummaryDomain> clientList;
 
     @BeforeEach
     void setUp() {
         useCase = new GetAllClientsUseCase(repository);
 
         clientList = new ArrayList<>();
-        clientList.add(ClientDomain.builder()
+        clientList.add(ClientSummaryDomain.builder()
                 .clientId("client123")
-                .password("password")
+                .name("John Doe")
                 .status(true)
                 .build());
     }
@@ -43,7 +43,7 @@ class GetAllClientsUseCaseTest {
     void testGetAllClientsSuccess() {
         when(repository.getAll()).thenReturn(clientList);
 
-        List<ClientDomain> result = useCase.getAll();
+        List<ClientSummaryDomain> result = useCase.getAll();
 
         assertNotNull(result);
         assertEquals(1, result.size());
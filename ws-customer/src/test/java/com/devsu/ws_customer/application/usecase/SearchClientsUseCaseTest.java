@@ -0,0 +1,79 @@
+package com.devsu.ws_customer.application.usecase;
+
+import com.devsu.ws_customer.application.port.out.ClientStorageRepository;
+import com.devsu.ws_customer.config.exception.CustomException;
+import com.devsu.ws_customer.config.exception.DataBaseException;
+import com.devsu.ws_customer.config.exception.SPError;
+import com.devsu.ws_customer.domain.ClientSummaryDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchClientsUseCaseTest {
+
+    @Mock
+    private ClientStorageRepository repository;
+
+    private SearchClientsUseCase useCase;
+
+    private ClientSummaryDomain clientSummary;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new SearchClientsUseCase(repository);
+
+        clientSummary = ClientSummaryDomain.builder()
+                .clientId("client123")
+                .status(true)
+                .build();
+    }
+
+    @Test
+    void testSearchTrimsTerm() {
+        when(repository.search("john", 20)).thenReturn(List.of(clientSummary));
+
+        List<ClientSummaryDomain> result = useCase.search("  john ", 20);
+
+        assertEquals(1, result.size());
+        assertEquals("client123", result.get(0).getClientId());
+        verify(repository, times(1)).search("john", 20);
+    }
+
+    @Test
+    void testSearchRejectsShortTerm() {
+        CustomException exception = assertThrows(CustomException.class, () -> useCase.search(" jo ", 20));
+
+        assertEquals(SPError.INVALID_PARAMS_ERROR.getErrorCode(), exception.getErrorCode());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void testSearchRejectsLimitOutOfRange() {
+        assertThrows(CustomException.class, () -> useCase.search("john", 0));
+        assertThrows(CustomException.class, () -> useCase.search("john", 51));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void testSearchDataBaseException() {
+        DataBaseException dbException = new DataBaseException(
+                SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(),
+                "Database error"
+        );
+        when(repository.search("john", 20)).thenThrow(dbException);
+
+        CustomException exception = assertThrows(CustomException.class, () -> useCase.search("john", 20));
+
+        assertEquals(SPError.CUSTOMER_CONTROLLER_SEARCH_ERROR.getErrorCode(), exception.getErrorCode());
+        assertSame(dbException, exception.getCause());
+    }
+}
@@ -0,0 +1,60 @@
+package com.devsu.ws_customer.config.catalog;
+
+import com.devsu.ws_customer.application.port.out.ReferenceDataStorageRepository;
+import com.devsu.ws_customer.domain.GenderDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReferenceCatalogTest {
+
+    private ReferenceDataStorageRepository referenceDataAdapter;
+    private ReferenceCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        referenceDataAdapter = mock(ReferenceDataStorageRepository.class);
+        when(referenceDataAdapter.getGenders()).thenReturn(List.of(new GenderDomain(1, "Male"), new GenderDomain(2, "Female")));
+        catalog = new ReferenceCatalog(referenceDataAdapter);
+    }
+
+    @Test
+    void testLoadsOnceAndServesFromMemory() {
+        catalog.load();
+
+        assertEquals("Male", catalog.gender(1).getGenderName());
+        assertEquals("Female", catalog.gender(2).getGenderName());
+        verify(referenceDataAdapter, times(1)).getGenders();
+    }
+
+    @Test
+    void testLookupsReturnCopies() {
+        catalog.gender(1).setGenderName("changed");
+
+        assertEquals("Male", catalog.gender(1).getGenderName());
+    }
+
+    @Test
+    void testUnknownGender() {
+        assertTrue(catalog.findGender(9).isEmpty());
+        assertTrue(catalog.findGender(null).isEmpty());
+        assertEquals(9, catalog.gender(9).getId());
+        assertNull(catalog.gender(9).getGenderName());
+    }
+
+    @Test
+    void testReloadReplacesSnapshot() {
+        catalog.load();
+        when(referenceDataAdapter.getGenders()).thenReturn(List.of(
+                new GenderDomain(1, "Male"), new GenderDomain(2, "Female"), new GenderDomain(3, "Other")));
+
+        ReferenceCatalog.Snapshot snapshot = catalog.reload();
+
+        assertEquals(3, snapshot.genders().size());
+        assertEquals("Other", catalog.gender(3).getGenderName());
+    }
+}
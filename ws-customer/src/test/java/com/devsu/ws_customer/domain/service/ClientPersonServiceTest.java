@@ -1,19 +1,28 @@
 package com.devsu.ws_customer.domain.service;
 
-import com.devsu.ws_customer.adapter.postgres.ClientPostgresAdapter;
 import com.devsu.ws_customer.adapter.postgres.PersonPostgresAdapter;
+import com.devsu.ws_customer.application.port.out.ClientStorageRepository;
+import com.devsu.ws_customer.application.port.out.ReferenceDataStorageRepository;
+import com.devsu.ws_customer.config.catalog.ReferenceCatalog;
+import com.devsu.ws_customer.config.exception.CustomException;
 import com.devsu.ws_customer.config.exception.DataBaseException;
 import com.devsu.ws_customer.config.exception.SPError;
+import com.devsu.ws_customer.domain.ClientBatchResultDomain;
 import com.devsu.ws_customer.domain.ClientDomain;
 import com.devsu.ws_customer.domain.GenderDomain;
 import com.devsu.ws_customer.domain.PersonDomain;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,11 +33,17 @@ import static org.mockito.Mockito.*;
 class ClientPersonServiceTest {
 
     @Mock
-    private ClientPostgresAdapter clientAdapter;
+    private ClientStorageRepository clientAdapter;
 
     @Mock
     private PersonPostgresAdapter personAdapter;
 
+    @Mock
+    private ReferenceDataStorageRepository referenceDataAdapter;
+
+    @Mock
+    private IdentificationFilterService identificationFilter;
+
     private ClientPersonService clientPersonService;
 
     private ClientDomain clientDomain;
@@ -37,9 +52,10 @@ class ClientPersonServiceTest {
 
     @BeforeEach
     void setUp() {
-        clientPersonService = new ClientPersonService(clientAdapter, personAdapter);
-
         genderDomain = new GenderDomain(1, "OTHER");
+        lenient().when(referenceDataAdapter.getGenders()).thenReturn(List.of(genderDomain));
+        clientPersonService = new ClientPersonService(clientAdapter, personAdapter, new ReferenceCatalog(referenceDataAdapter), identificationFilter);
+
         personDomain = new PersonDomain(
                 UUID.randomUUID(),
                 "John Doe",
@@ -47,71 +63,153 @@ class ClientPersonServiceTest {
                 30,
                 "123",
                 "country",
-                "1234567890"
+                "1234567890",
+                0L
         );
         clientDomain = new ClientDomain(
                 UUID.randomUUID(),
                 "client123",
                 "password",
                 true,
-                personDomain
+                personDomain,
+                0L
         );
     }
 
     @Test
     void testCreateClientSuccess() {
-        when(personAdapter.findByIdentification(anyString())).thenReturn(null);
-        when(personAdapter.save(any(PersonDomain.class))).thenReturn(personDomain);
+        when(personAdapter.insertIfAbsent(any(PersonDomain.class), anyBoolean())).thenReturn(personDomain);
         when(clientAdapter.save(any(ClientDomain.class))).thenReturn(clientDomain);
 
         ClientDomain result = clientPersonService.create(clientDomain);
 
         assertNotNull(result);
         assertEquals(clientDomain.getClientId(), result.getClientId());
-        verify(personAdapter, times(1)).findByIdentification(anyString());
-        verify(personAdapter, times(1)).save(any(PersonDomain.class));
+        verify(personAdapter, never()).findByIdentification(anyString());
+        verify(personAdapter, times(1)).insertIfAbsent(any(PersonDomain.class), anyBoolean());
+        verify(identificationFilter, times(1)).add("123");
         verify(clientAdapter, times(1)).save(any(ClientDomain.class));
     }
 
+    @Test
+    void testCreateClientPassesFilterAnswerToInsert() {
+        when(identificationFilter.mightContain("123")).thenReturn(true);
+        when(personAdapter.insertIfAbsent(any(PersonDomain.class), anyBoolean())).thenReturn(personDomain);
+        when(clientAdapter.save(any(ClientDomain.class))).thenReturn(clientDomain);
+
+        clientPersonService.create(clientDomain);
+
+        verify(personAdapter, times(1)).insertIfAbsent(any(PersonDomain.class), eq(true));
+    }
+
+    @Test
+    void testCreateClientAddsIdentificationToFilterAfterCommit() {
+        when(personAdapter.insertIfAbsent(any(PersonDomain.class), anyBoolean())).thenReturn(personDomain);
+        when(clientAdapter.save(any(ClientDomain.class))).thenReturn(clientDomain);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            clientPersonService.create(clientDomain);
+
+            verify(identificationFilter, never()).add(anyString());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(identificationFilter, times(1)).add("123");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCreateBatchRejectsDuplicatesAndInsertsTheRest() {
+        ClientDomain stored = batchClient("stored01", "1111111111", 1);
+        ClientDomain fresh = batchClient("fresh001", "2222222222", 1);
+        ClientDomain repeated = batchClient("repeat01", "2222222222", 1);
+        ClientDomain unknownGender = batchClient("gender01", "3333333333", 9);
+        when(personAdapter.findExistingIdentifications(anySet())).thenReturn(Set.of("1111111111"));
+        when(clientAdapter.findExistingClientIds(anySet())).thenReturn(Set.of());
+        when(personAdapter.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(clientAdapter.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<ClientBatchResultDomain> results = clientPersonService.createBatch(List.of(stored, fresh, repeated, unknownGender));
+
+        assertEquals(4, results.size());
+        assertFalse(results.get(0).getAccepted());
+        assertEquals("Person already exists", results.get(0).getError());
+        assertTrue(results.get(1).getAccepted());
+        assertEquals(1, results.get(1).getIndex());
+        assertFalse(results.get(2).getAccepted());
+        assertFalse(results.get(3).getAccepted());
+        assertEquals(SPError.INVALID_GENDER.getErrorMessage(), results.get(3).getError());
+
+        ArgumentCaptor<List<PersonDomain>> persons = ArgumentCaptor.forClass(List.class);
+        verify(personAdapter, times(1)).saveAll(persons.capture());
+        assertEquals(1, persons.getValue().size());
+        verify(identificationFilter, times(1)).add("2222222222");
+        verify(clientAdapter, times(1)).saveAll(anyList());
+        verify(personAdapter, never()).findByIdentification(anyString());
+    }
+
+    @Test
+    void testCreateBatchWithNothingToInsert() {
+        ClientDomain stored = batchClient("stored01", "1111111111", 1);
+        when(personAdapter.findExistingIdentifications(anySet())).thenReturn(Set.of("1111111111"));
+        when(clientAdapter.findExistingClientIds(anySet())).thenReturn(Set.of());
+
+        List<ClientBatchResultDomain> results = clientPersonService.createBatch(List.of(stored));
+
+        assertFalse(results.get(0).getAccepted());
+        verify(personAdapter, never()).saveAll(anyList());
+        verify(clientAdapter, never()).saveAll(anyList());
+    }
+
     @Test
     void testCreateClientPersonAlreadyExists() {
-        when(personAdapter.findByIdentification(anyString())).thenReturn(personDomain);
+        when(personAdapter.insertIfAbsent(any(PersonDomain.class), anyBoolean())).thenReturn(null);
 
         DataBaseException exception = assertThrows(DataBaseException.class, () -> clientPersonService.create(clientDomain));
 
         assertEquals(SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorCode(), exception.getErrorCode());
         assertEquals("Person already exists", exception.getMessage());
-        verify(personAdapter, times(1)).findByIdentification(anyString());
-        verify(personAdapter, never()).save(any(PersonDomain.class));
+        verify(personAdapter, never()).findByIdentification(anyString());
+        verify(identificationFilter, never()).add(anyString());
+        verify(clientAdapter, never()).save(any(ClientDomain.class));
+    }
+
+    @Test
+    void testCreateClientUnknownGender() {
+        personDomain.setGender(GenderDomain.builder().id(9).build());
+
+        CustomException exception = assertThrows(CustomException.class, () -> clientPersonService.create(clientDomain));
+
+        assertEquals(SPError.INVALID_GENDER.getErrorCode(), exception.getErrorCode());
+        verify(personAdapter, never()).insertIfAbsent(any(PersonDomain.class), anyBoolean());
         verify(clientAdapter, never()).save(any(ClientDomain.class));
     }
 
     @Test
     void testCreateClientPersonSaveFailure() {
-        when(personAdapter.findByIdentification(anyString())).thenReturn(null);
-        when(personAdapter.save(any(PersonDomain.class))).thenThrow(new DataBaseException(SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorCode(), "Error saving person"));
+        when(personAdapter.insertIfAbsent(any(PersonDomain.class), anyBoolean())).thenThrow(new DataBaseException(SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorCode(), "Error saving person"));
 
         DataBaseException exception = assertThrows(DataBaseException.class, () -> clientPersonService.create(clientDomain));
 
         assertEquals(SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorCode(), exception.getErrorCode());
         assertEquals("Error saving person", exception.getMessage());
-        verify(personAdapter, times(1)).findByIdentification(anyString());
-        verify(personAdapter, times(1)).save(any(PersonDomain.class));
+        verify(personAdapter, never()).findByIdentification(anyString());
+        verify(personAdapter, times(1)).insertIfAbsent(any(PersonDomain.class), anyBoolean());
         verify(clientAdapter, never()).save(any(ClientDomain.class));
     }
 
     @Test
     void testCreateClientClientSaveFailure() {
-        when(personAdapter.findByIdentification(anyString())).thenReturn(null);
-        when(personAdapter.save(any(PersonDomain.class))).thenReturn(personDomain);
+        when(personAdapter.insertIfAbsent(any(PersonDomain.class), anyBoolean())).thenReturn(personDomain);
         when(clientAdapter.save(any(ClientDomain.class))).thenThrow(new DataBaseException(SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorCode(), "Error saving client"));
 
         DataBaseException exception = assertThrows(DataBaseException.class, () -> clientPersonService.create(clientDomain));
 
         assertEquals(SPError.CUSTOMER_ADAPTER_SAVE_ERROR.getErrorCode(), exception.getErrorCode());
         assertEquals("Error saving client", exception.getMessage());
-        verify(personAdapter, times(1)).findByIdentification(anyString());
-        verify(personAdapter, times(1)).save(any(PersonDomain.class));
+        verify(personAdapter, never()).findByIdentification(anyString());
+        verify(personAdapter, times(1)).insertIfAbsent(any(PersonDomain.class), anyBoolean());
         verify(clientAdapter, times(1)).save(any(ClientDomain.class));
     }
 
@@ -270,4 +368,20 @@ class ClientPersonServiceTest {
         verify(clientAdapter, times(1)).delete(any(UUID.class));
         verify(personAdapter, times(1)).delete(any(UUID.class));
     }
+
+    private ClientDomain batchClient(String clientId, String identification, int genderId) {
+        return ClientDomain.builder()
+                .clientId(clientId)
+                .password("password")
+                .status(true)
+                .person(PersonDomain.builder()
+                        .name("John Doe")
+                        .gender(GenderDomain.builder().id(genderId).build())
+                        .age(30)
+                        .identification(identification)
+                        .address("country")
+                        .phone("1234567890")
+                        .build())
+                .build();
+    }
 }
@@ -0,0 +1,172 @@
+package com.devsu.ws_customer.domain.service;
+
+import com.devsu.ws_customer.adapter.postgres.IdempotencyKeyPostgresAdapter;
+import com.devsu.ws_customer.config.exception.CustomException;
+import com.devsu.ws_customer.config.exception.SPError;
+import com.devsu.ws_customer.domain.IdempotencyRecordDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String KEY = "key-1";
+    private static final String SCOPE = "POST /clientes";
+    private static final String HASH = "hash-1";
+
+    @Mock
+    private IdempotencyKeyPostgresAdapter idempotencyAdapter;
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(idempotencyAdapter, 60, 30, 100);
+    }
+
+    @Test
+    void testBeginReservesNewKey() {
+        when(idempotencyAdapter.reserve(any(IdempotencyRecordDomain.class))).thenReturn(null);
+
+        IdempotencyRecordDomain result = idempotencyService.begin(KEY, SCOPE, HASH);
+
+        assertFalse(result.isCompleted());
+        assertEquals(KEY, result.getIdempotencyKey());
+        assertTrue(result.getExpiresAt().after(result.getCreatedAt()));
+    }
+
+    @Test
+    void testBeginReturnsCompletedRecord() {
+        IdempotencyRecordDomain stored = completedRecord(HASH, new Date(System.currentTimeMillis() + 60_000));
+        when(idempotencyAdapter.reserve(any(IdempotencyRecordDomain.class))).thenReturn(stored);
+
+        IdempotencyRecordDomain result = idempotencyService.begin(KEY, SCOPE, HASH);
+
+        assertTrue(result.isCompleted());
+        assertEquals(201, result.getResponseStatus());
+    }
+
+    @Test
+    void testBeginServesCompletedRecordFromCache() {
+        IdempotencyRecordDomain reservation = idempotencyService.begin(KEY, SCOPE, HASH);
+        when(idempotencyAdapter.complete(eq(KEY), eq(201), eq("{}"), any(Date.class))).thenReturn(true);
+        idempotencyService.complete(reservation, 201, "{}");
+
+        IdempotencyRecordDomain result = idempotencyService.begin(KEY, SCOPE, HASH);
+
+        assertTrue(result.isCompleted());
+        verify(idempotencyAdapter, times(1)).reserve(any(IdempotencyRecordDomain.class));
+    }
+
+    @Test
+    void testReservationHoldsShortLeaseUntilCompleted() {
+        IdempotencyRecordDomain reservation = idempotencyService.begin(KEY, SCOPE, HASH);
+        long leaseMillis = reservation.getExpiresAt().getTime() - reservation.getCreatedAt().getTime();
+        when(idempotencyAdapter.complete(eq(KEY), eq(201), eq("{}"), any(Date.class))).thenReturn(true);
+
+        idempotencyService.complete(reservation, 201, "{}");
+
+        assertEquals(30_000, leaseMillis);
+        assertTrue(reservation.getExpiresAt().getTime() - System.currentTimeMillis() > 59 * 60_000);
+        verify(idempotencyAdapter, times(1)).complete(eq(KEY), eq(201), eq("{}"), eq(reservation.getExpiresAt()));
+    }
+
+    @Test
+    void testBeginTakesOverAbandonedReservation() {
+        IdempotencyRecordDomain abandoned = IdempotencyRecordDomain.builder()
+                .idempotencyKey(KEY).scope(SCOPE).requestHash(HASH).completed(false)
+                .expiresAt(new Date(System.currentTimeMillis() - 1_000))
+                .build();
+        when(idempotencyAdapter.reserve(any(IdempotencyRecordDomain.class))).thenReturn(abandoned, (IdempotencyRecordDomain) null);
+        when(idempotencyAdapter.releaseExpired(eq(KEY), any(Date.class))).thenReturn(true);
+
+        IdempotencyRecordDomain result = idempotencyService.begin(KEY, SCOPE, HASH);
+
+        assertFalse(result.isCompleted());
+        verify(idempotencyAdapter, times(2)).reserve(any(IdempotencyRecordDomain.class));
+    }
+
+    @Test
+    void testBeginRejectsKeyInProgress() {
+        IdempotencyRecordDomain inProgress = IdempotencyRecordDomain.builder()
+                .idempotencyKey(KEY).scope(SCOPE).requestHash(HASH).completed(false)
+                .expiresAt(new Date(System.currentTimeMillis() + 60_000))
+                .build();
+        when(idempotencyAdapter.reserve(any(IdempotencyRecordDomain.class))).thenReturn(inProgress);
+
+        CustomException exception = assertThrows(CustomException.class, () -> idempotencyService.begin(KEY, SCOPE, HASH));
+
+        assertEquals(SPError.IDEMPOTENCY_KEY_IN_PROGRESS.getErrorCode(), exception.getErrorCode());
+    }
+
+    @Test
+    void testBeginRejectsKeyReusedWithDifferentRequest() {
+        IdempotencyRecordDomain stored = completedRecord("other-hash", new Date(System.currentTimeMillis() + 60_000));
+        when(idempotencyAdapter.reserve(any(IdempotencyRecordDomain.class))).thenReturn(stored);
+
+        CustomException exception = assertThrows(CustomException.class, () -> idempotencyService.begin(KEY, SCOPE, HASH));
+
+        assertEquals(SPError.IDEMPOTENCY_KEY_REUSED.getErrorCode(), exception.getErrorCode());
+    }
+
+    @Test
+    void testBeginReplacesExpiredKey() {
+        IdempotencyRecordDomain expired = completedRecord(HASH, new Date(System.currentTimeMillis() - 1_000));
+        when(idempotencyAdapter.reserve(any(IdempotencyRecordDomain.class))).thenReturn(expired, (IdempotencyRecordDomain) null);
+        when(idempotencyAdapter.releaseExpired(eq(KEY), any(Date.class))).thenReturn(true);
+
+        IdempotencyRecordDomain result = idempotencyService.begin(KEY, SCOPE, HASH);
+
+        assertFalse(result.isCompleted());
+        verify(idempotencyAdapter, times(2)).reserve(any(IdempotencyRecordDomain.class));
+    }
+
+    @Test
+    void testCompleteNotCachedWhenReservationLost() {
+        IdempotencyRecordDomain reservation = idempotencyService.begin(KEY, SCOPE, HASH);
+        when(idempotencyAdapter.complete(eq(KEY), eq(201), anyString(), any(Date.class))).thenReturn(false);
+
+        idempotencyService.complete(reservation, 201, "{}");
+        idempotencyService.begin(KEY, SCOPE, HASH);
+
+        verify(idempotencyAdapter, times(2)).reserve(any(IdempotencyRecordDomain.class));
+    }
+
+    @Test
+    void testReleaseAndPurge() {
+        IdempotencyRecordDomain reservation = idempotencyService.begin(KEY, SCOPE, HASH);
+        when(idempotencyAdapter.purgeExpired(any(Date.class))).thenReturn(3);
+
+        idempotencyService.release(reservation);
+        idempotencyService.purgeExpired();
+
+        verify(idempotencyAdapter, times(1)).release(KEY);
+        verify(idempotencyAdapter, times(1)).purgeExpired(any(Date.class));
+    }
+
+    private IdempotencyRecordDomain completedRecord(String requestHash, Date expiresAt) {
+        return IdempotencyRecordDomain.builder()
+                .idempotencyKey(KEY)
+                .scope(SCOPE)
+                .requestHash(requestHash)
+                .completed(true)
+                .responseStatus(201)
+                .responseBody("{}")
+                .createdAt(new Date())
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.devsu.ws_customer.domain.service;
+
+import com.devsu.ws_customer.adapter.postgres.PersonPostgresAdapter;
+import com.devsu.ws_customer.config.exception.DataBaseException;
+import com.devsu.ws_customer.config.exception.SPError;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class IdentificationFilterServiceTest {
+
+    @Mock
+    private PersonPostgresAdapter personAdapter;
+
+    private IdentificationFilterService identificationFilter;
+
+    @BeforeEach
+    void setUp() {
+        identificationFilter = new IdentificationFilterService(personAdapter, 1000, 0.01);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRebuildLoadsStoredIdentifications() {
+        doAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(0);
+            consumer.accept("1111111111");
+            consumer.accept("2222222222");
+            return null;
+        }).when(personAdapter).streamIdentifications(any(Consumer.class));
+
+        identificationFilter.rebuild();
+
+        assertTrue(identificationFilter.mightContain("1111111111"));
+        assertTrue(identificationFilter.mightContain("2222222222"));
+        assertFalse(identificationFilter.mightContain("3333333333"));
+    }
+
+    @Test
+    void testMightContainEverythingBeforeFirstBuild() {
+        assertTrue(identificationFilter.mightContain("3333333333"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testAddedIdentificationsAreFound() {
+        identificationFilter.rebuild();
+
+        identificationFilter.add("4444444444");
+
+        assertTrue(identificationFilter.mightContain("4444444444"));
+        verify(personAdapter, times(1)).streamIdentifications(any(Consumer.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testIdentificationsAddedDuringRebuildAreKept() {
+        identificationFilter.rebuild();
+        doAnswer(invocation -> {
+            identificationFilter.add("5555555555");
+            return null;
+        }).when(personAdapter).streamIdentifications(any(Consumer.class));
+
+        identificationFilter.rebuild();
+
+        assertTrue(identificationFilter.mightContain("5555555555"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFailedRebuildKeepsPreviousFilter() {
+        doAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(0);
+            consumer.accept("1111111111");
+            return null;
+        }).doThrow(new DataBaseException(SPError.CUSTOMER_ADAPTER_FIND_ERROR.getErrorCode(), "Database error"))
+                .when(personAdapter).streamIdentifications(any(Consumer.class));
+        identificationFilter.rebuild();
+
+        identificationFilter.rebuild();
+
+        assertTrue(identificationFilter.mightContain("1111111111"));
+        assertFalse(identificationFilter.mightContain("3333333333"));
+    }
+
+    @Test
+    void testFalsePositiveRateStaysNearConfiguredRate() {
+        IdentificationFilterService.BloomFilter filter = new IdentificationFilterService.BloomFilter(10000, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            filter.put("ID" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 10000; i < 20000; i++) {
+            if (filter.mightContain("ID" + i)) {
+                falsePositives++;
+            }
+        }
+
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(filter.mightContain("ID" + i));
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+}